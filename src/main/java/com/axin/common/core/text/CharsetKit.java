@@ -129,4 +129,67 @@ public class CharsetKit {
     public static String systemCharset() {
         return Charset.defaultCharset().name();
     }
+
+    /**
+     * 根据文件开头的字节推断字符集
+     * 
+     * <p>判断规则：</p>
+     * <ul>
+     *   <li>有BOM时按BOM判断（UTF-8、UTF-16BE/LE，UTF-16由解码器跳过BOM）</li>
+     *   <li>样本是合法的UTF-8编码（包括纯ASCII）时为UTF-8</li>
+     *   <li>否则按GBK处理（国内Excel另存为CSV的默认编码）</li>
+     * </ul>
+     * <p>样本末尾被截断的多字节字符不影响判断。只检查传入的样本，样本之后的内容不参与判断：
+     * 样本为纯ASCII而后续内容为GBK时也会推断为UTF-8，调用方应以严格模式
+     * （{@link java.nio.charset.CodingErrorAction#REPORT}）解码后续内容，遇到非法字节时报错而不是替换为乱码。</p>
+     * 
+     * @param data 文件开头的字节
+     * @param length 有效字节数
+     * @return 推断的字符集
+     */
+    public static Charset detect(byte[] data, int length) {
+        if (length >= 3 && (data[0] & 0xFF) == 0xEF && (data[1] & 0xFF) == 0xBB && (data[2] & 0xFF) == 0xBF) {
+            return CHARSET_UTF_8;
+        }
+        if (length >= 2 && ((data[0] & 0xFF) == 0xFE && (data[1] & 0xFF) == 0xFF
+            || (data[0] & 0xFF) == 0xFF && (data[1] & 0xFF) == 0xFE)) {
+            return StandardCharsets.UTF_16;
+        }
+        return isUtf8(data, length) ? CHARSET_UTF_8 : CHARSET_GBK;
+    }
+
+    /**
+     * 判断字节序列是否为合法的UTF-8编码
+     */
+    private static boolean isUtf8(byte[] data, int length) {
+        int i = 0;
+        while (i < length) {
+            int b = data[i] & 0xFF;
+            int continuation;
+            if (b < 0x80) {
+                i++;
+                continue;
+            } else if (b >= 0xC2 && b <= 0xDF) {
+                continuation = 1;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                continuation = 2;
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                continuation = 3;
+            } else {
+                return false;
+            }
+
+            if (i + continuation >= length) {
+                // 样本末尾截断的字符
+                return true;
+            }
+            for (int j = 1; j <= continuation; j++) {
+                if ((data[i + j] & 0xC0) != 0x80) {
+                    return false;
+                }
+            }
+            i += continuation + 1;
+        }
+        return true;
+    }
 }
@@ -83,11 +83,6 @@ public class BatchExportExample {
      * 示例2：分批导出到HTTP响应
      */
     public void example2_batchExportToResponse(HttpServletResponse response) throws Exception {
-        // 设置响应头
-        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-        response.setCharacterEncoding("utf-8");
-        response.setHeader("Content-disposition", "attachment;filename=users.xlsx");
-
         int totalCount = 50000;
         int batchSize = 500;
         int totalPages = (totalCount + batchSize - 1) / batchSize;
@@ -101,8 +96,8 @@ public class BatchExportExample {
                 writer.writeBatch(batch);
             }
             
-            // 输出到响应流
-            writer.finish(response.getOutputStream());
+            // 设置下载响应头并直接输出到响应流（不生成临时文件，不需要再请求下载接口）
+            writer.finish(response, "用户数据");
         }
     }
 
@@ -238,7 +233,7 @@ public class BatchExportExample {
      * 
      * 1. 内存友好：不需要一次性加载所有数据到内存
      * 2. 性能优化：使用SXSSFWorkbook流式写入
-     * 3. 自动分Sheet：超过65536行自动创建新Sheet
+     * 3. 自动分Sheet：超过每个Sheet的行数上限（默认xlsx上限1048576行，可通过 setRowsPerSheet 设置）自动创建新Sheet
      * 4. 支持进度监控：可以实时获取已写入的行数
      * 5. 资源管理：实现Closeable接口，支持try-with-resources
      */
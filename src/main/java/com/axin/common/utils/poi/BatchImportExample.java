@@ -1,10 +1,20 @@
 package com.axin.common.utils.poi;
 
 import com.axin.common.utils.poi.reader.BatchExcelReader;
+import com.axin.common.utils.poi.reader.CheckpointStore;
+import com.axin.common.utils.poi.reader.DedupeOptions;
+import com.axin.common.utils.poi.reader.FileCheckpointStore;
+import com.axin.common.utils.poi.reader.JdbcBatchSink;
+import com.axin.common.utils.poi.reader.PipelineOptions;
+import com.axin.common.utils.poi.reader.XlsxSaxBatchExcelReader;
+import com.axin.common.utils.poi.validator.ImportErrorCollector;
 import com.axin.framework.aspectj.lang.annotation.Excel;
 
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -293,22 +303,21 @@ public class BatchImportExample {
     }
 
     /**
-     * 示例8：多线程并行处理（高级用法）
+     * 示例8：流水线并行处理（高级用法）
      */
     public void example8_parallelProcessing() throws Exception {
         InputStream inputStream = new FileInputStream("users.xlsx");
         
-        // 注意：这里只是演示概念，实际使用需要考虑线程安全
+        // 解析线程只负责解析，4个消费者线程并发入库；队列满时解析线程等待
+        // 注意：无序模式下回调会被多个线程同时调用，需要保证线程安全
         int totalRows = ExcelFacade.importExcelBatch(
             inputStream,
+            "",
+            0, 0, 1,
             User.class,
             1000,
+            PipelineOptions.unordered(4),
             (batch, batchNum, totalRead) -> {
-                // 可以在这里使用线程池异步处理
-                // executorService.submit(() -> {
-                //     saveBatchToDatabase(batch);
-                // });
-                
                 saveBatchToDatabase(batch);
                 return true;
             }
@@ -317,6 +326,85 @@ public class BatchImportExample {
         System.out.println("导入完成：" + totalRows + " 条");
     }
 
+    /**
+     * 示例9：断点续传
+     */
+    public void example9_resumableImport() throws Exception {
+        // 断点按文件内容哈希保存，入库失败后重新导入同一文件时跳过已成功入库的批次
+        CheckpointStore checkpointStore = new FileCheckpointStore(Paths.get("import-checkpoints"));
+
+        try (InputStream inputStream = new FileInputStream("users.xlsx");
+             XlsxSaxBatchExcelReader<User> reader = new XlsxSaxBatchExcelReader<>(User.class)) {
+            reader.setCheckpointStore(checkpointStore);
+
+            int totalRows = reader.readBatch(inputStream, 1000, (batch, batchNum, totalRead) -> {
+                saveBatchToDatabase(batch);
+                return true;
+            });
+
+            System.out.println("导入完成：" + totalRows + " 条");
+        }
+    }
+
+    /**
+     * 示例10：收集错误行而不是中断导入
+     */
+    public void example10_collectErrors() throws Exception {
+        try (InputStream inputStream = new FileInputStream("users.xlsx");
+             XlsxSaxBatchExcelReader<User> reader = new XlsxSaxBatchExcelReader<>(User.class);
+             ImportErrorCollector errors = new ImportErrorCollector()) {
+            // 转换失败（如日期格式不正确）的行记录错误并跳过，其余行正常入库
+            reader.setErrorCollector(errors);
+
+            int totalRows = reader.readBatch(inputStream, 1000, (batch, batchNum, totalRead) -> {
+                saveBatchToDatabase(batch);
+                return true;
+            });
+
+            System.out.println("导入完成：" + totalRows + " 条，错误 " + errors.getErrorCount() + " 处");
+            if (errors.hasErrors()) {
+                try (OutputStream out = new FileOutputStream("users-errors.xlsx")) {
+                    errors.exportWorkbook(out);
+                }
+            }
+        }
+    }
+
+    /**
+     * 示例11：按业务键去重
+     */
+    public void example11_dedupe() throws Exception {
+        try (InputStream inputStream = new FileInputStream("users.xlsx");
+             XlsxSaxBatchExcelReader<User> reader = new XlsxSaxBatchExcelReader<>(User.class)) {
+            // 用户名+邮箱相同的行只保留第一行，内存占用与总行数无关
+            reader.setDedupeOptions(DedupeOptions.of("username", "email").setExpectedKeys(5_000_000));
+
+            int totalRows = reader.readBatch(inputStream, 1000, (batch, batchNum, totalRead) -> {
+                saveBatchToDatabase(batch);
+                return true;
+            });
+
+            System.out.println("导入完成：" + totalRows + " 条（已去重）");
+        }
+    }
+
+    /**
+     * 示例12：直接批量写入数据库表
+     */
+    public void example12_jdbcBatchInsert() throws Exception {
+        // 字段按下划线命名映射到表字段（createTime -> create_time），每5000行提交一次事务
+        JdbcBatchSink<User> sink = new JdbcBatchSink<>(User.class, "sys_user")
+            .mapColumn("username", "user_name")
+            .setStatementsPerTransaction(5000);
+
+        try (InputStream inputStream = new FileInputStream("users.xlsx");
+             XlsxSaxBatchExcelReader<User> reader = new XlsxSaxBatchExcelReader<>(User.class)) {
+            reader.readBatch(inputStream, 5000, sink);
+        }
+
+        System.out.println("写入完成：" + sink.getInsertedRows() + " 条");
+    }
+
     // ==================== 辅助方法 ====================
 
     /**
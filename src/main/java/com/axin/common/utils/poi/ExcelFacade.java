@@ -1,18 +1,44 @@
 package com.axin.common.utils.poi;
 
+import com.axin.common.utils.StringUtils;
+import com.axin.common.utils.poi.helper.ExcelFileHelper;
+import com.axin.common.utils.poi.reader.AbstractBatchExcelReader;
 import com.axin.common.utils.poi.reader.BatchExcelReader;
+import com.axin.common.utils.poi.reader.CsvBatchExcelReader;
 import com.axin.common.utils.poi.reader.DefaultBatchExcelReader;
 import com.axin.common.utils.poi.reader.DefaultExcelReader;
+import com.axin.common.utils.poi.reader.ExcelInspector;
 import com.axin.common.utils.poi.reader.ExcelReader;
+import com.axin.common.utils.poi.reader.MultiSheetExcelReader;
+import com.axin.common.utils.poi.reader.PipelineOptions;
+import com.axin.common.utils.poi.reader.SheetImport;
+import com.axin.common.utils.poi.reader.WorkbookInfo;
+import com.axin.common.utils.poi.reader.XlsEventBatchExcelReader;
+import com.axin.common.utils.poi.reader.XlsxSaxBatchExcelReader;
 import com.axin.common.utils.poi.writer.BatchExcelWriter;
 import com.axin.common.utils.poi.writer.DefaultBatchExcelWriter;
 import com.axin.common.utils.poi.writer.DefaultExcelWriter;
 import com.axin.common.utils.poi.writer.ExcelWriter;
+import com.axin.common.utils.poi.writer.OoxmlBatchExcelWriter;
+import com.axin.common.utils.poi.writer.ParallelSheetExcelWriter;
+import com.axin.common.utils.poi.writer.ResultSetIterator;
+import com.axin.common.utils.poi.writer.ResultSetRowMapper;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.springframework.web.multipart.MultipartFile;
 
 import javax.servlet.http.HttpServletResponse;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
 
 /**
  * Excel门面类 - 提供简洁的Excel导入导出API
@@ -35,6 +61,11 @@ import java.util.List;
  */
 public class ExcelFacade {
 
+    /**
+     * 流式导出时每批写入的数据量
+     */
+    private static final int STREAM_BATCH_SIZE = 1000;
+
     // ==================== 导入相关方法 ====================
 
     /**
@@ -85,6 +116,9 @@ public class ExcelFacade {
     /**
      * 分批导入Excel（用于大数据量导入，避免内存溢出）
      * <p>
+     * 根据文件头自动选择读取器，xlsx 使用SAX流式解析，xls 使用HSSF事件模型解析，不会将整个工作簿加载到内存；
+     * 输入流没有文件名，无法识别的文件直接拒绝，CSV/TSV请使用 {@link #createBatchReader(String, Class)} 或按文件导入
+     * <p>
      * 使用示例：
      * <pre>
      * int totalRows = ExcelFacade.importExcelBatch(
@@ -109,8 +143,7 @@ public class ExcelFacade {
      */
     public static <T> int importExcelBatch(InputStream inputStream, Class<T> clazz, 
                                            int batchSize, BatchExcelReader.BatchCallback<T> callback) throws Exception {
-        BatchExcelReader<T> reader = new DefaultBatchExcelReader<>(clazz);
-        return reader.readBatch(inputStream, batchSize, callback);
+        return importExcelBatch(inputStream, StringUtils.EMPTY, 0, 0, 1, clazz, batchSize, callback);
     }
 
     /**
@@ -126,8 +159,7 @@ public class ExcelFacade {
     public static <T> int importExcelBatch(InputStream inputStream, String sheetName, 
                                            Class<T> clazz, int batchSize, 
                                            BatchExcelReader.BatchCallback<T> callback) throws Exception {
-        BatchExcelReader<T> reader = new DefaultBatchExcelReader<>(clazz);
-        return reader.readBatch(inputStream, sheetName, batchSize, callback);
+        return importExcelBatch(inputStream, sheetName, 0, 0, 1, clazz, batchSize, callback);
     }
 
     /**
@@ -147,8 +179,327 @@ public class ExcelFacade {
                                            int headStart, int headEnd, int dataStart,
                                            Class<T> clazz, int batchSize, 
                                            BatchExcelReader.BatchCallback<T> callback) throws Exception {
-        BatchExcelReader<T> reader = new DefaultBatchExcelReader<>(clazz);
-        return reader.readBatch(inputStream, sheetName, headStart, headEnd, dataStart, batchSize, callback);
+        return importExcelBatch(inputStream, sheetName, headStart, headEnd, dataStart, clazz, batchSize, null, callback);
+    }
+
+    /**
+     * 流水线分批导入Excel（解析与回调并行）
+     * <p>
+     * 解析线程把批次放入有界队列，回调（如批量入库）在消费者线程中执行，解析与入库不再互相等待。
+     * <p>
+     * 使用示例：
+     * <pre>
+     * int totalRows = ExcelFacade.importExcelBatch(
+     *     inputStream, "Sheet1", 0, 0, 1, User.class, 1000,
+     *     PipelineOptions.unordered(4),
+     *     (batch, batchNum, totalRead) -> {
+     *         userService.saveBatch(batch);  // 多个消费者并发执行，需线程安全
+     *         return true;
+     *     }
+     * );
+     * </pre>
+     *
+     * @param inputStream     输入流
+     * @param sheetName       Sheet名称
+     * @param headStart       表头起始行（从0开始）
+     * @param headEnd         表头结束行
+     * @param dataStart       数据起始行
+     * @param clazz           实体类
+     * @param batchSize       每批数据量
+     * @param pipelineOptions 流水线配置，为null时在解析线程同步回调
+     * @param callback        批处理回调函数
+     * @return 总共读取的数据行数
+     */
+    public static <T> int importExcelBatch(InputStream inputStream, String sheetName,
+                                           int headStart, int headEnd, int dataStart,
+                                           Class<T> clazz, int batchSize, PipelineOptions pipelineOptions,
+                                           BatchExcelReader.BatchCallback<T> callback) throws Exception {
+        InputStream in = FileMagic.prepareToCheckMagic(inputStream);
+        try (AbstractBatchExcelReader<T> reader = createBatchReader(FileMagic.valueOf(in), clazz)) {
+            reader.setPipelineOptions(pipelineOptions);
+            return reader.readBatch(in, sheetName, headStart, headEnd, dataStart, batchSize, callback);
+        }
+    }
+
+    /**
+     * 以行视图逐行读取Excel（读取第一个Sheet，默认第一行为表头），不创建实体
+     * <p>
+     * 使用示例：
+     * <pre>
+     * ExcelFacade.importExcelRows(inputStream, User.class, row -&gt; {
+     *     if (row.getInt(row.columnOf("状态"), 0) == 1) {
+     *         activeUsers.add(row.toEntity());
+     *     }
+     *     return true;
+     * });
+     * </pre>
+     *
+     * @param inputStream 输入流
+     * @param clazz       实体类（用于按需创建实体）
+     * @param callback    逐行回调
+     * @return 总共读取的数据行数
+     */
+    public static <T> int importExcelRows(InputStream inputStream, Class<T> clazz,
+                                          BatchExcelReader.RowCallback<T> callback) throws Exception {
+        return importExcelRows(inputStream, StringUtils.EMPTY, 0, 0, 1, clazz, callback);
+    }
+
+    /**
+     * 以行视图逐行读取Excel（自定义表头和数据起始行），读取器选择规则同 {@link #importExcelBatch}
+     *
+     * @param inputStream 输入流
+     * @param sheetName   Sheet名称
+     * @param headStart   表头起始行（从0开始）
+     * @param headEnd     表头结束行
+     * @param dataStart   数据起始行
+     * @param clazz       实体类（用于按需创建实体）
+     * @param callback    逐行回调
+     * @return 总共读取的数据行数
+     */
+    public static <T> int importExcelRows(InputStream inputStream, String sheetName,
+                                          int headStart, int headEnd, int dataStart, Class<T> clazz,
+                                          BatchExcelReader.RowCallback<T> callback) throws Exception {
+        InputStream in = FileMagic.prepareToCheckMagic(inputStream);
+        try (AbstractBatchExcelReader<T> reader = createBatchReader(FileMagic.valueOf(in), clazz)) {
+            return reader.readRows(in, sheetName, headStart, headEnd, dataStart, callback);
+        }
+    }
+
+    /**
+     * 从文件分批导入Excel（读取第一个Sheet，默认第一行为表头）
+     * <p>
+     * xlsx / xls 直接以只读方式随机访问文件，不复制、不把压缩包缓存在内存中，适合上百MB的大文件
+     *
+     * @param file      Excel文件
+     * @param clazz     实体类
+     * @param batchSize 每批数据量
+     * @param callback  批处理回调函数
+     * @return 总共读取的数据行数
+     */
+    public static <T> int importExcelBatch(File file, Class<T> clazz, int batchSize,
+                                           BatchExcelReader.BatchCallback<T> callback) throws Exception {
+        return importExcelBatch(file, StringUtils.EMPTY, 0, 0, 1, clazz, batchSize, null, callback);
+    }
+
+    /**
+     * 从文件分批导入Excel（读取第一个Sheet，默认第一行为表头）
+     *
+     * @param path      Excel文件路径
+     * @param clazz     实体类
+     * @param batchSize 每批数据量
+     * @param callback  批处理回调函数
+     * @return 总共读取的数据行数
+     */
+    public static <T> int importExcelBatch(Path path, Class<T> clazz, int batchSize,
+                                           BatchExcelReader.BatchCallback<T> callback) throws Exception {
+        return importExcelBatch(path.toFile(), clazz, batchSize, callback);
+    }
+
+    /**
+     * 从文件分批导入Excel（自定义表头和数据起始行）
+     * <p>
+     * 根据文件头选择读取器，无法识别时按扩展名读取CSV/TSV，规则同 {@link #createBatchReader(FileMagic, String, String, Class)}
+     *
+     * @param file            Excel文件
+     * @param sheetName       Sheet名称
+     * @param headStart       表头起始行（从0开始）
+     * @param headEnd         表头结束行
+     * @param dataStart       数据起始行
+     * @param clazz           实体类
+     * @param batchSize       每批数据量
+     * @param pipelineOptions 流水线配置，为null时在解析线程同步回调
+     * @param callback        批处理回调函数
+     * @return 总共读取的数据行数
+     */
+    public static <T> int importExcelBatch(File file, String sheetName,
+                                           int headStart, int headEnd, int dataStart,
+                                           Class<T> clazz, int batchSize, PipelineOptions pipelineOptions,
+                                           BatchExcelReader.BatchCallback<T> callback) throws Exception {
+        return importFile(file, file.getName(), null, sheetName, headStart, headEnd, dataStart, clazz, batchSize,
+            pipelineOptions, callback);
+    }
+
+    /**
+     * 分批导入上传的Excel文件（读取第一个Sheet，默认第一行为表头）
+     *
+     * @param multipartFile 上传文件
+     * @param clazz         实体类
+     * @param batchSize     每批数据量
+     * @param callback      批处理回调函数
+     * @return 总共读取的数据行数
+     * @see #importExcelBatch(MultipartFile, String, int, int, int, Class, int, PipelineOptions, BatchExcelReader.BatchCallback)
+     */
+    public static <T> int importExcelBatch(MultipartFile multipartFile, Class<T> clazz, int batchSize,
+                                           BatchExcelReader.BatchCallback<T> callback) throws Exception {
+        return importExcelBatch(multipartFile, StringUtils.EMPTY, 0, 0, 1, clazz, batchSize, null, callback);
+    }
+
+    /**
+     * 分批导入上传的Excel文件（自定义表头和数据起始行）
+     * <p>
+     * 上传文件通过 {@link MultipartFile#transferTo(File)} 转存为临时文件（容器已落盘的上传文件通常只是移动），
+     * 再按 {@link #importExcelBatch(File, String, int, int, int, Class, int, PipelineOptions, BatchExcelReader.BatchCallback)}
+     * 从文件读取（文件头无法识别时按原始文件名与内容类型判断是否为CSV/TSV），导入结束后删除临时文件。转存后上传文件不能再次读取，文件校验（如
+     * {@code ExcelValidator.validateUploadFile}）需在调用前完成
+     *
+     * @param multipartFile   上传文件
+     * @param sheetName       Sheet名称
+     * @param headStart       表头起始行（从0开始）
+     * @param headEnd         表头结束行
+     * @param dataStart       数据起始行
+     * @param clazz           实体类
+     * @param batchSize       每批数据量
+     * @param pipelineOptions 流水线配置，为null时在解析线程同步回调
+     * @param callback        批处理回调函数
+     * @return 总共读取的数据行数
+     */
+    public static <T> int importExcelBatch(MultipartFile multipartFile, String sheetName,
+                                           int headStart, int headEnd, int dataStart,
+                                           Class<T> clazz, int batchSize, PipelineOptions pipelineOptions,
+                                           BatchExcelReader.BatchCallback<T> callback) throws Exception {
+        File tempFile = transferToTempFile(multipartFile);
+        try {
+            return importFile(tempFile, multipartFile.getOriginalFilename(), multipartFile.getContentType(),
+                sheetName, headStart, headEnd, dataStart, clazz, batchSize, pipelineOptions, callback);
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+    }
+
+    /**
+     * 按文件头、文件名与内容类型选择读取器并分批读取文件
+     */
+    private static <T> int importFile(File file, String fileName, String contentType, String sheetName,
+                                      int headStart, int headEnd, int dataStart,
+                                      Class<T> clazz, int batchSize, PipelineOptions pipelineOptions,
+                                      BatchExcelReader.BatchCallback<T> callback) throws Exception {
+        try (AbstractBatchExcelReader<T> reader = createBatchReader(FileMagic.valueOf(file), fileName, contentType,
+            clazz)) {
+            reader.setPipelineOptions(pipelineOptions);
+            return reader.readBatch(file, sheetName, headStart, headEnd, dataStart, batchSize, callback);
+        }
+    }
+
+    /**
+     * 并行导入多个Sheet（仅支持xlsx）
+     * <p>
+     * 只打开一次文件，所有Sheet共用同一份共享字符串表，每个Sheet在线程池中独立解析并回调。
+     * 不同Sheet的回调可能同时执行。
+     * <p>
+     * 使用示例：
+     * <pre>
+     * Map&lt;String, SheetImport&lt;?&gt;&gt; sheets = new LinkedHashMap&lt;&gt;();
+     * sheets.put("用户", new SheetImport&lt;&gt;(User.class, (batch, batchNum, totalRead) -&gt; {
+     *     userService.saveBatch(batch);
+     *     return true;
+     * }));
+     * sheets.put("部门", new SheetImport&lt;&gt;(Dept.class, (batch, batchNum, totalRead) -&gt; {
+     *     deptService.saveBatch(batch);
+     *     return true;
+     * }));
+     * Map&lt;String, Integer&gt; rows = ExcelFacade.importExcelSheets(inputStream, sheets, 1000, null);
+     * </pre>
+     *
+     * @param inputStream 输入流
+     * @param sheets      Sheet名称 -> 导入配置
+     * @param batchSize   每批数据量
+     * @param executor    解析线程池，为null时按Sheet数量创建并在导入结束后关闭
+     * @return Sheet名称 -> 读取的数据行数
+     */
+    public static Map<String, Integer> importExcelSheets(InputStream inputStream, Map<String, SheetImport<?>> sheets,
+                                                         int batchSize, ExecutorService executor) throws Exception {
+        InputStream in = FileMagic.prepareToCheckMagic(inputStream);
+        if (FileMagic.valueOf(in) != FileMagic.OOXML) {
+            throw new IOException("多Sheet并行导入仅支持xlsx格式");
+        }
+        return new MultiSheetExcelReader(batchSize, executor).read(in, sheets);
+    }
+
+    /**
+     * 从文件并行导入多个Sheet（仅支持xlsx，直接以只读方式打开文件）
+     *
+     * @param file      xlsx文件
+     * @param sheets    Sheet名称 -> 导入配置
+     * @param batchSize 每批数据量
+     * @param executor  解析线程池，为null时按Sheet数量创建并在导入结束后关闭
+     * @return Sheet名称 -> 读取的数据行数
+     */
+    public static Map<String, Integer> importExcelSheets(File file, Map<String, SheetImport<?>> sheets,
+                                                         int batchSize, ExecutorService executor) throws Exception {
+        if (FileMagic.valueOf(file) != FileMagic.OOXML) {
+            throw new IOException("多Sheet并行导入仅支持xlsx格式");
+        }
+        return new MultiSheetExcelReader(batchSize, executor).read(file, sheets);
+    }
+
+    /**
+     * 预扫描工作簿：只读取Sheet名称、行列数与共享字符串数量，不解析单元格
+     * <pre>
+     * WorkbookInfo info = ExcelFacade.inspect(file);
+     * if (info.getTotalRows() &gt; 500000) {
+     *     throw new CustomException("单次导入不能超过50万行");
+     * }
+     * </pre>
+     *
+     * @param file xlsx/xls文件
+     * @return 工作簿信息
+     */
+    public static WorkbookInfo inspect(File file) throws IOException {
+        return ExcelInspector.inspect(file);
+    }
+
+    /**
+     * 预扫描工作簿
+     *
+     * @param path xlsx/xls文件路径
+     * @return 工作簿信息
+     */
+    public static WorkbookInfo inspect(Path path) throws IOException {
+        return ExcelInspector.inspect(path.toFile());
+    }
+
+    /**
+     * 预扫描工作簿（输入流先写入临时文件）
+     *
+     * @param inputStream xlsx/xls文件输入流
+     * @return 工作簿信息
+     */
+    public static WorkbookInfo inspect(InputStream inputStream) throws IOException {
+        return ExcelInspector.inspect(inputStream);
+    }
+
+    /**
+     * 预扫描上传文件（不转存上传文件，扫描后仍可继续导入）
+     *
+     * @param multipartFile 上传的xlsx/xls文件
+     * @return 工作簿信息
+     */
+    public static WorkbookInfo inspect(MultipartFile multipartFile) throws IOException {
+        if (multipartFile == null || multipartFile.isEmpty()) {
+            throw new IOException("上传文件为空");
+        }
+        try (InputStream in = multipartFile.getInputStream()) {
+            return ExcelInspector.inspect(in);
+        }
+    }
+
+    /**
+     * 上传文件转存为临时文件（保留扩展名）
+     */
+    private static File transferToTempFile(MultipartFile multipartFile) throws IOException {
+        if (multipartFile == null || multipartFile.isEmpty()) {
+            throw new IOException("上传文件为空");
+        }
+
+        String extension = ExcelFileHelper.getFileExtension(multipartFile.getOriginalFilename());
+        File tempFile = File.createTempFile("excel-upload-", extension);
+        try {
+            multipartFile.transferTo(tempFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile.toPath());
+            throw e;
+        }
+        return tempFile;
     }
 
     /**
@@ -171,6 +522,106 @@ public class ExcelFacade {
         return new DefaultBatchExcelReader<>(clazz);
     }
 
+    /**
+     * 根据文件类型创建分批导入Reader
+     * <p>
+     * xlsx 使用SAX流式读取器，xls 使用HSSF事件模型读取器，内存占用与行数无关；
+     * 其他可识别的格式使用 {@link DefaultBatchExcelReader}。无法识别的文件直接拒绝：
+     * 文件头无法区分CSV与任意二进制文件，CSV/TSV需通过 {@link #createBatchReader(FileMagic, String, String, Class)}
+     * 按文件名或内容类型创建
+     *
+     * @param fileMagic 文件类型（可通过 {@link FileMagic#valueOf(InputStream)} 识别）
+     * @param clazz     实体类
+     * @return BatchExcelReader实例
+     * @throws IllegalArgumentException 文件类型无法识别
+     */
+    public static <T> AbstractBatchExcelReader<T> createBatchReader(FileMagic fileMagic, Class<T> clazz) {
+        if (fileMagic == FileMagic.OOXML) {
+            return new XlsxSaxBatchExcelReader<>(clazz);
+        }
+        if (fileMagic == FileMagic.OLE2) {
+            return new XlsEventBatchExcelReader<>(clazz);
+        }
+        if (fileMagic == FileMagic.UNKNOWN) {
+            throw new IllegalArgumentException("无法识别的文件格式，CSV/TSV文件请按文件名或内容类型创建读取器");
+        }
+        return new DefaultBatchExcelReader<>(clazz);
+    }
+
+    /**
+     * 根据文件类型、文件名与内容类型创建分批导入Reader
+     * <p>
+     * 文件头可识别时同 {@link #createBatchReader(FileMagic, Class)}；无法识别时只有扩展名为
+     * .csv / .tsv / .tab / .txt，或内容类型为 text/csv、text/tab-separated-values、text/plain 时按CSV/TSV读取，
+     * 否则拒绝
+     *
+     * @param fileMagic   文件类型
+     * @param fileName    文件名，可为null
+     * @param contentType 内容类型（如上传文件的 Content-Type），可为null
+     * @param clazz       实体类
+     * @return BatchExcelReader实例
+     * @throws IllegalArgumentException 文件类型无法识别且不是CSV/TSV
+     */
+    public static <T> AbstractBatchExcelReader<T> createBatchReader(FileMagic fileMagic, String fileName,
+                                                                    String contentType, Class<T> clazz) {
+        if (fileMagic != FileMagic.UNKNOWN) {
+            return createBatchReader(fileMagic, clazz);
+        }
+
+        String extension = ExcelFileHelper.getFileExtension(fileName).toLowerCase();
+        switch (extension) {
+            case ".csv":
+            case ".tsv":
+            case ".tab":
+            case ".txt":
+                return createBatchReader(fileName, clazz);
+            default:
+                break;
+        }
+
+        String mimeType = contentType == null ? "" : contentType.split(";")[0].trim().toLowerCase();
+        switch (mimeType) {
+            case "text/csv":
+                return new CsvBatchExcelReader<>(clazz, ',');
+            case "text/tab-separated-values":
+                return new CsvBatchExcelReader<>(clazz, '\t');
+            case "text/plain":
+                return new CsvBatchExcelReader<>(clazz);
+            default:
+                throw new IllegalArgumentException("无法识别的文件格式: " + (fileName == null ? "" : fileName)
+                    + "，仅支持xlsx、xls、csv、tsv文件");
+        }
+    }
+
+    /**
+     * 根据文件扩展名创建分批导入Reader
+     * <p>
+     * .xlsx / .xls 同 {@link #createBatchReader(FileMagic, Class)}，.csv 按逗号分隔，.tsv / .tab 按制表符分隔，
+     * .txt 自动推断分隔符，其他扩展名使用 {@link DefaultBatchExcelReader}
+     *
+     * @param fileName 文件名
+     * @param clazz    实体类
+     * @return BatchExcelReader实例
+     */
+    public static <T> AbstractBatchExcelReader<T> createBatchReader(String fileName, Class<T> clazz) {
+        String extension = ExcelFileHelper.getFileExtension(fileName).toLowerCase();
+        switch (extension) {
+            case ".xlsx":
+                return createBatchReader(FileMagic.OOXML, clazz);
+            case ".xls":
+                return createBatchReader(FileMagic.OLE2, clazz);
+            case ".csv":
+                return new CsvBatchExcelReader<>(clazz, ',');
+            case ".tsv":
+            case ".tab":
+                return new CsvBatchExcelReader<>(clazz, '\t');
+            case ".txt":
+                return new CsvBatchExcelReader<>(clazz);
+            default:
+                return new DefaultBatchExcelReader<>(clazz);
+        }
+    }
+
     // ==================== 导出相关方法 ====================
 
     /**
@@ -240,6 +691,158 @@ public class ExcelFacade {
         return new DefaultBatchExcelWriter<>(clazz, sheetName);
     }
 
+    /**
+     * 创建多Sheet并行渲染的分批导出Writer（数据量超过单个Sheet容量时，各Sheet在线程池中并行渲染）
+     * <p>
+     * 使用方式与 {@link #createBatchWriter} 相同，IMAGE 列输出为空单元格
+     *
+     * @param clazz     实体类
+     * @param sheetName Sheet名称
+     * @param executor  渲染线程池，为null时按CPU核数创建，关闭Writer时一并关闭
+     * @return BatchExcelWriter实例
+     */
+    public static <T> BatchExcelWriter<T> createParallelBatchWriter(Class<T> clazz, String sheetName,
+                                                                    ExecutorService executor) {
+        return executor == null ? new ParallelSheetExcelWriter<>(clazz, sheetName)
+            : new ParallelSheetExcelWriter<>(clazz, sheetName, executor);
+    }
+
+    /**
+     * 创建直接生成OOXML的分批导出Writer（不经过POI usermodel，适合列较多、行数很大的导出）
+     * <p>
+     * 使用方式与 {@link #createBatchWriter} 相同，IMAGE 列输出为空单元格
+     *
+     * @param clazz     实体类
+     * @param sheetName Sheet名称
+     * @return BatchExcelWriter实例
+     */
+    public static <T> BatchExcelWriter<T> createOoxmlBatchWriter(Class<T> clazz, String sheetName) {
+        return new OoxmlBatchExcelWriter<>(clazz, sheetName);
+    }
+
+    /**
+     * 创建直接生成OOXML、边写边输出的分批导出Writer
+     * <pre>
+     * try (BatchExcelWriter&lt;User&gt; writer = ExcelFacade.createOoxmlBatchWriter(User.class, "用户列表", out)) {
+     *     writer.writeAll(users.iterator(), 1000);
+     *     writer.finish(out);
+     * }
+     * </pre>
+     *
+     * @param clazz        实体类
+     * @param sheetName    Sheet名称
+     * @param outputStream 输出流，只能通过 finish(outputStream) 结束
+     * @return BatchExcelWriter实例
+     */
+    public static <T> BatchExcelWriter<T> createOoxmlBatchWriter(Class<T> clazz, String sheetName,
+                                                                 OutputStream outputStream) {
+        return new OoxmlBatchExcelWriter<>(clazz, sheetName, outputStream);
+    }
+
+    // ==================== 流式导出相关方法 ====================
+
+    /**
+     * 从迭代器流式导出：逐行拉取数据，按批次写入分批Writer，内存占用与数据总量无关
+     * <pre>
+     * try (Cursor&lt;User&gt; cursor = userMapper.scanAll()) {
+     *     ExcelFacade.exportStream(cursor.iterator(), User.class, "用户列表", outputStream);
+     * }
+     * </pre>
+     *
+     * @param rows         数据迭代器
+     * @param clazz        实体类
+     * @param sheetName    Sheet名称
+     * @param outputStream 输出流
+     * @return 导出的行数
+     */
+    public static <T> int exportStream(Iterator<? extends T> rows, Class<T> clazz, String sheetName,
+                                       OutputStream outputStream) throws Exception {
+        try (BatchExcelWriter<T> writer = createBatchWriter(clazz, sheetName)) {
+            int count = writer.writeAll(rows, STREAM_BATCH_SIZE);
+            writer.finish(outputStream);
+            return count;
+        }
+    }
+
+    /**
+     * 从迭代器流式导出到HTTP响应（设置下载响应头，直接写出）
+     *
+     * @param rows      数据迭代器
+     * @param clazz     实体类
+     * @param sheetName Sheet名称
+     * @param fileName  下载文件名（没有扩展名时补充 .xlsx）
+     * @param response  HTTP响应
+     * @return 导出的行数
+     */
+    public static <T> int exportStream(Iterator<? extends T> rows, Class<T> clazz, String sheetName,
+                                       String fileName, HttpServletResponse response) throws Exception {
+        try (BatchExcelWriter<T> writer = createBatchWriter(clazz, sheetName)) {
+            int count = writer.writeAll(rows, STREAM_BATCH_SIZE);
+            writer.finish(response, fileName);
+            return count;
+        }
+    }
+
+    /**
+     * 从可迭代对象（如 MyBatis {@code Cursor}）流式导出，数据源由调用方关闭
+     *
+     * @param rows         数据源
+     * @param clazz        实体类
+     * @param sheetName    Sheet名称
+     * @param outputStream 输出流
+     * @return 导出的行数
+     */
+    public static <T> int exportStream(Iterable<? extends T> rows, Class<T> clazz, String sheetName,
+                                       OutputStream outputStream) throws Exception {
+        return exportStream(rows.iterator(), clazz, sheetName, outputStream);
+    }
+
+    /**
+     * 从 {@link Stream} 流式导出，数据源由调用方关闭
+     *
+     * @param rows         数据流
+     * @param clazz        实体类
+     * @param sheetName    Sheet名称
+     * @param outputStream 输出流
+     * @return 导出的行数
+     */
+    public static <T> int exportStream(Stream<? extends T> rows, Class<T> clazz, String sheetName,
+                                       OutputStream outputStream) throws Exception {
+        return exportStream(rows.iterator(), clazz, sheetName, outputStream);
+    }
+
+    /**
+     * 从查询结果流式导出，列标签与 {@code @Excel} 字段名或其下划线形式相同时映射
+     * <p>
+     * 结果集需为只进结果集并设置合适的 fetchSize（MySQL 需 {@code Integer.MIN_VALUE} 才会逐行读取），
+     * 结果集由调用方关闭
+     *
+     * @param resultSet    查询结果
+     * @param clazz        实体类
+     * @param sheetName    Sheet名称
+     * @param outputStream 输出流
+     * @return 导出的行数
+     */
+    public static <T> int exportStream(ResultSet resultSet, Class<T> clazz, String sheetName,
+                                       OutputStream outputStream) throws Exception {
+        return exportStream(resultSet, ResultSetRowMapper.forClass(clazz), clazz, sheetName, outputStream);
+    }
+
+    /**
+     * 从查询结果流式导出，按指定行映射转换实体
+     *
+     * @param resultSet    查询结果
+     * @param rowMapper    行映射
+     * @param clazz        实体类
+     * @param sheetName    Sheet名称
+     * @param outputStream 输出流
+     * @return 导出的行数
+     */
+    public static <T> int exportStream(ResultSet resultSet, ResultSetRowMapper<T> rowMapper, Class<T> clazz,
+                                       String sheetName, OutputStream outputStream) throws Exception {
+        return exportStream(new ResultSetIterator<>(resultSet, rowMapper), clazz, sheetName, outputStream);
+    }
+
     /**
      * 生成Excel导入模板
      *
@@ -8,12 +8,16 @@ import com.axin.common.utils.StringUtils;
 import com.axin.common.utils.file.FileTypeUtils;
 import com.axin.common.utils.file.FileUtils;
 import com.axin.common.utils.file.ImageUtils;
-import com.axin.common.utils.reflect.ReflectUtils;
+import com.axin.common.utils.poi.helper.ExcelFileHelper;
+import com.axin.common.utils.poi.helper.HeaderNames;
+import com.axin.common.utils.poi.helper.MergedRegionIndex;
+import com.axin.common.utils.poi.reader.RowBindingPlan;
 import com.axin.framework.aspectj.lang.annotation.Excel;
 import com.axin.framework.aspectj.lang.annotation.Excels;
 import com.axin.framework.config.CommonConfig;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.google.common.collect.Maps;
+import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.CellRangeAddressList;
@@ -67,9 +71,14 @@ public class ExcelUtils<T> {
     public static final String XLSX = ".xlsx";
     public static final String XLS = ".xls";
     /**
-     * Excel sheet最大行数，默认65536
+     * Excel sheet最大行数（含表头与合计行），默认为xlsx格式上限 1048576
      */
-    public static final int sheetSize = 65536;
+    public static final int sheetSize = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    /**
+     * 每个sheet的最大行数（含表头与合计行）
+     */
+    private int rowsPerSheet = sheetSize;
 
     /**
      * 工作表名称
@@ -139,6 +148,18 @@ public class ExcelUtils<T> {
         this.sheet = this.wb.getSheetAt(0);
     }
 
+    /**
+     * 设置每个sheet的最大行数（含表头与合计行），超过后自动创建新sheet
+     *
+     * @param rowsPerSheet 每个sheet的最大行数，3 ~ 1048576
+     */
+    public void setRowsPerSheet(int rowsPerSheet) {
+        if (rowsPerSheet < 3 || rowsPerSheet > sheetSize) {
+            throw new IllegalArgumentException("每个Sheet的行数必须在3到" + sheetSize + "之间");
+        }
+        this.rowsPerSheet = rowsPerSheet;
+    }
+
     public void init(List<T> list, String sheetName, Excel.Type type) {
         if (list == null) {
             list = new ArrayList<T>();
@@ -201,84 +222,37 @@ public class ExcelUtils<T> {
 
         if (rows > 0) {
 
-            // 有数据时才处理 得到类的所有field.
-            Field[] allFields = clazz.getDeclaredFields();
-            // 定义一个map用于存放列的序号和field.
-            Map<Integer, Field> fieldsMap = new HashMap<Integer, Field>();
-            for (int col = 0; col < allFields.length; col++) {
-                Field field = allFields[col];
-                Excel attr = field.getAnnotation(Excel.class);
-                if (attr != null && (attr.type() == Excel.Type.ALL || attr.type() == type)) {
-                    // 设置类的私有字段属性可访问.
-                    field.setAccessible(true);
-                    Integer column = cellMap.get(attr.name());
-                    if (column != null) {
-                        fieldsMap.put(column, field);
-                    }
-                }
-            }
+            // 有数据时才处理 生成行绑定计划（列序号 -> 预先解析好setter的字段）.
+            RowBindingPlan<T> bindingPlan = RowBindingPlan.compile(clazz, cellMap);
             for (int i = dataStart; i < rows; i++) {
                 // 从第dataStart行开始取数据,默认第一行是表头.
                 Row row = sheet.getRow(i);
                 T entity = null;
                 //判断是否空行
                 boolean isExport = false;
-                for (Map.Entry<Integer, Field> entry : fieldsMap.entrySet()) {
+                for (int j = 0; j < bindingPlan.size(); j++) {
 
-                    Object val = this.getCellValue(row, entry.getKey());
+                    Object val = this.getCellValue(row, bindingPlan.getColumn(j));
 
                     // 如果不存在实例则新建.
-                    entity = (entity == null ? clazz.newInstance() : entity);
-                    // 从map中得到对应列的field.
-                    Field field = fieldsMap.get(entry.getKey());
-                    // 取得类型,并根据对象类型设置值.
-                    Class<?> fieldType = field.getType();
-                    if (String.class == fieldType) {
-                        String s = Convert.toStr(val);
-                        if (StringUtils.isNotEmpty(s) && !isExport) {
-                            isExport = true;
-                        }
-                        if (StringUtils.endsWith(s, ".0")) {
-                            val = StringUtils.substringBefore(s, ".0");
-                        } else {
-                            String dateFormat = field.getAnnotation(Excel.class).dateFormat();
-                            if (StringUtils.isNotEmpty(dateFormat)) {
-                                val = DateUtils.parseDateToStr(dateFormat, (Date) val);
-                            } else {
-                                val = Convert.toStr(val);
-                            }
-                        }
-                    } else if ((Integer.TYPE == fieldType || Integer.class == fieldType) && StringUtils.isNumeric(Convert.toStr(val))) {
-                        val = Convert.toInt(val);
-                    } else if (Long.TYPE == fieldType || Long.class == fieldType) {
-                        val = Convert.toLong(val);
-                    } else if (Double.TYPE == fieldType || Double.class == fieldType) {
-                        val = Convert.toDouble(val);
-                    } else if (Float.TYPE == fieldType || Float.class == fieldType) {
-                        val = Convert.toFloat(val);
-                    } else if (BigDecimal.class == fieldType) {
-                        val = Convert.toBigDecimal(val);
-                    } else if (Date.class == fieldType) {
-                        if (val instanceof String) {
-                            val = DateUtils.parseDate(val);
-                        } else if (val instanceof Double) {
-                            val = DateUtil.getJavaDate((Double) val);
-                        }
-                    } else if (Boolean.TYPE == fieldType || Boolean.class == fieldType) {
-                        val = Convert.toBool(val, false);
+                    entity = (entity == null ? bindingPlan.newInstance() : entity);
+                    // 得到对应列的字段绑定.
+                    RowBindingPlan.FieldBinding binding = bindingPlan.getBinding(j);
+                    Excel attr = binding.getAttr();
+                    // 按字段绑定时解析好的转换器转换值.
+                    if (String.class == binding.getFieldType() && StringUtils.isNotEmpty(Convert.toStr(val))) {
+                        isExport = true;
                     }
-                    if (StringUtils.isNotNull(fieldType)) {
-                        Excel attr = field.getAnnotation(Excel.class);
-                        String propertyName = field.getName();
-                        if (StringUtils.isNotEmpty(attr.targetAttr())) {
-                            propertyName = field.getName() + "." + attr.targetAttr();
-                        } else if (StringUtils.isNotEmpty(attr.readConverterExp())) {
+                    val = binding.convert(val);
+                    // targetAttr 对应的嵌套属性路径已在绑定计划中解析.
+                    if (StringUtils.isEmpty(attr.targetAttr())) {
+                        if (StringUtils.isNotEmpty(attr.readConverterExp())) {
                             val = reverseByExp(Convert.toStr(val), attr.readConverterExp(), attr.separator());
                         } else if (StringUtils.isNotEmpty(attr.dictType())) {
                             val = reverseDictByExp(Convert.toStr(val), attr.dictType(), attr.separator());
                         }
-                        ReflectUtils.invokeSetter(entity, propertyName, val);
                     }
+                    binding.setValue(entity, val);
                 }
                 if (isExport) {
                     list.add(entity);
@@ -298,19 +272,21 @@ public class ExcelUtils<T> {
             headList.add(sheet.getRow(i));
         }
 
+        // 表头范围内的合并单元格索引
+        MergedRegionIndex mergedRegions = MergedRegionIndex.of(sheet, start, end);
         for (int i = 0; i < headList.get(0).getPhysicalNumberOfCells(); i++) {
             Cell cell = headList.get(0).getCell(i);
             if (StringUtils.isNotNull(cell)) {
                 List<String> value = new ArrayList<>();
                 for (Row cells : headList) {
                     String cellValue;
-                    boolean isMerge = isMergedRegion(sheet, cells.getRowNum(), i);
+                    CellRangeAddress mergedRegion = mergedRegions.find(cells.getRowNum(), i);
                     //判断是否具有合并单元格
-                    if (isMerge) {
-                        cellValue = getMergedRegionValue(sheet, cells.getRowNum(), i);
+                    if (mergedRegion != null) {
+                        cellValue = HeaderNames.normalize(getMergedRegionValue(sheet, mergedRegion));
                     } else {
                         //20210926 去除\n
-                        cellValue = this.getCellValue(cells, i).toString().replace("\n", "");
+                        cellValue = HeaderNames.normalize(this.getCellValue(cells, i));
                     }
                     if (StringUtils.isNotEmpty(cellValue) && !value.contains(cellValue)) {
                         value.add(cellValue);
@@ -356,30 +332,12 @@ public class ExcelUtils<T> {
      * 获取合并单元格的值
      *
      * @param sheet
-     * @param row
-     * @param column
-     * @return
+     * @param range 合并区域
+     * @return 合并区域左上角单元格的值
      */
-    private String getMergedRegionValue(Sheet sheet, int row, int column) {
-
-        int sheetMergeCount = sheet.getNumMergedRegions();
-
-        for (int i = 0; i < sheetMergeCount; i++) {
-            CellRangeAddress ca = sheet.getMergedRegion(i);
-            int firstColumn = ca.getFirstColumn();
-            int lastColumn = ca.getLastColumn();
-            int firstRow = ca.getFirstRow();
-            int lastRow = ca.getLastRow();
-            if (row >= firstRow && row <= lastRow) {
-                if (column >= firstColumn && column <= lastColumn) {
-                    Row fRow = sheet.getRow(firstRow);
-                    Cell fCell = fRow.getCell(firstColumn);
-                    return getCellValue(fRow, firstColumn).toString();
-                }
-            }
-        }
-
-        return null;
+    private String getMergedRegionValue(Sheet sheet, CellRangeAddress range) {
+        Row fRow = sheet.getRow(range.getFirstRow());
+        return getCellValue(fRow, range.getFirstColumn()).toString();
     }
 
     /**
@@ -413,24 +371,7 @@ public class ExcelUtils<T> {
     public String exportExcel() {
         OutputStream out = null;
         try {
-            // 取出一共有多少个sheet.
-            double sheetNo = Math.ceil(list.size() / sheetSize);
-            for (int index = 0; index <= sheetNo; index++) {
-                createSheet(sheetNo, index);
-
-                // 产生一行
-                Row row = sheet.createRow(0);
-                int column = 0;
-                // 写入各个字段的列头名称
-                for (Object[] os : fields) {
-                    Excel excel = (Excel) os[1];
-                    this.createCell(excel, row, column++);
-                }
-                if (Excel.Type.EXPORT.equals(type)) {
-                    fillExcelData(index, row);
-                    addStatisticsRow();
-                }
-            }
+            fillWorkbook();
             String filename = encodingFilename(sheetName);
             out = new FileOutputStream(getAbsoluteFile(filename));
             wb.write(out);
@@ -456,6 +397,75 @@ public class ExcelUtils<T> {
         }
     }
 
+    /**
+     * 对list数据源将其里面的数据导出到HTTP响应（直接写出，不生成下载文件）
+     *
+     * @param list      导出数据集合
+     * @param sheetName 工作表的名称
+     * @param fileName  下载文件名（没有扩展名时补充 .xlsx）
+     * @param response  HTTP响应
+     */
+    public void exportExcel(List<T> list, String sheetName, String fileName, HttpServletResponse response) {
+        this.init(list, sheetName, Excel.Type.EXPORT);
+        try {
+            fillWorkbook();
+            ExcelFileHelper.setExcelResponseHeader(response, fileName);
+            wb.write(response.getOutputStream());
+            response.flushBuffer();
+        } catch (Exception e) {
+            log.error("导出Excel异常{}", e.getMessage());
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw new CustomException("导出Excel失败，请联系网站管理员！");
+        } finally {
+            try {
+                wb.close();
+            } catch (IOException e1) {
+                log.error("", e1);
+            }
+        }
+    }
+
+    /**
+     * 按sheet写入表头与数据
+     */
+    private void fillWorkbook() {
+        // 取出一共有多少个sheet.
+        int dataRows = dataRowsPerSheet();
+        int sheetNo = Math.max((list.size() + dataRows - 1) / dataRows, 1) - 1;
+        for (int index = 0; index <= sheetNo; index++) {
+            createSheet(sheetNo, index);
+
+            // 产生一行
+            Row row = sheet.createRow(0);
+            int column = 0;
+            // 写入各个字段的列头名称
+            for (Object[] os : fields) {
+                Excel excel = (Excel) os[1];
+                this.createCell(excel, row, column++);
+            }
+            if (Excel.Type.EXPORT.equals(type)) {
+                fillExcelData(index, row);
+                addStatisticsRow();
+            }
+        }
+    }
+
+    /**
+     * 每个sheet的数据行数：除去表头，有统计列时再除去合计行
+     */
+    private int dataRowsPerSheet() {
+        boolean hasStatistics = false;
+        for (Object[] os : fields) {
+            if (((Excel) os[1]).isStatistics()) {
+                hasStatistics = true;
+                break;
+            }
+        }
+        return rowsPerSheet - 1 - (hasStatistics ? 1 : 0);
+    }
+
     /**
      * 填充excel数据
      *
@@ -463,8 +473,9 @@ public class ExcelUtils<T> {
      * @param row   单元格行
      */
     public void fillExcelData(int index, Row row) {
-        int startNo = index * sheetSize;
-        int endNo = Math.min(startNo + sheetSize, list.size());
+        int dataRows = dataRowsPerSheet();
+        int startNo = index * dataRows;
+        int endNo = Math.min(startNo + dataRows, list.size());
         for (int i = startNo; i < endNo; i++) {
             row = sheet.createRow(i + 1 - startNo);
             // 得到导出对象.
@@ -1379,17 +1390,19 @@ public class ExcelUtils<T> {
             return headMap;
         }
 
+        // 表头范围内的合并单元格索引
+        MergedRegionIndex mergedRegions = MergedRegionIndex.of(sheet, headStart, headEnd);
         for (int i = 0; i < headList.get(0).getLastCellNum(); i++) {
             List<String> value = new ArrayList<>();
             for (Row row : headList) {
                 String cellValue;
-                boolean isMerge = isMergedRegion(sheet, row.getRowNum(), i);
+                CellRangeAddress mergedRegion = mergedRegions.find(row.getRowNum(), i);
                 //判断是否具有合并单元格
-                if (isMerge) {
-                    cellValue = getMergedRegionValue(sheet, row.getRowNum(), i);
+                if (mergedRegion != null) {
+                    cellValue = HeaderNames.normalize(getMergedRegionValue(sheet, mergedRegion));
                 } else {
                     //20210926 去除\n
-                    cellValue = this.getCellValue(row, i).toString().replace("\n", "");
+                    cellValue = HeaderNames.normalize(this.getCellValue(row, i));
                 }
                 if (StringUtils.isNotEmpty(cellValue) && !value.contains(cellValue)) {
                     value.add(cellValue);
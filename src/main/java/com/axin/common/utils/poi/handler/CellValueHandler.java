@@ -26,6 +26,16 @@ public class CellValueHandler {
 
     private static final DecimalFormat DOUBLE_FORMAT = new DecimalFormat("######0.00");
 
+    /**
+     * {@link #convertNumericValue} 无法直接转换时的返回值
+     */
+    public static final Object UNCONVERTED = new Object();
+
+    /**
+     * 小于该值的整数可以直接用 long 精确格式化（与 DecimalFormat("0") 结果一致）
+     */
+    private static final double EXACT_LONG_LIMIT = 1e15;
+
     /**
      * 从单元格读取值
      */
@@ -43,19 +53,7 @@ public class CellValueHandler {
             CellType cellType = cell.getCellType();
             
             if (cellType == CellType.NUMERIC || cellType == CellType.FORMULA) {
-                double numericValue = cell.getNumericCellValue();
-                
-                // 日期格式
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    return DateUtil.getJavaDate(numericValue);
-                }
-                
-                // 整数或小数
-                if (numericValue % 1 != 0) {
-                    return new BigDecimal(String.valueOf(numericValue));
-                } else {
-                    return new DecimalFormat("0").format(numericValue);
-                }
+                return getNumericValue(cell.getNumericCellValue(), DateUtil.isCellDateFormatted(cell));
             } else if (cellType == CellType.STRING) {
                 return cell.getStringCellValue();
             } else if (cellType == CellType.BOOLEAN) {
@@ -70,6 +68,114 @@ public class CellValueHandler {
         return "";
     }
 
+    /**
+     * 转换数值单元格的值（供流式解析复用，与 {@link #getCellValue} 结果一致）
+     *
+     * @param numericValue  单元格数值
+     * @param dateFormatted 单元格是否为日期格式
+     * @return 日期、小数（BigDecimal）或整数字符串
+     */
+    public Object getNumericValue(double numericValue, boolean dateFormatted) {
+        // 日期格式
+        if (dateFormatted) {
+            return DateUtil.getJavaDate(numericValue);
+        }
+
+        // 整数或小数
+        if (numericValue % 1 != 0) {
+            return BigDecimal.valueOf(numericValue);
+        } else if (isExactLong(numericValue)) {
+            return Long.toString((long) numericValue);
+        } else {
+            return new DecimalFormat("0").format(numericValue);
+        }
+    }
+
+    /**
+     * 按字段类型直接转换数值单元格
+     * <p>
+     * 结果与 convertFieldValue(getNumericValue(numericValue, dateFormatted), fieldType, attr) 一致，
+     * 但不生成中间的字符串或BigDecimal：整型字段直接取整数值（调用方只传入整数值），浮点字段直接取值，日期格式单元格直接转换为Date。
+     * 其他组合（日期格式单元格写入数值字段、超出范围的整数、小数写入字符串字段等）返回 {@link #UNCONVERTED}，
+     * 由调用方走 {@link #convertFieldValue} 通用路径
+     *
+     * @param numericValue  单元格数值
+     * @param dateFormatted 单元格是否为日期格式
+     * @param fieldType     字段类型
+     * @return 字段值或 {@link #UNCONVERTED}
+     */
+    public Object convertNumericValue(double numericValue, boolean dateFormatted, Class<?> fieldType) {
+        if (dateFormatted) {
+            return Date.class == fieldType ? DateUtil.getJavaDate(numericValue) : UNCONVERTED;
+        }
+
+        if (Integer.TYPE == fieldType || Integer.class == fieldType) {
+            return isIntRange(numericValue) ? (Object) (int) numericValue : UNCONVERTED;
+        }
+        if (Long.TYPE == fieldType || Long.class == fieldType) {
+            return isLongRange(numericValue) ? (Object) (long) numericValue : UNCONVERTED;
+        }
+        if (Short.TYPE == fieldType || Short.class == fieldType) {
+            return isShortRange(numericValue) ? (Object) (short) numericValue : UNCONVERTED;
+        }
+        if (Byte.TYPE == fieldType || Byte.class == fieldType) {
+            return isByteRange(numericValue) ? (Object) (byte) numericValue : UNCONVERTED;
+        }
+        if (Double.TYPE == fieldType || Double.class == fieldType) {
+            return numericValue;
+        }
+        if (Float.TYPE == fieldType || Float.class == fieldType) {
+            return (float) numericValue;
+        }
+        if (BigDecimal.class == fieldType) {
+            if (numericValue % 1 != 0) {
+                return BigDecimal.valueOf(numericValue);
+            }
+            return isLongRange(numericValue) ? BigDecimal.valueOf((long) numericValue) : UNCONVERTED;
+        }
+        if (String.class == fieldType && numericValue % 1 == 0 && isExactLong(numericValue)) {
+            return Long.toString((long) numericValue);
+        }
+        return UNCONVERTED;
+    }
+
+    /**
+     * 数值截断为 int 后是否与通用路径结果一致（超出范围时通用路径转换失败，字段不赋值）
+     */
+    public static boolean isIntRange(double numericValue) {
+        return numericValue > Integer.MIN_VALUE - 1.0 && numericValue < Integer.MAX_VALUE + 1.0;
+    }
+
+    /**
+     * 数值截断为 short 后是否与通用路径结果一致（超出范围时通用路径转换失败或溢出，交给通用路径处理）
+     */
+    public static boolean isShortRange(double numericValue) {
+        return numericValue > Short.MIN_VALUE - 1.0 && numericValue < Short.MAX_VALUE + 1.0;
+    }
+
+    /**
+     * 数值截断为 byte 后是否与通用路径结果一致
+     */
+    public static boolean isByteRange(double numericValue) {
+        return numericValue > Byte.MIN_VALUE - 1.0 && numericValue < Byte.MAX_VALUE + 1.0;
+    }
+
+    /**
+     * 数值截断为 long 后是否与通用路径结果一致
+     * （绝对值不小于1e15的整数在通用路径中经过 DecimalFormat 格式化，只保留17位有效数字，交给通用路径处理）
+     */
+    public static boolean isLongRange(double numericValue) {
+        return Math.abs(numericValue) < EXACT_LONG_LIMIT;
+    }
+
+    /**
+     * 整数是否可以用 long 精确格式化（排除负零：DecimalFormat 输出 "-0"）
+     */
+    private static boolean isExactLong(double numericValue) {
+        return Math.abs(numericValue) < EXACT_LONG_LIMIT
+            && (numericValue != 0 || Double.doubleToRawLongBits(numericValue) == 0L);
+    }
+
     /**
      * 设置单元格值
      */
@@ -116,64 +222,10 @@ public class CellValueHandler {
     }
 
     /**
-     * 转换字段类型
+     * 转换字段类型（按字段类型或注解指定的转换器转换，见 {@link ConverterRegistry}）
      */
     public Object convertFieldValue(Object cellValue, Class<?> fieldType, Excel attr) {
-        if (cellValue == null) {
-            return null;
-        }
-
-        // 字符串类型
-        if (String.class == fieldType) {
-            String strValue = Convert.toStr(cellValue);
-            if (StringUtils.endsWith(strValue, ".0")) {
-                return StringUtils.substringBefore(strValue, ".0");
-            }
-            
-            // 日期格式化
-            if (StringUtils.isNotEmpty(attr.dateFormat()) && cellValue instanceof Date) {
-                return DateUtils.parseDateToStr(attr.dateFormat(), (Date) cellValue);
-            }
-            
-            return strValue;
-        }
-        
-        // 数值类型
-        if ((Integer.TYPE == fieldType || Integer.class == fieldType) && StringUtils.isNumeric(Convert.toStr(cellValue))) {
-            return Convert.toInt(cellValue);
-        }
-        
-        if (Long.TYPE == fieldType || Long.class == fieldType) {
-            return Convert.toLong(cellValue);
-        }
-        
-        if (Double.TYPE == fieldType || Double.class == fieldType) {
-            return Convert.toDouble(cellValue);
-        }
-        
-        if (Float.TYPE == fieldType || Float.class == fieldType) {
-            return Convert.toFloat(cellValue);
-        }
-        
-        if (BigDecimal.class == fieldType) {
-            return Convert.toBigDecimal(cellValue);
-        }
-        
-        // 日期类型
-        if (Date.class == fieldType) {
-            if (cellValue instanceof String) {
-                return DateUtils.parseDate(cellValue);
-            } else if (cellValue instanceof Double) {
-                return DateUtil.getJavaDate((Double) cellValue);
-            }
-        }
-        
-        // 布尔类型
-        if (Boolean.TYPE == fieldType || Boolean.class == fieldType) {
-            return Convert.toBool(cellValue, false);
-        }
-
-        return cellValue;
+        return ConverterRegistry.convert(cellValue, fieldType, attr);
     }
 
     /**
@@ -0,0 +1,351 @@
+package com.axin.common.utils.poi.handler;
+
+import com.axin.common.core.text.Convert;
+import com.axin.common.utils.DateUtils;
+import com.axin.common.utils.StringUtils;
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import com.axin.framework.aspectj.lang.annotation.ExcelConverter;
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 导入字段值转换器注册表
+ * <p>
+ * 按目标类型查找 {@link ExcelConverter}，字段注解指定了 converter 时优先使用注解指定的转换器。
+ * 转换器在编译行绑定计划时按字段解析一次，之后每个单元格直接调用，不再逐个判断字段类型。
+ * <p>
+ * 内置类型：String、int/Integer、long/Long、short/Short、byte/Byte、double/Double、float/Float、
+ * boolean/Boolean、BigDecimal、BigInteger、Date、LocalDate、LocalDateTime、LocalTime 与所有枚举
+ * （按名称匹配，其次按 toString 匹配）。未注册的类型原样返回单元格值。
+ * 数值与文本（CSV导入的字段都是文本）按同一规则转换：整数类型按十进制值精确转换（"-5"、"3.0" 可以转换，
+ * 3.7 与超出范围的值返回null），日期类型把数值与序列号形式的文本都当作Excel日期序列号。
+ * <p>
+ * 行绑定计划按实体类缓存，自定义转换器应在应用启动时注册。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public final class ConverterRegistry {
+
+    /**
+     * 未注册类型使用的转换器：原样返回单元格值
+     */
+    private static final ExcelConverter<Object> IDENTITY = (cellValue, attr) -> cellValue;
+
+    private static final Map<Class<?>, ExcelConverter<?>> CONVERTERS = new ConcurrentHashMap<>();
+
+    /**
+     * 注解指定的转换器类 -> 实例
+     */
+    private static final Map<Class<?>, ExcelConverter<?>> ANNOTATED = new ConcurrentHashMap<>();
+
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    static {
+        register(String.class, ConverterRegistry::toStringValue);
+        registerPrimitive(int.class, Integer.class, integral(BigDecimal::intValueExact));
+        registerPrimitive(long.class, Long.class, integral(BigDecimal::longValueExact));
+        registerPrimitive(short.class, Short.class, integral(BigDecimal::shortValueExact));
+        registerPrimitive(byte.class, Byte.class, integral(BigDecimal::byteValueExact));
+        registerPrimitive(double.class, Double.class,
+            numeric(Number::doubleValue, (cellValue, attr) -> Convert.toDouble(trim(cellValue))));
+        registerPrimitive(float.class, Float.class,
+            numeric(Number::floatValue, (cellValue, attr) -> Convert.toFloat(trim(cellValue))));
+        registerPrimitive(boolean.class, Boolean.class, (cellValue, attr) -> Convert.toBool(cellValue, false));
+        CONVERTERS.put(BigDecimal.class, (ExcelConverter<Object>) (cellValue, attr) -> toBigDecimal(cellValue));
+        CONVERTERS.put(BigInteger.class, integral(BigDecimal::toBigIntegerExact));
+        CONVERTERS.put(Date.class, (ExcelConverter<Object>) ConverterRegistry::toDate);
+        register(LocalDateTime.class, ConverterRegistry::toLocalDateTime);
+        register(LocalDate.class, (cellValue, attr) -> {
+            LocalDateTime dateTime = toLocalDateTime(cellValue, attr);
+            return dateTime == null ? null : dateTime.toLocalDate();
+        });
+        register(LocalTime.class, (cellValue, attr) -> {
+            LocalDateTime dateTime = toLocalDateTime(cellValue, attr);
+            return dateTime == null ? null : dateTime.toLocalTime();
+        });
+    }
+
+    private ConverterRegistry() {
+    }
+
+    /**
+     * 注册转换器（覆盖同类型的已有转换器，包括内置转换器）
+     *
+     * @param type      目标类型
+     * @param converter 转换器
+     */
+    public static <T> void register(Class<T> type, ExcelConverter<? extends T> converter) {
+        if (type == null || converter == null) {
+            throw new IllegalArgumentException("转换类型与转换器不能为空");
+        }
+        CONVERTERS.put(type, converter);
+    }
+
+    /**
+     * 同时注册基本类型与包装类型
+     */
+    private static <T> void registerPrimitive(Class<?> primitiveType, Class<T> boxedType,
+                                              ExcelConverter<?> converter) {
+        CONVERTERS.put(primitiveType, converter);
+        CONVERTERS.put(boxedType, converter);
+    }
+
+    /**
+     * 解析字段使用的转换器：注解指定的转换器 > 按类型注册的转换器 > 枚举转换器 > 原样返回
+     *
+     * @param fieldType 字段类型
+     * @param attr      字段注解
+     * @return 转换器
+     */
+    public static ExcelConverter<?> resolve(Class<?> fieldType, Excel attr) {
+        if (attr != null && attr.converter() != ExcelConverter.None.class) {
+            return ANNOTATED.computeIfAbsent(attr.converter(), ConverterRegistry::instantiate);
+        }
+        ExcelConverter<?> converter = CONVERTERS.get(fieldType);
+        if (converter != null) {
+            return converter;
+        }
+        if (fieldType.isEnum()) {
+            return CONVERTERS.computeIfAbsent(fieldType, ConverterRegistry::enumConverter);
+        }
+        return IDENTITY;
+    }
+
+    /**
+     * 字段注解是否指定了转换器
+     */
+    public static boolean hasCustomConverter(Excel attr) {
+        return attr.converter() != ExcelConverter.None.class;
+    }
+
+    /**
+     * 转换字段值
+     *
+     * @param cellValue 单元格值
+     * @param fieldType 字段类型
+     * @param attr      字段注解
+     * @return 字段值，单元格值为null时返回null
+     */
+    public static Object convert(Object cellValue, Class<?> fieldType, Excel attr) {
+        return cellValue == null ? null : resolve(fieldType, attr).convert(cellValue, attr);
+    }
+
+    /**
+     * 浮点类型转换器：数值（单元格数值、JDBC 的 BigDecimal 等）直接转换为目标类型，其它值交给 other
+     */
+    private static <T> ExcelConverter<Object> numeric(Function<Number, T> fromNumber, ExcelConverter<?> other) {
+        return (cellValue, attr) -> cellValue instanceof Number
+            ? fromNumber.apply((Number) cellValue) : other.convert(cellValue, attr);
+    }
+
+    /**
+     * 整数类型转换器：数值与文本（如 "-5"、"3.0"、" 42 "）按十进制值精确转换，
+     * 有小数部分、超出范围或不是数字时返回null
+     */
+    private static <T> ExcelConverter<Object> integral(Function<BigDecimal, T> exact) {
+        return (cellValue, attr) -> {
+            BigDecimal decimal = toBigDecimal(cellValue);
+            if (decimal == null) {
+                return null;
+            }
+            try {
+                return exact.apply(decimal);
+            } catch (ArithmeticException e) {
+                return null;
+            }
+        };
+    }
+
+    /**
+     * 转换为 BigDecimal：浮点数按十进制表示转换（0.1 不会变成 0.1000000000000000055...），
+     * 文本去除前后空格后解析，NaN、无穷大与非数字返回null
+     */
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            return Double.isNaN(number) || Double.isInfinite(number) ? null : BigDecimal.valueOf(number);
+        }
+        if (value instanceof Number) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof CharSequence) {
+            String text = value.toString().trim();
+            if (!text.isEmpty()) {
+                try {
+                    return new BigDecimal(text);
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Object trim(Object value) {
+        return value instanceof String ? ((String) value).trim() : value;
+    }
+
+    private static ExcelConverter<?> instantiate(Class<?> converterClass) {
+        try {
+            Constructor<?> constructor = converterClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return (ExcelConverter<?>) constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("转换器缺少无参构造方法: " + converterClass.getName(), e);
+        }
+    }
+
+    /**
+     * 枚举转换器：先按名称匹配，其次按 toString 匹配（忽略前后空格）
+     */
+    private static ExcelConverter<?> enumConverter(Class<?> enumType) {
+        Object[] constants = enumType.getEnumConstants();
+        return (cellValue, attr) -> {
+            if (enumType.isInstance(cellValue)) {
+                return cellValue;
+            }
+            String text = Convert.toStr(cellValue).trim();
+            if (text.isEmpty()) {
+                return null;
+            }
+            for (Object constant : constants) {
+                if (((Enum<?>) constant).name().equals(text)) {
+                    return constant;
+                }
+            }
+            for (Object constant : constants) {
+                if (constant.toString().equals(text)) {
+                    return constant;
+                }
+            }
+            return null;
+        };
+    }
+
+    private static String toStringValue(Object cellValue, Excel attr) {
+        String strValue = Convert.toStr(cellValue);
+        if (StringUtils.endsWith(strValue, ".0")) {
+            return StringUtils.substringBefore(strValue, ".0");
+        }
+        if (StringUtils.isNotEmpty(attr.dateFormat()) && cellValue instanceof Date) {
+            return DateUtils.parseDateToStr(attr.dateFormat(), (Date) cellValue);
+        }
+        return strValue;
+    }
+
+    /**
+     * 转换为 Date：数值与日期序列号形式的文本（见 {@link #dateSerial}）按Excel日期序列号转换，其余文本按
+     * {@link DateUtils#parseDate} 的格式解析
+     */
+    private static Object toDate(Object cellValue, Excel attr) {
+        if (cellValue instanceof String) {
+            Double serial = dateSerial(((String) cellValue).trim());
+            return serial != null ? DateUtil.getJavaDate(serial) : DateUtils.parseDate(cellValue);
+        }
+        if (cellValue instanceof Number) {
+            return DateUtil.getJavaDate(((Number) cellValue).doubleValue());
+        }
+        return cellValue;
+    }
+
+    /**
+     * 文本形式的Excel日期序列号（整数部分不超过5位，如 "45291"、"45291.5"，对应1900年至2173年），其他文本返回null
+     * <p>
+     * CSV与文本单元格中的数值因此与数值单元格的转换结果一致；6位与8位数字仍按 yyyyMM、yyyyMMdd 格式解析
+     */
+    private static Double dateSerial(String text) {
+        int length = text.length();
+        int dot = text.indexOf('.');
+        int integerDigits = dot < 0 ? length : dot;
+        if (integerDigits == 0 || integerDigits > 5 || dot == length - 1) {
+            return null;
+        }
+        for (int i = 0; i < length; i++) {
+            char ch = text.charAt(i);
+            if ((ch < '0' || ch > '9') && i != dot) {
+                return null;
+            }
+        }
+        return Double.parseDouble(text);
+    }
+
+    /**
+     * 转换为 LocalDateTime：日期单元格与 java.sql 日期时间类型直接转换；文本按 dateFormat 解析，
+     * 未指定或解析失败时，日期序列号形式的文本与数值按Excel日期序列号转换；
+     * 未指定 dateFormat 的其他文本按 {@link DateUtils#parseDate} 的格式解析
+     */
+    private static LocalDateTime toLocalDateTime(Object cellValue, Excel attr) {
+        if (cellValue instanceof LocalDateTime) {
+            return (LocalDateTime) cellValue;
+        }
+        if (cellValue instanceof Timestamp) {
+            return ((Timestamp) cellValue).toLocalDateTime();
+        }
+        if (cellValue instanceof java.sql.Date) {
+            // java.sql.Date/Time 不支持 toInstant
+            return ((java.sql.Date) cellValue).toLocalDate().atStartOfDay();
+        }
+        if (cellValue instanceof Time) {
+            return ((Time) cellValue).toLocalTime().atDate(LocalDate.of(1970, 1, 1));
+        }
+        if (cellValue instanceof Date) {
+            return LocalDateTime.ofInstant(((Date) cellValue).toInstant(), ZoneId.systemDefault());
+        }
+        if (cellValue instanceof LocalDate) {
+            return ((LocalDate) cellValue).atStartOfDay();
+        }
+        if (cellValue instanceof Number) {
+            return LocalDateTime.ofInstant(DateUtil.getJavaDate(((Number) cellValue).doubleValue()).toInstant(),
+                ZoneId.systemDefault());
+        }
+
+        String text = Convert.toStr(cellValue).trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        boolean formatted = StringUtils.isNotEmpty(attr.dateFormat());
+        if (formatted) {
+            DateTimeFormatter formatter = FORMATTERS.computeIfAbsent(attr.dateFormat(), DateTimeFormatter::ofPattern);
+            try {
+                return LocalDateTime.parse(text, formatter);
+            } catch (RuntimeException e) {
+                try {
+                    return LocalDate.parse(text, formatter).atStartOfDay();
+                } catch (RuntimeException ignored) {
+                    // 按日期序列号转换
+                }
+            }
+        }
+        Double serial = dateSerial(text);
+        if (serial != null) {
+            return toLocalDateTime(serial, attr);
+        }
+        if (formatted) {
+            return null;
+        }
+        Date date = DateUtils.parseDate(text);
+        return date == null ? null : LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+}
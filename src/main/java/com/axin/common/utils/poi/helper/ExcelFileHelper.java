@@ -22,6 +22,11 @@ public class ExcelFileHelper {
 
     private static final Logger log = LoggerFactory.getLogger(ExcelFileHelper.class);
 
+    /**
+     * xlsx文件的 Content-Type
+     */
+    public static final String XLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
     /**
      * 下载Excel文件
      *
@@ -78,6 +83,24 @@ public class ExcelFileHelper {
         }
     }
 
+    /**
+     * 设置xlsx下载响应头
+     * <p>
+     * 不设置 Content-Length，由容器按分块传输编码（chunked）边生成边发送，
+     * 同时禁止代理与浏览器缓存导出结果
+     *
+     * @param response HTTP响应
+     * @param fileName 下载文件名（没有扩展名时补充 .xlsx）
+     */
+    public static void setExcelResponseHeader(HttpServletResponse response, String fileName)
+        throws UnsupportedEncodingException {
+        String realFileName = isExcelFile(fileName) ? fileName : fileName + ".xlsx";
+        response.setContentType(XLSX_CONTENT_TYPE);
+        FileUtils.setAttachmentResponseHeader(response, realFileName);
+        response.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
+        response.setHeader("Access-Control-Expose-Headers", "Content-Disposition");
+    }
+
     /**
      * 删除指定目录下所有文件
      *
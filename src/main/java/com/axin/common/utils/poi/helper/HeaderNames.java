@@ -0,0 +1,27 @@
+package com.axin.common.utils.poi.helper;
+
+/**
+ * 表头名称规范化
+ * <p>
+ * 所有读取器（usermodel、SAX、事件模型、CSV）和校验器解析表头时都经过本类，
+ * 保证同一个表头在不同格式下绑定到相同的字段。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public final class HeaderNames {
+
+    private HeaderNames() {
+    }
+
+    /**
+     * 规范化表头单元格的值：去除换行符和首尾空白
+     *
+     * @param value 单元格的值，可为null
+     * @return 规范化后的表头名称，空单元格返回空字符串
+     */
+    public static String normalize(Object value) {
+        return value == null ? "" : value.toString().replace("\n", "").trim();
+    }
+}
@@ -0,0 +1,144 @@
+package com.axin.common.utils.poi.helper;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 合并单元格索引
+ * <p>
+ * 逐个遍历 {@code sheet.getMergedRegion(i)} 判断单元格是否被合并，解析表头时复杂度为 O(单元格数 × 合并区域数)，
+ * 在合并区域成千上万的模板上非常慢。本类在指定行范围内按行分桶，每行的合并区域按起始列排序，
+ * 查询 (row, column) 所在的合并区域只需一次数组下标定位加一次二分查找。
+ * <p>
+ * 只为 [firstRow, lastRow] 范围内的行建桶（通常为表头行），避免覆盖大量数据行的合并区域占用过多内存。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public final class MergedRegionIndex {
+
+    private static final CellRangeAddress[] EMPTY = new CellRangeAddress[0];
+
+    private final int firstRow;
+    private final int lastRow;
+
+    /**
+     * 行 -> 覆盖该行的合并区域（按起始列升序）
+     */
+    private final CellRangeAddress[][] rowRegions;
+
+    /**
+     * 行 -> 合并区域起始列（与 rowRegions 一一对应，用于二分查找）
+     */
+    private final int[][] rowFirstColumns;
+
+    /**
+     * @param regions  合并区域
+     * @param firstRow 索引起始行
+     * @param lastRow  索引结束行
+     */
+    public MergedRegionIndex(Collection<CellRangeAddress> regions, int firstRow, int lastRow) {
+        this.firstRow = firstRow;
+        this.lastRow = Math.max(firstRow - 1, lastRow);
+
+        int rowCount = this.lastRow - firstRow + 1;
+        List<List<CellRangeAddress>> buckets = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            buckets.add(null);
+        }
+
+        for (CellRangeAddress region : regions) {
+            int from = Math.max(firstRow, region.getFirstRow());
+            int to = Math.min(this.lastRow, region.getLastRow());
+            for (int row = from; row <= to; row++) {
+                List<CellRangeAddress> bucket = buckets.get(row - firstRow);
+                if (bucket == null) {
+                    bucket = new ArrayList<>(4);
+                    buckets.set(row - firstRow, bucket);
+                }
+                bucket.add(region);
+            }
+        }
+
+        this.rowRegions = new CellRangeAddress[rowCount][];
+        this.rowFirstColumns = new int[rowCount][];
+        for (int i = 0; i < rowCount; i++) {
+            List<CellRangeAddress> bucket = buckets.get(i);
+            if (bucket == null) {
+                rowRegions[i] = EMPTY;
+                rowFirstColumns[i] = new int[0];
+                continue;
+            }
+
+            // 同一行内的合并区域互不重叠，按起始列排序后即可二分
+            bucket.sort(Comparator.comparingInt(CellRangeAddress::getFirstColumn));
+            CellRangeAddress[] sorted = bucket.toArray(EMPTY);
+            int[] firstColumns = new int[sorted.length];
+            for (int j = 0; j < sorted.length; j++) {
+                firstColumns[j] = sorted[j].getFirstColumn();
+            }
+            rowRegions[i] = sorted;
+            rowFirstColumns[i] = firstColumns;
+        }
+    }
+
+    /**
+     * 为Sheet指定行范围建立索引
+     *
+     * @param sheet    Sheet
+     * @param firstRow 起始行
+     * @param lastRow  结束行
+     * @return 合并单元格索引
+     */
+    public static MergedRegionIndex of(Sheet sheet, int firstRow, int lastRow) {
+        return new MergedRegionIndex(sheet.getMergedRegions(), firstRow, lastRow);
+    }
+
+    /**
+     * 查找覆盖指定单元格的合并区域
+     *
+     * @param row    行下标
+     * @param column 列下标
+     * @return 合并区域，不在合并区域内（或超出索引行范围）时返回null
+     */
+    public CellRangeAddress find(int row, int column) {
+        if (row < firstRow || row > lastRow) {
+            return null;
+        }
+
+        int[] firstColumns = rowFirstColumns[row - firstRow];
+        int low = 0;
+        int high = firstColumns.length - 1;
+        int candidate = -1;
+
+        // 查找起始列不大于column的最后一个区域
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (firstColumns[mid] <= column) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        if (candidate < 0) {
+            return null;
+        }
+        CellRangeAddress region = rowRegions[row - firstRow][candidate];
+        return column <= region.getLastColumn() ? region : null;
+    }
+
+    /**
+     * 判断指定单元格是否为合并单元格
+     */
+    public boolean isMerged(int row, int column) {
+        return find(row, column) != null;
+    }
+}
@@ -0,0 +1,155 @@
+package com.axin.common.utils.poi.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单次导入或导出的运行指标
+ * <p>
+ * 由读取器/写入器在运行过程中累计，回调可能在流水线消费者线程中执行，所有计数都是线程安全的。
+ * 堆内存峰值为每批结束时采样的已用堆内存最大值，只是估算值（包含其他线程的占用）。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public final class ExcelMetrics {
+
+    /**
+     * 操作类型
+     */
+    public enum Operation {
+        IMPORT, EXPORT
+    }
+
+    private final Operation operation;
+    private final String name;
+    private final long startNanos = System.nanoTime();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicLongArray stageNanos = new AtomicLongArray(ExcelStage.values().length);
+    private final AtomicLong peakHeapBytes = new AtomicLong();
+    private volatile long endNanos;
+
+    /**
+     * @param operation 操作类型
+     * @param name      名称（如实体类名），用于区分不同的导入导出
+     */
+    public ExcelMetrics(Operation operation, String name) {
+        this.operation = operation;
+        this.name = name;
+        sampleHeap();
+    }
+
+    /**
+     * 累计处理行数
+     */
+    public void addRows(long count) {
+        rows.add(count);
+    }
+
+    /**
+     * 累计读取或写出的字节数
+     */
+    public void addBytes(long count) {
+        bytes.add(count);
+    }
+
+    /**
+     * 累计阶段耗时
+     */
+    public void addStageNanos(ExcelStage stage, long nanos) {
+        stageNanos.addAndGet(stage.ordinal(), nanos);
+    }
+
+    /**
+     * 记录一个批次完成并采样堆内存
+     */
+    public void addBatch() {
+        batches.increment();
+        sampleHeap();
+    }
+
+    /**
+     * 采样当前已用堆内存
+     */
+    public void sampleHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        peakHeapBytes.accumulateAndGet(used, Math::max);
+    }
+
+    /**
+     * 标记结束
+     */
+    public void finish() {
+        if (endNanos == 0) {
+            sampleHeap();
+            endNanos = System.nanoTime();
+        }
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    public long getStageNanos(ExcelStage stage) {
+        return stageNanos.get(stage.ordinal());
+    }
+
+    public long getPeakHeapBytes() {
+        return peakHeapBytes.get();
+    }
+
+    /**
+     * 总耗时（未结束时为截至当前的耗时）
+     */
+    public long getElapsedNanos() {
+        long end = endNanos;
+        return (end == 0 ? System.nanoTime() : end) - startNanos;
+    }
+
+    /**
+     * 每秒处理行数
+     */
+    public double getRowsPerSecond() {
+        long elapsed = getElapsedNanos();
+        return elapsed <= 0 ? 0 : getRows() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder()
+            .append(operation).append('[').append(name).append("] 行数: ").append(getRows())
+            .append(", 字节数: ").append(getBytes())
+            .append(", 耗时: ").append(TimeUnit.NANOSECONDS.toMillis(getElapsedNanos())).append("ms")
+            .append(", 行/秒: ").append(Math.round(getRowsPerSecond()));
+        for (ExcelStage stage : ExcelStage.values()) {
+            long nanos = getStageNanos(stage);
+            if (nanos > 0) {
+                sb.append(", ").append(stage.getDescription()).append(": ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(nanos)).append("ms");
+            }
+        }
+        return sb.append(", 堆内存峰值: ").append(getPeakHeapBytes() >> 20).append("MB").toString();
+    }
+}
@@ -0,0 +1,42 @@
+package com.axin.common.utils.poi.metrics;
+
+/**
+ * 导入导出指标监听器
+ * <p>
+ * 设置到读取器/写入器后，在开始、每批完成、结束与失败时回调。批次事件可能在流水线消费者线程中触发，
+ * 实现需要线程安全；回调中不应执行耗时操作。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public interface ExcelMetricsListener {
+
+    /**
+     * 开始导入或导出
+     */
+    default void onStart(ExcelMetrics metrics) {
+    }
+
+    /**
+     * 一个批次处理完成
+     *
+     * @param batchNum 批次号（从1开始）
+     * @param rows     批次行数
+     * @param nanos    批次耗时（导入为回调耗时，导出为渲染耗时）
+     */
+    default void onBatch(ExcelMetrics metrics, int batchNum, int rows, long nanos) {
+    }
+
+    /**
+     * 导入或导出成功结束
+     */
+    default void onComplete(ExcelMetrics metrics) {
+    }
+
+    /**
+     * 导入或导出失败
+     */
+    default void onError(ExcelMetrics metrics, Throwable error) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.axin.common.utils.poi.metrics;
+
+/**
+ * 导入导出阶段
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public enum ExcelStage {
+
+    /**
+     * 打开文件（写入临时文件、解压缩包、读取工作簿结构）
+     */
+    OPEN("打开文件"),
+
+    /**
+     * 加载xlsx共享字符串表
+     */
+    SHARED_STRINGS("共享字符串表"),
+
+    /**
+     * 解析行数据（解析线程中除其他阶段外的时间）
+     */
+    ROW_PARSE("行解析"),
+
+    /**
+     * 单元格值转换为实体字段
+     */
+    CONVERT("类型转换"),
+
+    /**
+     * 执行批次回调
+     */
+    CALLBACK("批次回调"),
+
+    /**
+     * 导出时生成行数据
+     */
+    RENDER("行渲染"),
+
+    /**
+     * 导出时写出文件
+     */
+    OUTPUT("写出文件");
+
+    private final String description;
+
+    ExcelStage(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,110 @@
+package com.axin.common.utils.poi.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 导入导出指标的Micrometer绑定
+ * <p>
+ * 需要 micrometer-core 在classpath中（项目中为可选依赖）。注册为Spring Bean时由Spring Boot自动绑定到
+ * {@link MeterRegistry}，再设置到读取器/写入器即可：
+ * <pre>
+ * reader.setMetricsListener(excelMetrics);
+ * </pre>
+ * 指标（均带 operation=import/export 与 name 标签）：
+ * <ul>
+ *     <li>excel.batch：批次耗时（带百分位直方图，用于慢批次告警）</li>
+ *     <li>excel.duration：整体耗时；excel.stage：各阶段耗时（stage标签）</li>
+ *     <li>excel.rows / excel.bytes：处理行数与字节数；excel.throughput：每次操作的行/秒</li>
+ *     <li>excel.failures：失败次数；excel.heap.peak：最近一次操作的堆内存峰值估算</li>
+ * </ul>
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class MicrometerExcelMetrics implements ExcelMetricsListener, MeterBinder {
+
+    private final AtomicLong lastPeakHeap = new AtomicLong();
+    private volatile MeterRegistry registry;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("excel.heap.peak", lastPeakHeap, AtomicLong::get)
+            .description("最近一次Excel导入导出的堆内存峰值估算")
+            .baseUnit("bytes")
+            .register(registry);
+        this.registry = registry;
+    }
+
+    @Override
+    public void onBatch(ExcelMetrics metrics, int batchNum, int rows, long nanos) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return;
+        }
+        Timer.builder("excel.batch")
+            .description("Excel导入导出批次耗时")
+            .tags(tags(metrics))
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onComplete(ExcelMetrics metrics) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return;
+        }
+        Tags tags = tags(metrics);
+        Timer.builder("excel.duration").description("Excel导入导出耗时").tags(tags)
+            .register(meterRegistry)
+            .record(metrics.getElapsedNanos(), TimeUnit.NANOSECONDS);
+        for (ExcelStage stage : ExcelStage.values()) {
+            long nanos = metrics.getStageNanos(stage);
+            if (nanos > 0) {
+                Timer.builder("excel.stage").description("Excel导入导出阶段耗时")
+                    .tags(tags).tag("stage", stage.name().toLowerCase())
+                    .register(meterRegistry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        Counter.builder("excel.rows").description("Excel导入导出行数").tags(tags)
+            .register(meterRegistry)
+            .increment(metrics.getRows());
+        DistributionSummary.builder("excel.bytes").description("Excel导入导出字节数").baseUnit("bytes").tags(tags)
+            .register(meterRegistry)
+            .record(metrics.getBytes());
+        DistributionSummary.builder("excel.throughput").description("Excel导入导出每秒行数").baseUnit("rows")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(metrics.getRowsPerSecond());
+        lastPeakHeap.set(metrics.getPeakHeapBytes());
+    }
+
+    @Override
+    public void onError(ExcelMetrics metrics, Throwable error) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return;
+        }
+        Counter.builder("excel.failures").description("Excel导入导出失败次数")
+            .tags(tags(metrics)).tag("exception", error.getClass().getSimpleName())
+            .register(meterRegistry)
+            .increment();
+        lastPeakHeap.set(metrics.getPeakHeapBytes());
+    }
+
+    private static Tags tags(ExcelMetrics metrics) {
+        return Tags.of("operation", metrics.getOperation().name().toLowerCase(), "name", metrics.getName());
+    }
+}
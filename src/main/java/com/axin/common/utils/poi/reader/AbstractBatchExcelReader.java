@@ -0,0 +1,664 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.common.core.text.Convert;
+import com.axin.common.utils.DateUtils;
+import com.axin.common.utils.StringUtils;
+import com.axin.common.utils.poi.handler.CellValueHandler;
+import com.axin.common.utils.poi.metrics.ExcelMetrics;
+import com.axin.common.utils.poi.metrics.ExcelMetricsListener;
+import com.axin.common.utils.poi.metrics.ExcelStage;
+import com.axin.common.utils.poi.validator.ImportErrorCollector;
+import com.google.common.io.CountingInputStream;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 分批Excel读取器基类
+ * <p>
+ * 统一处理参数校验、批次累积与回调，子类只需负责解析表格并逐行提交实体。
+ * 设置 {@link CheckpointStore} 后支持断点续传：每批回调成功后记录断点，同一文件再次导入时跳过已处理的行；
+ * 设置 {@link DedupeOptions} 后按业务键丢弃重复行
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public abstract class AbstractBatchExcelReader<T> implements BatchExcelReader<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractBatchExcelReader.class);
+
+    protected final Class<T> clazz;
+    protected final CellValueHandler cellValueHandler;
+    protected int totalReadRows = 0;
+
+    private PipelineOptions pipelineOptions;
+    private CheckpointStore checkpointStore;
+    private CheckpointTracker checkpointTracker;
+    private ImportErrorCollector errorCollector;
+    private DedupeOptions dedupeOptions;
+    private DuplicateFilter<T> duplicateFilter;
+    private BatchCallback<T> callback;
+    private int batchSize;
+    private List<T> batch;
+    private int batchNum;
+    private int lastRowIndex;
+    private boolean stopped;
+    private RowCallback<T> rowCallback;
+    private ReaderRowView rowView;
+    private ExcelMetricsListener metricsListener;
+    private ExcelMetrics metrics;
+    private LongSupplier parsedBytes;
+    private long convertNanos;
+
+    protected AbstractBatchExcelReader(Class<T> clazz) {
+        this.clazz = clazz;
+        this.cellValueHandler = new CellValueHandler();
+    }
+
+    @Override
+    public int readBatch(InputStream inputStream, int batchSize, BatchCallback<T> callback) throws Exception {
+        return readBatch(inputStream, StringUtils.EMPTY, 0, 0, 1, batchSize, callback);
+    }
+
+    @Override
+    public int readBatch(InputStream inputStream, String sheetName, int batchSize, BatchCallback<T> callback) throws Exception {
+        return readBatch(inputStream, sheetName, 0, 0, 1, batchSize, callback);
+    }
+
+    @Override
+    public int readBatch(InputStream inputStream, String sheetName, int headStart, int headEnd,
+                         int dataStart, int batchSize, BatchCallback<T> callback) throws Exception {
+        InputStream in = countParsedBytes(inputStream);
+        if (checkpointStore == null) {
+            return execute(batchSize, callback,
+                () -> doReadBatch(in, sheetName, headStart, headEnd, dataStart));
+        }
+
+        CheckpointTracker tracker = new CheckpointTracker(checkpointStore, in, sheetName);
+        return executeWithCheckpoint(tracker, batchSize, callback,
+            () -> doReadBatch(tracker.getInputStream(), sheetName, headStart, headEnd, dataStart));
+    }
+
+    /**
+     * 从文件分批读取（xlsx/xls直接以只读方式随机访问文件，不再复制到临时文件，也不会把压缩包缓存在内存中）
+     *
+     * @param file      Excel文件
+     * @param sheetName Sheet名称，为空时读取第一个Sheet
+     * @param headStart 表头起始行（从0开始）
+     * @param headEnd   表头结束行
+     * @param dataStart 数据起始行
+     * @param batchSize 每批数据量
+     * @param callback  批处理回调函数
+     * @return 总共读取的数据行数
+     */
+    public int readBatch(File file, String sheetName, int headStart, int headEnd,
+                         int dataStart, int batchSize, BatchCallback<T> callback) throws Exception {
+        if (file == null || !file.isFile()) {
+            throw new IOException("文件不存在: " + file);
+        }
+        this.parsedBytes = file::length;
+        if (checkpointStore == null) {
+            return execute(batchSize, callback, () -> doReadBatch(file, sheetName, headStart, headEnd, dataStart));
+        }
+
+        // 断点key依赖文件内容哈希，单独顺序读取一遍文件计算，解析仍直接访问文件
+        try (InputStream hashStream = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            CheckpointTracker tracker = new CheckpointTracker(checkpointStore, hashStream, sheetName);
+            return executeWithCheckpoint(tracker, batchSize, callback,
+                () -> doReadBatch(file, sheetName, headStart, headEnd, dataStart));
+        }
+    }
+
+    private int executeWithCheckpoint(CheckpointTracker tracker, int batchSize, BatchCallback<T> callback,
+                                      ReadAction action) throws Exception {
+        this.checkpointTracker = tracker;
+        try {
+            int rows = execute(batchSize, tracker.wrap(callback), action);
+            // 回调主动停止时保留断点，之后可继续导入剩余数据
+            if (!stopped) {
+                tracker.clear();
+            }
+            return rows;
+        } finally {
+            this.checkpointTracker = null;
+        }
+    }
+
+    /**
+     * 初始化批次状态并执行读取
+     *
+     * @param action 解析动作，通过 {@link #offer(Object, int)} 提交实体
+     * @return 总共读取的数据行数
+     */
+    int execute(int batchSize, BatchCallback<T> callback, ReadAction action) throws Exception {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("批次大小必须大于0");
+        }
+        if (callback == null) {
+            throw new IllegalArgumentException("回调函数不能为null");
+        }
+
+        this.batchSize = batchSize;
+        this.batch = new ArrayList<>(batchSize);
+        this.batchNum = 0;
+        this.totalReadRows = 0;
+        this.lastRowIndex = -1;
+        this.stopped = false;
+        this.duplicateFilter = dedupeOptions == null ? null : new DuplicateFilter<>(clazz, dedupeOptions);
+        startMetrics();
+        BatchCallback<T> meteredCallback = metrics == null ? callback : meter(callback);
+
+        try {
+            int rows;
+            if (pipelineOptions == null) {
+                this.callback = meteredCallback;
+                rows = action.read();
+            } else {
+                // 流水线模式：解析线程只负责入队，回调在消费者线程执行
+                try (BatchPipeline<T> pipeline = new BatchPipeline<>(pipelineOptions, meteredCallback)) {
+                    this.callback = pipeline;
+                    rows = action.read();
+                    pipeline.finish();
+                    // 最后几批在消费者线程返回false时解析已经结束，停止状态只能从流水线取得
+                    if (pipeline.isStopped()) {
+                        stopped = true;
+                    }
+                }
+            }
+            finishMetrics(null);
+            return rows;
+        } catch (Throwable e) {
+            finishMetrics(e);
+            throw e;
+        } finally {
+            if (duplicateFilter != null) {
+                log.info("导入去重完成，丢弃重复行数: {}，业务键含空值未去重行数: {}",
+                    duplicateFilter.getDuplicateCount(), duplicateFilter.getNullKeyCount());
+                duplicateFilter.close();
+                duplicateFilter = null;
+            }
+        }
+    }
+
+    /**
+     * 开启流水线导入（解析与回调并行），传入null恢复同步回调
+     *
+     * @param pipelineOptions 流水线配置
+     */
+    public void setPipelineOptions(PipelineOptions pipelineOptions) {
+        this.pipelineOptions = pipelineOptions;
+    }
+
+    /**
+     * 开启断点续传，传入null关闭
+     * <p>
+     * 断点按文件内容哈希与Sheet名称区分；导入完整结束后断点被删除，失败或回调返回false时保留，
+     * 再次导入同一文件时从最后一个处理成功的批次之后继续，批次号与已读取行数接续上次的值
+     *
+     * @param checkpointStore 断点存储
+     */
+    public void setCheckpointStore(CheckpointStore checkpointStore) {
+        this.checkpointStore = checkpointStore;
+    }
+
+    /**
+     * 开启错误收集模式，传入null恢复默认行为（转换失败的字段静默置为null）
+     * <p>
+     * 转换与校验失败按行、列、原因记录到收集器，解析继续进行，结束后可通过
+     * {@link ImportErrorCollector#exportWorkbook} 导出错误报告
+     *
+     * @param errorCollector 错误收集器
+     */
+    public void setErrorCollector(ImportErrorCollector errorCollector) {
+        this.errorCollector = errorCollector;
+    }
+
+    /**
+     * 开启导入去重，传入null关闭
+     * <p>
+     * 按指定 {@code @Excel} 字段组成的业务键去重，重复行在回调之前被丢弃且不计入读取行数，
+     * 开启错误收集时以"重复数据"记录到收集器。去重范围为单次读取；断点续传时跳过的行不参与去重
+     *
+     * @param dedupeOptions 去重配置
+     */
+    public void setDedupeOptions(DedupeOptions dedupeOptions) {
+        if (dedupeOptions != null) {
+            // 提前校验去重字段，避免读取开始后才失败
+            DuplicateFilter.validate(clazz, dedupeOptions);
+        }
+        this.dedupeOptions = dedupeOptions;
+    }
+
+    /**
+     * 以行视图逐行读取
+     * <p>
+     * 行视图模式不创建实体、不分批，每行直接回调；流水线、断点续传与去重只作用于分批读取，此模式下不生效
+     */
+    @Override
+    public int readRows(InputStream inputStream, String sheetName, int headStart, int headEnd,
+                        int dataStart, RowCallback<T> callback) throws Exception {
+        if (callback == null) {
+            throw new IllegalArgumentException("回调函数不能为null");
+        }
+
+        this.batch = new ArrayList<>(0);
+        this.batchNum = 0;
+        this.totalReadRows = 0;
+        this.lastRowIndex = -1;
+        this.stopped = false;
+        this.rowCallback = callback;
+        this.rowView = new ReaderRowView();
+        InputStream in = countParsedBytes(inputStream);
+        startMetrics();
+        try {
+            int rows = doReadBatch(in, sheetName, headStart, headEnd, dataStart);
+            if (metrics != null) {
+                metrics.addRows(rows);
+            }
+            finishMetrics(null);
+            return rows;
+        } catch (Throwable e) {
+            finishMetrics(e);
+            throw e;
+        } finally {
+            this.rowCallback = null;
+            this.rowView = null;
+        }
+    }
+
+    /**
+     * 设置指标监听器，传入null关闭
+     * <p>
+     * 开启后统计读取字节数、行/秒、各阶段耗时（打开文件、共享字符串表、行解析、类型转换、批次回调）、
+     * 批次耗时与堆内存峰值估算，结束时输出日志并回调监听器
+     *
+     * @param metricsListener 指标监听器
+     */
+    @Override
+    public void setMetricsListener(ExcelMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    @Override
+    public int getReadRows() {
+        return totalReadRows;
+    }
+
+    /**
+     * 解析表格并通过 {@link #submitRow(RowCells, int, RowBindingPlan)} 逐行提交，结束时调用 {@link #flush()}。
+     * 开始处理数据行之前需调用 {@link #resumeAfterRow()}，跳过断点之前的行
+     *
+     * @return 总共读取的数据行数
+     */
+    protected abstract int doReadBatch(InputStream inputStream, String sheetName, int headStart, int headEnd,
+                                       int dataStart) throws Exception;
+
+    /**
+     * 从文件解析表格，默认打开文件输入流交给 {@link #doReadBatch(InputStream, String, int, int, int)}，
+     * 能够随机访问文件的读取器应覆盖此方法
+     *
+     * @return 总共读取的数据行数
+     */
+    protected int doReadBatch(File file, String sheetName, int headStart, int headEnd,
+                              int dataStart) throws Exception {
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            return doReadBatch(inputStream, sheetName, headStart, headEnd, dataStart);
+        }
+    }
+
+    /**
+     * 断点续传：读取断点并恢复批次号与已读取行数
+     * <p>
+     * 需要在输入流读取完毕（文件内容哈希已确定）之后、处理数据行之前调用
+     *
+     * @return 已处理的最后一行行索引，行索引不大于该值的数据行应直接跳过（不解码、不生成实体）；无断点时返回-1
+     */
+    protected int resumeAfterRow() throws IOException {
+        ImportCheckpoint checkpoint = checkpointTracker == null ? null : checkpointTracker.resume();
+        if (checkpoint == null) {
+            return -1;
+        }
+
+        batchNum = checkpoint.getBatchNum();
+        totalReadRows = checkpoint.getTotalRead();
+        log.info("从断点继续导入，已完成批次: {}, 已读取行数: {}, 跳过第{}行及之前的数据",
+            checkpoint.getBatchNum(), checkpoint.getTotalRead(), checkpoint.getLastRowIndex());
+        return checkpoint.getLastRowIndex();
+    }
+
+    /**
+     * 本次读取是否开启了断点续传
+     * <p>
+     * 断点key依赖整个文件的哈希，边读边解析的读取器需要先把输入流写入临时文件再调用 {@link #resumeAfterRow()}
+     */
+    protected boolean isCheckpointEnabled() {
+        return checkpointTracker != null;
+    }
+
+    /**
+     * 当前是否为行视图模式（此时所有列都需要解码，调用方可能按任意列读取）
+     */
+    protected boolean isRowViewMode() {
+        return rowCallback != null;
+    }
+
+    /**
+     * 提交一行数据：行视图模式下直接回调行视图，否则创建实体并通过 {@link #offer(Object, int)} 提交
+     *
+     * @param cells    当前行单元格，方法返回后可被复用
+     * @param rowIndex 行索引（从0开始）
+     * @return 是否继续读取
+     */
+    protected boolean submitRow(RowCells cells, int rowIndex, RowBindingPlan<T> bindingPlan) throws Exception {
+        if (rowCallback == null) {
+            T entity;
+            if (metrics == null) {
+                entity = readRowData(cells, rowIndex, bindingPlan);
+            } else {
+                long start = System.nanoTime();
+                entity = readRowData(cells, rowIndex, bindingPlan);
+                convertNanos += System.nanoTime() - start;
+            }
+            return entity == null || offer(entity, rowIndex);
+        }
+
+        totalReadRows++;
+        rowView.reset(cells, rowIndex, bindingPlan);
+        if (!rowCallback.onRow(rowView)) {
+            log.info("回调函数返回false，停止读取");
+            stopped = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 提交一行实体，达到批次大小时执行回调
+     *
+     * @param rowIndex 实体所在行索引（从0开始），用于记录断点
+     * @return 是否继续读取，回调返回false时为false
+     */
+    protected boolean offer(T entity, int rowIndex) {
+        if (duplicateFilter != null && duplicateFilter.isDuplicate(entity)) {
+            if (errorCollector != null) {
+                errorCollector.add(rowIndex, -1, duplicateFilter.getKeyNames(),
+                    duplicateFilter.describeKey(entity), "重复数据");
+            }
+            return true;
+        }
+
+        batch.add(entity);
+        totalReadRows++;
+        lastRowIndex = rowIndex;
+
+        if (batch.size() >= batchSize) {
+            batchNum++;
+            log.debug("处理第{}批数据，数量: {}", batchNum, batch.size());
+
+            boolean continueRead = process(new ArrayList<>(batch));
+            batch.clear();
+
+            if (!continueRead) {
+                log.info("回调函数返回false，停止读取");
+                stopped = true;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 处理最后一批不足批次大小的数据
+     */
+    protected void flush() {
+        if (!batch.isEmpty()) {
+            batchNum++;
+            log.debug("处理最后一批数据，数量: {}", batch.size());
+            if (!process(batch)) {
+                log.info("回调函数返回false，停止读取");
+                stopped = true;
+            }
+            batch = new ArrayList<>(batchSize);
+        }
+
+        log.info("Excel分批读取完成，总批次: {}, 总行数: {}", batchNum, totalReadRows);
+    }
+
+    private boolean process(List<T> rows) {
+        if (checkpointTracker != null) {
+            checkpointTracker.register(batchNum, totalReadRows, lastRowIndex);
+        }
+        return callback.process(rows, batchNum, totalReadRows);
+    }
+
+    /**
+     * 记录阶段耗时（未开启指标时忽略）
+     */
+    protected void recordStage(ExcelStage stage, long nanos) {
+        if (metrics != null) {
+            metrics.addStageNanos(stage, nanos);
+        }
+    }
+
+    /**
+     * 开启指标时统计输入流读取的字节数
+     */
+    private InputStream countParsedBytes(InputStream inputStream) {
+        if (metricsListener == null) {
+            this.parsedBytes = null;
+            return inputStream;
+        }
+        CountingInputStream counting = new CountingInputStream(inputStream);
+        this.parsedBytes = counting::getCount;
+        return counting;
+    }
+
+    private void startMetrics() {
+        this.convertNanos = 0;
+        this.metrics = metricsListener == null ? null
+            : new ExcelMetrics(ExcelMetrics.Operation.IMPORT, clazz.getSimpleName());
+        if (metrics != null) {
+            try {
+                metricsListener.onStart(metrics);
+            } catch (RuntimeException e) {
+                log.warn("指标监听器执行失败", e);
+            }
+        }
+    }
+
+    /**
+     * 统计批次回调耗时（流水线模式下在消费者线程中执行）
+     */
+    private BatchCallback<T> meter(BatchCallback<T> callback) {
+        ExcelMetrics current = metrics;
+        ExcelMetricsListener listener = metricsListener;
+        return (rows, num, totalRead) -> {
+            long start = System.nanoTime();
+            try {
+                return callback.process(rows, num, totalRead);
+            } finally {
+                long nanos = System.nanoTime() - start;
+                current.addStageNanos(ExcelStage.CALLBACK, nanos);
+                current.addRows(rows.size());
+                current.addBatch();
+                try {
+                    listener.onBatch(current, num, rows.size(), nanos);
+                } catch (RuntimeException e) {
+                    log.warn("指标监听器执行失败", e);
+                }
+            }
+        };
+    }
+
+    /**
+     * 结束统计：解析线程中除打开文件、共享字符串表、类型转换（及同步回调）以外的时间计为行解析
+     */
+    private void finishMetrics(Throwable error) {
+        ExcelMetrics current = metrics;
+        if (current == null) {
+            return;
+        }
+        this.metrics = null;
+
+        current.finish();
+        current.addStageNanos(ExcelStage.CONVERT, convertNanos);
+        if (parsedBytes != null) {
+            current.addBytes(parsedBytes.getAsLong());
+            parsedBytes = null;
+        }
+        boolean callbackOnParseThread = pipelineOptions == null || rowCallback != null;
+        long otherNanos = current.getStageNanos(ExcelStage.OPEN) + current.getStageNanos(ExcelStage.SHARED_STRINGS)
+            + convertNanos + (callbackOnParseThread ? current.getStageNanos(ExcelStage.CALLBACK) : 0);
+        current.addStageNanos(ExcelStage.ROW_PARSE, Math.max(0, current.getElapsedNanos() - otherNanos));
+
+        log.info("Excel导入指标: {}", current);
+        try {
+            if (error == null) {
+                metricsListener.onComplete(current);
+            } else {
+                metricsListener.onError(current, error);
+            }
+        } catch (RuntimeException e) {
+            log.warn("指标监听器执行失败", e);
+        }
+    }
+
+    /**
+     * 根据表头映射生成行绑定计划
+     */
+    protected RowBindingPlan<T> compileBindingPlan(Map<String, Integer> cellMap) {
+        return RowBindingPlan.compile(clazz, cellMap);
+    }
+
+    /**
+     * 按表头签名从 {@link HeaderBindingCache} 取得绑定计划，未命中时才解析表头
+     *
+     * @param signature      表头原始单元格的签名
+     * @param headerResolver 表头解析（表头名称 -> 列索引）
+     */
+    RowBindingPlan<T> compileBindingPlan(HeaderSignature signature, Supplier<Map<String, Integer>> headerResolver) {
+        return HeaderBindingCache.get(clazz, signature.hash(), headerResolver);
+    }
+
+    /**
+     * 读取行数据（数值单元格按字段类型直接解码，开启错误收集时记录转换与校验错误）
+     *
+     * @param cells    当前行单元格
+     * @param rowIndex 行索引（从0开始）
+     */
+    protected T readRowData(RowCells cells, int rowIndex, RowBindingPlan<T> bindingPlan) throws Exception {
+        return bindingPlan.bind(cells, cellValueHandler, rowIndex, errorCollector);
+    }
+
+    /**
+     * 解析动作
+     */
+    @FunctionalInterface
+    interface ReadAction {
+        int read() throws Exception;
+    }
+
+    /**
+     * 复用的行视图，直接读取解析器的行缓冲区
+     */
+    private final class ReaderRowView implements RowView<T> {
+
+        private RowCells cells;
+        private int rowIndex;
+        private RowBindingPlan<T> bindingPlan;
+
+        void reset(RowCells cells, int rowIndex, RowBindingPlan<T> bindingPlan) {
+            this.cells = cells;
+            this.rowIndex = rowIndex;
+            this.bindingPlan = bindingPlan;
+        }
+
+        @Override
+        public int getRowIndex() {
+            return rowIndex;
+        }
+
+        @Override
+        public int columnOf(String headerName) {
+            return bindingPlan.getHeaderColumn(headerName);
+        }
+
+        @Override
+        public boolean isEmpty(int column) {
+            if (cells.isNumeric(column)) {
+                return false;
+            }
+            Object value = cells.getValue(column);
+            return value == null || value.toString().isEmpty();
+        }
+
+        @Override
+        public Object getValue(int column) {
+            return cells.getValue(column);
+        }
+
+        @Override
+        public String getString(int column) {
+            Object value = cells.getValue(column);
+            return value == null ? null : value.toString();
+        }
+
+        @Override
+        public int getInt(int column, int defaultValue) {
+            if (cells.isNumeric(column)) {
+                return (int) cells.getNumericValue(column);
+            }
+            Integer value = isEmpty(column) ? null : Convert.toInt(cells.getValue(column), null);
+            return value == null ? defaultValue : value;
+        }
+
+        @Override
+        public long getLong(int column, long defaultValue) {
+            if (cells.isNumeric(column)) {
+                return (long) cells.getNumericValue(column);
+            }
+            Long value = isEmpty(column) ? null : Convert.toLong(cells.getValue(column), null);
+            return value == null ? defaultValue : value;
+        }
+
+        @Override
+        public double getDouble(int column, double defaultValue) {
+            if (cells.isNumeric(column)) {
+                return cells.getNumericValue(column);
+            }
+            Double value = isEmpty(column) ? null : Convert.toDouble(cells.getValue(column), null);
+            return value == null ? defaultValue : value;
+        }
+
+        @Override
+        public Date getDate(int column) {
+            if (cells.isNumeric(column)) {
+                double value = cells.getNumericValue(column);
+                return DateUtil.isValidExcelDate(value) ? DateUtil.getJavaDate(value) : null;
+            }
+            Object value = cells.getValue(column);
+            if (value instanceof Date) {
+                return (Date) value;
+            }
+            return isEmpty(column) ? null : DateUtils.parseDate(value);
+        }
+
+        @Override
+        public T toEntity() throws Exception {
+            return readRowData(cells, rowIndex, bindingPlan);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.common.utils.StringUtils;
+import com.axin.common.utils.poi.helper.HeaderNames;
+import com.axin.common.utils.poi.helper.MergedRegionIndex;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 流式分批Excel读取器基类
+ * <p>
+ * 事件模型（SAX / HSSF record）逐行推送 {@link SheetRowBuffer}，本类负责缓存表头行、
+ * 在第一条数据行到达时解析列映射，并将后续行转换为实体提交批次。
+ * 表头解析规则（多行表头、合并单元格）与 {@link DefaultBatchExcelReader} 保持一致。
+ * <p>
+ * xlsx/xls 的合并区域记录位于Sheet数据之后，需要额外读取一遍Sheet才能拿到。
+ * 因此合并区域只在 {@link HeaderBindingCache} 未命中时通过 {@link MergedRegionLoader} 读取（单行表头也读取，
+ * 横向合并的每一列都取左上角的值），表头签名只包含表头行的原始值（同一模板的合并方式相同）。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+abstract class AbstractStreamingBatchExcelReader<T> extends AbstractBatchExcelReader<T> {
+
+    private final Map<Integer, SheetRowBuffer> headRows = new HashMap<>();
+    private MergedRegionLoader mergedRegionLoader;
+    private int headStart;
+    private int headEnd;
+    private int dataStart;
+    private int resumeAfterRow;
+    private RowBindingPlan<T> bindingPlan;
+
+    protected AbstractStreamingBatchExcelReader(Class<T> clazz) {
+        super(clazz);
+    }
+
+    /**
+     * 开始读取一个Sheet
+     *
+     * @param mergedRegionLoader 读取表头范围内的合并单元格，仅在需要解析表头时调用
+     */
+    void startSheet(MergedRegionLoader mergedRegionLoader, int headStart, int headEnd,
+                    int dataStart) throws IOException {
+        this.mergedRegionLoader = mergedRegionLoader;
+        this.headStart = headStart;
+        this.headEnd = headEnd;
+        this.dataStart = dataStart;
+        this.resumeAfterRow = resumeAfterRow();
+        this.bindingPlan = null;
+        this.headRows.clear();
+    }
+
+    /**
+     * 处理一行数据
+     *
+     * @param rowIndex 行索引（从0开始）
+     * @param row      行缓冲区，方法返回后可被复用
+     * @return 是否继续读取
+     */
+    boolean handleRow(int rowIndex, SheetRowBuffer row) throws Exception {
+        // 合并区域可能从表头之上开始，表头结束行之前的行都保留
+        if (rowIndex <= headEnd) {
+            headRows.put(rowIndex, row.copy());
+        }
+        if (rowIndex < dataStart || rowIndex <= resumeAfterRow) {
+            return true;
+        }
+
+        if (bindingPlan == null) {
+            bindingPlan = compileBindingPlan(headerSignature(), this::buildCellMap);
+            headRows.clear();
+        }
+
+        return submitRow(row, rowIndex, bindingPlan);
+    }
+
+    /**
+     * 判断指定行是否需要解码：表头与数据起始行之间的行、断点续传时已处理的数据行由事件解析层整行跳过
+     */
+    boolean isRowRequired(int rowIndex) {
+        return rowIndex <= headEnd || (rowIndex >= dataStart && rowIndex > resumeAfterRow);
+    }
+
+    /**
+     * 判断当前行的指定列是否需要解码
+     * <p>
+     * 表头解析完成之前所有列都需要解码；之后只有绑定了实体字段的列才需要（行视图模式下所有列都需要），
+     * 其余列由事件解析层跳过（不做数值/日期格式判断、共享字符串查找等）
+     */
+    boolean isColumnRequired(int column) {
+        return bindingPlan == null || bindingPlan.isBound(column) || isRowViewMode();
+    }
+
+    /**
+     * 表头签名：表头行的原始值
+     */
+    private HeaderSignature headerSignature() {
+        HeaderSignature signature = new HeaderSignature("streaming", headStart, headEnd);
+        for (int rowIndex = headStart; rowIndex <= headEnd; rowIndex++) {
+            SheetRowBuffer row = headRows.get(rowIndex);
+            int cellCount = row == null ? -1 : row.getCellCount();
+            signature.putRow(rowIndex, cellCount);
+            for (int col = 0; col < cellCount; col++) {
+                signature.putCell(row.getOrEmpty(col));
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 构建单元格映射（表头名称 -> 列索引）
+     */
+    private Map<String, Integer> buildCellMap() {
+        Map<String, Integer> cellMap = new HashMap<>();
+
+        SheetRowBuffer firstHeadRow = headRows.get(headStart);
+        if (firstHeadRow == null) {
+            return cellMap;
+        }
+        MergedRegionIndex mergedRegions = new MergedRegionIndex(loadMergedRegions(), headStart, headEnd);
+
+        // 解析每一列的表头
+        for (int col = 0; col < firstHeadRow.getCellCount(); col++) {
+            List<String> columnHeaders = new ArrayList<>();
+
+            for (int rowIndex = headStart; rowIndex <= headEnd; rowIndex++) {
+                String cellValue = getCellValueAsString(mergedRegions, rowIndex, col);
+                if (StringUtils.isNotEmpty(cellValue) && !columnHeaders.contains(cellValue)) {
+                    columnHeaders.add(cellValue);
+                }
+            }
+
+            if (!columnHeaders.isEmpty()) {
+                cellMap.put(StringUtils.join(columnHeaders, "-"), col);
+            }
+        }
+
+        return cellMap;
+    }
+
+    /**
+     * 获取单元格值（处理合并单元格）
+     */
+    private String getCellValueAsString(MergedRegionIndex mergedRegions, int rowIndex, int column) {
+        CellRangeAddress range = mergedRegions.find(rowIndex, column);
+        if (range != null) {
+            return HeaderNames.normalize(getCapturedValue(range.getFirstRow(), range.getFirstColumn()));
+        }
+
+        return HeaderNames.normalize(getCapturedValue(rowIndex, column));
+    }
+
+    /**
+     * 表头范围内的合并单元格
+     */
+    private List<CellRangeAddress> loadMergedRegions() {
+        try {
+            return mergedRegionLoader.load();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException("读取合并单元格失败", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("读取合并单元格失败", e);
+        }
+    }
+
+    private Object getCapturedValue(int rowIndex, int column) {
+        SheetRowBuffer row = headRows.get(rowIndex);
+        return row == null ? "" : row.getOrEmpty(column);
+    }
+
+    /**
+     * 合并单元格读取方式
+     */
+    @FunctionalInterface
+    interface MergedRegionLoader {
+
+        /**
+         * @return 起始行不大于表头结束行的合并区域
+         */
+        List<CellRangeAddress> load() throws Exception;
+    }
+}
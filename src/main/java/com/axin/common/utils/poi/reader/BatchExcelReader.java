@@ -1,5 +1,7 @@
 package com.axin.common.utils.poi.reader;
 
+import com.axin.common.utils.poi.metrics.ExcelMetricsListener;
+
 import java.io.Closeable;
 import java.io.InputStream;
 import java.util.List;
@@ -33,6 +35,22 @@ public interface BatchExcelReader<T> extends Closeable {
         boolean process(List<T> batch, int batchNum, int totalRead);
     }
 
+    /**
+     * 逐行读取回调接口
+     *
+     * @param <T> 实体类型
+     */
+    @FunctionalInterface
+    interface RowCallback<T> {
+        /**
+         * 处理一行数据
+         *
+         * @param row 行视图，回调返回后被下一行复用
+         * @return 是否继续读取，返回false则停止读取
+         */
+        boolean onRow(RowView<T> row) throws Exception;
+    }
+
     /**
      * 分批读取Excel数据（使用回调处理）
      *
@@ -72,6 +90,28 @@ public interface BatchExcelReader<T> extends Closeable {
     int readBatch(InputStream inputStream, String sheetName, int headStart, int headEnd, 
                   int dataStart, int batchSize, BatchCallback<T> callback) throws Exception;
 
+    /**
+     * 以行视图逐行读取，不创建实体（需要时可通过 {@link RowView#toEntity()} 创建）
+     *
+     * @param inputStream 输入流
+     * @param sheetName   Sheet名称
+     * @param headStart   表头起始行
+     * @param headEnd     表头结束行
+     * @param dataStart   数据起始行
+     * @param callback    逐行回调
+     * @return 总共读取的数据行数
+     * @throws Exception 读取异常
+     */
+    int readRows(InputStream inputStream, String sheetName, int headStart, int headEnd,
+                 int dataStart, RowCallback<T> callback) throws Exception;
+
+    /**
+     * 设置指标监听器（读取字节数、行/秒、各阶段耗时、批次耗时等），传入null关闭
+     *
+     * @param listener 指标监听器
+     */
+    void setMetricsListener(ExcelMetricsListener listener);
+
     /**
      * 获取已读取的数据行数
      *
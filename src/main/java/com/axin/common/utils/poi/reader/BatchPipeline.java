@@ -0,0 +1,209 @@
+package com.axin.common.utils.poi.reader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 批次流水线
+ * <p>
+ * 作为解析线程看到的 {@link BatchExcelReader.BatchCallback}：process 只把批次放入有界队列，
+ * 由消费者线程调用真正的回调。回调返回false或抛出异常后，process 返回false或抛出该异常，使解析尽快停止。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+final class BatchPipeline<T> implements BatchExcelReader.BatchCallback<T>, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchPipeline.class);
+
+    private static final AtomicInteger POOL_SEQUENCE = new AtomicInteger();
+
+    /**
+     * 结束标记，每个消费者一个
+     */
+    private final Batch<T> endOfStream = new Batch<>(null, 0, 0);
+
+    private final BatchExcelReader.BatchCallback<T> callback;
+    private final BlockingQueue<Batch<T>> queue;
+    private final ExecutorService executor;
+    private final boolean ownExecutor;
+    private final List<Future<?>> consumers = new ArrayList<>();
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile boolean stopped;
+    private boolean finished;
+
+    BatchPipeline(PipelineOptions options, BatchExcelReader.BatchCallback<T> callback) {
+        this.callback = callback;
+        this.queue = new ArrayBlockingQueue<>(options.getQueueCapacity());
+        this.ownExecutor = options.getExecutor() == null;
+        this.executor = ownExecutor
+            ? Executors.newFixedThreadPool(options.getConsumers(), newThreadFactory())
+            : options.getExecutor();
+
+        for (int i = 0; i < options.getConsumers(); i++) {
+            consumers.add(executor.submit(this::consume));
+        }
+    }
+
+    /**
+     * 提交批次（解析线程调用），队列满时阻塞
+     *
+     * @return 是否继续解析
+     */
+    @Override
+    public boolean process(List<T> batch, int batchNum, int totalRead) {
+        rethrowFailure();
+        if (stopped) {
+            return false;
+        }
+
+        try {
+            queue.put(new Batch<>(batch, batchNum, totalRead));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopped = true;
+            throw new IllegalStateException("导入流水线被中断", e);
+        }
+        return !stopped;
+    }
+
+    /**
+     * 解析结束，等待所有批次处理完成，回调抛出的异常在此抛出
+     */
+    void finish() throws Exception {
+        finished = true;
+        signalEnd();
+        awaitConsumers();
+        rethrowFailure();
+    }
+
+    /**
+     * 是否已停止：回调返回false、回调出错或被中断（包括最后一批返回false的情况）
+     */
+    boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * 释放资源；未正常结束（解析异常）时丢弃剩余批次
+     */
+    @Override
+    public void close() {
+        if (!finished) {
+            stopped = true;
+            queue.clear();
+            signalEnd();
+            try {
+                awaitConsumers();
+            } catch (Exception e) {
+                log.warn("等待导入流水线结束失败", e);
+            }
+        }
+        if (ownExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 消费者循环：回调返回false或出错后继续取出剩余批次但不再回调，保证解析线程不会因队列满而阻塞
+     */
+    private void consume() {
+        while (true) {
+            Batch<T> batch;
+            try {
+                batch = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stopped = true;
+                return;
+            }
+
+            if (batch == endOfStream) {
+                return;
+            }
+            if (stopped) {
+                continue;
+            }
+
+            try {
+                if (!callback.process(batch.rows, batch.batchNum, batch.totalRead)) {
+                    log.info("回调函数返回false，停止读取");
+                    stopped = true;
+                }
+            } catch (Throwable e) {
+                log.error("处理第{}批数据失败", batch.batchNum, e);
+                failure.compareAndSet(null, e);
+                stopped = true;
+            }
+        }
+    }
+
+    private void signalEnd() {
+        try {
+            for (int i = 0; i < consumers.size(); i++) {
+                queue.put(endOfStream);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopped = true;
+            consumers.forEach(consumer -> consumer.cancel(true));
+        }
+    }
+
+    private void awaitConsumers() throws InterruptedException, ExecutionException {
+        for (Future<?> consumer : consumers) {
+            if (!consumer.isCancelled()) {
+                consumer.get();
+            }
+        }
+    }
+
+    private void rethrowFailure() {
+        Throwable e = failure.get();
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        if (e != null) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        int poolNum = POOL_SEQUENCE.incrementAndGet();
+        AtomicInteger threadNum = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "excel-import-" + poolNum + "-" + threadNum.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Batch<T> {
+        private final List<T> rows;
+        private final int batchNum;
+        private final int totalRead;
+
+        Batch(List<T> rows, int batchNum, int totalRead) {
+            this.rows = rows;
+            this.batchNum = batchNum;
+            this.totalRead = totalRead;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.axin.common.utils.poi.reader;
+
+import java.io.IOException;
+
+/**
+ * 导入断点存储
+ * <p>
+ * key 由读取器根据文件内容的SHA-256与Sheet名称生成，同一文件重新导入时可取回上次的断点。
+ * 开启流水线的无序模式时，会在多个消费者线程中调用 {@link #save}，实现需保证线程安全。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ * @see InMemoryCheckpointStore
+ * @see FileCheckpointStore
+ */
+public interface CheckpointStore {
+
+    /**
+     * 读取断点
+     *
+     * @param key 断点key
+     * @return 断点，不存在时返回null
+     */
+    ImportCheckpoint load(String key) throws IOException;
+
+    /**
+     * 保存断点（覆盖旧值）
+     *
+     * @param key        断点key
+     * @param checkpoint 断点
+     */
+    void save(String key, ImportCheckpoint checkpoint) throws IOException;
+
+    /**
+     * 删除断点（导入完整结束后调用）
+     *
+     * @param key 断点key
+     */
+    void remove(String key) throws IOException;
+}
@@ -0,0 +1,128 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.common.utils.StringUtils;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.ByteStreams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 单次导入的断点跟踪
+ * <p>
+ * 读取时对输入流计算SHA-256，文件读完后以"哈希:Sheet名称"作为断点key。
+ * 批次提交时登记其最后一行，回调成功返回后标记完成；只有当前断点之后的批次全部完成时才推进断点，
+ * 因此无序流水线中先完成的后续批次不会跳过仍在处理的批次。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+final class CheckpointTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckpointTracker.class);
+
+    private final CheckpointStore store;
+    private final String sheetName;
+    private final HashingInputStream inputStream;
+
+    /**
+     * 已提交但尚未确认断点的批次：批次号 -> 该批次完成后的断点
+     */
+    private final TreeMap<Integer, ImportCheckpoint> pending = new TreeMap<>();
+    private final Set<Integer> completed = new HashSet<>();
+
+    private String key;
+    private ImportCheckpoint checkpoint;
+    private boolean keyMissingLogged;
+
+    CheckpointTracker(CheckpointStore store, InputStream inputStream, String sheetName) {
+        this.store = store;
+        this.sheetName = sheetName;
+        this.inputStream = new HashingInputStream(Hashing.sha256(), inputStream);
+    }
+
+    /**
+     * 计算哈希的输入流，读取器应从此流读取文件
+     */
+    InputStream getInputStream() {
+        return inputStream;
+    }
+
+    /**
+     * 读取已有断点（在文件内容读取完毕、开始处理数据行之前调用）
+     *
+     * @return 断点，不存在时返回null
+     */
+    synchronized ImportCheckpoint resume() throws IOException {
+        if (key == null) {
+            // 部分解析器不会读到流末尾（如zip中央目录），读完剩余内容保证哈希覆盖整个文件
+            ByteStreams.exhaust(inputStream);
+            key = inputStream.hash() + ":" + StringUtils.nvl(sheetName, StringUtils.EMPTY);
+            checkpoint = store.load(key);
+        }
+        return checkpoint;
+    }
+
+    /**
+     * 登记即将回调的批次（解析线程调用）
+     */
+    synchronized void register(int batchNum, int totalRead, int lastRowIndex) {
+        pending.put(batchNum, new ImportCheckpoint(batchNum, totalRead, lastRowIndex));
+    }
+
+    /**
+     * 包装回调：回调正常返回后标记批次完成
+     */
+    <T> BatchExcelReader.BatchCallback<T> wrap(BatchExcelReader.BatchCallback<T> callback) {
+        return (batch, batchNum, totalRead) -> {
+            boolean continueRead = callback.process(batch, batchNum, totalRead);
+            complete(batchNum);
+            return continueRead;
+        };
+    }
+
+    /**
+     * 导入完整结束，删除断点
+     */
+    synchronized void clear() throws IOException {
+        if (key != null) {
+            store.remove(key);
+        }
+    }
+
+    private synchronized void complete(int batchNum) {
+        completed.add(batchNum);
+
+        ImportCheckpoint advanced = null;
+        while (!pending.isEmpty() && completed.remove(pending.firstKey())) {
+            advanced = pending.pollFirstEntry().getValue();
+        }
+        if (advanced == null) {
+            return;
+        }
+        if (key == null) {
+            // 读取器未调用 resume（未计算文件哈希），没有可用的断点key
+            if (!keyMissingLogged) {
+                keyMissingLogged = true;
+                log.warn("读取器未在处理数据行之前调用 resumeAfterRow，导入断点不会保存");
+            }
+            return;
+        }
+
+        try {
+            store.save(key, advanced);
+            checkpoint = advanced;
+        } catch (IOException e) {
+            throw new UncheckedIOException("保存导入断点失败", e);
+        }
+        log.debug("保存导入断点: {}", advanced);
+    }
+}
@@ -0,0 +1,262 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.common.core.text.CharsetKit;
+import com.axin.common.utils.StringUtils;
+import com.axin.common.utils.poi.helper.HeaderNames;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV / TSV 分批读取器
+ * <p>
+ * 不依赖POI，按 {@link CsvParser} 逐条解析记录，与Excel导入共用 {@code @Excel} 注解映射与回调：
+ * 表头按 {@link com.axin.framework.aspectj.lang.annotation.Excel#name()} 匹配（多行表头用"-"连接），
+ * 行索引即记录序号（从0开始，引号内换行不计入）。
+ * <ul>
+ *   <li>字符集：未指定时按文件开头8KB推断（{@link CharsetKit#detect}），并以严格模式解码，
+ *   之后出现与推断字符集不符的字节时抛出 {@link IllegalStateException}，需通过 {@link #setCharset} 指定字符集</li>
+ *   <li>分隔符：未指定时按第一行中逗号、制表符、分号的数量推断</li>
+ *   <li>sheetName 参数被忽略</li>
+ * </ul>
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class CsvBatchExcelReader<T> extends AbstractBatchExcelReader<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(CsvBatchExcelReader.class);
+
+    /**
+     * 自动推断分隔符
+     */
+    public static final char AUTO_DELIMITER = 0;
+
+    /**
+     * 推断字符集与分隔符的样本大小
+     */
+    private static final int SNIFF_SIZE = 8 * 1024;
+
+    private final char delimiter;
+    private Charset charset;
+    private File tempFile;
+
+    /**
+     * 自动推断分隔符
+     */
+    public CsvBatchExcelReader(Class<T> clazz) {
+        this(clazz, AUTO_DELIMITER);
+    }
+
+    /**
+     * @param delimiter 分隔符（CSV为','，TSV为'\t'），{@link #AUTO_DELIMITER} 时自动推断
+     */
+    public CsvBatchExcelReader(Class<T> clazz, char delimiter) {
+        super(clazz);
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * 指定字符集，不指定时自动推断
+     */
+    public CsvBatchExcelReader<T> setCharset(Charset charset) {
+        this.charset = charset;
+        return this;
+    }
+
+    @Override
+    protected int doReadBatch(InputStream inputStream, String sheetName, int headStart, int headEnd,
+                              int dataStart) throws Exception {
+        try {
+            InputStream in = inputStream;
+            int resumeAfterRow = -1;
+            if (isCheckpointEnabled()) {
+                // 断点key依赖整个文件的哈希，先写入临时文件
+                tempFile = File.createTempFile("excel-import-", ".csv");
+                Files.copy(inputStream, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                resumeAfterRow = resumeAfterRow();
+                in = Files.newInputStream(tempFile.toPath());
+            }
+
+            try (InputStream source = in) {
+                return readRecords(source, headStart, headEnd, dataStart, resumeAfterRow);
+            }
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (tempFile != null) {
+            if (!tempFile.delete()) {
+                log.warn("删除临时文件失败: {}", tempFile.getAbsolutePath());
+            }
+            tempFile = null;
+        }
+    }
+
+    private int readRecords(InputStream inputStream, int headStart, int headEnd, int dataStart,
+                            int resumeAfterRow) throws Exception {
+        BufferedInputStream in = new BufferedInputStream(inputStream, SNIFF_SIZE * 2);
+        byte[] sample = new byte[SNIFF_SIZE];
+        in.mark(SNIFF_SIZE);
+        int sampleLength = readSample(in, sample);
+        in.reset();
+
+        Charset fileCharset = charset != null ? charset : CharsetKit.detect(sample, sampleLength);
+        char fileDelimiter = delimiter != AUTO_DELIMITER ? delimiter
+            : detectDelimiter(new String(sample, 0, sampleLength, fileCharset));
+
+        log.info("开始分批读取CSV，字符集: {}, 分隔符: {}, 数据起始行: {}",
+            fileCharset, fileDelimiter == '\t' ? "\\t" : String.valueOf(fileDelimiter), dataStart);
+
+        CsvParser parser = new CsvParser(newReader(in, fileCharset), fileDelimiter);
+        List<String[]> headRows = new ArrayList<>();
+        RowBindingPlan<T> bindingPlan = null;
+
+        for (int rowIndex = 0; nextRecord(parser, fileCharset, rowIndex); rowIndex++) {
+            if (bindingPlan == null && rowIndex >= headStart && rowIndex <= headEnd) {
+                headRows.add(parser.getFields());
+            }
+            if (rowIndex < dataStart || rowIndex <= resumeAfterRow) {
+                continue;
+            }
+
+            if (bindingPlan == null) {
+                bindingPlan = compileBindingPlan(headerSignature(headRows, headStart, headEnd),
+                    () -> buildCellMap(headRows));
+            }
+
+            if (!submitRow(parser, rowIndex, bindingPlan)) {
+                break;
+            }
+        }
+
+        flush();
+        return totalReadRows;
+    }
+
+    /**
+     * 推断的字符集以严格模式解码，指定的字符集按原样解码（非法字节替换为替换字符）
+     */
+    private Reader newReader(InputStream in, Charset fileCharset) {
+        if (charset != null) {
+            return new InputStreamReader(in, fileCharset);
+        }
+        CharsetDecoder decoder = fileCharset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+        return new InputStreamReader(in, decoder);
+    }
+
+    private static boolean nextRecord(CsvParser parser, Charset fileCharset, int rowIndex) throws IOException {
+        try {
+            return parser.next();
+        } catch (CharacterCodingException e) {
+            throw new IllegalStateException("CSV第" + (rowIndex + 1) + "条记录包含不符合推断字符集 " + fileCharset
+                + " 的字节（字符集只按文件开头推断），请通过 setCharset 指定字符集", e);
+        }
+    }
+
+    private static HeaderSignature headerSignature(List<String[]> headRows, int headStart, int headEnd) {
+        HeaderSignature signature = new HeaderSignature("csv", headStart, headEnd);
+        for (int i = 0; i < headRows.size(); i++) {
+            String[] headRow = headRows.get(i);
+            signature.putRow(headStart + i, headRow.length);
+            for (String field : headRow) {
+                signature.putCell(field);
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 构建单元格映射（表头名称 -> 列索引），多行表头规则与Excel一致
+     */
+    private Map<String, Integer> buildCellMap(List<String[]> headRows) {
+        Map<String, Integer> cellMap = new HashMap<>();
+        if (headRows.isEmpty()) {
+            return cellMap;
+        }
+
+        for (int col = 0; col < headRows.get(0).length; col++) {
+            List<String> columnHeaders = new ArrayList<>();
+            for (String[] headRow : headRows) {
+                String cellValue = col < headRow.length ? HeaderNames.normalize(headRow[col]) : "";
+                if (StringUtils.isNotEmpty(cellValue) && !columnHeaders.contains(cellValue)) {
+                    columnHeaders.add(cellValue);
+                }
+            }
+
+            if (!columnHeaders.isEmpty()) {
+                cellMap.put(StringUtils.join(columnHeaders, "-"), col);
+            }
+        }
+        return cellMap;
+    }
+
+    /**
+     * 按第一行（引号外）逗号、制表符、分号的数量推断分隔符
+     */
+    static char detectDelimiter(String sample) {
+        int commas = 0;
+        int tabs = 0;
+        int semicolons = 0;
+        boolean quoted = false;
+
+        for (int i = 0; i < sample.length(); i++) {
+            char c = sample.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (!quoted) {
+                if (c == '\n' || c == '\r') {
+                    break;
+                } else if (c == ',') {
+                    commas++;
+                } else if (c == '\t') {
+                    tabs++;
+                } else if (c == ';') {
+                    semicolons++;
+                }
+            }
+        }
+
+        if (tabs > commas && tabs >= semicolons) {
+            return '\t';
+        }
+        if (semicolons > commas) {
+            return ';';
+        }
+        return ',';
+    }
+
+    private static int readSample(InputStream in, byte[] sample) throws IOException {
+        int total = 0;
+        while (total < sample.length) {
+            int read = in.read(sample, total, sample.length - total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+}
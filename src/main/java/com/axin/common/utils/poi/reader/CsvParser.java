@@ -0,0 +1,206 @@
+package com.axin.common.utils.poi.reader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * CSV / TSV 记录解析器
+ * <p>
+ * 通过固定大小的字符缓冲区读取，当前记录的字段内容连续保存在复用的字符数组中，只有被读取的字段才创建字符串。
+ * 支持 RFC 4180 的引号规则：字段可用双引号包围，引号内可包含分隔符与换行，两个双引号表示一个双引号；
+ * 换行支持 \n、\r\n 与 \r。当前记录通过 {@link RowCells} 访问，所有字段均为文本。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+final class CsvParser implements RowCells {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3;
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean started;
+    private boolean skipLineFeed;
+
+    /**
+     * 当前记录：字段内容依次保存在 chars 中，fieldEnds[i] 为第i个字段的结束位置
+     */
+    private char[] chars = new char[1024];
+    private int length;
+    private int[] fieldEnds = new int[32];
+    private int fieldCount;
+
+    CsvParser(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * 读取下一条记录
+     *
+     * @return 是否读取到记录，文件结束时返回false
+     */
+    boolean next() throws IOException {
+        length = 0;
+        fieldCount = 0;
+        int state = FIELD_START;
+        boolean hasContent = false;
+
+        while (true) {
+            if (position >= limit && !fill()) {
+                if (!hasContent) {
+                    return false;
+                }
+                endField();
+                return true;
+            }
+
+            char c = buffer[position++];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            hasContent = true;
+
+            switch (state) {
+                case QUOTED:
+                    if (c == '"') {
+                        state = QUOTE_IN_QUOTED;
+                    } else {
+                        append(c);
+                    }
+                    continue;
+                case QUOTE_IN_QUOTED:
+                    if (c == '"') {
+                        append(c);
+                        state = QUOTED;
+                        continue;
+                    }
+                    // 结束引号之后的内容按引号外字符处理
+                    break;
+                case FIELD_START:
+                    if (c == '"') {
+                        state = QUOTED;
+                        continue;
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            // 引号外的字符
+            if (c == delimiter) {
+                endField();
+                state = FIELD_START;
+            } else if (c == '\n' || c == '\r') {
+                skipLineFeed = c == '\r';
+                endField();
+                return true;
+            } else {
+                append(c);
+                state = UNQUOTED;
+            }
+        }
+    }
+
+    /**
+     * 字段数量
+     */
+    int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * 获取字段文本，不存在时返回空字符串
+     */
+    String getField(int column) {
+        if (column < 0 || column >= fieldCount) {
+            return "";
+        }
+        int start = column == 0 ? 0 : fieldEnds[column - 1];
+        int end = fieldEnds[column];
+        return start == end ? "" : new String(chars, start, end - start);
+    }
+
+    /**
+     * 当前记录所有字段
+     */
+    String[] getFields() {
+        String[] fields = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            fields[i] = getField(i);
+        }
+        return fields;
+    }
+
+    @Override
+    public Object getValue(int column) {
+        return getField(column);
+    }
+
+    @Override
+    public boolean isNumeric(int column) {
+        return false;
+    }
+
+    @Override
+    public boolean isDateFormatted(int column) {
+        return false;
+    }
+
+    @Override
+    public double getNumericValue(int column) {
+        throw new IllegalStateException("CSV字段不是数值单元格");
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (read == 0);
+
+        if (read < 0) {
+            position = 0;
+            limit = 0;
+            return false;
+        }
+
+        position = 0;
+        limit = read;
+        // 跳过文件开头的BOM
+        if (!started) {
+            started = true;
+            if (buffer[0] == '\uFEFF') {
+                position = 1;
+                return position < limit || fill();
+            }
+        }
+        return true;
+    }
+
+    private void append(char c) {
+        if (length == chars.length) {
+            chars = Arrays.copyOf(chars, length * 2);
+        }
+        chars[length++] = c;
+    }
+
+    private void endField() {
+        if (fieldCount == fieldEnds.length) {
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldEnds[fieldCount++] = length;
+    }
+}
@@ -0,0 +1,82 @@
+package com.axin.common.utils.poi.reader;
+
+/**
+ * 导入去重配置
+ * <p>
+ * 按一个或多个 {@code @Excel} 字段组成业务键，重复键的行在提交给回调之前被丢弃（保留第一次出现的行）。
+ * 布隆过滤器判断"一定不存在"的键直接放行；判断"可能存在"时再到磁盘上的哈希索引中精确确认（只读取一个键），
+ * 堆内存由布隆过滤器大小决定，与总行数无关。任一去重字段为null的行不参与去重。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class DedupeOptions {
+
+    /**
+     * 默认预计键数量
+     */
+    public static final long DEFAULT_EXPECTED_KEYS = 1_000_000L;
+
+    /**
+     * 默认误判率
+     */
+    public static final double DEFAULT_FPP = 0.01;
+
+    private final String[] keyFields;
+    private long expectedKeys = DEFAULT_EXPECTED_KEYS;
+    private double fpp = DEFAULT_FPP;
+
+    /**
+     * @param keyFields 组成业务键的实体字段名（需标注 {@code @Excel}）
+     */
+    public DedupeOptions(String... keyFields) {
+        if (keyFields == null || keyFields.length == 0) {
+            throw new IllegalArgumentException("去重字段不能为空");
+        }
+        this.keyFields = keyFields.clone();
+    }
+
+    /**
+     * 按指定字段去重
+     *
+     * @param keyFields 组成业务键的实体字段名
+     */
+    public static DedupeOptions of(String... keyFields) {
+        return new DedupeOptions(keyFields);
+    }
+
+    /**
+     * 预计键数量（决定布隆过滤器大小，超出后误判率上升，只影响速度不影响正确性）
+     */
+    public DedupeOptions setExpectedKeys(long expectedKeys) {
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("预计键数量必须大于0");
+        }
+        this.expectedKeys = expectedKeys;
+        return this;
+    }
+
+    /**
+     * 布隆过滤器误判率（误判时需要读取磁盘索引确认）
+     */
+    public DedupeOptions setFpp(double fpp) {
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("误判率必须在0到1之间");
+        }
+        this.fpp = fpp;
+        return this;
+    }
+
+    public String[] getKeyFields() {
+        return keyFields.clone();
+    }
+
+    public long getExpectedKeys() {
+        return expectedKeys;
+    }
+
+    public double getFpp() {
+        return fpp;
+    }
+}
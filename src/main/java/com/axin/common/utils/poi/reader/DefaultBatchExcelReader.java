@@ -1,17 +1,17 @@
 package com.axin.common.utils.poi.reader;
 
 import com.axin.common.utils.StringUtils;
-import com.axin.common.utils.poi.handler.CellValueHandler;
-import com.axin.common.utils.reflect.ReflectUtils;
-import com.axin.framework.aspectj.lang.annotation.Excel;
+import com.axin.common.utils.poi.helper.HeaderNames;
+import com.axin.common.utils.poi.helper.MergedRegionIndex;
+import com.axin.common.utils.poi.metrics.ExcelStage;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Field;
 import java.util.*;
 
 /**
@@ -23,57 +23,53 @@ import java.util.*;
  * @version 1.0
  * @date 2025/12/24
  */
-public class DefaultBatchExcelReader<T> implements BatchExcelReader<T> {
+public class DefaultBatchExcelReader<T> extends AbstractBatchExcelReader<T> {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultBatchExcelReader.class);
 
-    private final Class<T> clazz;
-    private final CellValueHandler cellValueHandler;
-    private int totalReadRows = 0;
     private Workbook workbook;
 
     public DefaultBatchExcelReader(Class<T> clazz) {
-        this.clazz = clazz;
-        this.cellValueHandler = new CellValueHandler();
+        super(clazz);
     }
 
     @Override
-    public int readBatch(InputStream inputStream, int batchSize, BatchCallback<T> callback) throws Exception {
-        return readBatch(inputStream, StringUtils.EMPTY, 0, 0, 1, batchSize, callback);
-    }
-
-    @Override
-    public int readBatch(InputStream inputStream, String sheetName, int batchSize, BatchCallback<T> callback) throws Exception {
-        return readBatch(inputStream, sheetName, 0, 0, 1, batchSize, callback);
-    }
-
-    @Override
-    public int readBatch(InputStream inputStream, String sheetName, int headStart, int headEnd,
-                         int dataStart, int batchSize, BatchCallback<T> callback) throws Exception {
-        if (batchSize <= 0) {
-            throw new IllegalArgumentException("批次大小必须大于0");
-        }
-        if (callback == null) {
-            throw new IllegalArgumentException("回调函数不能为null");
-        }
-
+    protected int doReadBatch(InputStream inputStream, String sheetName, int headStart, int headEnd,
+                              int dataStart) throws Exception {
         try {
+            long start = System.nanoTime();
             workbook = WorkbookFactory.create(inputStream);
+            recordStage(ExcelStage.OPEN, System.nanoTime() - start);
             Sheet sheet = getSheet(workbook, sheetName);
 
             if (sheet == null) {
                 throw new IOException("文件sheet不存在");
             }
 
-            return readDataFromSheetBatch(sheet, headStart, headEnd, dataStart, batchSize, callback);
+            return readDataFromSheetBatch(sheet, headStart, headEnd, dataStart);
         } finally {
             close();
         }
     }
 
     @Override
-    public int getReadRows() {
-        return totalReadRows;
+    protected int doReadBatch(File file, String sheetName, int headStart, int headEnd,
+                              int dataStart) throws Exception {
+        try {
+            // 只读方式从文件打开，不需要先把整个文件读入内存
+            long start = System.nanoTime();
+            workbook = WorkbookFactory.create(file, null, true);
+            recordStage(ExcelStage.OPEN, System.nanoTime() - start);
+            Sheet sheet = getSheet(workbook, sheetName);
+
+            if (sheet == null) {
+                throw new IOException("文件sheet不存在");
+            }
+
+            return readDataFromSheetBatch(sheet, headStart, headEnd, dataStart);
+        } finally {
+            close();
+        }
     }
 
     @Override
@@ -100,53 +96,30 @@ public class DefaultBatchExcelReader<T> implements BatchExcelReader<T> {
     /**
      * 从Sheet分批读取数据
      */
-    private int readDataFromSheetBatch(Sheet sheet, int headStart, int headEnd, int dataStart,
-                                       int batchSize, BatchCallback<T> callback) throws Exception {
-        // 获取列映射关系
-        Map<String, Integer> cellMap = buildCellMap(sheet, headStart, headEnd);
-
-        // 获取字段映射关系
-        Map<Integer, Field> fieldsMap = buildFieldsMap(cellMap);
+    private int readDataFromSheetBatch(Sheet sheet, int headStart, int headEnd, int dataStart) throws Exception {
+        // 工作簿已完整加载，直接解析表头生成行绑定计划（计算表头签名的开销与解析表头相当，不使用表头缓存）
+        RowBindingPlan<T> bindingPlan = compileBindingPlan(buildCellMap(sheet, headStart, headEnd));
 
         int rows = sheet.getPhysicalNumberOfRows();
-        List<T> batch = new ArrayList<>(batchSize);
-        int batchNum = 0;
-        totalReadRows = 0;
 
-        log.info("开始分批读取Excel，总行数: {}, 数据起始行: {}, 批次大小: {}", rows, dataStart, batchSize);
+        log.info("开始分批读取Excel，总行数: {}, 数据起始行: {}", rows, dataStart);
 
-        for (int i = dataStart; i < rows; i++) {
-            Row row = sheet.getRow(i);
-            T entity = readRowData(row, fieldsMap);
+        // 断点续传时从断点之后的行开始
+        int firstRow = Math.max(dataStart, resumeAfterRow() + 1);
+        PoiRowCells cells = new PoiRowCells(cellValueHandler);
 
-            if (entity != null) {
-                batch.add(entity);
-                totalReadRows++;
-
-                // 达到批次大小，执行回调
-                if (batch.size() >= batchSize) {
-                    batchNum++;
-                    log.debug("处理第{}批数据，数量: {}", batchNum, batch.size());
-
-                    boolean continueRead = callback.process(new ArrayList<>(batch), batchNum, totalReadRows);
-                    batch.clear();
-
-                    if (!continueRead) {
-                        log.info("回调函数返回false，停止读取");
-                        break;
-                    }
-                }
+        for (int i = firstRow; i < rows; i++) {
+            Row row = sheet.getRow(i);
+            if (row == null) {
+                continue;
             }
-        }
 
-        // 处理最后一批不足批次大小的数据
-        if (!batch.isEmpty()) {
-            batchNum++;
-            log.debug("处理最后一批数据，数量: {}", batch.size());
-            callback.process(batch, batchNum, totalReadRows);
+            if (!submitRow(cells.reset(row), i, bindingPlan)) {
+                break;
+            }
         }
 
-        log.info("Excel分批读取完成，总批次: {}, 总行数: {}", batchNum, totalReadRows);
+        flush();
         return totalReadRows;
     }
 
@@ -166,12 +139,15 @@ public class DefaultBatchExcelReader<T> implements BatchExcelReader<T> {
             return cellMap;
         }
 
+        // 表头范围内的合并单元格索引
+        MergedRegionIndex mergedRegions = MergedRegionIndex.of(sheet, headStart, headEnd);
+
         // 解析每一列的表头
         for (int col = 0; col < headRows.get(0).getPhysicalNumberOfCells(); col++) {
             List<String> columnHeaders = new ArrayList<>();
 
             for (Row headRow : headRows) {
-                String cellValue = getCellValueAsString(sheet, headRow, col);
+                String cellValue = getCellValueAsString(sheet, mergedRegions, headRow, col);
                 if (StringUtils.isNotEmpty(cellValue) && !columnHeaders.contains(cellValue)) {
                     columnHeaders.add(cellValue);
                 }
@@ -188,116 +164,21 @@ public class DefaultBatchExcelReader<T> implements BatchExcelReader<T> {
     /**
      * 获取单元格值（处理合并单元格）
      */
-    private String getCellValueAsString(Sheet sheet, Row row, int column) {
-        if (isMergedRegion(sheet, row.getRowNum(), column)) {
-            return getMergedRegionValue(sheet, row.getRowNum(), column);
-        }
-
-        Object value = cellValueHandler.getCellValue(row, column);
-        return value == null ? "" : value.toString().replace("\n", "");
-    }
-
-    /**
-     * 判断是否为合并单元格
-     */
-    private boolean isMergedRegion(Sheet sheet, int row, int column) {
-        int sheetMergeCount = sheet.getNumMergedRegions();
-
-        for (int i = 0; i < sheetMergeCount; i++) {
-            CellRangeAddress range = sheet.getMergedRegion(i);
-            if (row >= range.getFirstRow() && row <= range.getLastRow() &&
-                column >= range.getFirstColumn() && column <= range.getLastColumn()) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    /**
-     * 获取合并单元格的值
-     */
-    private String getMergedRegionValue(Sheet sheet, int row, int column) {
-        int sheetMergeCount = sheet.getNumMergedRegions();
-
-        for (int i = 0; i < sheetMergeCount; i++) {
-            CellRangeAddress range = sheet.getMergedRegion(i);
-            if (row >= range.getFirstRow() && row <= range.getLastRow() &&
-                column >= range.getFirstColumn() && column <= range.getLastColumn()) {
-                Row firstRow = sheet.getRow(range.getFirstRow());
-                Object value = cellValueHandler.getCellValue(firstRow, range.getFirstColumn());
-                return value == null ? "" : value.toString();
-            }
-        }
-
-        return "";
-    }
-
-    /**
-     * 构建字段映射（列索引 -> Field）
-     */
-    private Map<Integer, Field> buildFieldsMap(Map<String, Integer> cellMap) {
-        Map<Integer, Field> fieldsMap = new HashMap<>();
-        Field[] allFields = clazz.getDeclaredFields();
-
-        for (Field field : allFields) {
-            Excel attr = field.getAnnotation(Excel.class);
-            if (attr != null && (attr.type() == Excel.Type.ALL || attr.type() == Excel.Type.IMPORT)) {
-                field.setAccessible(true);
-                Integer column = cellMap.get(attr.name());
-                if (column != null) {
-                    fieldsMap.put(column, field);
-                }
-            }
+    private String getCellValueAsString(Sheet sheet, MergedRegionIndex mergedRegions, Row row, int column) {
+        CellRangeAddress range = mergedRegions.find(row.getRowNum(), column);
+        if (range != null) {
+            return HeaderNames.normalize(getMergedRegionValue(sheet, range));
         }
 
-        return fieldsMap;
+        return HeaderNames.normalize(cellValueHandler.getCellValue(row, column));
     }
 
     /**
-     * 读取行数据
+     * 获取合并单元格的值（取合并区域左上角单元格）
      */
-    private T readRowData(Row row, Map<Integer, Field> fieldsMap) throws Exception {
-        if (row == null || fieldsMap.isEmpty()) {
-            return null;
-        }
-
-        T entity = null;
-        boolean hasData = false;
-
-        for (Map.Entry<Integer, Field> entry : fieldsMap.entrySet()) {
-            Object cellValue = cellValueHandler.getCellValue(row, entry.getKey());
-
-            if (entity == null) {
-                entity = clazz.newInstance();
-            }
-
-            Field field = entry.getValue();
-            Excel attr = field.getAnnotation(Excel.class);
-
-            // 转换字段值
-            Object fieldValue = cellValueHandler.convertFieldValue(cellValue, field.getType(), attr);
-
-            // 检查是否有数据
-            if (fieldValue != null && StringUtils.isNotEmpty(fieldValue.toString())) {
-                hasData = true;
-            }
-
-            // 处理读取转换表达式
-            if (StringUtils.isNotEmpty(attr.readConverterExp()) && fieldValue != null) {
-                fieldValue = cellValueHandler.reverseByExp(fieldValue.toString(), attr.readConverterExp(), attr.separator());
-            }
-
-            // 设置字段值
-            if (fieldValue != null) {
-                String propertyName = field.getName();
-                if (StringUtils.isNotEmpty(attr.targetAttr())) {
-                    propertyName = field.getName() + "." + attr.targetAttr();
-                }
-                ReflectUtils.invokeSetter(entity, propertyName, fieldValue);
-            }
-        }
-
-        return hasData ? entity : null;
+    private String getMergedRegionValue(Sheet sheet, CellRangeAddress range) {
+        Row firstRow = sheet.getRow(range.getFirstRow());
+        Object value = cellValueHandler.getCellValue(firstRow, range.getFirstColumn());
+        return value == null ? "" : value.toString();
     }
 }
@@ -2,14 +2,13 @@ package com.axin.common.utils.poi.reader;
 
 import com.axin.common.utils.StringUtils;
 import com.axin.common.utils.poi.handler.CellValueHandler;
-import com.axin.common.utils.reflect.ReflectUtils;
-import com.axin.framework.aspectj.lang.annotation.Excel;
+import com.axin.common.utils.poi.helper.HeaderNames;
+import com.axin.common.utils.poi.helper.MergedRegionIndex;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Field;
 import java.util.*;
 
 /**
@@ -70,13 +69,14 @@ public class DefaultExcelReader<T> implements ExcelReader<T> {
         // 获取列映射关系
         Map<String, Integer> cellMap = buildCellMap(sheet, headStart, headEnd);
         
-        // 获取字段映射关系
-        Map<Integer, Field> fieldsMap = buildFieldsMap(cellMap);
+        // 生成行绑定计划
+        RowBindingPlan<T> bindingPlan = RowBindingPlan.compile(clazz, cellMap);
 
         int rows = sheet.getPhysicalNumberOfRows();
+        PoiRowCells cells = new PoiRowCells(cellValueHandler);
         for (int i = dataStart; i < rows; i++) {
             Row row = sheet.getRow(i);
-            T entity = readRowData(row, fieldsMap);
+            T entity = readRowData(row, cells, bindingPlan);
             
             if (entity != null) {
                 result.add(entity);
@@ -102,12 +102,15 @@ public class DefaultExcelReader<T> implements ExcelReader<T> {
             return cellMap;
         }
 
+        // 表头范围内的合并单元格索引
+        MergedRegionIndex mergedRegions = MergedRegionIndex.of(sheet, headStart, headEnd);
+
         // 解析每一列的表头
         for (int col = 0; col < headRows.get(0).getPhysicalNumberOfCells(); col++) {
             List<String> columnHeaders = new ArrayList<>();
             
             for (Row headRow : headRows) {
-                String cellValue = getCellValueAsString(sheet, headRow, col);
+                String cellValue = getCellValueAsString(sheet, mergedRegions, headRow, col);
                 if (StringUtils.isNotEmpty(cellValue) && !columnHeaders.contains(cellValue)) {
                     columnHeaders.add(cellValue);
                 }
@@ -124,116 +127,31 @@ public class DefaultExcelReader<T> implements ExcelReader<T> {
     /**
      * 获取单元格值（处理合并单元格）
      */
-    private String getCellValueAsString(Sheet sheet, Row row, int column) {
-        if (isMergedRegion(sheet, row.getRowNum(), column)) {
-            return getMergedRegionValue(sheet, row.getRowNum(), column);
-        }
-        
-        Object value = cellValueHandler.getCellValue(row, column);
-        return value == null ? "" : value.toString().replace("\n", "");
-    }
-
-    /**
-     * 判断是否为合并单元格
-     */
-    private boolean isMergedRegion(Sheet sheet, int row, int column) {
-        int sheetMergeCount = sheet.getNumMergedRegions();
-        
-        for (int i = 0; i < sheetMergeCount; i++) {
-            CellRangeAddress range = sheet.getMergedRegion(i);
-            if (row >= range.getFirstRow() && row <= range.getLastRow() &&
-                column >= range.getFirstColumn() && column <= range.getLastColumn()) {
-                return true;
-            }
-        }
-        
-        return false;
-    }
-
-    /**
-     * 获取合并单元格的值
-     */
-    private String getMergedRegionValue(Sheet sheet, int row, int column) {
-        int sheetMergeCount = sheet.getNumMergedRegions();
-        
-        for (int i = 0; i < sheetMergeCount; i++) {
-            CellRangeAddress range = sheet.getMergedRegion(i);
-            if (row >= range.getFirstRow() && row <= range.getLastRow() &&
-                column >= range.getFirstColumn() && column <= range.getLastColumn()) {
-                Row firstRow = sheet.getRow(range.getFirstRow());
-                Object value = cellValueHandler.getCellValue(firstRow, range.getFirstColumn());
-                return value == null ? "" : value.toString();
-            }
+    private String getCellValueAsString(Sheet sheet, MergedRegionIndex mergedRegions, Row row, int column) {
+        CellRangeAddress range = mergedRegions.find(row.getRowNum(), column);
+        if (range != null) {
+            return HeaderNames.normalize(getMergedRegionValue(sheet, range));
         }
         
-        return "";
+        return HeaderNames.normalize(cellValueHandler.getCellValue(row, column));
     }
 
     /**
-     * 构建字段映射（列索引 -> Field）
+     * 获取合并单元格的值（取合并区域左上角单元格）
      */
-    private Map<Integer, Field> buildFieldsMap(Map<String, Integer> cellMap) {
-        Map<Integer, Field> fieldsMap = new HashMap<>();
-        Field[] allFields = clazz.getDeclaredFields();
-
-        for (Field field : allFields) {
-            Excel attr = field.getAnnotation(Excel.class);
-            if (attr != null && (attr.type() == Excel.Type.ALL || attr.type() == Excel.Type.IMPORT)) {
-                field.setAccessible(true);
-                Integer column = cellMap.get(attr.name());
-                if (column != null) {
-                    fieldsMap.put(column, field);
-                }
-            }
-        }
-
-        return fieldsMap;
+    private String getMergedRegionValue(Sheet sheet, CellRangeAddress range) {
+        Row firstRow = sheet.getRow(range.getFirstRow());
+        Object value = cellValueHandler.getCellValue(firstRow, range.getFirstColumn());
+        return value == null ? "" : value.toString();
     }
 
     /**
      * 读取行数据
      */
-    private T readRowData(Row row, Map<Integer, Field> fieldsMap) throws Exception {
-        if (row == null || fieldsMap.isEmpty()) {
+    private T readRowData(Row row, PoiRowCells cells, RowBindingPlan<T> bindingPlan) throws Exception {
+        if (row == null) {
             return null;
         }
-
-        T entity = null;
-        boolean hasData = false;
-
-        for (Map.Entry<Integer, Field> entry : fieldsMap.entrySet()) {
-            Object cellValue = cellValueHandler.getCellValue(row, entry.getKey());
-            
-            if (entity == null) {
-                entity = clazz.newInstance();
-            }
-
-            Field field = entry.getValue();
-            Excel attr = field.getAnnotation(Excel.class);
-            
-            // 转换字段值
-            Object fieldValue = cellValueHandler.convertFieldValue(cellValue, field.getType(), attr);
-            
-            // 检查是否有数据
-            if (fieldValue != null && StringUtils.isNotEmpty(fieldValue.toString())) {
-                hasData = true;
-            }
-
-            // 处理读取转换表达式
-            if (StringUtils.isNotEmpty(attr.readConverterExp()) && fieldValue != null) {
-                fieldValue = cellValueHandler.reverseByExp(fieldValue.toString(), attr.readConverterExp(), attr.separator());
-            }
-
-            // 设置字段值
-            if (fieldValue != null) {
-                String propertyName = field.getName();
-                if (StringUtils.isNotEmpty(attr.targetAttr())) {
-                    propertyName = field.getName() + "." + attr.targetAttr();
-                }
-                ReflectUtils.invokeSetter(entity, propertyName, fieldValue);
-            }
-        }
-
-        return hasData ? entity : null;
+        return bindingPlan.bind(cells.reset(row), cellValueHandler);
     }
 }
@@ -0,0 +1,210 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.common.core.text.Convert;
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * 导入去重过滤器（单次导入内有效，只在解析线程使用）
+ * <p>
+ * 已出现的键加入布隆过滤器与磁盘上的 {@link MappedKeyIndex}。布隆过滤器判断一定不存在的键直接加入索引；
+ * 判断可能存在时由索引精确确认，每次确认只访问探测到的索引槽和至多一个键的数据，不加载整个分区。
+ * 堆内存为布隆过滤器与索引的固定缓冲，与键数量无关。
+ * <p>
+ * 任一去重字段为null的行不参与去重（不记录，也不会被判为重复），数量单独统计。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ * @see DedupeOptions
+ */
+final class DuplicateFilter<T> implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(DuplicateFilter.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final HashFunction KEY_HASH = Hashing.murmur3_128();
+
+    /**
+     * 多个字段值之间的分隔符
+     */
+    private static final char KEY_SEPARATOR = '\u0001';
+
+    private final String keyNames;
+    private final MethodHandle[] keyGetters;
+    private final BloomFilter<byte[]> bloomFilter;
+    private final File directory;
+    private final MappedKeyIndex index;
+    private long duplicateCount;
+    private long nullKeyCount;
+
+    DuplicateFilter(Class<T> clazz, DedupeOptions options) throws IOException {
+        this.keyNames = String.join(",", options.getKeyFields());
+        this.keyGetters = resolveGetters(clazz, options.getKeyFields());
+        this.bloomFilter = BloomFilter.create(Funnels.byteArrayFunnel(), options.getExpectedKeys(), options.getFpp());
+        this.directory = Files.createTempDirectory("excel-import-dedupe-").toFile();
+        try {
+            this.index = new MappedKeyIndex(directory);
+        } catch (IOException | RuntimeException e) {
+            deleteDirectory();
+            throw e;
+        }
+    }
+
+    /**
+     * 判断实体的业务键是否已出现过，未出现时记录该键
+     *
+     * @return 是否重复；业务键含null时返回 false
+     */
+    boolean isDuplicate(T entity) {
+        String key = keyOf(entity);
+        if (key == null) {
+            nullKeyCount++;
+            return false;
+        }
+
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        boolean mightContain = bloomFilter.mightContain(bytes);
+        try {
+            if (!index.add(bytes, KEY_HASH.hashBytes(bytes).asLong(), mightContain)) {
+                duplicateCount++;
+                return true;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("读写去重索引失败", e);
+        }
+        bloomFilter.put(bytes);
+        return false;
+    }
+
+    /**
+     * 实体的业务键（多个字段值以不可见字符连接），任一字段为null时返回null
+     */
+    String keyOf(T entity) {
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < keyGetters.length; i++) {
+            Object value = getKeyValue(i, entity);
+            if (value == null) {
+                return null;
+            }
+            if (i > 0) {
+                key.append(KEY_SEPARATOR);
+            }
+            key.append(Convert.toStr(value));
+        }
+        return key.toString();
+    }
+
+    /**
+     * 用于错误报告的业务键（字段值以逗号分隔）
+     */
+    String describeKey(T entity) {
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < keyGetters.length; i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(Convert.toStr(getKeyValue(i, entity), ""));
+        }
+        return key.toString();
+    }
+
+    /**
+     * 去重字段名（逗号分隔）
+     */
+    String getKeyNames() {
+        return keyNames;
+    }
+
+    long getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    /**
+     * 业务键含null、未参与去重的行数
+     */
+    long getNullKeyCount() {
+        return nullKeyCount;
+    }
+
+    @Override
+    public void close() {
+        try {
+            index.close();
+        } catch (IOException e) {
+            log.warn("关闭去重索引失败", e);
+        }
+        deleteDirectory();
+    }
+
+    private Object getKeyValue(int i, T entity) {
+        try {
+            return keyGetters[i].invokeExact((Object) entity);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void deleteDirectory() {
+        try {
+            FileUtils.deleteDirectory(directory);
+        } catch (IOException e) {
+            log.warn("删除临时目录失败: {}", directory.getAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * 校验去重字段存在且标注了 {@code @Excel}
+     */
+    static void validate(Class<?> clazz, DedupeOptions options) {
+        resolveGetters(clazz, options.getKeyFields());
+    }
+
+    private static MethodHandle[] resolveGetters(Class<?> clazz, String[] keyFields) {
+        MethodHandle[] getters = new MethodHandle[keyFields.length];
+        for (int i = 0; i < keyFields.length; i++) {
+            Field field = findField(clazz, keyFields[i]);
+            if (field == null || !field.isAnnotationPresent(Excel.class)) {
+                throw new IllegalArgumentException("去重字段不存在或未标注@Excel: " + keyFields[i]);
+            }
+            try {
+                field.setAccessible(true);
+                getters[i] = MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("去重字段无法访问: " + keyFields[i], e);
+            }
+        }
+        return getters;
+    }
+
+    private static Field findField(Class<?> clazz, String name) {
+        for (Class<?> type = clazz; type != null && type != Object.class; type = type.getSuperclass()) {
+            try {
+                return type.getDeclaredField(name);
+            } catch (NoSuchFieldException e) {
+                // 继续查找父类
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,344 @@
+package com.axin.common.utils.poi.reader;
+
+import org.apache.poi.hssf.eventusermodel.AbortableHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.eventusermodel.HSSFUserException;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.DimensionsRecord;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.RowRecord;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 工作簿预扫描
+ * <p>
+ * 不解析单元格，只读取工作簿结构得到Sheet名称、行列数与共享字符串数量，通常在毫秒级完成，
+ * 适合在上传接口中先拒绝超出限制的文件、估算导入耗时，再决定是否真正导入。
+ * <ul>
+ *     <li>xlsx：读取 workbook.xml 与每个Sheet开头的 &lt;dimension&gt; 元素，读到后立即停止解析；
+ *     文件未记录维度（或只记录了 A1，部分流式写入工具会这样写）时退化为只统计 &lt;row&gt; 标签；
+ *     共享字符串数量取自 sharedStrings.xml 根元素的 uniqueCount 属性</li>
+ *     <li>xls：通过事件模型读取 BoundSheet / Dimensions / SST 记录，按BOF偏移量匹配Sheet名称与维度，
+ *     读到最后一个Sheet的第一条行记录后中止解析</li>
+ * </ul>
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public final class ExcelInspector {
+
+    private static final Logger log = LoggerFactory.getLogger(ExcelInspector.class);
+
+    private ExcelInspector() {
+    }
+
+    /**
+     * 预扫描文件（以只读方式打开，不复制）
+     *
+     * @param file xlsx/xls文件
+     * @return 工作簿信息
+     */
+    public static WorkbookInfo inspect(File file) throws IOException {
+        FileMagic fileMagic = FileMagic.valueOf(file);
+        long start = System.currentTimeMillis();
+        WorkbookInfo info;
+        if (fileMagic == FileMagic.OOXML) {
+            info = inspectXlsx(file);
+        } else if (fileMagic == FileMagic.OLE2) {
+            info = inspectXls(file);
+        } else {
+            throw new IOException("预扫描仅支持xlsx/xls格式");
+        }
+        log.debug("预扫描完成，耗时: {}ms，{}", System.currentTimeMillis() - start, info);
+        return info;
+    }
+
+    /**
+     * 预扫描输入流（先写入临时文件，扫描结束后删除）
+     *
+     * @param inputStream xlsx/xls文件输入流
+     * @return 工作簿信息
+     */
+    public static WorkbookInfo inspect(InputStream inputStream) throws IOException {
+        File tempFile = File.createTempFile("excel-inspect-", ".tmp");
+        try {
+            Files.copy(inputStream, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            return inspect(tempFile);
+        } finally {
+            if (!tempFile.delete()) {
+                log.warn("删除临时文件失败: {}", tempFile.getAbsolutePath());
+            }
+        }
+    }
+
+    private static WorkbookInfo inspectXlsx(File file) throws IOException {
+        OPCPackage pkg;
+        try {
+            pkg = OPCPackage.open(file, PackageAccess.READ);
+        } catch (Exception e) {
+            throw new IOException("xlsx文件打开失败", e);
+        }
+
+        try {
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+            List<WorkbookInfo.SheetInfo> sheets = new ArrayList<>();
+            while (iterator.hasNext()) {
+                String ref;
+                try (InputStream in = iterator.next()) {
+                    ref = readFirstAttribute(in, "dimension", "ref", "sheetData");
+                }
+                String sheetName = iterator.getSheetName();
+                if (ref != null && !"A1".equalsIgnoreCase(ref)) {
+                    CellRangeAddress range = CellRangeAddress.valueOf(ref);
+                    sheets.add(new WorkbookInfo.SheetInfo(sheetName, ref,
+                        range.getLastRow() - range.getFirstRow() + 1,
+                        range.getLastColumn() - range.getFirstColumn() + 1));
+                } else {
+                    sheets.add(countRows(sheetName, iterator.getSheetPart()));
+                }
+            }
+
+            return new WorkbookInfo("xlsx", file.length(), readSharedStringCount(pkg), sheets);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("xlsx文件预扫描失败", e);
+        } finally {
+            pkg.revert();
+        }
+    }
+
+    /**
+     * 读取共享字符串表根元素上的 uniqueCount，不读取字符串内容
+     */
+    private static int readSharedStringCount(OPCPackage pkg) throws Exception {
+        List<PackagePart> parts = pkg.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+        if (parts.isEmpty()) {
+            return 0;
+        }
+        try (InputStream in = parts.get(0).getInputStream()) {
+            String uniqueCount = readFirstAttribute(in, "sst", "uniqueCount", null);
+            return uniqueCount == null ? -1 : Integer.parseInt(uniqueCount);
+        }
+    }
+
+    /**
+     * 读取第一个指定元素的属性，读到后（或遇到停止元素时）立即结束解析
+     *
+     * @return 属性值，元素或属性不存在时返回null
+     */
+    static String readFirstAttribute(InputStream in, String element, String attribute,
+                                             String stopElement) throws Exception {
+        String[] value = new String[1];
+        XMLReader xmlReader = XlsxSheetHandler.newXmlReader();
+        xmlReader.setContentHandler(new DefaultHandler() {
+            @Override
+            public void startElement(String uri, String localName, String qName, Attributes attributes)
+                throws SAXException {
+                if (element.equals(localName)) {
+                    value[0] = attributes.getValue(attribute);
+                    throw StopParsingException.INSTANCE;
+                }
+                if (localName.equals(stopElement)) {
+                    throw StopParsingException.INSTANCE;
+                }
+            }
+        });
+        try {
+            xmlReader.parse(new InputSource(in));
+        } catch (StopParsingException ignored) {
+            // 已读到需要的内容
+        }
+        return value[0];
+    }
+
+    /**
+     * 统计行标签得到行列数（列数优先取行的 spans 属性，没有时取单元格引用）
+     */
+    private static WorkbookInfo.SheetInfo countRows(String sheetName, PackagePart sheetPart) throws Exception {
+        RowCounter counter = new RowCounter();
+        XMLReader xmlReader = XlsxSheetHandler.newXmlReader();
+        xmlReader.setContentHandler(counter);
+        try (InputStream in = sheetPart.getInputStream()) {
+            xmlReader.parse(new InputSource(in));
+        }
+        return new WorkbookInfo.SheetInfo(sheetName, null, counter.rows, counter.lastColumn + 1);
+    }
+
+    private static WorkbookInfo inspectXls(File file) throws IOException {
+        XlsStructureListener listener = new XlsStructureListener();
+        HSSFRequest request = new HSSFRequest();
+        for (short sid : new short[]{BoundSheetRecord.sid, BOFRecord.sid, EOFRecord.sid, DimensionsRecord.sid,
+            RowRecord.sid, SSTRecord.sid}) {
+            request.addListener(listener, sid);
+        }
+
+        try (POIFSFileSystem fileSystem = new POIFSFileSystem(file, true)) {
+            new HSSFEventFactory().abortableProcessWorkbookEvents(request, fileSystem);
+        } catch (HSSFUserException e) {
+            throw new IOException("xls文件预扫描失败", e);
+        }
+
+        List<WorkbookInfo.SheetInfo> sheets = new ArrayList<>(listener.boundSheets.size());
+        for (BoundSheetRecord boundSheet : listener.boundSheets) {
+            DimensionsRecord dimension = listener.dimensions.get(boundSheet);
+            // DimensionsRecord 的 lastRow / lastCol 为最后一行（列）+1；空Sheet可能记录为0或A1，以是否有行记录为准
+            if (dimension == null || !listener.sheetsWithRows.contains(boundSheet)
+                || dimension.getLastRow() <= dimension.getFirstRow()) {
+                sheets.add(new WorkbookInfo.SheetInfo(boundSheet.getSheetname(), null, 0, 0));
+                continue;
+            }
+            CellRangeAddress range = new CellRangeAddress(dimension.getFirstRow(), dimension.getLastRow() - 1,
+                dimension.getFirstCol(), dimension.getLastCol() - 1);
+            sheets.add(new WorkbookInfo.SheetInfo(boundSheet.getSheetname(), range.formatAsString(),
+                range.getLastRow() - range.getFirstRow() + 1, range.getLastColumn() - range.getFirstColumn() + 1));
+        }
+
+        return new WorkbookInfo("xls", file.length(), listener.sharedStringCount, sheets);
+    }
+
+    /**
+     * xls结构监听器
+     * <p>
+     * 工作簿全局区之后，每个Sheet（包括图表Sheet、宏表）是一个以BOF开始、EOF结束的子流，
+     * 子流在文件中的顺序即 BoundSheet 记录中BOF偏移量的顺序，因此第k个顶层子流对应BOF偏移量第k小的Sheet，
+     * 与 HSSFWorkbook 的匹配方式相同；Sheet内嵌图表的BOF/EOF嵌套在子流中，按层级跳过。
+     * 读到最后一个子流的第一条行记录（或其EOF）后中止解析，不再读取最后一个Sheet的单元格记录。
+     */
+    private static final class XlsStructureListener extends AbortableHSSFListener {
+
+        private static final short CONTINUE = 0;
+        private static final short ABORT = 1;
+
+        private final List<BoundSheetRecord> boundSheets = new ArrayList<>();
+        private final Map<BoundSheetRecord, DimensionsRecord> dimensions = new IdentityHashMap<>();
+        private final Set<BoundSheetRecord> sheetsWithRows = Collections.newSetFromMap(new IdentityHashMap<>());
+        private BoundSheetRecord[] bofOrder;
+        private int substream = -1;
+        private int depth;
+        private int sharedStringCount;
+
+        @Override
+        public short abortableProcessRecord(Record record) {
+            switch (record.getSid()) {
+                case BoundSheetRecord.sid:
+                    boundSheets.add((BoundSheetRecord) record);
+                    return CONTINUE;
+                case SSTRecord.sid:
+                    sharedStringCount = ((SSTRecord) record).getNumUniqueStrings();
+                    return CONTINUE;
+                case BOFRecord.sid:
+                    depth++;
+                    if (depth == 1 && ((BOFRecord) record).getType() != BOFRecord.TYPE_WORKBOOK) {
+                        if (bofOrder == null) {
+                            bofOrder = BoundSheetRecord.orderByBofPosition(boundSheets);
+                        }
+                        substream++;
+                    }
+                    return CONTINUE;
+                case EOFRecord.sid:
+                    depth--;
+                    return depth == 0 && isLastSubstream() ? ABORT : CONTINUE;
+                case DimensionsRecord.sid:
+                    if (inSheet()) {
+                        dimensions.put(bofOrder[substream], (DimensionsRecord) record);
+                    }
+                    return CONTINUE;
+                case RowRecord.sid:
+                    // 行记录紧跟在 Dimensions 之后，读到第一条即可确认Sheet非空
+                    if (inSheet()) {
+                        sheetsWithRows.add(bofOrder[substream]);
+                        return isLastSubstream() ? ABORT : CONTINUE;
+                    }
+                    return CONTINUE;
+                default:
+                    return CONTINUE;
+            }
+        }
+
+        private boolean inSheet() {
+            return depth == 1 && bofOrder != null && substream >= 0 && substream < bofOrder.length;
+        }
+
+        private boolean isLastSubstream() {
+            return bofOrder != null && substream >= bofOrder.length - 1;
+        }
+    }
+
+    /**
+     * 行标签计数器
+     */
+    private static final class RowCounter extends DefaultHandler {
+
+        private int rows;
+        private int lastColumn = -1;
+        private boolean rowHasSpans;
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            if ("row".equals(localName)) {
+                rows++;
+                String spans = attributes.getValue("spans");
+                // spans 形如 "1:5"，不连续时为 "1:3 6:8"，取最后一个区间的结束列
+                rowHasSpans = spans != null && spans.lastIndexOf(':') > 0;
+                if (rowHasSpans) {
+                    lastColumn = Math.max(lastColumn, Integer.parseInt(spans.substring(spans.lastIndexOf(':') + 1)) - 1);
+                }
+            } else if ("c".equals(localName) && !rowHasSpans) {
+                String ref = attributes.getValue("r");
+                if (ref != null) {
+                    lastColumn = Math.max(lastColumn, XlsxSheetHandler.columnIndex(ref));
+                }
+            }
+        }
+    }
+
+    /**
+     * 提前结束SAX解析（无堆栈，反复抛出没有额外开销）
+     */
+    private static final class StopParsingException extends SAXException {
+
+        private static final StopParsingException INSTANCE = new StopParsingException();
+
+        private StopParsingException() {
+            super("stop");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.axin.common.utils.poi.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * 文件断点存储
+ * <p>
+ * 每个断点保存为目录下的一个properties文件，先写临时文件再原子替换，进程在写入过程中退出也不会留下损坏的断点
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class FileCheckpointStore implements CheckpointStore {
+
+    private static final String SUFFIX = ".checkpoint";
+
+    private final Path directory;
+
+    /**
+     * @param directory 断点文件目录，不存在时自动创建
+     */
+    public FileCheckpointStore(Path directory) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("断点目录不能为null");
+        }
+        this.directory = Files.createDirectories(directory);
+    }
+
+    @Override
+    public ImportCheckpoint load(String key) throws IOException {
+        Path file = resolve(key);
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        return new ImportCheckpoint(
+            Integer.parseInt(properties.getProperty("batchNum")),
+            Integer.parseInt(properties.getProperty("totalRead")),
+            Integer.parseInt(properties.getProperty("lastRowIndex")));
+    }
+
+    @Override
+    public synchronized void save(String key, ImportCheckpoint checkpoint) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("batchNum", String.valueOf(checkpoint.getBatchNum()));
+        properties.setProperty("totalRead", String.valueOf(checkpoint.getTotalRead()));
+        properties.setProperty("lastRowIndex", String.valueOf(checkpoint.getLastRowIndex()));
+
+        Path file = resolve(key);
+        Path tempFile = Files.createTempFile(directory, "checkpoint-", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                properties.store(out, key);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Override
+    public synchronized void remove(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    /**
+     * key 中可能包含Sheet名称，编码后作为文件名
+     */
+    private Path resolve(String key) {
+        try {
+            return directory.resolve(URLEncoder.encode(key, StandardCharsets.UTF_8.name()) + SUFFIX);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.axin.common.utils.poi.reader;
+
+import com.google.common.cache.AbstractCache;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+import com.google.common.hash.HashCode;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 表头绑定缓存
+ * <p>
+ * 同一模板每天被导入成千上万次时，每次都要解析表头行（合并单元格、多行表头拼接）并生成行绑定计划。
+ * 本类按（实体类，表头签名）缓存解析好的 {@link RowBindingPlan}，命中时跳过表头解析；
+ * 每个实体类的缓存容量有界（按最近最少使用淘汰），并记录命中率等统计信息。
+ * <p>
+ * 缓存通过 {@link ClassValue} 挂在实体类上，与 {@link RowBindingPlan} 的类绑定相同：
+ * 绑定计划引用实体类，静态Map会使实体类及其类加载器（如热部署前的应用）无法卸载，
+ * 挂在实体类上时随实体类一起回收。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public final class HeaderBindingCache {
+
+    /**
+     * 默认每个实体类最多缓存的表头数
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 128;
+
+    private static final AtomicLong SIZE = new AtomicLong();
+
+    private static volatile long maximumSize = DEFAULT_MAXIMUM_SIZE;
+    private static volatile AbstractCache.SimpleStatsCounter statsCounter = new AbstractCache.SimpleStatsCounter();
+    private static volatile ClassValue<Cache<HashCode, RowBindingPlan<?>>> caches = newCaches();
+
+    private HeaderBindingCache() {
+    }
+
+    /**
+     * 查找缓存的绑定计划，未命中时解析表头并编译
+     *
+     * @param clazz          实体类
+     * @param signature      表头签名
+     * @param headerResolver 表头解析（表头名称 -> 列索引），仅在未命中时调用
+     * @return 绑定计划
+     */
+    @SuppressWarnings("unchecked")
+    static <T> RowBindingPlan<T> get(Class<T> clazz, HashCode signature, Supplier<Map<String, Integer>> headerResolver) {
+        Cache<HashCode, RowBindingPlan<?>> cache = caches.get(clazz);
+        AbstractCache.SimpleStatsCounter counter = statsCounter;
+        RowBindingPlan<?> plan = cache.getIfPresent(signature);
+        if (plan != null) {
+            counter.recordHits(1);
+            return (RowBindingPlan<T>) plan;
+        }
+
+        counter.recordMisses(1);
+        long start = System.nanoTime();
+        try {
+            plan = cache.get(signature, () -> {
+                RowBindingPlan<T> compiled = RowBindingPlan.compile(clazz, headerResolver.get());
+                SIZE.incrementAndGet();
+                return compiled;
+            });
+            counter.recordLoadSuccess(System.nanoTime() - start);
+            return (RowBindingPlan<T>) plan;
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            counter.recordLoadException(System.nanoTime() - start);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("表头解析失败", cause);
+        }
+    }
+
+    /**
+     * 命中、未命中、淘汰等统计信息（所有实体类合计）
+     */
+    public static CacheStats stats() {
+        return statsCounter.snapshot();
+    }
+
+    /**
+     * 当前缓存条目数（所有实体类合计，近似值）
+     */
+    public static long size() {
+        return SIZE.get();
+    }
+
+    /**
+     * 清空缓存（如实体类注解在运行时发生变化）
+     */
+    public static void invalidateAll() {
+        caches = newCaches();
+        SIZE.set(0);
+    }
+
+    /**
+     * 调整每个实体类最多缓存的表头数，已有缓存与统计信息被清空
+     *
+     * @param maximumSize 最大条目数，为0时不缓存
+     */
+    public static void setMaximumSize(long maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("最大缓存条目数不能小于0");
+        }
+        HeaderBindingCache.maximumSize = maximumSize;
+        statsCounter = new AbstractCache.SimpleStatsCounter();
+        invalidateAll();
+    }
+
+    /**
+     * 实体类 -> 该类的表头缓存（替换实例即可整体清空，旧实例的缓存随之不可达）
+     */
+    private static ClassValue<Cache<HashCode, RowBindingPlan<?>>> newCaches() {
+        return new ClassValue<Cache<HashCode, RowBindingPlan<?>>>() {
+            @Override
+            protected Cache<HashCode, RowBindingPlan<?>> computeValue(Class<?> type) {
+                return CacheBuilder.newBuilder()
+                    .maximumSize(maximumSize)
+                    .<HashCode, RowBindingPlan<?>>removalListener(notification -> {
+                        SIZE.decrementAndGet();
+                        if (notification.getCause() == RemovalCause.SIZE) {
+                            statsCounter.recordEviction();
+                        }
+                    })
+                    .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.axin.common.utils.poi.reader;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * 表头签名
+ * <p>
+ * 对表头行的原始单元格值计算128位哈希，用作 {@link HeaderBindingCache} 的键（同一模板的合并方式相同，
+ * 签名不包含合并区域）。只读取原始值，不做合并单元格查找、多行表头拼接等解析工作。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+final class HeaderSignature {
+
+    private final Hasher hasher = Hashing.murmur3_128().newHasher();
+
+    /**
+     * @param layout    表头解析规则（不同读取器的解析规则不同，签名互不通用）
+     * @param headStart 表头起始行
+     * @param headEnd   表头结束行
+     */
+    HeaderSignature(String layout, int headStart, int headEnd) {
+        putString(layout);
+        hasher.putInt(headStart).putInt(headEnd);
+    }
+
+    /**
+     * 开始一个表头行
+     *
+     * @param cellCount 行内单元格数量，行不存在时为-1
+     */
+    HeaderSignature putRow(int rowIndex, int cellCount) {
+        hasher.putByte((byte) 'R').putInt(rowIndex).putInt(cellCount);
+        return this;
+    }
+
+    /**
+     * 当前行的下一个单元格
+     */
+    HeaderSignature putCell(Object value) {
+        hasher.putByte((byte) 'C');
+        putString(value == null ? "" : value.toString());
+        return this;
+    }
+
+    HashCode hash() {
+        return hasher.hash();
+    }
+
+    private void putString(String value) {
+        // 带长度写入，避免相邻单元格拼接后产生相同的字节序列
+        hasher.putInt(value.length()).putUnencodedChars(value);
+    }
+}
@@ -0,0 +1,46 @@
+package com.axin.common.utils.poi.reader;
+
+/**
+ * 导入断点
+ * <p>
+ * 记录某个文件（按内容哈希区分）已完整处理的最后一个批次，续传时从该批次之后的数据行继续
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public final class ImportCheckpoint {
+
+    private final int batchNum;
+    private final int totalRead;
+    private final int lastRowIndex;
+
+    /**
+     * @param batchNum     已处理完成的批次号
+     * @param totalRead    截至该批次的总数据行数
+     * @param lastRowIndex 该批次最后一行在Sheet中的行索引（从0开始）
+     */
+    public ImportCheckpoint(int batchNum, int totalRead, int lastRowIndex) {
+        this.batchNum = batchNum;
+        this.totalRead = totalRead;
+        this.lastRowIndex = lastRowIndex;
+    }
+
+    public int getBatchNum() {
+        return batchNum;
+    }
+
+    public int getTotalRead() {
+        return totalRead;
+    }
+
+    public int getLastRowIndex() {
+        return lastRowIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportCheckpoint{batchNum=" + batchNum + ", totalRead=" + totalRead
+            + ", lastRowIndex=" + lastRowIndex + '}';
+    }
+}
@@ -0,0 +1,33 @@
+package com.axin.common.utils.poi.reader;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 内存断点存储
+ * <p>
+ * 进程重启后断点丢失，适用于同一进程内的失败重试（如数据库短暂不可用）
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class InMemoryCheckpointStore implements CheckpointStore {
+
+    private final Map<String, ImportCheckpoint> checkpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public ImportCheckpoint load(String key) {
+        return checkpoints.get(key);
+    }
+
+    @Override
+    public void save(String key, ImportCheckpoint checkpoint) {
+        checkpoints.put(key, checkpoint);
+    }
+
+    @Override
+    public void remove(String key) {
+        checkpoints.remove(key);
+    }
+}
@@ -0,0 +1,487 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.common.exception.CustomException;
+import com.axin.common.utils.StringUtils;
+import com.axin.common.utils.spring.SpringUtils;
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import com.axin.framework.datasource.DynamicDataSource;
+import com.axin.framework.datasource.DynamicDataSourceContextHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC批量写入回调
+ * <p>
+ * 将导入的每批实体按 {@code @Excel} 字段映射到表字段，通过 {@link PreparedStatement#addBatch()} /
+ * {@link PreparedStatement#executeBatch()} 批量插入，替代逐行调用Mapper插入。
+ * 写入的字段与导入时绑定的字段相同（实体类自身声明的可导入字段，不含父类字段）；
+ * 默认表字段名为实体字段名的下划线形式（如 userName -> user_name），targetAttr 字段写入嵌套属性值，
+ * 表字段名为嵌套属性名的下划线形式（如 dept.deptName -> dept_name），可通过 {@link #mapColumn} 调整。
+ * <p>
+ * 每次回调独立获取连接，因此可用于流水线导入中的多个消费者；一批数据按 {@link #setStatementsPerTransaction}
+ * 拆分为若干事务提交。不同数据库的处理：
+ * <ul>
+ *     <li>MySQL：连接参数未开启 rewriteBatchedStatements 时，驱动会把批量语句逐条发送，
+ *     此时自动改写为多行 {@code INSERT ... VALUES (...), (...)}（与驱动改写效果相同）</li>
+ *     <li>Oracle：ojdbc 对 executeBatch 本身以数组绑定方式一次发送整批参数，直接使用标准批量接口</li>
+ * </ul>
+ * 使用示例：
+ * <pre>
+ * JdbcBatchSink&lt;User&gt; sink = new JdbcBatchSink&lt;&gt;(User.class, "sys_user")
+ *     .setStatementsPerTransaction(5000);
+ * ExcelFacade.importExcelBatch(file, User.class, 5000, sink);
+ * </pre>
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class JdbcBatchSink<T> implements BatchExcelReader.BatchCallback<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcBatchSink.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*");
+
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*(\\.[A-Za-z_][A-Za-z0-9_$]*)?");
+
+    /**
+     * 单条语句的最大占位符数量（MySQL协议限制）
+     */
+    private static final int MAX_PARAMETERS = 65535;
+
+    private final DataSource dataSource;
+    private final String tableName;
+    private final Map<String, ColumnBinding> columns = new LinkedHashMap<>();
+
+    private int executeBatchSize = 1000;
+    private int statementsPerTransaction;
+    private String dataSourceType;
+    private Boolean multiRowInsert;
+
+    private volatile ColumnBinding[] bindings;
+    private volatile String insertSql;
+    private volatile Boolean detectedMultiRowInsert;
+
+    private final AtomicLong insertedRows = new AtomicLong();
+
+    /**
+     * 使用Spring容器中的动态数据源
+     *
+     * @param clazz     实体类
+     * @param tableName 表名
+     */
+    public JdbcBatchSink(Class<T> clazz, String tableName) {
+        this(SpringUtils.getBean(DynamicDataSource.class), clazz, tableName);
+    }
+
+    /**
+     * @param dataSource 数据源
+     * @param clazz      实体类
+     * @param tableName  表名
+     */
+    public JdbcBatchSink(DataSource dataSource, Class<T> clazz, String tableName) {
+        if (dataSource == null) {
+            throw new IllegalArgumentException("数据源不能为null");
+        }
+        if (tableName == null || !TABLE_NAME.matcher(tableName).matches()) {
+            throw new IllegalArgumentException("非法的表名: " + tableName);
+        }
+        this.dataSource = dataSource;
+        this.tableName = tableName;
+        resolveColumns(clazz);
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("实体类没有可导入的@Excel字段: " + clazz.getName());
+        }
+    }
+
+    /**
+     * 指定实体字段对应的表字段名
+     *
+     * @param fieldName  实体字段名
+     * @param columnName 表字段名，为null时不写入该字段
+     */
+    public JdbcBatchSink<T> mapColumn(String fieldName, String columnName) {
+        ColumnBinding binding = columns.get(fieldName);
+        if (binding == null) {
+            throw new IllegalArgumentException("字段不存在或未标注@Excel: " + fieldName);
+        }
+        if (columnName == null) {
+            columns.remove(fieldName);
+        } else {
+            columns.put(fieldName, binding.rename(checkColumnName(columnName)));
+        }
+        this.insertSql = null;
+        return this;
+    }
+
+    /**
+     * 每执行一次 executeBatch 发送的行数（多行插入时为单条语句的行数），默认1000
+     */
+    public JdbcBatchSink<T> setExecuteBatchSize(int executeBatchSize) {
+        if (executeBatchSize <= 0) {
+            throw new IllegalArgumentException("批量执行行数必须大于0");
+        }
+        this.executeBatchSize = executeBatchSize;
+        return this;
+    }
+
+    /**
+     * 每个事务插入的行数，默认0表示每批数据一个事务
+     * <p>
+     * 一批数据拆分为多个事务时，后面的事务失败不会回滚前面已提交的事务
+     */
+    public JdbcBatchSink<T> setStatementsPerTransaction(int statementsPerTransaction) {
+        if (statementsPerTransaction < 0) {
+            throw new IllegalArgumentException("每个事务的行数不能小于0");
+        }
+        this.statementsPerTransaction = statementsPerTransaction;
+        return this;
+    }
+
+    /**
+     * 动态数据源的目标数据源（如 MASTER / SLAVE），为null时使用当前线程的数据源
+     */
+    public JdbcBatchSink<T> setDataSourceType(String dataSourceType) {
+        this.dataSourceType = dataSourceType;
+        return this;
+    }
+
+    /**
+     * 是否改写为多行INSERT，为null时按数据库自动判断（MySQL未开启 rewriteBatchedStatements 时改写）
+     */
+    public JdbcBatchSink<T> setMultiRowInsert(Boolean multiRowInsert) {
+        this.multiRowInsert = multiRowInsert;
+        return this;
+    }
+
+    /**
+     * 已插入的总行数
+     */
+    public long getInsertedRows() {
+        return insertedRows.get();
+    }
+
+    @Override
+    public boolean process(List<T> batch, int batchNum, int totalRead) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        prepare();
+
+        String previousType = DynamicDataSourceContextHolder.getDataSourceType();
+        if (dataSourceType != null) {
+            DynamicDataSourceContextHolder.setDataSourceType(dataSourceType);
+        }
+        long start = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            insert(connection, batch);
+        } catch (SQLException e) {
+            throw new CustomException("批量写入数据表" + tableName + "失败，批次: " + batchNum, e);
+        } finally {
+            if (dataSourceType != null) {
+                if (previousType == null) {
+                    DynamicDataSourceContextHolder.clearDataSourceType();
+                } else {
+                    DynamicDataSourceContextHolder.setDataSourceType(previousType);
+                }
+            }
+        }
+
+        insertedRows.addAndGet(batch.size());
+        log.debug("第{}批数据写入{}完成，数量: {}, 耗时: {}ms", batchNum, tableName, batch.size(),
+            System.currentTimeMillis() - start);
+        return true;
+    }
+
+    private void insert(Connection connection, List<T> batch) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            boolean multiRow = isMultiRowInsert(connection);
+            int transactionSize = statementsPerTransaction == 0 ? batch.size() : statementsPerTransaction;
+            for (int from = 0; from < batch.size(); from += transactionSize) {
+                List<T> rows = batch.subList(from, Math.min(batch.size(), from + transactionSize));
+                try {
+                    if (multiRow) {
+                        insertMultiRow(connection, rows);
+                    } else {
+                        insertBatched(connection, rows);
+                    }
+                    connection.commit();
+                } catch (SQLException | RuntimeException e) {
+                    connection.rollback();
+                    throw e;
+                }
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * 标准JDBC批量插入
+     */
+    private void insertBatched(Connection connection, List<T> rows) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(insertSql)) {
+            int pending = 0;
+            for (T entity : rows) {
+                bind(statement, entity, 1);
+                statement.addBatch();
+                if (++pending >= executeBatchSize) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * 多行INSERT，完整分段复用同一条预编译语句
+     */
+    private void insertMultiRow(Connection connection, List<T> rows) throws SQLException {
+        int rowsPerStatement = Math.max(1, Math.min(executeBatchSize, MAX_PARAMETERS / bindings.length));
+        int fullChunks = rows.size() / rowsPerStatement;
+
+        if (fullChunks > 0) {
+            try (PreparedStatement statement = connection.prepareStatement(multiRowSql(rowsPerStatement))) {
+                for (int chunk = 0; chunk < fullChunks; chunk++) {
+                    bindRows(statement, rows, chunk * rowsPerStatement, rowsPerStatement);
+                    statement.executeUpdate();
+                }
+            }
+        }
+
+        int remaining = rows.size() - fullChunks * rowsPerStatement;
+        if (remaining > 0) {
+            try (PreparedStatement statement = connection.prepareStatement(multiRowSql(remaining))) {
+                bindRows(statement, rows, fullChunks * rowsPerStatement, remaining);
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    private void bindRows(PreparedStatement statement, List<T> rows, int from, int count) throws SQLException {
+        int index = 1;
+        for (int i = from; i < from + count; i++) {
+            index = bind(statement, rows.get(i), index);
+        }
+    }
+
+    /**
+     * 绑定一行参数
+     *
+     * @return 下一个参数位置
+     */
+    private int bind(PreparedStatement statement, T entity, int index) throws SQLException {
+        for (ColumnBinding binding : bindings) {
+            Object value = binding.get(entity);
+            if (value == null) {
+                statement.setNull(index++, binding.sqlType);
+            } else if (value instanceof Date && !(value instanceof java.sql.Date || value instanceof Timestamp)) {
+                statement.setTimestamp(index++, new Timestamp(((Date) value).getTime()));
+            } else {
+                statement.setObject(index++, value);
+            }
+        }
+        return index;
+    }
+
+    private boolean isMultiRowInsert(Connection connection) throws SQLException {
+        if (multiRowInsert != null) {
+            return multiRowInsert;
+        }
+        if (detectedMultiRowInsert == null) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String product = StringUtils.nvl(metaData.getDatabaseProductName(), StringUtils.EMPTY).toLowerCase();
+            String url = StringUtils.nvl(metaData.getURL(), StringUtils.EMPTY);
+            boolean mysql = product.contains("mysql") || product.contains("mariadb");
+            detectedMultiRowInsert = mysql && !url.contains("rewriteBatchedStatements=true");
+            log.info("数据库: {}, 批量插入方式: {}", metaData.getDatabaseProductName(),
+                detectedMultiRowInsert ? "多行INSERT" : "JDBC批量执行");
+        }
+        return detectedMultiRowInsert;
+    }
+
+    private synchronized void prepare() {
+        if (insertSql != null) {
+            return;
+        }
+        if (columns.isEmpty()) {
+            throw new IllegalStateException("没有需要写入的字段");
+        }
+        ColumnBinding[] resolved = columns.values().toArray(new ColumnBinding[0]);
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(tableName).append(" (");
+        for (int i = 0; i < resolved.length; i++) {
+            sql.append(i > 0 ? ", " : "").append(resolved[i].columnName);
+        }
+        sql.append(") VALUES ").append(placeholders(resolved.length));
+
+        this.bindings = resolved;
+        this.insertSql = sql.toString();
+        log.info("JDBC批量写入语句: {}", insertSql);
+    }
+
+    private String multiRowSql(int rows) {
+        String values = placeholders(bindings.length);
+        StringBuilder sql = new StringBuilder(insertSql.length() + (values.length() + 2) * rows).append(insertSql);
+        for (int i = 1; i < rows; i++) {
+            sql.append(", ").append(values);
+        }
+        return sql.toString();
+    }
+
+    private static String placeholders(int count) {
+        StringBuilder values = new StringBuilder(count * 3 + 2).append('(');
+        for (int i = 0; i < count; i++) {
+            values.append(i > 0 ? ", ?" : "?");
+        }
+        return values.append(')').toString();
+    }
+
+    /**
+     * 字段范围与导入绑定相同（{@link RowBindingPlan#importFields}）；targetAttr 字段按getter逐级读取嵌套属性，
+     * 表字段名默认为嵌套属性名的下划线形式，找不到getter时不写入该字段
+     */
+    private void resolveColumns(Class<?> clazz) {
+        for (Field field : RowBindingPlan.importFields(clazz)) {
+            Excel excel = field.getAnnotation(Excel.class);
+            try {
+                field.setAccessible(true);
+                List<MethodHandle> getters = new ArrayList<>();
+                getters.add(MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE));
+                Class<?> valueType = field.getType();
+                String propertyName = field.getName();
+
+                if (StringUtils.isNotEmpty(excel.targetAttr())) {
+                    for (String name : StringUtils.split(excel.targetAttr(), ".")) {
+                        Method method = RowBindingPlan.FieldBinding.findMethod(valueType,
+                            "get" + StringUtils.capitalize(name), 0);
+                        if (method == null) {
+                            log.debug("在 [{}] 中，没有找到属性 [{}] 的get方法，不写入字段 {}", valueType, name,
+                                field.getName());
+                            getters = null;
+                            break;
+                        }
+                        getters.add(MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE));
+                        valueType = method.getReturnType();
+                        propertyName = name;
+                    }
+                    if (getters == null) {
+                        continue;
+                    }
+                }
+
+                String columnName = checkColumnName(StringUtils.toUnderScoreCase(propertyName));
+                columns.put(field.getName(), new ColumnBinding(columnName, getters.toArray(new MethodHandle[0]),
+                    sqlTypeOf(valueType)));
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("字段无法访问: " + field.getName(), e);
+            }
+        }
+    }
+
+    private static String checkColumnName(String columnName) {
+        if (!IDENTIFIER.matcher(columnName).matches()) {
+            throw new IllegalArgumentException("非法的字段名: " + columnName);
+        }
+        return columnName;
+    }
+
+    /**
+     * 字段值为null时使用的SQL类型
+     */
+    private static int sqlTypeOf(Class<?> type) {
+        if (type == String.class) {
+            return Types.VARCHAR;
+        }
+        if (type == Integer.class || type == int.class || type == Short.class || type == Byte.class) {
+            return Types.INTEGER;
+        }
+        if (type == Long.class || type == long.class) {
+            return Types.BIGINT;
+        }
+        if (type == Double.class || type == double.class || type == Float.class || type == float.class) {
+            return Types.DOUBLE;
+        }
+        if (type == BigDecimal.class) {
+            return Types.DECIMAL;
+        }
+        if (Date.class.isAssignableFrom(type)) {
+            return Types.TIMESTAMP;
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return Types.BOOLEAN;
+        }
+        return Types.VARCHAR;
+    }
+
+    /**
+     * 表字段绑定
+     */
+    private static final class ColumnBinding {
+
+        private final String columnName;
+
+        /**
+         * 字段getter，targetAttr 字段之后依次为嵌套属性的getter
+         */
+        private final MethodHandle[] getters;
+        private final int sqlType;
+
+        ColumnBinding(String columnName, MethodHandle[] getters, int sqlType) {
+            this.columnName = columnName;
+            this.getters = getters;
+            this.sqlType = sqlType;
+        }
+
+        ColumnBinding rename(String columnName) {
+            return new ColumnBinding(columnName, getters, sqlType);
+        }
+
+        /**
+         * 读取字段值，嵌套属性的中间值为null时返回null
+         */
+        Object get(Object entity) {
+            Object value = entity;
+            try {
+                for (MethodHandle getter : getters) {
+                    value = getter.invokeExact(value);
+                    if (value == null) {
+                        return null;
+                    }
+                }
+                return value;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.axin.common.utils.poi.reader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * 内存映射缓冲区工具
+ * <p>
+ * MappedByteBuffer 在被GC回收前一直占用映射（Windows下文件也无法删除），
+ * 临时文件使用完后通过 {@link #unmap} 立即释放。JDK 9+ 使用 {@code Unsafe.invokeCleaner}，
+ * JDK 8 调用缓冲区自身的 cleaner；均不可用时只能等待GC。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+final class MappedBuffers {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedBuffers.class);
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // JDK 8：没有 invokeCleaner
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private MappedBuffers() {
+    }
+
+    /**
+     * 释放映射，之后不能再访问该缓冲区及其副本
+     */
+    static void unmap(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            if (INVOKE_CLEANER != null) {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+                return;
+            }
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                Method clean = cleaner.getClass().getMethod("clean");
+                clean.setAccessible(true);
+                clean.invoke(cleaner);
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("释放内存映射失败，等待GC回收", e);
+        }
+    }
+
+    static void unmap(ByteBuffer[] buffers) {
+        if (buffers != null) {
+            for (ByteBuffer buffer : buffers) {
+                unmap(buffer);
+            }
+        }
+    }
+}
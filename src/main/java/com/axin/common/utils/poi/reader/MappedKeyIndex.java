@@ -0,0 +1,248 @@
+package com.axin.common.utils.poi.reader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * 磁盘上的键集合（开放寻址哈希索引 + 键数据文件）
+ * <p>
+ * 键的原始字节追加到数据文件；索引文件内存映射，每个槽16字节：64位哈希指纹与键在数据文件中的偏移量，
+ * 线性探测，负载超过一半时容量翻倍并重建索引（只搬运槽，不重读键）。
+ * 查找只访问探测到的槽，指纹相同时再按偏移量读取一个键比较原始字节，结果是精确的。
+ * 堆内只有固定大小的写缓冲与读缓冲，索引页由操作系统按需换入换出。
+ * <p>
+ * 非线程安全。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+final class MappedKeyIndex implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedKeyIndex.class);
+
+    private static final int SLOT_BYTES = 16;
+
+    /**
+     * 每个映射段的槽数（2^26个槽，1GB）
+     */
+    private static final int SEGMENT_SHIFT = 26;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private static final long INITIAL_SLOTS = 1L << 14;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final File directory;
+    private final RandomAccessFile dataFile;
+    private final FileChannel dataChannel;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+    private final ByteBuffer lengthBuffer = ByteBuffer.allocate(4);
+    private ByteBuffer readBuffer = ByteBuffer.allocate(256);
+
+    /**
+     * 已写入磁盘的数据长度，之后的数据仍在写缓冲中
+     */
+    private long flushedLength;
+
+    private File indexFile;
+    private MappedByteBuffer[] segments;
+    private long capacity;
+    private long size;
+    private int generation;
+
+    /**
+     * @param directory 存放数据文件与索引文件的目录（由调用方删除）
+     */
+    MappedKeyIndex(File directory) throws IOException {
+        this.directory = directory;
+        this.dataFile = new RandomAccessFile(new File(directory, "keys.dat"), "rw");
+        this.dataChannel = dataFile.getChannel();
+        try {
+            this.capacity = INITIAL_SLOTS;
+            this.indexFile = indexFile(generation);
+            this.segments = map(indexFile, capacity);
+        } catch (IOException | RuntimeException e) {
+            dataFile.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 加入一个键
+     *
+     * @param key    键的原始字节
+     * @param hash   键的64位哈希
+     * @param verify 是否需要确认键已存在；调用方确定键不存在时传 false，只找空槽不读取数据文件
+     * @return 是否新加入（false 表示键已存在）
+     */
+    boolean add(byte[] key, long hash, boolean verify) throws IOException {
+        long fingerprint = hash == 0 ? 1 : hash;
+        long mask = capacity - 1;
+        long slot = fingerprint & mask;
+        long stored;
+        while ((stored = getLong(segments, slot, 0)) != 0) {
+            if (verify && stored == fingerprint && keyEquals(getLong(segments, slot, 8), key)) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        putLong(segments, slot, 0, fingerprint);
+        putLong(segments, slot, 8, append(key));
+        if (++size * 2 > capacity) {
+            grow();
+        }
+        return true;
+    }
+
+    long size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        MappedBuffers.unmap(segments);
+        segments = null;
+        dataFile.close();
+    }
+
+    /**
+     * 容量翻倍，按指纹把所有槽搬到新的索引文件
+     */
+    private void grow() throws IOException {
+        long newCapacity = capacity << 1;
+        File newFile = indexFile(generation + 1);
+        MappedByteBuffer[] newSegments = map(newFile, newCapacity);
+        long mask = newCapacity - 1;
+        for (long i = 0; i < capacity; i++) {
+            long fingerprint = getLong(segments, i, 0);
+            if (fingerprint == 0) {
+                continue;
+            }
+            long slot = fingerprint & mask;
+            while (getLong(newSegments, slot, 0) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            putLong(newSegments, slot, 0, fingerprint);
+            putLong(newSegments, slot, 8, getLong(segments, i, 8));
+        }
+
+        MappedBuffers.unmap(segments);
+        if (!indexFile.delete()) {
+            log.debug("删除旧索引文件失败: {}", indexFile.getAbsolutePath());
+        }
+        generation++;
+        indexFile = newFile;
+        segments = newSegments;
+        capacity = newCapacity;
+    }
+
+    /**
+     * 追加键到数据文件（长度 + 原始字节）
+     *
+     * @return 键的偏移量
+     */
+    private long append(byte[] key) throws IOException {
+        int length = 4 + key.length;
+        if (writeBuffer.remaining() < length) {
+            flush();
+        }
+        long offset = flushedLength + writeBuffer.position();
+        if (length > writeBuffer.capacity()) {
+            ByteBuffer large = ByteBuffer.allocate(length);
+            large.putInt(key.length).put(key).flip();
+            writeFully(large);
+            return offset;
+        }
+        writeBuffer.putInt(key.length).put(key);
+        return offset;
+    }
+
+    private void flush() throws IOException {
+        writeBuffer.flip();
+        writeFully(writeBuffer);
+        writeBuffer.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            flushedLength += dataChannel.write(buffer, flushedLength);
+        }
+    }
+
+    private boolean keyEquals(long offset, byte[] key) throws IOException {
+        if (offset >= flushedLength) {
+            int position = (int) (offset - flushedLength);
+            if (writeBuffer.getInt(position) != key.length) {
+                return false;
+            }
+            for (int i = 0; i < key.length; i++) {
+                if (writeBuffer.get(position + 4 + i) != key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        lengthBuffer.clear();
+        readFully(lengthBuffer, offset);
+        if (lengthBuffer.getInt(0) != key.length) {
+            return false;
+        }
+        if (readBuffer.capacity() < key.length) {
+            readBuffer = ByteBuffer.allocate(Integer.highestOneBit(key.length) << 1);
+        }
+        readBuffer.clear().limit(key.length);
+        readFully(readBuffer, offset + 4);
+        for (int i = 0; i < key.length; i++) {
+            if (readBuffer.get(i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = dataChannel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("去重数据文件已截断");
+            }
+            position += read;
+        }
+    }
+
+    private File indexFile(int generation) {
+        return new File(directory, "keys-" + generation + ".idx");
+    }
+
+    private static MappedByteBuffer[] map(File file, long slots) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+             FileChannel channel = raf.getChannel()) {
+            int count = (int) ((slots + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+            MappedByteBuffer[] buffers = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long first = (long) i << SEGMENT_SHIFT;
+                long bytes = Math.min(SEGMENT_MASK + 1, slots - first) * SLOT_BYTES;
+                buffers[i] = channel.map(FileChannel.MapMode.READ_WRITE, first * SLOT_BYTES, bytes);
+            }
+            return buffers;
+        }
+    }
+
+    private static long getLong(MappedByteBuffer[] segments, long slot, int field) {
+        return segments[(int) (slot >>> SEGMENT_SHIFT)].getLong((int) ((slot & SEGMENT_MASK) * SLOT_BYTES) + field);
+    }
+
+    private static void putLong(MappedByteBuffer[] segments, long slot, int field, long value) {
+        segments[(int) (slot >>> SEGMENT_SHIFT)].putLong((int) ((slot & SEGMENT_MASK) * SLOT_BYTES) + field, value);
+    }
+}
@@ -0,0 +1,259 @@
+package com.axin.common.utils.poi.reader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 磁盘映射的共享字符串表
+ * <p>
+ * 加载时逐个解析 si 元素，字符串以UTF-8顺序写入数据文件，每个字符串的起始偏移量写入索引文件，
+ * 两个文件随后以只读方式内存映射。取字符串时按索引读出偏移量、从数据文件解码，
+ * 并保存在容量固定的直接映射缓存中（按索引取模定位槽位，冲突时覆盖）。堆内只有缓存与映射缓冲区对象，与字符串数量无关。
+ * <p>
+ * 读取不加锁，可被多个解析线程同时调用：映射缓冲区只使用不改变位置的绝对读取，
+ * 缓存槽位保存不可变的条目，线程之间最多重复解码同一个字符串。{@link #close()} 释放映射，须在所有读取结束后调用。
+ * <p>
+ * 文本拼接规则与 {@code ReadOnlySharedStringsTable} 默认行为一致（富文本各段 t 依次拼接，包括注音）。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+final class MappedSharedStringStore implements SharedStringStore {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedSharedStringStore.class);
+
+    /**
+     * 单个映射段大小（MappedByteBuffer 最大2GB，按1GB分段；为8的倍数，索引项不会跨段）
+     */
+    private static final int SEGMENT_SIZE = 1 << 30;
+
+    private final File dataFile;
+    private final File indexFile;
+    private final int count;
+    private final long dataLength;
+    private final MappedByteBuffer[] data;
+    private final MappedByteBuffer[] index;
+    private final CacheEntry[] cache;
+    private final int cacheMask;
+    private volatile boolean closed;
+
+    /**
+     * @param sharedStrings sharedStrings.xml 输入流
+     * @param cacheSize     缓存的已解码字符串数量（向上取整为2的幂，0表示不缓存）
+     */
+    MappedSharedStringStore(InputStream sharedStrings, int cacheSize) throws Exception {
+        this.dataFile = File.createTempFile("excel-import-sst-", ".dat");
+        this.indexFile = File.createTempFile("excel-import-sst-", ".idx");
+        try {
+            this.count = spool(sharedStrings, dataFile, indexFile);
+            this.dataLength = dataFile.length();
+            this.data = map(dataFile);
+            this.index = map(indexFile);
+        } catch (Exception e) {
+            deleteFiles();
+            throw e;
+        }
+        this.cache = new CacheEntry[cacheSlots(cacheSize)];
+        this.cacheMask = cache.length - 1;
+        log.info("共享字符串表使用磁盘映射存储，字符串数量: {}，数据大小: {}字节", count, dataLength);
+    }
+
+    @Override
+    public String getString(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("共享字符串索引越界: " + index);
+        }
+        if (closed) {
+            throw new IllegalStateException("共享字符串表已关闭");
+        }
+        if (cache.length == 0) {
+            return decode(index);
+        }
+
+        int slot = index & cacheMask;
+        CacheEntry entry = cache[slot];
+        if (entry != null && entry.index == index) {
+            return entry.value;
+        }
+        String value = decode(index);
+        cache[slot] = new CacheEntry(index, value);
+        return value;
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Arrays.fill(cache, null);
+        MappedBuffers.unmap(data);
+        MappedBuffers.unmap(index);
+        deleteFiles();
+    }
+
+    private String decode(int i) {
+        long start = readLong((long) i * 8);
+        long end = i + 1 < count ? readLong((long) (i + 1) * 8) : dataLength;
+        byte[] bytes = new byte[(int) (end - start)];
+
+        // 绝对读取不改变缓冲区位置，多线程共用同一缓冲区无需复制
+        for (int k = 0; k < bytes.length; k++) {
+            long position = start + k;
+            bytes[k] = data[(int) (position / SEGMENT_SIZE)].get((int) (position % SEGMENT_SIZE));
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private long readLong(long position) {
+        return index[(int) (position / SEGMENT_SIZE)].getLong((int) (position % SEGMENT_SIZE));
+    }
+
+    /**
+     * 解析共享字符串表，写入数据文件与索引文件
+     *
+     * @return 字符串数量
+     */
+    private static int spool(InputStream sharedStrings, File dataFile, File indexFile) throws Exception {
+        try (OutputStream dataOut = new BufferedOutputStream(new FileOutputStream(dataFile), 1 << 16);
+             DataOutputStream indexOut = new DataOutputStream(
+                 new BufferedOutputStream(new FileOutputStream(indexFile), 1 << 16))) {
+            SpoolHandler handler = new SpoolHandler(dataOut, indexOut);
+            XMLReader parser = XlsxSheetHandler.newXmlReader();
+            parser.setContentHandler(handler);
+            try {
+                parser.parse(new InputSource(sharedStrings));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return handler.count;
+        }
+    }
+
+    private static MappedByteBuffer[] map(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            long size = channel.size();
+            int segments = (int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+            MappedByteBuffer[] buffers = new MappedByteBuffer[segments];
+            for (int i = 0; i < segments; i++) {
+                long position = (long) i * SEGMENT_SIZE;
+                buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position));
+            }
+            return buffers;
+        }
+    }
+
+    /**
+     * 删除临时文件（Windows下映射未被回收前可能删除失败，退出时再删除）
+     */
+    private void deleteFiles() {
+        for (File file : new File[]{dataFile, indexFile}) {
+            if (file != null && file.exists() && !file.delete()) {
+                log.warn("删除临时文件失败，将在退出时删除: {}", file.getAbsolutePath());
+                file.deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * 缓存槽位数：不小于 cacheSize 的2的幂
+     */
+    private static int cacheSlots(int cacheSize) {
+        if (cacheSize <= 0) {
+            return 0;
+        }
+        int capped = Math.min(cacheSize, 1 << 30);
+        int slots = Integer.highestOneBit(capped);
+        return slots == capped ? slots : slots << 1;
+    }
+
+    /**
+     * 缓存条目（不可变，槽位中的引用可以不加锁地发布与读取）
+     */
+    private static final class CacheEntry {
+
+        private final int index;
+        private final String value;
+
+        CacheEntry(int index, String value) {
+            this.index = index;
+            this.value = value;
+        }
+    }
+
+    /**
+     * 解析 si 元素并写入文件
+     */
+    private static final class SpoolHandler extends DefaultHandler {
+
+        private final OutputStream dataOut;
+        private final DataOutputStream indexOut;
+        private final StringBuilder text = new StringBuilder(64);
+        private long offset;
+        private int count;
+        private boolean inText;
+
+        SpoolHandler(OutputStream dataOut, DataOutputStream indexOut) {
+            this.dataOut = dataOut;
+            this.indexOut = indexOut;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            if ("si".equals(localName)) {
+                text.setLength(0);
+            } else if ("t".equals(localName)) {
+                inText = true;
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            if ("t".equals(localName)) {
+                inText = false;
+            } else if ("si".equals(localName)) {
+                byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+                try {
+                    indexOut.writeLong(offset);
+                    dataOut.write(bytes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                offset += bytes.length;
+                count++;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inText) {
+                text.append(ch, start, length);
+            }
+        }
+    }
+}
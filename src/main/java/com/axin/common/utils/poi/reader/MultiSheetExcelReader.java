@@ -0,0 +1,251 @@
+package com.axin.common.utils.poi.reader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 多Sheet并行导入
+ * <p>
+ * 按Sheet逐个调用单Sheet导入时，每次都要重新解析整个工作簿和共享字符串表。
+ * 本类只打开一次xlsx包，所有Sheet共用同一份共享字符串表与样式表，每个Sheet使用独立的SAX读取器在线程池中并行解析。
+ * <p>
+ * 各Sheet的回调在各自的解析线程中执行，不同Sheet的回调可能同时被调用。
+ * 任一Sheet失败时取消其余Sheet（未开始的不再执行，正在读取的在下一批数据前停止），
+ * 等待正在读取的Sheet停止后抛出第一个异常。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class MultiSheetExcelReader {
+
+    private static final Logger log = LoggerFactory.getLogger(MultiSheetExcelReader.class);
+    private static final AtomicInteger POOL_SEQUENCE = new AtomicInteger();
+
+    private final int batchSize;
+    private final ExecutorService executor;
+    private SharedStringsOptions sharedStringsOptions = SharedStringsOptions.defaults();
+
+    /**
+     * @param batchSize 每批数据量
+     * @param executor  解析线程池，为null时按Sheet数量（不超过CPU核数）创建临时线程池（守护线程）
+     */
+    public MultiSheetExcelReader(int batchSize, ExecutorService executor) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("批次大小必须大于0");
+        }
+        this.batchSize = batchSize;
+        this.executor = executor;
+    }
+
+    /**
+     * 设置共享字符串表加载方式（所有Sheet共用同一份共享字符串表）
+     *
+     * @param sharedStringsOptions 共享字符串表配置
+     */
+    public void setSharedStringsOptions(SharedStringsOptions sharedStringsOptions) {
+        if (sharedStringsOptions == null) {
+            throw new IllegalArgumentException("共享字符串表配置不能为空");
+        }
+        this.sharedStringsOptions = sharedStringsOptions;
+    }
+
+    /**
+     * 并行导入多个Sheet
+     *
+     * @param inputStream xlsx文件输入流
+     * @param sheets      Sheet名称 -> 导入配置
+     * @return Sheet名称 -> 读取的数据行数
+     */
+    public Map<String, Integer> read(InputStream inputStream, Map<String, SheetImport<?>> sheets) throws Exception {
+        if (sheets == null || sheets.isEmpty()) {
+            throw new IllegalArgumentException("导入的Sheet不能为空");
+        }
+
+        try (XlsxPackageSource source = new XlsxPackageSource(inputStream, sharedStringsOptions)) {
+            return read(source, sheets);
+        }
+    }
+
+    /**
+     * 并行导入多个Sheet（直接以只读方式打开文件，不复制到临时文件）
+     *
+     * @param file   xlsx文件
+     * @param sheets Sheet名称 -> 导入配置
+     * @return Sheet名称 -> 读取的数据行数
+     */
+    public Map<String, Integer> read(File file, Map<String, SheetImport<?>> sheets) throws Exception {
+        if (sheets == null || sheets.isEmpty()) {
+            throw new IllegalArgumentException("导入的Sheet不能为空");
+        }
+
+        try (XlsxPackageSource source = new XlsxPackageSource(file, sharedStringsOptions)) {
+            return read(source, sheets);
+        }
+    }
+
+    private Map<String, Integer> read(XlsxPackageSource source, Map<String, SheetImport<?>> sheets) throws Exception {
+        for (String sheetName : sheets.keySet()) {
+            if (source.getSheetPart(sheetName) == null) {
+                throw new IOException("文件sheet不存在: " + sheetName);
+            }
+        }
+
+        log.info("开始多Sheet并行导入，Sheet数量: {}", sheets.size());
+
+        ExecutorService pool = executor != null ? executor
+            : Executors.newFixedThreadPool(Math.min(sheets.size(), Runtime.getRuntime().availableProcessors()),
+            newThreadFactory());
+        try {
+            CompletionService<Integer> completion = new ExecutorCompletionService<>(pool);
+            AtomicBoolean aborted = new AtomicBoolean();
+            Map<Future<Integer>, SheetTask<?>> tasks = new LinkedHashMap<>();
+            for (Map.Entry<String, SheetImport<?>> entry : sheets.entrySet()) {
+                SheetTask<?> task = new SheetTask<>(source, entry.getKey(), entry.getValue(), aborted);
+                tasks.put(completion.submit(task), task);
+            }
+            return collect(completion, tasks, aborted);
+        } finally {
+            if (executor == null) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * 按完成顺序收集结果。第一个Sheet失败时取消其余Sheet：未开始的不再执行，
+     * 正在读取的在下一批数据交给回调前停止（共用同一个包，不通过中断停止读取）。
+     * 等待正在读取的Sheet停止后（保证关闭包时没有Sheet仍在读取）抛出第一个异常。
+     */
+    private Map<String, Integer> collect(CompletionService<Integer> completion,
+                                         Map<Future<Integer>, SheetTask<?>> tasks,
+                                         AtomicBoolean aborted) throws Exception {
+        Map<String, Integer> counts = new HashMap<>();
+        Exception failure = null;
+
+        for (int i = 0; i < tasks.size() && failure == null; i++) {
+            Future<Integer> future = completion.take();
+            String sheetName = tasks.get(future).sheetName;
+            try {
+                counts.put(sheetName, future.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof CancellationException) {
+                    // 其他Sheet已失败，本Sheet未开始读取，失败的Sheet随后返回
+                    continue;
+                }
+                log.error("Sheet[{}]导入失败，取消其余Sheet", sheetName, cause);
+                aborted.set(true);
+                cancel(tasks);
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                failure = cause instanceof Exception ? (Exception) cause : e;
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (SheetTask<?> task : tasks.values()) {
+            result.put(task.sheetName, counts.get(task.sheetName));
+        }
+        return result;
+    }
+
+    /**
+     * 取消未开始的Sheet并等待正在读取的Sheet结束
+     */
+    private static void cancel(Map<Future<Integer>, SheetTask<?>> tasks) throws InterruptedException {
+        for (Map.Entry<Future<Integer>, SheetTask<?>> entry : tasks.entrySet()) {
+            entry.getKey().cancel(false);
+            entry.getValue().awaitOrSkip();
+        }
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        int poolNum = POOL_SEQUENCE.incrementAndGet();
+        AtomicInteger threadNum = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "excel-sheet-" + poolNum + "-" + threadNum.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 单个Sheet的读取任务
+     */
+    private final class SheetTask<T> implements Callable<Integer> {
+
+        private final XlsxPackageSource source;
+        private final String sheetName;
+        private final SheetImport<T> sheetImport;
+        private final AtomicBoolean aborted;
+
+        /**
+         * 任务开始执行或被取消时置位，两者只有一个生效
+         */
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        private SheetTask(XlsxPackageSource source, String sheetName, SheetImport<T> sheetImport,
+                          AtomicBoolean aborted) {
+            this.source = source;
+            this.sheetName = sheetName;
+            this.sheetImport = sheetImport;
+            this.aborted = aborted;
+        }
+
+        @Override
+        public Integer call() throws Exception {
+            if (!claimed.compareAndSet(false, true) || aborted.get()) {
+                finished.countDown();
+                throw new CancellationException("Sheet[" + sheetName + "]已取消");
+            }
+            try {
+                BatchExcelReader.BatchCallback<T> callback = sheetImport.getCallback();
+                XlsxSaxBatchExcelReader<T> reader = new XlsxSaxBatchExcelReader<>(sheetImport.getClazz());
+                return reader.readBatch(source, sheetName, sheetImport.getHeadStart(), sheetImport.getHeadEnd(),
+                    sheetImport.getDataStart(), batchSize,
+                    (batch, batchNum, totalRead) -> !aborted.get() && callback.process(batch, batchNum, totalRead));
+            } catch (Exception | Error e) {
+                // 在收集结果之前就让其余Sheet停止
+                aborted.set(true);
+                throw e;
+            } finally {
+                finished.countDown();
+            }
+        }
+
+        /**
+         * 未开始的任务不再执行，已开始的等待其结束
+         */
+        private void awaitOrSkip() throws InterruptedException {
+            if (!claimed.compareAndSet(false, true)) {
+                finished.await();
+            }
+        }
+    }
+}
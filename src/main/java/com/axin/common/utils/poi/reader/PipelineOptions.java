@@ -0,0 +1,90 @@
+package com.axin.common.utils.poi.reader;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 流水线导入配置
+ * <p>
+ * 开启后解析线程只负责解析并把批次放入有界队列，回调由消费者线程执行，解析与入库等耗时操作并行进行。
+ * 队列满时解析线程阻塞等待（背压），内存中最多同时存在 queueCapacity + consumers 个批次。
+ * <ul>
+ *   <li>有序模式：回调严格按批次号依次执行（单个消费者），适用于依赖顺序的处理</li>
+ *   <li>无序模式：consumers 个消费者并发执行回调，回调需自行保证线程安全</li>
+ * </ul>
+ * 任一回调返回false后停止解析，尚未开始处理的批次不再回调；回调抛出异常时停止解析，异常由 readBatch 抛出。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class PipelineOptions {
+
+    /**
+     * 默认队列容量（批次数）
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 4;
+
+    private final int consumers;
+    private final int queueCapacity;
+    private final boolean ordered;
+    private ExecutorService executor;
+
+    /**
+     * @param consumers     消费者线程数（有序模式下固定为1）
+     * @param queueCapacity 队列容量（批次数）
+     * @param ordered       是否按批次顺序回调
+     */
+    public PipelineOptions(int consumers, int queueCapacity, boolean ordered) {
+        if (consumers <= 0) {
+            throw new IllegalArgumentException("消费者线程数必须大于0");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("队列容量必须大于0");
+        }
+        this.consumers = ordered ? 1 : consumers;
+        this.queueCapacity = queueCapacity;
+        this.ordered = ordered;
+    }
+
+    /**
+     * 有序流水线：单个消费者按批次顺序回调
+     */
+    public static PipelineOptions ordered() {
+        return new PipelineOptions(1, DEFAULT_QUEUE_CAPACITY, true);
+    }
+
+    /**
+     * 无序流水线：多个消费者并发回调
+     *
+     * @param consumers 消费者线程数
+     */
+    public static PipelineOptions unordered(int consumers) {
+        return new PipelineOptions(consumers, Math.max(DEFAULT_QUEUE_CAPACITY, consumers * 2), false);
+    }
+
+    public int getConsumers() {
+        return consumers;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * 指定执行消费者的线程池（不指定时每次导入创建并在结束后关闭专用线程）
+     * <p>
+     * 线程池需要有至少 consumers 个空闲线程，否则解析线程会因队列满而一直等待
+     */
+    public PipelineOptions setExecutor(ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+}
@@ -0,0 +1,60 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.common.utils.poi.handler.CellValueHandler;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+
+/**
+ * 基于POI用户模型 {@link Row} 的单元格访问，同一实例逐行复用
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+final class PoiRowCells implements RowCells {
+
+    private final CellValueHandler cellValueHandler;
+    private Row row;
+
+    PoiRowCells(CellValueHandler cellValueHandler) {
+        this.cellValueHandler = cellValueHandler;
+    }
+
+    /**
+     * 切换到下一行
+     */
+    PoiRowCells reset(Row row) {
+        this.row = row;
+        return this;
+    }
+
+    @Override
+    public Object getValue(int column) {
+        return cellValueHandler.getCellValue(row, column);
+    }
+
+    @Override
+    public boolean isNumeric(int column) {
+        Cell cell = row == null ? null : row.getCell(column);
+        if (cell == null) {
+            return false;
+        }
+        CellType cellType = cell.getCellType();
+        if (cellType == CellType.FORMULA) {
+            cellType = cell.getCachedFormulaResultType();
+        }
+        return cellType == CellType.NUMERIC;
+    }
+
+    @Override
+    public boolean isDateFormatted(int column) {
+        return DateUtil.isCellDateFormatted(row.getCell(column));
+    }
+
+    @Override
+    public double getNumericValue(int column) {
+        return row.getCell(column).getNumericCellValue();
+    }
+}
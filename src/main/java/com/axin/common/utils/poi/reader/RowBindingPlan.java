@@ -0,0 +1,714 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.common.core.text.Convert;
+import com.axin.common.utils.DateUtils;
+import com.axin.common.utils.StringUtils;
+import com.axin.common.utils.poi.handler.CellValueHandler;
+import com.axin.common.utils.poi.handler.ConverterRegistry;
+import com.axin.common.utils.poi.validator.ImportErrorCollector;
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import com.axin.framework.aspectj.lang.annotation.ExcelConverter;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * 行绑定计划
+ * <p>
+ * 导入时每个单元格都要读取注解、拼接属性路径、查找setter并反射调用，大文件导入时这部分占用了大部分CPU。
+ * 本类按实体类编译一次字段绑定（注解、字段类型、setter的 {@link MethodHandle}、参数类型转换），
+ * 再按表头生成 列索引 -> 字段绑定 的数组，之后每一行只做数组遍历和 MethodHandle 调用。
+ * <p>
+ * setter 的查找与参数转换规则与 {@link com.axin.common.utils.reflect.ReflectUtils#invokeSetter} 保持一致，
+ * 包括 targetAttr 形式的嵌套属性（先调用getter再调用setter，中间对象为null时忽略）。
+ * <p>
+ * 通过 {@link RowCells} 绑定时，数值单元格按字段类型直接解码（见 {@link CellValueHandler#convertNumericValue}），
+ * 基本类型字段直接以基本类型调用setter，不产生中间字符串、BigDecimal与装箱对象。
+ * 直接解码只用于整数值与日期格式单元格，且字段没有 combo；小数、超出范围的值与带下拉选项的字段走通用转换
+ * （设置了错误收集器时同样经过校验），结果与通用转换一致。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public final class RowBindingPlan<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(RowBindingPlan.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * {@link #bindChecked} 结果：字段有数据
+     */
+    private static final int HAS_DATA = 1;
+
+    /**
+     * {@link #bindChecked} 结果：转换或校验失败
+     */
+    private static final int INVALID = 2;
+
+    /**
+     * 实体类 -> 编译后的类绑定（与表头无关，每个类只编译一次）
+     */
+    private static final ClassValue<ClassBinding> CLASS_BINDINGS = new ClassValue<ClassBinding>() {
+        @Override
+        protected ClassBinding computeValue(Class<?> type) {
+            return new ClassBinding(type);
+        }
+    };
+
+    private final ClassBinding classBinding;
+    private final int[] columns;
+    private final FieldBinding[] bindings;
+
+    /**
+     * 列索引 -> 是否有字段绑定（用于流式解析时跳过无关列）
+     */
+    private final boolean[] boundColumns;
+
+    /**
+     * 表头名称 -> 列索引（供行视图按表头查找列）
+     */
+    private final Map<String, Integer> headerColumns;
+
+    private RowBindingPlan(ClassBinding classBinding, int[] columns, FieldBinding[] bindings,
+                           Map<String, Integer> headerColumns) {
+        this.classBinding = classBinding;
+        this.columns = columns;
+        this.bindings = bindings;
+        this.headerColumns = headerColumns;
+        this.boundColumns = new boolean[columns.length == 0 ? 0 : columns[columns.length - 1] + 1];
+        for (int column : columns) {
+            boundColumns[column] = true;
+        }
+    }
+
+    /**
+     * 根据表头映射生成绑定计划
+     *
+     * @param clazz   实体类
+     * @param cellMap 表头名称 -> 列索引
+     * @return 绑定计划
+     */
+    public static <T> RowBindingPlan<T> compile(Class<T> clazz, Map<String, Integer> cellMap) {
+        ClassBinding classBinding = CLASS_BINDINGS.get(clazz);
+
+        // 同一列对应多个字段时后声明的字段生效，按列顺序读取
+        Map<Integer, FieldBinding> columnBindings = new TreeMap<>();
+        for (FieldBinding binding : classBinding.fields) {
+            Integer column = cellMap.get(binding.attr.name());
+            if (column != null) {
+                columnBindings.put(column, binding);
+            }
+        }
+
+        int[] columns = new int[columnBindings.size()];
+        FieldBinding[] bindings = new FieldBinding[columnBindings.size()];
+        int i = 0;
+        for (Map.Entry<Integer, FieldBinding> entry : columnBindings.entrySet()) {
+            columns[i] = entry.getKey();
+            bindings[i] = entry.getValue();
+            i++;
+        }
+
+        return new RowBindingPlan<>(classBinding, columns, bindings, new HashMap<>(cellMap));
+    }
+
+    /**
+     * 绑定的列数
+     */
+    public int size() {
+        return columns.length;
+    }
+
+    public boolean isEmpty() {
+        return columns.length == 0;
+    }
+
+    /**
+     * 第i个绑定对应的列索引
+     */
+    public int getColumn(int i) {
+        return columns[i];
+    }
+
+    /**
+     * 判断列是否有字段绑定，没有绑定的列无需解码
+     */
+    public boolean isBound(int column) {
+        return column >= 0 && column < boundColumns.length && boundColumns[column];
+    }
+
+    /**
+     * 表头名称对应的列索引
+     *
+     * @return 列索引，表头不存在时返回-1
+     */
+    public int getHeaderColumn(String headerName) {
+        Integer column = headerColumns.get(headerName);
+        return column == null ? -1 : column;
+    }
+
+    /**
+     * 第i个绑定对应的字段
+     */
+    public FieldBinding getBinding(int i) {
+        return bindings[i];
+    }
+
+    /**
+     * 创建实体实例
+     */
+    @SuppressWarnings("unchecked")
+    public T newInstance() throws Exception {
+        try {
+            Object instance = classBinding.constructor.invokeExact();
+            return (T) instance;
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 读取一行数据并转换为实体
+     * <p>
+     * 转换规则：字段绑定时解析的 {@link ExcelConverter} 转换字段值，有 readConverterExp 时反向解析，
+     * 所有列都为空时视为空行返回null
+     *
+     * @param cellValues       列索引 -> 单元格值
+     * @param cellValueHandler 单元格值处理器
+     * @return 实体，空行返回null
+     */
+    public T bind(IntFunction<Object> cellValues, CellValueHandler cellValueHandler) throws Exception {
+        if (isEmpty()) {
+            return null;
+        }
+
+        T entity = newInstance();
+        boolean hasData = false;
+
+        for (int i = 0; i < columns.length; i++) {
+            hasData |= bindValue(entity, bindings[i], cellValues.apply(columns[i]), cellValueHandler);
+        }
+
+        return hasData ? entity : null;
+    }
+
+    /**
+     * 读取一行数据并转换为实体，数值单元格按字段类型直接解码，其余单元格与 {@link #bind(IntFunction, CellValueHandler)} 一致
+     *
+     * @param cells            当前行单元格
+     * @param cellValueHandler 单元格值处理器
+     * @return 实体，空行返回null
+     */
+    public T bind(RowCells cells, CellValueHandler cellValueHandler) throws Exception {
+        return bind(cells, cellValueHandler, -1, null);
+    }
+
+    /**
+     * 读取一行数据并转换为实体，转换与校验失败记录到错误收集器
+     * <p>
+     * 非空单元格转换结果为null（如日期格式不正确）、无法转换为setter参数类型、
+     * 不在 readConverterExp 或 combo 范围内时记录错误，该字段不赋值；
+     * 收集器设置为跳过错误行时，有错误的行返回null
+     *
+     * @param cells            当前行单元格
+     * @param cellValueHandler 单元格值处理器
+     * @param rowIndex         行索引（从0开始）
+     * @param errors           错误收集器，为null时与 {@link #bind(RowCells, CellValueHandler)} 一致
+     * @return 实体，空行或错误行返回null
+     */
+    public T bind(RowCells cells, CellValueHandler cellValueHandler, int rowIndex,
+                  ImportErrorCollector errors) throws Exception {
+        if (isEmpty()) {
+            return null;
+        }
+
+        T entity = newInstance();
+        boolean hasData = false;
+        boolean invalid = false;
+
+        for (int i = 0; i < columns.length; i++) {
+            FieldBinding binding = bindings[i];
+            int column = columns[i];
+
+            if (binding.numericDecodable && cells.isNumeric(column)
+                && binding.setNumericValue(entity, cells.getNumericValue(column), cells.isDateFormatted(column),
+                cellValueHandler)) {
+                hasData = true;
+                continue;
+            }
+
+            if (errors == null) {
+                hasData |= bindValue(entity, binding, cells.getValue(column), cellValueHandler);
+            } else {
+                int result = bindChecked(entity, binding, cells.getValue(column), cellValueHandler,
+                    rowIndex, column, errors);
+                hasData |= (result & HAS_DATA) != 0;
+                invalid |= (result & INVALID) != 0;
+            }
+        }
+
+        if (invalid && errors.isSkipInvalidRows()) {
+            return null;
+        }
+        return hasData ? entity : null;
+    }
+
+    /**
+     * 通用转换并设置字段值
+     *
+     * @return 字段值是否非空
+     */
+    private static boolean bindValue(Object entity, FieldBinding binding, Object cellValue,
+                                     CellValueHandler cellValueHandler) {
+        Excel attr = binding.attr;
+
+        // 转换字段值
+        Object fieldValue = binding.convert(cellValue);
+
+        // 检查是否有数据
+        boolean hasData = fieldValue != null && StringUtils.isNotEmpty(fieldValue.toString());
+
+        // 处理读取转换表达式
+        if (binding.hasReadConverterExp && fieldValue != null) {
+            fieldValue = cellValueHandler.reverseByExp(fieldValue.toString(), attr.readConverterExp(), attr.separator());
+        }
+
+        // 设置字段值
+        if (fieldValue != null) {
+            binding.setValue(entity, fieldValue);
+        }
+        return hasData;
+    }
+
+    /**
+     * 转换并设置字段值，失败时记录错误
+     *
+     * @return {@link #HAS_DATA} 与 {@link #INVALID} 的组合
+     */
+    private static int bindChecked(Object entity, FieldBinding binding, Object cellValue,
+                                   CellValueHandler cellValueHandler, int rowIndex, int column,
+                                   ImportErrorCollector errors) {
+        Excel attr = binding.attr;
+        String reason;
+
+        try {
+            Object fieldValue = binding.convert(cellValue);
+            if (fieldValue == null) {
+                if (cellValue == null || StringUtils.isEmpty(cellValue.toString())) {
+                    return 0;
+                }
+                reason = "无法转换为" + typeName(binding.fieldType);
+            } else {
+                String text = fieldValue.toString();
+                int result = StringUtils.isNotEmpty(text) ? HAS_DATA : 0;
+
+                if (binding.hasReadConverterExp) {
+                    fieldValue = cellValueHandler.reverseByExp(text, attr.readConverterExp(), attr.separator());
+                }
+
+                if (result != 0 && attr.combo().length > 0 && !ArrayUtils.contains(attr.combo(), text)) {
+                    reason = "不在下拉选项中";
+                } else if (result != 0 && binding.hasReadConverterExp && StringUtils.isEmpty(fieldValue.toString())) {
+                    reason = "不在可选范围内: " + attr.readConverterExp();
+                } else if (binding.setValueChecked(entity, fieldValue)) {
+                    return result;
+                } else {
+                    reason = "无法转换为" + typeName(binding.parameterType);
+                }
+            }
+        } catch (RuntimeException e) {
+            reason = "转换失败: " + e.getMessage();
+        }
+
+        errors.add(rowIndex, column, attr.name(), cellValue, reason);
+        return HAS_DATA | INVALID;
+    }
+
+    private static String typeName(Class<?> type) {
+        if (type == null) {
+            return "字段类型";
+        }
+        Class<?> boxed = MethodType.methodType(type).wrap().returnType();
+        if (boxed == Integer.class || boxed == Long.class || boxed == Short.class || boxed == Byte.class) {
+            return "整数";
+        }
+        if (Number.class.isAssignableFrom(boxed)) {
+            return "数字";
+        }
+        if (Date.class.isAssignableFrom(boxed) || Temporal.class.isAssignableFrom(boxed)) {
+            return "日期";
+        }
+        if (boxed == Boolean.class) {
+            return "布尔值";
+        }
+        if (boxed.isEnum()) {
+            return "可选值";
+        }
+        return type.getSimpleName();
+    }
+
+    /**
+     * 可导入的字段：实体类自身声明的、type 为 ALL 或 IMPORT 的 {@code @Excel} 非静态字段（不含父类字段）
+     * <p>
+     * 导入绑定与 {@link JdbcBatchSink} 共用，保证写入数据表的字段与从Excel读取的字段一致
+     */
+    static List<Field> importFields(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            Excel attr = field.getAnnotation(Excel.class);
+            if (attr != null && (attr.type() == Excel.Type.ALL || attr.type() == Excel.Type.IMPORT)
+                && !Modifier.isStatic(field.getModifiers())) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * 实体类绑定：构造器与所有可导入字段
+     */
+    private static final class ClassBinding {
+
+        private final MethodHandle constructor;
+        private final FieldBinding[] fields;
+
+        ClassBinding(Class<?> clazz) {
+            this.constructor = resolveConstructor(clazz);
+
+            List<FieldBinding> fieldBindings = new ArrayList<>();
+            for (Field field : importFields(clazz)) {
+                fieldBindings.add(new FieldBinding(clazz, field, field.getAnnotation(Excel.class)));
+            }
+            this.fields = fieldBindings.toArray(new FieldBinding[0]);
+        }
+
+        private static MethodHandle resolveConstructor(Class<?> clazz) {
+            try {
+                Constructor<?> constructor = clazz.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return LOOKUP.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalArgumentException("实体类缺少无参构造方法: " + clazz.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * 字段绑定：注解、字段类型与预先解析好的setter
+     */
+    public static final class FieldBinding {
+
+        private final Field field;
+        private final Excel attr;
+        private final Class<?> fieldType;
+        private final boolean hasReadConverterExp;
+        private final String propertyName;
+
+        /**
+         * 嵌套属性的getter链（targetAttr 为空时为空数组）
+         */
+        private final MethodHandle[] getters;
+        private final MethodHandle setter;
+        private final Class<?> parameterType;
+        private final Class<?> boxedParameterType;
+        private final Function<Object, Object> parameterConverter;
+
+        /**
+         * 字段值转换器（按字段类型或注解解析一次）
+         */
+        private final ExcelConverter<?> converter;
+
+        /**
+         * 数值单元格能否按字段类型直接解码：没有 readConverterExp、combo 与自定义转换器，
+         * 不是嵌套属性且setter参数类型与字段类型一致
+         */
+        private final boolean numericDecodable;
+
+        /**
+         * setter参数为 int/long/short/byte/double/float 时的基本类型setter，调用时不装箱
+         */
+        private final MethodHandle primitiveSetter;
+
+        FieldBinding(Class<?> clazz, Field field, Excel attr) {
+            field.setAccessible(true);
+            this.field = field;
+            this.attr = attr;
+            this.fieldType = field.getType();
+            this.hasReadConverterExp = StringUtils.isNotEmpty(attr.readConverterExp());
+            this.converter = ConverterRegistry.resolve(fieldType, attr);
+            this.propertyName = StringUtils.isNotEmpty(attr.targetAttr())
+                ? field.getName() + "." + attr.targetAttr() : field.getName();
+
+            String[] names = StringUtils.split(propertyName, ".");
+            List<MethodHandle> getterList = new ArrayList<>();
+            Class<?> ownerType = clazz;
+            Method setterMethod = null;
+
+            for (int i = 0; i < names.length && ownerType != null; i++) {
+                if (i < names.length - 1) {
+                    Method getter = findMethod(ownerType, "get" + StringUtils.capitalize(names[i]), 0);
+                    if (getter == null) {
+                        ownerType = null;
+                        break;
+                    }
+                    getterList.add(unreflect(getter).asType(GETTER_TYPE));
+                    ownerType = getter.getReturnType();
+                } else {
+                    setterMethod = findMethod(ownerType, "set" + StringUtils.capitalize(names[i]), 1);
+                }
+            }
+
+            if (setterMethod == null) {
+                log.debug("在 [{}] 中，没有找到属性 [{}] 的set方法", clazz, propertyName);
+                this.getters = new MethodHandle[0];
+                this.setter = null;
+                this.parameterType = null;
+                this.boxedParameterType = null;
+                this.parameterConverter = null;
+                this.numericDecodable = false;
+                this.primitiveSetter = null;
+            } else {
+                this.getters = getterList.toArray(new MethodHandle[0]);
+                MethodHandle handle = unreflect(setterMethod);
+                this.setter = handle.asType(SETTER_TYPE);
+                this.parameterType = setterMethod.getParameterTypes()[0];
+                this.boxedParameterType = MethodType.methodType(parameterType).wrap().returnType();
+                this.parameterConverter = parameterConverter(parameterType);
+                this.numericDecodable = !hasReadConverterExp && attr.combo().length == 0
+                    && !ConverterRegistry.hasCustomConverter(attr) && getters.length == 0 && parameterType == fieldType;
+                this.primitiveSetter = isNumericPrimitive(parameterType)
+                    ? handle.asType(MethodType.methodType(void.class, Object.class, parameterType)) : null;
+            }
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        public Excel getAttr() {
+            return attr;
+        }
+
+        public Class<?> getFieldType() {
+            return fieldType;
+        }
+
+        public String getPropertyName() {
+            return propertyName;
+        }
+
+        /**
+         * 转换单元格值为字段值
+         *
+         * @param cellValue 单元格值
+         * @return 字段值，单元格值为null时返回null
+         */
+        public Object convert(Object cellValue) {
+            return cellValue == null ? null : converter.convert(cellValue, attr);
+        }
+
+        /**
+         * 设置属性值（等价于 ReflectUtils.invokeSetter(entity, propertyName, value)）
+         */
+        public void setValue(Object entity, Object value) {
+            if (setter == null) {
+                return;
+            }
+
+            Object arg = value;
+            if (arg != null && arg.getClass() != parameterType) {
+                arg = parameterConverter.apply(arg);
+            }
+            invokeSetter(entity, arg, value);
+        }
+
+        /**
+         * 设置属性值，参数无法转换为setter参数类型时不调用setter
+         *
+         * @return 是否转换成功（非空值转换结果为null或类型不匹配时返回false）
+         */
+        boolean setValueChecked(Object entity, Object value) {
+            if (setter == null) {
+                return true;
+            }
+
+            Object arg = value;
+            if (arg != null && arg.getClass() != parameterType) {
+                arg = parameterConverter.apply(arg);
+                if (arg == null ? StringUtils.isNotEmpty(value.toString()) : !boxedParameterType.isInstance(arg)) {
+                    return false;
+                }
+            }
+            if (arg == null && parameterType.isPrimitive()) {
+                return true;
+            }
+            invokeSetter(entity, arg, value);
+            return true;
+        }
+
+        private void invokeSetter(Object entity, Object arg, Object value) {
+            Object target = entity;
+            try {
+                for (MethodHandle getter : getters) {
+                    target = getter.invokeExact(target);
+                    if (target == null) {
+                        return;
+                    }
+                }
+                setter.invokeExact(target, arg);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException("property: " + propertyName + ", obj: " + target + ", value: " + value, e);
+            }
+        }
+
+        /**
+         * 按字段类型直接设置数值单元格的值
+         *
+         * @param value         单元格数值
+         * @param dateFormatted 单元格是否为日期格式
+         * @return 是否已设置，返回false时调用方走通用转换（包括非日期格式的小数）
+         */
+        boolean setNumericValue(Object entity, double value, boolean dateFormatted,
+                                CellValueHandler cellValueHandler) {
+            // -0.0 在通用路径中经过字符串 "-0"，各类型处理不同，也走通用路径
+            if (!numericDecodable || (!dateFormatted && (value % 1 != 0 || isNegativeZero(value)))) {
+                return false;
+            }
+            if (primitiveSetter == null || dateFormatted) {
+                Object fieldValue = cellValueHandler.convertNumericValue(value, dateFormatted, fieldType);
+                // 无效的日期序列号转换结果为null，按空单元格走通用路径
+                if (fieldValue == CellValueHandler.UNCONVERTED || fieldValue == null) {
+                    return false;
+                }
+                setValue(entity, fieldValue);
+                return true;
+            }
+
+            try {
+                if (parameterType == int.class) {
+                    if (!CellValueHandler.isIntRange(value)) {
+                        return false;
+                    }
+                    primitiveSetter.invokeExact(entity, (int) value);
+                } else if (parameterType == long.class) {
+                    if (!CellValueHandler.isLongRange(value)) {
+                        return false;
+                    }
+                    primitiveSetter.invokeExact(entity, (long) value);
+                } else if (parameterType == short.class) {
+                    if (!CellValueHandler.isShortRange(value)) {
+                        return false;
+                    }
+                    primitiveSetter.invokeExact(entity, (short) value);
+                } else if (parameterType == byte.class) {
+                    if (!CellValueHandler.isByteRange(value)) {
+                        return false;
+                    }
+                    primitiveSetter.invokeExact(entity, (byte) value);
+                } else if (parameterType == double.class) {
+                    primitiveSetter.invokeExact(entity, value);
+                } else {
+                    primitiveSetter.invokeExact(entity, (float) value);
+                }
+                return true;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException("property: " + propertyName + ", obj: " + entity + ", value: " + value, e);
+            }
+        }
+
+        private static boolean isNegativeZero(double value) {
+            return Double.doubleToRawLongBits(value) == Long.MIN_VALUE;
+        }
+
+        private static boolean isNumericPrimitive(Class<?> type) {
+            return type == int.class || type == long.class || type == short.class || type == byte.class
+                || type == double.class || type == float.class;
+        }
+
+        /**
+         * 查找方法（从当前类向父类查找，只按名称与参数个数匹配）
+         */
+        static Method findMethod(Class<?> type, String methodName, int argsNum) {
+            for (Class<?> searchType = type; searchType != null && searchType != Object.class;
+                 searchType = searchType.getSuperclass()) {
+                for (Method method : searchType.getDeclaredMethods()) {
+                    if (method.getName().equals(methodName) && method.getParameterTypes().length == argsNum) {
+                        method.setAccessible(true);
+                        return method;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private static MethodHandle unreflect(Method method) {
+            try {
+                return LOOKUP.unreflect(method);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("method: " + method, e);
+            }
+        }
+
+        /**
+         * setter参数类型转换，规则与 ReflectUtils.invokeMethodByName 一致
+         */
+        private static Function<Object, Object> parameterConverter(Class<?> parameterType) {
+            if (parameterType == String.class) {
+                return value -> {
+                    String str = Convert.toStr(value);
+                    return StringUtils.endsWith(str, ".0") ? StringUtils.substringBefore(str, ".0") : str;
+                };
+            }
+            if (parameterType == Integer.class) {
+                return Convert::toInt;
+            }
+            if (parameterType == Long.class) {
+                return Convert::toLong;
+            }
+            if (parameterType == Double.class) {
+                return Convert::toDouble;
+            }
+            if (parameterType == Float.class) {
+                return Convert::toFloat;
+            }
+            if (parameterType == Date.class) {
+                return value -> value instanceof String
+                    ? DateUtils.parseDate(value) : DateUtil.getJavaDate((Double) value);
+            }
+            if (parameterType == boolean.class || parameterType == Boolean.class) {
+                return Convert::toBool;
+            }
+            return Function.identity();
+        }
+    }
+}
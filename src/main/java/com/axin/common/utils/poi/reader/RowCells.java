@@ -0,0 +1,36 @@
+package com.axin.common.utils.poi.reader;
+
+/**
+ * 一行单元格的只读访问
+ * <p>
+ * 除通用取值外，数值单元格可以直接取出原始double，按字段类型解码时不必经过 {@link #getValue} 生成的字符串或BigDecimal
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public interface RowCells {
+
+    /**
+     * 获取单元格值（取值规则与 {@link com.axin.common.utils.poi.handler.CellValueHandler#getCellValue} 一致）
+     *
+     * @param column 列索引
+     * @return 单元格值，不存在时返回空字符串
+     */
+    Object getValue(int column);
+
+    /**
+     * 是否为数值单元格（包括日期格式与结果为数值的公式）
+     */
+    boolean isNumeric(int column);
+
+    /**
+     * 数值单元格是否为日期格式，仅在 {@link #isNumeric} 为true时有效
+     */
+    boolean isDateFormatted(int column);
+
+    /**
+     * 数值单元格的原始值，仅在 {@link #isNumeric} 为true时有效
+     */
+    double getNumericValue(int column);
+}
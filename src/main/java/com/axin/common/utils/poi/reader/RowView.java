@@ -0,0 +1,85 @@
+package com.axin.common.utils.poi.reader;
+
+import java.util.Date;
+
+/**
+ * 行视图
+ * <p>
+ * 只需要少数几列做路由、过滤时，不必为每一行创建实体。行视图直接读取解析器复用的行缓冲区，
+ * 数值单元格以基本类型读取，不产生中间对象；只有调用 {@link #toEntity()} 时才创建实体。
+ * <p>
+ * 行视图在回调返回后被下一行复用，不能保存到回调之外；需要保留的数据应在回调内取出。
+ * 列索引建议在第一行通过 {@link #columnOf(String)} 解析一次后复用。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public interface RowView<T> {
+
+    /**
+     * 当前行索引（从0开始）
+     */
+    int getRowIndex();
+
+    /**
+     * 表头名称对应的列索引（多行表头以"-"连接，与 {@code @Excel} 的 name 规则一致）
+     *
+     * @return 列索引，表头不存在时返回-1
+     */
+    int columnOf(String headerName);
+
+    /**
+     * 单元格是否为空（不存在或为空字符串）
+     */
+    boolean isEmpty(int column);
+
+    /**
+     * 单元格原始值（数值按 {@link com.axin.common.utils.poi.handler.CellValueHandler#getNumericValue} 规则转换）
+     *
+     * @return 单元格值，不存在时返回null
+     */
+    Object getValue(int column);
+
+    /**
+     * 单元格字符串值
+     *
+     * @return 字符串，单元格不存在时返回null
+     */
+    String getString(int column);
+
+    /**
+     * 单元格整数值（数值单元格直接截取，不产生中间对象）
+     *
+     * @param defaultValue 单元格为空或无法转换时的默认值
+     */
+    int getInt(int column, int defaultValue);
+
+    /**
+     * 单元格长整数值（数值单元格直接截取，不产生中间对象）
+     *
+     * @param defaultValue 单元格为空或无法转换时的默认值
+     */
+    long getLong(int column, long defaultValue);
+
+    /**
+     * 单元格浮点数值（数值单元格直接读取，不产生中间对象）
+     *
+     * @param defaultValue 单元格为空或无法转换时的默认值
+     */
+    double getDouble(int column, double defaultValue);
+
+    /**
+     * 单元格日期值（数值单元格按Excel日期序号转换，文本按常用日期格式解析）
+     *
+     * @return 日期，单元格为空或无法转换时返回null
+     */
+    Date getDate(int column);
+
+    /**
+     * 按 {@code @Excel} 映射创建当前行的实体（与分批导入的绑定规则一致）
+     *
+     * @return 实体，行内所有映射字段都为空时返回null
+     */
+    T toEntity() throws Exception;
+}
@@ -0,0 +1,49 @@
+package com.axin.common.utils.poi.reader;
+
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+
+import java.io.Closeable;
+
+/**
+ * 共享字符串表（按索引取字符串）
+ * <p>
+ * 同一个xlsx包的多个Sheet可能在不同线程中并行读取，实现必须线程安全
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+interface SharedStringStore extends Closeable {
+
+    /**
+     * 按索引取字符串
+     */
+    String getString(int index);
+
+    /**
+     * 不重复字符串数量
+     */
+    int getCount();
+
+    /**
+     * 包装堆内加载的共享字符串表
+     */
+    static SharedStringStore of(ReadOnlySharedStringsTable table) {
+        return new SharedStringStore() {
+            @Override
+            public String getString(int index) {
+                return table.getItemAt(index).getString();
+            }
+
+            @Override
+            public int getCount() {
+                return table.getUniqueCount();
+            }
+
+            @Override
+            public void close() {
+                // 堆内存储无需释放
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.axin.common.utils.poi.reader;
+
+/**
+ * xlsx共享字符串表加载配置
+ * <p>
+ * 默认情况下共享字符串表完整加载到堆内存。不重复字符串数量（sharedStrings.xml 的 uniqueCount）
+ * 超过阈值时改为磁盘映射存储：字符串以UTF-8写入临时文件，偏移量写入索引文件，两者通过内存映射按需读取，
+ * 堆内只缓存少量已解码字符串，堆占用与字符串数量无关。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class SharedStringsOptions {
+
+    /**
+     * 默认映射存储阈值（不重复字符串数量）
+     */
+    public static final int DEFAULT_MAPPED_THRESHOLD = 1_000_000;
+
+    /**
+     * 默认缓存的已解码字符串数量
+     */
+    public static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    private int mappedThreshold = DEFAULT_MAPPED_THRESHOLD;
+    private int cacheSize = DEFAULT_CACHE_SIZE;
+
+    /**
+     * 默认配置
+     */
+    public static SharedStringsOptions defaults() {
+        return new SharedStringsOptions();
+    }
+
+    /**
+     * 始终使用磁盘映射存储
+     */
+    public static SharedStringsOptions mapped() {
+        return new SharedStringsOptions().setMappedThreshold(0);
+    }
+
+    /**
+     * 不重复字符串数量超过该值时使用磁盘映射存储，0表示始终使用，{@link Integer#MAX_VALUE} 表示从不使用
+     */
+    public SharedStringsOptions setMappedThreshold(int mappedThreshold) {
+        if (mappedThreshold < 0) {
+            throw new IllegalArgumentException("映射存储阈值不能小于0");
+        }
+        this.mappedThreshold = mappedThreshold;
+        return this;
+    }
+
+    /**
+     * 磁盘映射存储时堆内缓存的已解码字符串数量（直接映射缓存，按索引定位槽位）
+     */
+    public SharedStringsOptions setCacheSize(int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("缓存数量不能小于0");
+        }
+        this.cacheSize = cacheSize;
+        return this;
+    }
+
+    public int getMappedThreshold() {
+        return mappedThreshold;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+}
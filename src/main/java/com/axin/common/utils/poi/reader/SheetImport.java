@@ -0,0 +1,69 @@
+package com.axin.common.utils.poi.reader;
+
+/**
+ * 多Sheet导入中单个Sheet的导入配置
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class SheetImport<T> {
+
+    private final Class<T> clazz;
+    private final BatchExcelReader.BatchCallback<T> callback;
+    private final int headStart;
+    private final int headEnd;
+    private final int dataStart;
+
+    /**
+     * 默认第一行为表头，第二行开始为数据
+     *
+     * @param clazz    实体类
+     * @param callback 批处理回调
+     */
+    public SheetImport(Class<T> clazz, BatchExcelReader.BatchCallback<T> callback) {
+        this(clazz, 0, 0, 1, callback);
+    }
+
+    /**
+     * @param clazz     实体类
+     * @param headStart 表头起始行（从0开始）
+     * @param headEnd   表头结束行
+     * @param dataStart 数据起始行
+     * @param callback  批处理回调
+     */
+    public SheetImport(Class<T> clazz, int headStart, int headEnd, int dataStart,
+                       BatchExcelReader.BatchCallback<T> callback) {
+        if (clazz == null) {
+            throw new IllegalArgumentException("实体类不能为null");
+        }
+        if (callback == null) {
+            throw new IllegalArgumentException("回调函数不能为null");
+        }
+        this.clazz = clazz;
+        this.callback = callback;
+        this.headStart = headStart;
+        this.headEnd = headEnd;
+        this.dataStart = dataStart;
+    }
+
+    public Class<T> getClazz() {
+        return clazz;
+    }
+
+    public BatchExcelReader.BatchCallback<T> getCallback() {
+        return callback;
+    }
+
+    public int getHeadStart() {
+        return headStart;
+    }
+
+    public int getHeadEnd() {
+        return headEnd;
+    }
+
+    public int getDataStart() {
+        return dataStart;
+    }
+}
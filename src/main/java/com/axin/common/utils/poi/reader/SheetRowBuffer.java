@@ -0,0 +1,160 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.common.utils.poi.handler.CellValueHandler;
+
+import java.util.Arrays;
+
+/**
+ * 流式解析的行缓冲区
+ * <p>
+ * 按列索引保存当前行的单元格值，每行结束后清空复用，避免逐行创建对象。
+ * 数值单元格只保存原始double，需要通用值时才按 {@link CellValueHandler#getNumericValue} 转换
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+final class SheetRowBuffer implements RowCells {
+
+    private static final byte NONE = 0;
+    private static final byte VALUE = 1;
+    private static final byte NUMBER = 2;
+    private static final byte DATE = 3;
+
+    private final CellValueHandler cellValueHandler;
+
+    private byte[] kinds = new byte[16];
+    private Object[] values = new Object[16];
+    private double[] numbers = new double[16];
+    private int lastColumn = -1;
+    private int cellCount = 0;
+
+    SheetRowBuffer(CellValueHandler cellValueHandler) {
+        this.cellValueHandler = cellValueHandler;
+    }
+
+    /**
+     * 设置单元格值
+     */
+    void set(int column, Object value) {
+        if (ensureColumn(column)) {
+            kinds[column] = VALUE;
+            values[column] = value;
+        }
+    }
+
+    /**
+     * 设置数值单元格
+     *
+     * @param dateFormatted 是否为日期格式
+     */
+    void setNumber(int column, double value, boolean dateFormatted) {
+        if (ensureColumn(column)) {
+            kinds[column] = dateFormatted ? DATE : NUMBER;
+            numbers[column] = value;
+        }
+    }
+
+    /**
+     * 记录一个物理单元格（包括无值的单元格）
+     */
+    void countCell() {
+        cellCount++;
+    }
+
+    /**
+     * 获取单元格值，不存在时返回null
+     */
+    Object get(int column) {
+        switch (kindOf(column)) {
+            case VALUE:
+                return values[column];
+            case NUMBER:
+                return cellValueHandler.getNumericValue(numbers[column], false);
+            case DATE:
+                return cellValueHandler.getNumericValue(numbers[column], true);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 获取单元格值，不存在时返回空字符串（与 CellValueHandler#getCellValue 一致）
+     */
+    Object getOrEmpty(int column) {
+        Object value = get(column);
+        return value == null ? "" : value;
+    }
+
+    @Override
+    public Object getValue(int column) {
+        return getOrEmpty(column);
+    }
+
+    @Override
+    public boolean isNumeric(int column) {
+        byte kind = kindOf(column);
+        return kind == NUMBER || kind == DATE;
+    }
+
+    @Override
+    public boolean isDateFormatted(int column) {
+        return kindOf(column) == DATE;
+    }
+
+    @Override
+    public double getNumericValue(int column) {
+        return numbers[column];
+    }
+
+    /**
+     * 物理单元格数量
+     */
+    int getCellCount() {
+        return cellCount;
+    }
+
+    /**
+     * 清空缓冲区
+     */
+    void clear() {
+        if (lastColumn >= 0) {
+            Arrays.fill(kinds, 0, lastColumn + 1, NONE);
+            Arrays.fill(values, 0, lastColumn + 1, null);
+        }
+        lastColumn = -1;
+        cellCount = 0;
+    }
+
+    /**
+     * 复制当前行（用于保留表头行）
+     */
+    SheetRowBuffer copy() {
+        int length = Math.max(lastColumn + 1, 1);
+        SheetRowBuffer copy = new SheetRowBuffer(cellValueHandler);
+        copy.kinds = Arrays.copyOf(kinds, length);
+        copy.values = Arrays.copyOf(values, length);
+        copy.numbers = Arrays.copyOf(numbers, length);
+        copy.lastColumn = lastColumn;
+        copy.cellCount = cellCount;
+        return copy;
+    }
+
+    private byte kindOf(int column) {
+        return column >= 0 && column <= lastColumn ? kinds[column] : NONE;
+    }
+
+    private boolean ensureColumn(int column) {
+        if (column < 0) {
+            return false;
+        }
+        if (column >= kinds.length) {
+            int length = Math.max(column + 1, kinds.length * 2);
+            kinds = Arrays.copyOf(kinds, length);
+            values = Arrays.copyOf(values, length);
+            numbers = Arrays.copyOf(numbers, length);
+        }
+        lastColumn = Math.max(lastColumn, column);
+        return true;
+    }
+}
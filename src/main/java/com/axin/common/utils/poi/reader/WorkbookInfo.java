@@ -0,0 +1,141 @@
+package com.axin.common.utils.poi.reader;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 工作簿预扫描结果
+ * <p>
+ * 由 {@link ExcelInspector} 生成，只读取工作簿结构与Sheet维度信息，不解析单元格，
+ * 用于上传时拒绝超大文件、估算导入耗时等
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class WorkbookInfo {
+
+    private final String format;
+    private final long fileSize;
+    private final int sharedStringCount;
+    private final List<SheetInfo> sheets;
+
+    public WorkbookInfo(String format, long fileSize, int sharedStringCount, List<SheetInfo> sheets) {
+        this.format = format;
+        this.fileSize = fileSize;
+        this.sharedStringCount = sharedStringCount;
+        this.sheets = Collections.unmodifiableList(sheets);
+    }
+
+    /**
+     * 文件格式（xlsx / xls）
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * 文件大小（字节）
+     */
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    /**
+     * 共享字符串表中不重复字符串的数量，未知时为-1
+     */
+    public int getSharedStringCount() {
+        return sharedStringCount;
+    }
+
+    /**
+     * 按工作簿顺序排列的Sheet信息
+     */
+    public List<SheetInfo> getSheets() {
+        return sheets;
+    }
+
+    /**
+     * 按名称查找Sheet
+     *
+     * @return Sheet信息，不存在时返回null
+     */
+    public SheetInfo getSheet(String name) {
+        for (SheetInfo sheet : sheets) {
+            if (sheet.getName().equals(name)) {
+                return sheet;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 所有Sheet的行数合计
+     */
+    public long getTotalRows() {
+        long total = 0;
+        for (SheetInfo sheet : sheets) {
+            total += sheet.getRowCount();
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return format + "[" + fileSize + " bytes, sharedStrings=" + sharedStringCount + ", sheets=" + sheets + "]";
+    }
+
+    /**
+     * Sheet信息
+     */
+    public static class SheetInfo {
+
+        private final String name;
+        private final String dimension;
+        private final int rowCount;
+        private final int columnCount;
+
+        /**
+         * @param name        Sheet名称
+         * @param dimension   维度（如 A1:F1000），通过统计行标签得到时为null
+         * @param rowCount    行数
+         * @param columnCount 列数
+         */
+        public SheetInfo(String name, String dimension, int rowCount, int columnCount) {
+            this.name = name;
+            this.dimension = dimension;
+            this.rowCount = rowCount;
+            this.columnCount = columnCount;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 文件中记录的维度（如 A1:F1000），文件未记录维度时为null
+         */
+        public String getDimension() {
+            return dimension;
+        }
+
+        /**
+         * 行数：有维度时为维度覆盖的行数（包括表头与中间的空行），否则为实际存在的行数
+         */
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * 列数
+         */
+        public int getColumnCount() {
+            return columnCount;
+        }
+
+        @Override
+        public String toString() {
+            return name + "(" + rowCount + "x" + columnCount + (dimension == null ? "" : ", " + dimension) + ")";
+        }
+    }
+}
@@ -0,0 +1,425 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.common.utils.StringUtils;
+import com.axin.common.utils.poi.metrics.ExcelStage;
+import org.apache.poi.hssf.eventusermodel.FormatTrackingHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.eventusermodel.MissingRecordAwareHSSFListener;
+import org.apache.poi.hssf.eventusermodel.dummyrecord.LastCellOfRowDummyRecord;
+import org.apache.poi.hssf.record.*;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基于HSSF事件模型的xls分批读取器
+ * <p>
+ * 通过 HSSFEventFactory 逐条处理BIFF记录，不构建HSSFWorkbook对象模型，内存占用与数据行数无关。
+ * 合并单元格记录位于单元格记录之后，只在表头绑定缓存未命中时，另外只订阅Sheet定位与合并单元格记录扫描一遍。
+ * <p>
+ * 以只读方式打开OLE2文件系统（从输入流读取时先写入临时文件），扫描时都不需要将文件缓存在内存中。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class XlsEventBatchExcelReader<T> extends AbstractStreamingBatchExcelReader<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(XlsEventBatchExcelReader.class);
+
+    /**
+     * FormulaRecord 缓存结果类型编码（与 CellType 编码一致，CellType.forInt 在 POI 4.x 中已废弃）
+     */
+    private static final int RESULT_NUMERIC = 0;
+    private static final int RESULT_BOOLEAN = 4;
+    private static final int RESULT_ERROR = 5;
+
+    private File tempFile;
+    private POIFSFileSystem fileSystem;
+
+    public XlsEventBatchExcelReader(Class<T> clazz) {
+        super(clazz);
+    }
+
+    @Override
+    protected int doReadBatch(InputStream inputStream, String sheetName, int headStart, int headEnd,
+                              int dataStart) throws Exception {
+        try {
+            long start = System.nanoTime();
+            tempFile = File.createTempFile("excel-import-", ".xls");
+            Files.copy(inputStream, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            fileSystem = new POIFSFileSystem(tempFile, true);
+            recordStage(ExcelStage.OPEN, System.nanoTime() - start);
+            return readSheet(sheetName, headStart, headEnd, dataStart);
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    protected int doReadBatch(File file, String sheetName, int headStart, int headEnd,
+                              int dataStart) throws Exception {
+        try {
+            long start = System.nanoTime();
+            fileSystem = new POIFSFileSystem(file, true);
+            recordStage(ExcelStage.OPEN, System.nanoTime() - start);
+            return readSheet(sheetName, headStart, headEnd, dataStart);
+        } finally {
+            close();
+        }
+    }
+
+    private int readSheet(String sheetName, int headStart, int headEnd, int dataStart) throws Exception {
+        log.info("开始分批读取Excel（事件模型流式），数据起始行: {}", dataStart);
+
+        startSheet(() -> scanMergedRegions(sheetName, headEnd), headStart, headEnd, dataStart);
+        CellRecordListener cellListener = new CellRecordListener(sheetName);
+        FormatTrackingHSSFListener formatListener =
+            new FormatTrackingHSSFListener(new MissingRecordAwareHSSFListener(cellListener));
+        cellListener.setFormatListener(formatListener);
+
+        HSSFRequest request = new HSSFRequest();
+        request.addListenerForAllRecords(formatListener);
+        processEvents(request);
+
+        if (!cellListener.isSheetFound()) {
+            throw new IOException("文件sheet不存在");
+        }
+
+        flush();
+        return totalReadRows;
+    }
+
+    /**
+     * 扫描表头范围内的合并单元格（MergeCellsRecord 位于单元格记录之后，需要单独处理一遍，只在表头绑定缓存未命中时调用）
+     */
+    private List<CellRangeAddress> scanMergedRegions(String sheetName, int headEnd) throws Exception {
+        MergedRegionListener mergedListener = new MergedRegionListener(sheetName, headEnd);
+        HSSFRequest mergedRequest = new HSSFRequest();
+        mergedRequest.addListener(mergedListener, BoundSheetRecord.sid);
+        mergedRequest.addListener(mergedListener, BOFRecord.sid);
+        mergedRequest.addListener(mergedListener, EOFRecord.sid);
+        mergedRequest.addListener(mergedListener, MergeCellsRecord.sid);
+        processEvents(mergedRequest);
+        return mergedListener.getRegions();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (fileSystem != null) {
+            fileSystem.close();
+            fileSystem = null;
+        }
+        if (tempFile != null) {
+            if (!tempFile.delete()) {
+                log.warn("删除临时文件失败: {}", tempFile.getAbsolutePath());
+            }
+            tempFile = null;
+        }
+    }
+
+    /**
+     * 处理工作簿记录，监听器要求停止时正常返回，处理过程中的异常原样抛出
+     */
+    private void processEvents(HSSFRequest request) throws Exception {
+        try {
+            new HSSFEventFactory().processWorkbookEvents(request, fileSystem);
+        } catch (StopReadingException e) {
+            if (e.getCause() != null) {
+                throw (Exception) e.getCause();
+            }
+        }
+    }
+
+    /**
+     * 用于中断事件处理（HSSFListener 不能抛出受检异常，处理异常时作为cause携带）
+     */
+    private static final class StopReadingException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        StopReadingException() {
+            super(null, null, false, false);
+        }
+
+        StopReadingException(Exception cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * 跟踪当前记录所属的Sheet，只把目标Sheet内的记录交给子类处理
+     * <p>
+     * 工作簿全局记录之后，每个顶层 BOF/EOF 之间为一个Sheet，顺序与 BoundSheetRecord 按BOF位置排序后一致；
+     * Sheet内嵌图表也有自己的 BOF/EOF，通过嵌套深度区分
+     */
+    private abstract static class SheetSelectingListener implements HSSFListener {
+
+        private final String sheetName;
+        private final List<BoundSheetRecord> boundSheets = new ArrayList<>();
+        private BoundSheetRecord[] orderedSheets;
+        private int sheetIndex = -1;
+        private int depth = 0;
+        private boolean inTargetSheet;
+        private boolean sheetFound;
+
+        SheetSelectingListener(String sheetName) {
+            this.sheetName = sheetName;
+        }
+
+        @Override
+        public void processRecord(Record record) {
+            if (record instanceof BoundSheetRecord) {
+                boundSheets.add((BoundSheetRecord) record);
+            } else if (record instanceof BOFRecord) {
+                BOFRecord bof = (BOFRecord) record;
+                if (depth == 0 && bof.getType() != BOFRecord.TYPE_WORKBOOK) {
+                    startSheet(bof);
+                }
+                depth++;
+            } else if (record instanceof EOFRecord) {
+                depth--;
+                if (depth == 0 && inTargetSheet) {
+                    endTargetSheet();
+                    inTargetSheet = false;
+                }
+            } else if (inTargetSheet) {
+                processSheetRecord(record);
+            } else {
+                processWorkbookRecord(record);
+            }
+        }
+
+        private void startSheet(BOFRecord bof) {
+            // 目标Sheet已处理完毕，无需继续读取后续Sheet
+            if (sheetFound) {
+                throw new StopReadingException();
+            }
+
+            if (orderedSheets == null) {
+                orderedSheets = BoundSheetRecord.orderByBofPosition(boundSheets);
+            }
+            sheetIndex++;
+
+            if (bof.getType() == BOFRecord.TYPE_WORKSHEET) {
+                String name = sheetIndex < orderedSheets.length ? orderedSheets[sheetIndex].getSheetname() : null;
+                inTargetSheet = StringUtils.isEmpty(sheetName) || sheetName.equals(name);
+                sheetFound = inTargetSheet;
+            }
+        }
+
+        boolean isSheetFound() {
+            return sheetFound;
+        }
+
+        /**
+         * 处理目标Sheet内的记录
+         */
+        abstract void processSheetRecord(Record record);
+
+        /**
+         * 处理目标Sheet之外的记录（工作簿全局记录等）
+         */
+        void processWorkbookRecord(Record record) {
+        }
+
+        /**
+         * 目标Sheet结束
+         */
+        void endTargetSheet() {
+        }
+    }
+
+    /**
+     * 合并单元格收集
+     */
+    private static final class MergedRegionListener extends SheetSelectingListener {
+
+        private final int maxFirstRow;
+        private final List<CellRangeAddress> regions = new ArrayList<>();
+
+        /**
+         * @param maxFirstRow 只收集起始行不大于该行的合并区域（表头以下的合并区域不影响列映射）
+         */
+        MergedRegionListener(String sheetName, int maxFirstRow) {
+            super(sheetName);
+            this.maxFirstRow = maxFirstRow;
+        }
+
+        @Override
+        void processSheetRecord(Record record) {
+            if (record instanceof MergeCellsRecord) {
+                MergeCellsRecord mergeCells = (MergeCellsRecord) record;
+                for (int i = 0; i < mergeCells.getNumAreas(); i++) {
+                    CellRangeAddress range = mergeCells.getAreaAt(i);
+                    if (range.getFirstRow() <= maxFirstRow) {
+                        regions.add(range);
+                    }
+                }
+            }
+        }
+
+        List<CellRangeAddress> getRegions() {
+            return regions;
+        }
+    }
+
+    /**
+     * 单元格记录处理：按 {@link com.axin.common.utils.poi.handler.CellValueHandler#getCellValue} 的规则解码，逐行提交
+     */
+    private final class CellRecordListener extends SheetSelectingListener {
+
+        private final SheetRowBuffer row = new SheetRowBuffer(cellValueHandler);
+        private FormatTrackingHSSFListener formatListener;
+        private SSTRecord sstRecord;
+
+        private int currentRow = -1;
+        private int lastHandledRow = -1;
+        private int formulaRow = -1;
+        private int formulaColumn = -1;
+
+        CellRecordListener(String sheetName) {
+            super(sheetName);
+        }
+
+        void setFormatListener(FormatTrackingHSSFListener formatListener) {
+            this.formatListener = formatListener;
+        }
+
+        @Override
+        void processWorkbookRecord(Record record) {
+            if (record instanceof SSTRecord) {
+                sstRecord = (SSTRecord) record;
+            }
+        }
+
+        @Override
+        void processSheetRecord(Record record) {
+            // 没有绑定实体字段的列、断点续传时已处理的行只计数不解码（跳过日期格式判断与共享字符串查找）
+            if (record instanceof CellValueRecordInterface) {
+                CellValueRecordInterface cell = (CellValueRecordInterface) record;
+                if (!isRowRequired(cell.getRow()) || !isColumnRequired(cell.getColumn())) {
+                    onCell(cell.getRow(), cell.getColumn(), null);
+                    return;
+                }
+            }
+
+            if (record instanceof NumberRecord) {
+                NumberRecord number = (NumberRecord) record;
+                onNumber(number, number.getValue());
+            } else if (record instanceof LabelSSTRecord) {
+                LabelSSTRecord label = (LabelSSTRecord) record;
+                onCell(label.getRow(), label.getColumn(), sstRecord.getString(label.getSSTIndex()).getString());
+            } else if (record instanceof LabelRecord) {
+                LabelRecord label = (LabelRecord) record;
+                onCell(label.getRow(), label.getColumn(), label.getValue());
+            } else if (record instanceof BoolErrRecord) {
+                BoolErrRecord boolErr = (BoolErrRecord) record;
+                Object value = boolErr.isBoolean() ? (Object) boolErr.getBooleanValue() : boolErr.getErrorValue();
+                onCell(boolErr.getRow(), boolErr.getColumn(), value);
+            } else if (record instanceof FormulaRecord) {
+                onFormula((FormulaRecord) record);
+            } else if (record instanceof StringRecord) {
+                // 公式字符串结果紧跟在 FormulaRecord 之后
+                if (formulaRow == currentRow && formulaColumn >= 0) {
+                    row.set(formulaColumn, ((StringRecord) record).getString());
+                }
+                formulaColumn = -1;
+            } else if (record instanceof BlankRecord) {
+                BlankRecord blank = (BlankRecord) record;
+                onCell(blank.getRow(), blank.getColumn(), null);
+            } else if (record instanceof LastCellOfRowDummyRecord) {
+                if (((LastCellOfRowDummyRecord) record).getRow() == currentRow) {
+                    endRow();
+                }
+            }
+        }
+
+        @Override
+        void endTargetSheet() {
+            endRow();
+        }
+
+        private void onFormula(FormulaRecord formula) {
+            int rowIndex = formula.getRow();
+            int column = formula.getColumn();
+
+            if (formula.hasCachedResultString()) {
+                onCell(rowIndex, column, null);
+                formulaRow = rowIndex;
+                formulaColumn = column;
+                return;
+            }
+
+            int resultType = formula.getCachedResultType();
+            if (resultType == RESULT_NUMERIC) {
+                onNumber(formula, formula.getValue());
+                return;
+            }
+
+            Object value = null;
+            if (resultType == RESULT_BOOLEAN) {
+                value = formula.getCachedBooleanValue();
+            } else if (resultType == RESULT_ERROR) {
+                value = (byte) formula.getCachedErrorValue();
+            }
+            onCell(rowIndex, column, value);
+        }
+
+        /**
+         * 数值单元格只保存原始值（日期判断与 DateUtil.isCellDateFormatted 一致）
+         */
+        private void onNumber(CellValueRecordInterface cell, double value) {
+            boolean dateFormatted = false;
+            if (DateUtil.isValidExcelDate(value)) {
+                String formatString = formatListener.getFormatString(cell);
+                dateFormatted = formatString != null
+                    && DateUtil.isADateFormat(formatListener.getFormatIndex(cell), formatString);
+            }
+            onCell(cell.getRow(), cell.getColumn(), null);
+            row.setNumber(cell.getColumn(), value, dateFormatted);
+        }
+
+        private void onCell(int rowIndex, int column, Object value) {
+            if (rowIndex != currentRow) {
+                endRow();
+                currentRow = rowIndex;
+            }
+            row.countCell();
+            if (value != null) {
+                row.set(column, value);
+            }
+        }
+
+        /**
+         * 提交当前行，每行只提交一次
+         */
+        private void endRow() {
+            if (currentRow > lastHandledRow) {
+                lastHandledRow = currentRow;
+                boolean continueRead;
+                try {
+                    continueRead = handleRow(currentRow, row);
+                } catch (Exception e) {
+                    throw new StopReadingException(e);
+                }
+                if (!continueRead) {
+                    throw new StopReadingException();
+                }
+            }
+            row.clear();
+            currentRow = -1;
+        }
+    }
+}
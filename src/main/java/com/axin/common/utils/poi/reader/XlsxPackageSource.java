@@ -0,0 +1,159 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.common.utils.StringUtils;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 只读打开的xlsx包
+ * <p>
+ * 以只读方式随机访问zip包，避免整个压缩包被缓存在内存中；从输入流打开时先写入临时文件。
+ * 共享字符串表与样式表只加载一次，可供多个Sheet（包括并行读取的Sheet）共用；
+ * 共享字符串表过大时按 {@link SharedStringsOptions} 改用磁盘映射存储。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+final class XlsxPackageSource implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(XlsxPackageSource.class);
+
+    private final File tempFile;
+    private final OPCPackage opcPackage;
+    private final Map<String, PackagePart> sheetParts = new LinkedHashMap<>();
+    private final SharedStringStore sharedStrings;
+    private final StylesTable stylesTable;
+    private final long sharedStringsNanos;
+
+    XlsxPackageSource(InputStream inputStream, SharedStringsOptions sharedStringsOptions) throws Exception {
+        this(spool(inputStream), true, sharedStringsOptions);
+    }
+
+    /**
+     * 直接打开文件（不复制，关闭时不删除）
+     */
+    XlsxPackageSource(File file, SharedStringsOptions sharedStringsOptions) throws Exception {
+        this(file, false, sharedStringsOptions);
+    }
+
+    private XlsxPackageSource(File file, boolean temporary, SharedStringsOptions sharedStringsOptions)
+        throws Exception {
+        this.tempFile = temporary ? file : null;
+        OPCPackage pkg = null;
+        try {
+            pkg = OPCPackage.open(file, PackageAccess.READ);
+
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+            while (iterator.hasNext()) {
+                // 只需要Sheet名称与部件，不读取内容
+                iterator.next().close();
+                sheetParts.put(iterator.getSheetName(), iterator.getSheetPart());
+            }
+
+            this.stylesTable = xssfReader.getStylesTable();
+            long sharedStringsStart = System.nanoTime();
+            this.sharedStrings = loadSharedStrings(pkg, sharedStringsOptions);
+            this.sharedStringsNanos = System.nanoTime() - sharedStringsStart;
+            this.opcPackage = pkg;
+        } catch (Exception e) {
+            if (pkg != null) {
+                pkg.revert();
+            }
+            deleteTempFile(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * 按不重复字符串数量选择堆内加载或磁盘映射存储
+     */
+    private static SharedStringStore loadSharedStrings(OPCPackage pkg, SharedStringsOptions options)
+        throws Exception {
+        List<PackagePart> parts = pkg.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+        if (!parts.isEmpty()) {
+            PackagePart part = parts.get(0);
+            String uniqueCount;
+            try (InputStream in = part.getInputStream()) {
+                uniqueCount = ExcelInspector.readFirstAttribute(in, "sst", "uniqueCount", null);
+            }
+            // 未记录 uniqueCount 时无法预判大小，只有阈值为0时使用磁盘映射
+            long count = uniqueCount == null ? 0 : Long.parseLong(uniqueCount);
+            if (options.getMappedThreshold() == 0 || count > options.getMappedThreshold()) {
+                try (InputStream in = part.getInputStream()) {
+                    return new MappedSharedStringStore(in, options.getCacheSize());
+                }
+            }
+        }
+        return SharedStringStore.of(new ReadOnlySharedStringsTable(pkg));
+    }
+
+    private static File spool(InputStream inputStream) throws IOException {
+        File file = File.createTempFile("excel-import-", ".xlsx");
+        try {
+            Files.copy(inputStream, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteTempFile(file);
+            throw e;
+        }
+        return file;
+    }
+
+    /**
+     * 查找Sheet对应的包部件，未指定名称时取第一个Sheet
+     *
+     * @return 包部件，不存在时返回null
+     */
+    PackagePart getSheetPart(String sheetName) {
+        if (StringUtils.isEmpty(sheetName)) {
+            return sheetParts.isEmpty() ? null : sheetParts.values().iterator().next();
+        }
+        return sheetParts.get(sheetName);
+    }
+
+    SharedStringStore getSharedStrings() {
+        return sharedStrings;
+    }
+
+    StylesTable getStylesTable() {
+        return stylesTable;
+    }
+
+    /**
+     * 加载共享字符串表的耗时
+     */
+    long getSharedStringsNanos() {
+        return sharedStringsNanos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        sharedStrings.close();
+        opcPackage.revert();
+        deleteTempFile(tempFile);
+    }
+
+    private static void deleteTempFile(File tempFile) {
+        if (tempFile != null && !tempFile.delete()) {
+            log.warn("删除临时文件失败: {}", tempFile.getAbsolutePath());
+        }
+    }
+}
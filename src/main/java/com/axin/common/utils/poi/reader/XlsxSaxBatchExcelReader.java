@@ -0,0 +1,161 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.common.utils.poi.metrics.ExcelStage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 基于SAX事件模型的xlsx分批读取器
+ * <p>
+ * 通过 XSSFReader + 共享字符串表 + SAX逐行解析sheet XML，不构建Workbook对象模型，
+ * 内存占用与数据行数无关，适用于数十万行以上的大文件导入。
+ * <p>
+ * 以只读方式随机访问zip包，避免整个压缩包被缓存在内存中（见 {@link XlsxPackageSource}）；
+ * 从输入流读取时先写入临时文件，从文件读取时直接打开。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class XlsxSaxBatchExcelReader<T> extends AbstractStreamingBatchExcelReader<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(XlsxSaxBatchExcelReader.class);
+
+    private XlsxPackageSource source;
+    private SharedStringsOptions sharedStringsOptions = SharedStringsOptions.defaults();
+
+    public XlsxSaxBatchExcelReader(Class<T> clazz) {
+        super(clazz);
+    }
+
+    /**
+     * 设置共享字符串表加载方式（不重复字符串达到千万级时可改用磁盘映射存储，限制堆内存占用）
+     *
+     * @param sharedStringsOptions 共享字符串表配置
+     */
+    public void setSharedStringsOptions(SharedStringsOptions sharedStringsOptions) {
+        if (sharedStringsOptions == null) {
+            throw new IllegalArgumentException("共享字符串表配置不能为空");
+        }
+        this.sharedStringsOptions = sharedStringsOptions;
+    }
+
+    @Override
+    protected int doReadBatch(InputStream inputStream, String sheetName, int headStart, int headEnd,
+                              int dataStart) throws Exception {
+        try {
+            long start = System.nanoTime();
+            source = new XlsxPackageSource(inputStream, sharedStringsOptions);
+            recordOpen(source, System.nanoTime() - start);
+            return readSheet(source, sheetName, headStart, headEnd, dataStart);
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    protected int doReadBatch(File file, String sheetName, int headStart, int headEnd,
+                              int dataStart) throws Exception {
+        try {
+            long start = System.nanoTime();
+            source = new XlsxPackageSource(file, sharedStringsOptions);
+            recordOpen(source, System.nanoTime() - start);
+            return readSheet(source, sheetName, headStart, headEnd, dataStart);
+        } finally {
+            close();
+        }
+    }
+
+    private void recordOpen(XlsxPackageSource source, long nanos) {
+        recordStage(ExcelStage.OPEN, nanos - source.getSharedStringsNanos());
+        recordStage(ExcelStage.SHARED_STRINGS, source.getSharedStringsNanos());
+    }
+
+    /**
+     * 从已打开的xlsx包中分批读取指定Sheet（多Sheet导入时共用同一个包与共享字符串表）
+     */
+    int readBatch(XlsxPackageSource source, String sheetName, int headStart, int headEnd, int dataStart,
+                  int batchSize, BatchCallback<T> callback) throws Exception {
+        return execute(batchSize, callback, () -> readSheet(source, sheetName, headStart, headEnd, dataStart));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (source != null) {
+            source.close();
+            source = null;
+        }
+    }
+
+    private int readSheet(XlsxPackageSource source, String sheetName, int headStart, int headEnd,
+                          int dataStart) throws Exception {
+        PackagePart sheetPart = source.getSheetPart(sheetName);
+        if (sheetPart == null) {
+            throw new IOException("文件sheet不存在");
+        }
+
+        log.info("开始分批读取Excel（SAX流式），数据起始行: {}", dataStart);
+
+        startSheet(() -> scanMergedRegions(sheetPart, headEnd), headStart, headEnd, dataStart);
+        XMLReader parser = XlsxSheetHandler.newXmlReader();
+        parser.setContentHandler(new XlsxSheetHandler(source.getSharedStrings(), source.getStylesTable(),
+            cellValueHandler, this::isRowRequired, this::isColumnRequired, this::onRow));
+
+        try (InputStream sheetStream = sheetPart.getInputStream()) {
+            parser.parse(new InputSource(sheetStream));
+        } catch (StopReadingException e) {
+            // 回调函数要求停止读取
+        } catch (SAXException e) {
+            throw e.getException() != null ? e.getException() : e;
+        }
+
+        flush();
+        return totalReadRows;
+    }
+
+    /**
+     * 扫描表头范围内的合并单元格（mergeCells 位于 sheetData 之后，需要单独解析一遍Sheet，只在表头绑定缓存未命中时调用）
+     */
+    private List<CellRangeAddress> scanMergedRegions(PackagePart sheetPart, int headEnd) throws Exception {
+        XlsxSheetHandler.MergedRegionCollector collector = new XlsxSheetHandler.MergedRegionCollector(headEnd);
+        XMLReader parser = XlsxSheetHandler.newXmlReader();
+        parser.setContentHandler(collector);
+
+        try (InputStream sheetStream = sheetPart.getInputStream()) {
+            parser.parse(new InputSource(sheetStream));
+        }
+        return collector.getRegions();
+    }
+
+    /**
+     * 行回调，回调函数要求停止时中断解析
+     */
+    private void onRow(int rowIndex, SheetRowBuffer row) throws SAXException {
+        boolean continueRead;
+        try {
+            continueRead = handleRow(rowIndex, row);
+        } catch (Exception e) {
+            throw new SAXException(e);
+        }
+        if (!continueRead) {
+            throw new StopReadingException();
+        }
+    }
+
+    /**
+     * 回调要求停止时用于中断SAX解析
+     */
+    private static final class StopReadingException extends SAXException {
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,308 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.common.utils.poi.handler.CellValueHandler;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * xlsx Sheet的SAX解析处理器
+ * <p>
+ * 逐个解析sheet XML中的 row/c 元素，按 {@link CellValueHandler#getCellValue} 的规则解码单元格，
+ * 每行结束时通过 {@link RowListener} 交给调用方，行缓冲区复用，内存占用与行数无关
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+final class XlsxSheetHandler extends DefaultHandler {
+
+    /**
+     * 行监听器
+     */
+    interface RowListener {
+        /**
+         * 一行解析完成
+         *
+         * @param rowIndex 行索引（从0开始）
+         * @param row      行缓冲区，回调结束后会被清空复用
+         */
+        void onRow(int rowIndex, SheetRowBuffer row) throws SAXException;
+    }
+
+    private static final byte STYLE_UNKNOWN = 0;
+    private static final byte STYLE_NOT_DATE = 1;
+    private static final byte STYLE_DATE = 2;
+
+    private final SharedStringStore sharedStrings;
+    private final StylesTable stylesTable;
+    private final IntPredicate rowFilter;
+    private final IntPredicate columnFilter;
+    private final RowListener listener;
+
+    private final SheetRowBuffer row;
+    private final StringBuilder text = new StringBuilder(64);
+    private byte[] dateStyles;
+
+    private int rowIndex = -1;
+    private int column = -1;
+    private String cellType;
+    private int styleIndex;
+    private boolean hasValue;
+    private boolean skipRow;
+    private boolean skipCell;
+    private boolean collecting;
+    private boolean inInlineString;
+    private boolean inPhonetic;
+
+    /**
+     * @param rowFilter    行索引 -> 是否需要解码，不需要的行所有单元格只计数不解码
+     * @param columnFilter 列索引 -> 是否需要解码，不需要的列只计数不解码（跳过数值格式判断与共享字符串查找）
+     */
+    XlsxSheetHandler(SharedStringStore sharedStrings, StylesTable stylesTable,
+                     CellValueHandler cellValueHandler, IntPredicate rowFilter, IntPredicate columnFilter,
+                     RowListener listener) {
+        this.sharedStrings = sharedStrings;
+        this.stylesTable = stylesTable;
+        this.rowFilter = rowFilter;
+        this.columnFilter = columnFilter;
+        this.listener = listener;
+        this.row = new SheetRowBuffer(cellValueHandler);
+        this.dateStyles = new byte[stylesTable == null ? 0 : stylesTable.getNumCellStyles()];
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        switch (localName) {
+            case "row":
+                String r = attributes.getValue("r");
+                rowIndex = r != null ? Integer.parseInt(r) - 1 : rowIndex + 1;
+                column = -1;
+                skipRow = !rowFilter.test(rowIndex);
+                row.clear();
+                break;
+            case "c":
+                String ref = attributes.getValue("r");
+                column = ref != null ? columnIndex(ref) : column + 1;
+                skipCell = skipRow || !columnFilter.test(column);
+                row.countCell();
+                if (skipCell) {
+                    break;
+                }
+                cellType = attributes.getValue("t");
+                String s = attributes.getValue("s");
+                styleIndex = s != null ? Integer.parseInt(s) : 0;
+                hasValue = false;
+                text.setLength(0);
+                break;
+            case "v":
+                text.setLength(0);
+                collecting = !skipCell;
+                break;
+            case "is":
+                text.setLength(0);
+                inInlineString = true;
+                break;
+            case "rPh":
+                inPhonetic = true;
+                break;
+            case "t":
+                collecting = inInlineString && !inPhonetic && !skipCell;
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+        switch (localName) {
+            case "v":
+                collecting = false;
+                hasValue = true;
+                break;
+            case "t":
+                collecting = false;
+                break;
+            case "rPh":
+                inPhonetic = false;
+                break;
+            case "is":
+                inInlineString = false;
+                hasValue = true;
+                break;
+            case "c":
+                if (hasValue && !skipCell) {
+                    setCellValue();
+                }
+                break;
+            case "row":
+                listener.onRow(rowIndex, row);
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (collecting) {
+            text.append(ch, start, length);
+        }
+    }
+
+    /**
+     * 按单元格类型解码值，数值单元格只保存原始值（按字段类型解码时不需要中间对象）
+     */
+    private void setCellValue() {
+        String value = text.toString();
+
+        if (cellType == null || "n".equals(cellType)) {
+            double numericValue;
+            try {
+                numericValue = value.isEmpty() ? Double.NaN : Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                numericValue = Double.NaN;
+            }
+            if (Double.isNaN(numericValue)) {
+                row.set(column, "");
+            } else {
+                row.setNumber(column, numericValue, isDateFormatted(numericValue));
+            }
+            return;
+        }
+
+        row.set(column, decodeCellValue(value));
+    }
+
+    /**
+     * 按单元格类型解码非数值单元格
+     */
+    private Object decodeCellValue(String value) {
+        switch (cellType) {
+            case "s":
+                return sharedStrings.getString(Integer.parseInt(value.trim()));
+            case "b":
+                return "1".equals(value) || "true".equalsIgnoreCase(value);
+            case "e":
+                try {
+                    return FormulaError.forString(value).getCode();
+                } catch (IllegalArgumentException e) {
+                    return "";
+                }
+            default:
+                // inlineStr / str(公式字符串结果) / d
+                return value;
+        }
+    }
+
+    /**
+     * 判断当前单元格是否为日期格式（与 DateUtil.isCellDateFormatted 一致），按样式索引缓存
+     */
+    private boolean isDateFormatted(double numericValue) {
+        if (!DateUtil.isValidExcelDate(numericValue)) {
+            return false;
+        }
+        if (styleIndex < 0 || styleIndex >= dateStyles.length) {
+            return false;
+        }
+
+        if (dateStyles[styleIndex] == STYLE_UNKNOWN) {
+            XSSFCellStyle style = stylesTable.getStyleAt(styleIndex);
+            boolean date = false;
+            if (style != null) {
+                short formatIndex = style.getDataFormat();
+                String formatString = style.getDataFormatString();
+                if (formatString == null) {
+                    formatString = BuiltinFormats.getBuiltinFormat(formatIndex);
+                }
+                date = formatString != null && DateUtil.isADateFormat(formatIndex, formatString);
+            }
+            dateStyles[styleIndex] = date ? STYLE_DATE : STYLE_NOT_DATE;
+        }
+
+        return dateStyles[styleIndex] == STYLE_DATE;
+    }
+
+    /**
+     * 解析单元格引用中的列索引（如 "AB12" -> 27）
+     */
+    static int columnIndex(String cellRef) {
+        int column = 0;
+        for (int i = 0; i < cellRef.length(); i++) {
+            char c = cellRef.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                column = column * 26 + (c - 'A' + 1);
+            } else if (c >= 'a' && c <= 'z') {
+                column = column * 26 + (c - 'a' + 1);
+            } else {
+                break;
+            }
+        }
+        return column - 1;
+    }
+
+    /**
+     * 创建安全的SAX解析器（禁用DTD，防止XXE）
+     */
+    static XMLReader newXmlReader() throws SAXException {
+        try {
+            SAXParserFactory factory = SAXParserFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            return factory.newSAXParser().getXMLReader();
+        } catch (ParserConfigurationException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    /**
+     * 合并单元格收集器
+     * <p>
+     * mergeCells 位于 sheetData 之后，需要单独扫描一遍才能在处理表头前拿到合并区域
+     */
+    static final class MergedRegionCollector extends DefaultHandler {
+
+        private final int maxFirstRow;
+        private final List<CellRangeAddress> regions = new ArrayList<>();
+
+        /**
+         * @param maxFirstRow 只收集起始行不大于该行的合并区域（表头以下的合并区域不影响列映射）
+         */
+        MergedRegionCollector(int maxFirstRow) {
+            this.maxFirstRow = maxFirstRow;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            if ("mergeCell".equals(localName)) {
+                String ref = attributes.getValue("ref");
+                if (ref != null) {
+                    CellRangeAddress range = CellRangeAddress.valueOf(ref);
+                    if (range.getFirstRow() <= maxFirstRow) {
+                        regions.add(range);
+                    }
+                }
+            }
+        }
+
+        List<CellRangeAddress> getRegions() {
+            return regions;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import cn.hutool.core.collection.CollUtil;
 import com.axin.common.exception.CustomException;
 import com.axin.common.utils.StringUtils;
 import com.axin.common.utils.poi.handler.CellValueHandler;
+import com.axin.common.utils.poi.helper.HeaderNames;
+import com.axin.common.utils.poi.helper.MergedRegionIndex;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.springframework.web.multipart.MultipartFile;
@@ -100,12 +102,15 @@ public class ExcelValidator {
             return headerMap;
         }
 
+        // 表头范围内的合并单元格索引
+        MergedRegionIndex mergedRegions = MergedRegionIndex.of(sheet, headStart, headEnd);
+
         // 解析每一列的表头
         for (int col = 0; col < headerRows.get(0).getLastCellNum(); col++) {
             List<String> columnHeaders = new ArrayList<>();
             
             for (Row row : headerRows) {
-                String cellValue = getCellValueAsString(sheet, row, col);
+                String cellValue = getCellValueAsString(sheet, mergedRegions, row, col);
                 if (StringUtils.isNotEmpty(cellValue) && !columnHeaders.contains(cellValue)) {
                     columnHeaders.add(cellValue);
                 }
@@ -122,49 +127,22 @@ public class ExcelValidator {
     /**
      * 获取单元格值（处理合并单元格）
      */
-    private String getCellValueAsString(Sheet sheet, Row row, int column) {
-        if (isMergedRegion(sheet, row.getRowNum(), column)) {
-            return getMergedRegionValue(sheet, row.getRowNum(), column);
+    private String getCellValueAsString(Sheet sheet, MergedRegionIndex mergedRegions, Row row, int column) {
+        CellRangeAddress range = mergedRegions.find(row.getRowNum(), column);
+        if (range != null) {
+            return HeaderNames.normalize(getMergedRegionValue(sheet, range));
         }
 
-        Object value = cellValueHandler.getCellValue(row, column);
-        return value == null ? "" : value.toString().replace("\n", "");
+        return HeaderNames.normalize(cellValueHandler.getCellValue(row, column));
     }
 
     /**
-     * 判断是否为合并单元格
+     * 获取合并单元格的值（取合并区域左上角单元格）
      */
-    private boolean isMergedRegion(Sheet sheet, int row, int column) {
-        int sheetMergeCount = sheet.getNumMergedRegions();
-
-        for (int i = 0; i < sheetMergeCount; i++) {
-            CellRangeAddress range = sheet.getMergedRegion(i);
-            if (row >= range.getFirstRow() && row <= range.getLastRow() &&
-                column >= range.getFirstColumn() && column <= range.getLastColumn()) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    /**
-     * 获取合并单元格的值
-     */
-    private String getMergedRegionValue(Sheet sheet, int row, int column) {
-        int sheetMergeCount = sheet.getNumMergedRegions();
-
-        for (int i = 0; i < sheetMergeCount; i++) {
-            CellRangeAddress range = sheet.getMergedRegion(i);
-            if (row >= range.getFirstRow() && row <= range.getLastRow() &&
-                column >= range.getFirstColumn() && column <= range.getLastColumn()) {
-                Row firstRow = sheet.getRow(range.getFirstRow());
-                Object value = cellValueHandler.getCellValue(firstRow, range.getFirstColumn());
-                return value == null ? "" : value.toString();
-            }
-        }
-
-        return "";
+    private String getMergedRegionValue(Sheet sheet, CellRangeAddress range) {
+        Row firstRow = sheet.getRow(range.getFirstRow());
+        Object value = cellValueHandler.getCellValue(firstRow, range.getFirstColumn());
+        return value == null ? "" : value.toString();
     }
 
     /**
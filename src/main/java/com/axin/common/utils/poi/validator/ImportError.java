@@ -0,0 +1,66 @@
+package com.axin.common.utils.poi.validator;
+
+import org.apache.poi.ss.util.CellReference;
+
+/**
+ * 导入错误（行、列、原因）
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public final class ImportError {
+
+    private final int rowIndex;
+    private final int column;
+    private final String columnName;
+    private final String value;
+    private final String reason;
+
+    /**
+     * @param rowIndex   行索引（从0开始）
+     * @param column     列索引（从0开始），整行错误时为-1
+     * @param columnName 表头名称
+     * @param value      单元格原始值
+     * @param reason     错误原因
+     */
+    public ImportError(int rowIndex, int column, String columnName, String value, String reason) {
+        this.rowIndex = rowIndex;
+        this.column = column;
+        this.columnName = columnName;
+        this.value = value;
+        this.reason = reason;
+    }
+
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * 单元格位置，如 C12；整行错误时为行号
+     */
+    public String getCellReference() {
+        return column < 0 ? String.valueOf(rowIndex + 1) : new CellReference(rowIndex, column).formatAsString();
+    }
+
+    @Override
+    public String toString() {
+        return getCellReference() + "[" + columnName + "]: " + reason + " (" + value + ")";
+    }
+}
@@ -0,0 +1,314 @@
+package com.axin.common.utils.poi.validator;
+
+import com.axin.common.utils.StringUtils;
+import com.axin.common.utils.poi.style.ExcelStyleBuilder;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.ClientAnchor;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.CreationHelper;
+import org.apache.poi.ss.usermodel.Drawing;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 导入错误收集器
+ * <p>
+ * 设置到分批读取器后，单元格转换失败（如日期格式不正确、数字无法解析）与取值校验失败
+ * （不在 readConverterExp / combo 范围内）不再被静默置为null，而是按 行、列、原因 记录下来，解析继续进行。
+ * 回调中的业务校验也可以通过 {@link #add} 记录到同一份报告。
+ * <ul>
+ *   <li>最多保存 maxErrors 条错误，超出部分只计数</li>
+ *   <li>内存中最多保留 memoryErrors 条，超出后写入临时文件</li>
+ *   <li>{@link #exportWorkbook} 导出错误报告，错误值单元格标红并以批注说明原因</li>
+ * </ul>
+ * 线程安全，流水线模式下回调线程可以同时记录错误。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class ImportErrorCollector implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportErrorCollector.class);
+
+    /**
+     * 默认最多保存的错误数
+     */
+    public static final int DEFAULT_MAX_ERRORS = 100000;
+
+    /**
+     * 默认内存中保留的错误数
+     */
+    public static final int DEFAULT_MEMORY_ERRORS = 1000;
+
+    /**
+     * 错误值最大保存长度
+     */
+    private static final int MAX_VALUE_LENGTH = 200;
+
+    private final int maxErrors;
+    private final int memoryErrors;
+    private boolean skipInvalidRows = true;
+
+    private final List<ImportError> buffer = new ArrayList<>();
+    private File spillFile;
+    private DataOutputStream spillOutput;
+    private int spilledCount;
+
+    private int errorCount;
+    private int errorRowCount;
+    private int lastErrorRow = -1;
+
+    public ImportErrorCollector() {
+        this(DEFAULT_MAX_ERRORS, DEFAULT_MEMORY_ERRORS);
+    }
+
+    /**
+     * @param maxErrors    最多保存的错误数
+     * @param memoryErrors 内存中保留的错误数，超出后写入临时文件
+     */
+    public ImportErrorCollector(int maxErrors, int memoryErrors) {
+        if (maxErrors <= 0) {
+            throw new IllegalArgumentException("最大错误数必须大于0");
+        }
+        if (memoryErrors <= 0) {
+            throw new IllegalArgumentException("内存错误数必须大于0");
+        }
+        this.maxErrors = maxErrors;
+        this.memoryErrors = memoryErrors;
+    }
+
+    /**
+     * 有错误的行是否跳过（不提交给回调），默认跳过；设为false时错误字段保持为null，其余字段正常提交
+     */
+    public ImportErrorCollector setSkipInvalidRows(boolean skipInvalidRows) {
+        this.skipInvalidRows = skipInvalidRows;
+        return this;
+    }
+
+    public boolean isSkipInvalidRows() {
+        return skipInvalidRows;
+    }
+
+    /**
+     * 记录错误
+     *
+     * @param rowIndex   行索引（从0开始）
+     * @param column     列索引（从0开始），整行错误传-1
+     * @param columnName 表头名称
+     * @param value      单元格原始值
+     * @param reason     错误原因
+     */
+    public void add(int rowIndex, int column, String columnName, Object value, String reason) {
+        add(new ImportError(rowIndex, column, columnName, abbreviate(value), reason));
+    }
+
+    /**
+     * 记录错误
+     */
+    public synchronized void add(ImportError error) {
+        errorCount++;
+        if (error.getRowIndex() != lastErrorRow) {
+            errorRowCount++;
+            lastErrorRow = error.getRowIndex();
+        }
+        if (errorCount > maxErrors) {
+            return;
+        }
+
+        buffer.add(error);
+        if (buffer.size() >= memoryErrors) {
+            spill();
+        }
+    }
+
+    /**
+     * 是否有错误
+     */
+    public synchronized boolean hasErrors() {
+        return errorCount > 0;
+    }
+
+    /**
+     * 错误总数（包括超出上限未保存的）
+     */
+    public synchronized int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * 有错误的行数（同一行的错误连续记录时准确）
+     */
+    public synchronized int getErrorRowCount() {
+        return errorRowCount;
+    }
+
+    /**
+     * 错误数是否超出上限（报告不完整）
+     */
+    public synchronized boolean isTruncated() {
+        return errorCount > maxErrors;
+    }
+
+    /**
+     * 按记录顺序遍历已保存的错误（先读临时文件，再读内存）
+     */
+    public synchronized void forEach(Consumer<ImportError> action) throws IOException {
+        if (spillOutput != null) {
+            spillOutput.flush();
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(spillFile)))) {
+                for (int i = 0; i < spilledCount; i++) {
+                    action.accept(readError(in));
+                }
+            }
+        }
+        buffer.forEach(action);
+    }
+
+    /**
+     * 已保存的错误列表（错误较多时建议使用 {@link #forEach}）
+     */
+    public List<ImportError> getErrors() throws IOException {
+        List<ImportError> errors = new ArrayList<>();
+        forEach(errors::add);
+        return errors;
+    }
+
+    /**
+     * 导出错误报告
+     * <p>
+     * 每条错误一行：行号、列、表头、单元格值、错误原因；单元格值标红并以批注说明原因
+     *
+     * @param outputStream 输出流
+     */
+    public void exportWorkbook(OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(500);
+        try {
+            ExcelStyleBuilder styleBuilder = new ExcelStyleBuilder(workbook);
+            Sheet sheet = workbook.createSheet("导入错误");
+            Drawing<?> drawing = sheet.createDrawingPatriarch();
+            CreationHelper creationHelper = workbook.getCreationHelper();
+
+            String[] headers = {"行号", "单元格", "表头", "单元格值", "错误原因"};
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < headers.length; i++) {
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(headers[i]);
+                cell.setCellStyle(styleBuilder.getHeaderStyle());
+                sheet.setColumnWidth(i, (i == 4 ? 50 : 16) * 256);
+            }
+
+            int[] rowNum = {1};
+            forEach(error -> {
+                Row row = sheet.createRow(rowNum[0]++);
+                setCell(row, 0, String.valueOf(error.getRowIndex() + 1), styleBuilder);
+                setCell(row, 1, error.getCellReference(), styleBuilder);
+                setCell(row, 2, error.getColumnName(), styleBuilder);
+                Cell valueCell = setCell(row, 3, error.getValue(), styleBuilder);
+                setCell(row, 4, error.getReason(), styleBuilder);
+
+                valueCell.setCellStyle(styleBuilder.getNoticeStyle());
+                ClientAnchor anchor = creationHelper.createClientAnchor();
+                anchor.setRow1(row.getRowNum());
+                anchor.setRow2(row.getRowNum() + 2);
+                anchor.setCol1(4);
+                anchor.setCol2(7);
+                Comment comment = drawing.createCellComment(anchor);
+                comment.setString(creationHelper.createRichTextString(error.getReason()));
+                valueCell.setCellComment(comment);
+            });
+
+            if (isTruncated()) {
+                Row row = sheet.createRow(rowNum[0]);
+                setCell(row, 0, "错误数超过" + maxErrors + "条，其余" + (getErrorCount() - maxErrors) + "条未列出",
+                    styleBuilder);
+            }
+
+            workbook.write(outputStream);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * 删除临时文件
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (spillOutput != null) {
+            spillOutput.close();
+            spillOutput = null;
+        }
+        if (spillFile != null) {
+            if (!spillFile.delete()) {
+                log.warn("删除临时文件失败: {}", spillFile.getAbsolutePath());
+            }
+            spillFile = null;
+        }
+        buffer.clear();
+        spilledCount = 0;
+    }
+
+    private void spill() {
+        try {
+            if (spillOutput == null) {
+                spillFile = File.createTempFile("excel-import-errors-", ".bin");
+                spillOutput = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(spillFile)));
+            }
+            for (ImportError error : buffer) {
+                writeError(spillOutput, error);
+            }
+            spilledCount += buffer.size();
+            buffer.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException("写入导入错误临时文件失败", e);
+        }
+    }
+
+    private static void writeError(DataOutputStream out, ImportError error) throws IOException {
+        out.writeInt(error.getRowIndex());
+        out.writeInt(error.getColumn());
+        out.writeUTF(StringUtils.nvl(error.getColumnName(), StringUtils.EMPTY));
+        out.writeUTF(StringUtils.nvl(error.getValue(), StringUtils.EMPTY));
+        out.writeUTF(StringUtils.nvl(error.getReason(), StringUtils.EMPTY));
+    }
+
+    private static ImportError readError(DataInputStream in) throws IOException {
+        try {
+            return new ImportError(in.readInt(), in.readInt(), in.readUTF(), in.readUTF(), in.readUTF());
+        } catch (EOFException e) {
+            throw new IOException("导入错误临时文件不完整", e);
+        }
+    }
+
+    private static Cell setCell(Row row, int column, String value, ExcelStyleBuilder styleBuilder) {
+        Cell cell = row.createCell(column);
+        cell.setCellValue(value);
+        cell.setCellStyle(styleBuilder.getDataLeftStyle());
+        return cell;
+    }
+
+    private static String abbreviate(Object value) {
+        return value == null ? StringUtils.EMPTY : StringUtils.abbreviate(value.toString(), MAX_VALUE_LENGTH);
+    }
+}
@@ -0,0 +1,263 @@
+package com.axin.common.utils.poi.writer;
+
+import com.axin.common.core.lang.UUID;
+import com.axin.common.exception.CustomException;
+import com.axin.common.utils.poi.helper.ExcelFileHelper;
+import com.axin.common.utils.poi.metrics.ExcelMetrics;
+import com.axin.common.utils.poi.metrics.ExcelMetricsListener;
+import com.axin.common.utils.poi.metrics.ExcelStage;
+import com.axin.framework.config.CommonConfig;
+import com.google.common.io.CountingOutputStream;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+
+/**
+ * 分批Excel写入器基类
+ * <p>
+ * 统一处理三种输出方式（下载目录文件、输出流、HTTP响应）的异常与关闭，以及导出指标的统计；
+ * 子类只负责渲染数据行与写出工作簿
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public abstract class AbstractBatchExcelWriter<T> implements BatchExcelWriter<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractBatchExcelWriter.class);
+
+    /**
+     * xlsx格式单个Sheet的行数上限
+     */
+    public static final int XLSX_MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    protected final Class<T> clazz;
+    protected final String sheetName;
+    protected int totalRowsWritten = 0;
+
+    /**
+     * 每个Sheet的最大行数（含表头）
+     */
+    protected int rowsPerSheet = XLSX_MAX_ROWS;
+    protected boolean closed = false;
+
+    private int batchNum = 0;
+    private ExcelMetricsListener metricsListener;
+    private volatile ExcelMetrics metrics;
+
+    protected AbstractBatchExcelWriter(Class<T> clazz, String sheetName) {
+        this.clazz = clazz;
+        this.sheetName = sheetName;
+    }
+
+    /**
+     * 写出工作簿
+     *
+     * @param outputStream 输出流（由调用方关闭）
+     */
+    protected abstract void writeWorkbook(OutputStream outputStream) throws Exception;
+
+    @Override
+    public String finish() throws Exception {
+        checkOpen();
+
+        String filename = generateFilename(sheetName);
+        String filePath = getAbsoluteFilePath(filename);
+
+        try (FileOutputStream out = new FileOutputStream(filePath)) {
+            write(out);
+            return filename;
+        } catch (Exception e) {
+            finishMetrics(e);
+            log.error("保存Excel文件失败", e);
+            throw new CustomException("保存Excel文件失败");
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    public void finish(OutputStream outputStream) throws Exception {
+        checkOpen();
+
+        try {
+            write(outputStream);
+        } catch (Exception e) {
+            finishMetrics(e);
+            log.error("输出Excel失败", e);
+            throw new CustomException("输出Excel失败");
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    public void finish(HttpServletResponse response, String fileName) throws Exception {
+        checkOpen();
+
+        try {
+            ExcelFileHelper.setExcelResponseHeader(response, fileName);
+            write(response.getOutputStream());
+            response.flushBuffer();
+        } catch (Exception e) {
+            finishMetrics(e);
+            log.error("输出Excel到HTTP响应失败", e);
+            // 尚未发送任何内容时清除下载响应头，交给全局异常处理返回错误信息
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw new CustomException("导出Excel失败，请联系网站管理员！");
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    public void setMetricsListener(ExcelMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    @Override
+    public void setRowsPerSheet(int rowsPerSheet) {
+        if (rowsPerSheet < 2 || rowsPerSheet > XLSX_MAX_ROWS) {
+            throw new IllegalArgumentException("每个Sheet的行数必须在2到" + XLSX_MAX_ROWS + "之间");
+        }
+        if (totalRowsWritten > 0) {
+            throw new IllegalStateException("已写入数据，不能再修改每个Sheet的行数");
+        }
+        this.rowsPerSheet = rowsPerSheet;
+    }
+
+    @Override
+    public int getWrittenRows() {
+        return totalRowsWritten;
+    }
+
+    protected void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Writer已关闭");
+        }
+    }
+
+    /**
+     * 一批数据渲染完成，开启指标时记录渲染耗时与行数
+     *
+     * @param rows  批次行数
+     * @param nanos 渲染耗时
+     */
+    protected void recordBatch(int rows, long nanos) {
+        recordBatch(rows, nanos, nanos);
+    }
+
+    /**
+     * 一批数据写入完成（渲染在其他线程进行时，渲染耗时由渲染线程通过 {@link #recordStage} 记录）
+     *
+     * @param rows        批次行数
+     * @param batchNanos  写入调用耗时
+     * @param renderNanos 计入 {@link ExcelStage#RENDER} 的耗时
+     */
+    protected void recordBatch(int rows, long batchNanos, long renderNanos) {
+        batchNum++;
+        if (startMetrics() != null) {
+            metrics.addStageNanos(ExcelStage.RENDER, renderNanos);
+            metrics.addRows(rows);
+            metrics.addBatch();
+            try {
+                metricsListener.onBatch(metrics, batchNum, rows, batchNanos);
+            } catch (RuntimeException e) {
+                log.warn("指标监听器执行失败", e);
+            }
+        }
+    }
+
+    /**
+     * 记录阶段耗时（指标已开启时，可在渲染线程中调用）
+     */
+    protected void recordStage(ExcelStage stage, long nanos) {
+        ExcelMetrics current = metrics;
+        if (current != null) {
+            current.addStageNanos(stage, nanos);
+        }
+    }
+
+    /**
+     * 写出工作簿，开启指标时统计写出耗时与字节数
+     */
+    private void write(OutputStream outputStream) throws Exception {
+        if (startMetrics() == null) {
+            writeWorkbook(outputStream);
+            return;
+        }
+
+        long start = System.nanoTime();
+        CountingOutputStream out = new CountingOutputStream(outputStream);
+        writeWorkbook(out);
+        out.flush();
+        metrics.addStageNanos(ExcelStage.OUTPUT, System.nanoTime() - start);
+        metrics.addBytes(out.getCount());
+        finishMetrics(null);
+    }
+
+    /**
+     * 开启指标时，第一次写入开始统计
+     *
+     * @return 当前指标，未开启时返回null
+     */
+    private ExcelMetrics startMetrics() {
+        if (metrics == null && metricsListener != null) {
+            metrics = new ExcelMetrics(ExcelMetrics.Operation.EXPORT, clazz.getSimpleName());
+            try {
+                metricsListener.onStart(metrics);
+            } catch (RuntimeException e) {
+                log.warn("指标监听器执行失败", e);
+            }
+        }
+        return metrics;
+    }
+
+    private void finishMetrics(Exception error) {
+        ExcelMetrics current = metrics;
+        if (current == null) {
+            return;
+        }
+        this.metrics = null;
+
+        current.finish();
+        log.info("Excel导出指标: {}", current);
+        try {
+            if (error == null) {
+                metricsListener.onComplete(current);
+            } else {
+                metricsListener.onError(current, error);
+            }
+        } catch (RuntimeException e) {
+            log.warn("指标监听器执行失败", e);
+        }
+    }
+
+    /**
+     * 生成文件名
+     */
+    private String generateFilename(String sheetName) {
+        return UUID.randomUUID().toString() + "_" + sheetName + ".xlsx";
+    }
+
+    /**
+     * 获取绝对文件路径
+     */
+    private String getAbsoluteFilePath(String filename) {
+        String downloadPath = CommonConfig.getDownloadPath() + filename;
+        File file = new File(downloadPath);
+
+        if (!file.getParentFile().exists()) {
+            file.getParentFile().mkdirs();
+        }
+
+        return downloadPath;
+    }
+}
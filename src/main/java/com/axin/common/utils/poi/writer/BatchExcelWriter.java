@@ -1,7 +1,12 @@
 package com.axin.common.utils.poi.writer;
 
+import com.axin.common.utils.poi.metrics.ExcelMetricsListener;
+
+import javax.servlet.http.HttpServletResponse;
 import java.io.Closeable;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -23,6 +28,36 @@ public interface BatchExcelWriter<T> extends Closeable {
      */
     void writeBatch(List<T> batch) throws Exception;
 
+    /**
+     * 从迭代器中逐行拉取数据，按批次写入（批次列表复用，内存中最多保留一个批次）
+     *
+     * @param rows      数据迭代器（如 MyBatis Cursor 的迭代器、{@link ResultSetIterator}）
+     * @param batchSize 每批数据量
+     * @return 本次写入的行数
+     * @throws Exception 写入异常
+     */
+    default int writeAll(Iterator<? extends T> rows, int batchSize) throws Exception {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("批次大小必须大于0");
+        }
+
+        List<T> batch = new ArrayList<>(batchSize);
+        int count = 0;
+        while (rows.hasNext()) {
+            batch.add(rows.next());
+            if (batch.size() >= batchSize) {
+                writeBatch(batch);
+                count += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+            count += batch.size();
+        }
+        return count;
+    }
+
     /**
      * 完成写入并保存文件
      *
@@ -39,6 +74,31 @@ public interface BatchExcelWriter<T> extends Closeable {
      */
     void finish(OutputStream outputStream) throws Exception;
 
+    /**
+     * 完成写入并直接输出到HTTP响应（设置下载响应头，不落盘，不需要再次请求下载）
+     *
+     * @param response HTTP响应
+     * @param fileName 下载文件名（没有扩展名时补充 .xlsx）
+     * @throws Exception 输出异常
+     */
+    void finish(HttpServletResponse response, String fileName) throws Exception;
+
+    /**
+     * 设置指标监听器（行/秒、写出字节数、行渲染与写出文件耗时、批次耗时等），传入null关闭
+     *
+     * @param listener 指标监听器
+     */
+    void setMetricsListener(ExcelMetricsListener listener);
+
+    /**
+     * 设置每个Sheet的最大行数（含表头），超过后自动创建新Sheet，须在写入数据前设置
+     * <p>
+     * 默认为xlsx格式上限 1048576 行；需要兼容旧版 .xls 行数时可设为 65536
+     *
+     * @param rowsPerSheet 每个Sheet的最大行数，2 ~ 1048576
+     */
+    void setRowsPerSheet(int rowsPerSheet);
+
     /**
      * 获取已写入的数据行数
      *
@@ -0,0 +1,113 @@
+package com.axin.common.utils.poi.writer;
+
+import com.axin.common.utils.StringUtils;
+import com.axin.common.utils.poi.handler.ConverterRegistry;
+import com.axin.framework.aspectj.lang.annotation.Excel;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 按字段映射查询结果行
+ * <p>
+ * 第一次映射时按结果集元数据确定 列序号 -> 字段，之后每行只按序号读取，不再查找列名
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+final class BeanResultSetRowMapper<T> implements ResultSetRowMapper<T> {
+
+    private final Class<T> clazz;
+    private final Constructor<T> constructor;
+    private int[] columns;
+    private Field[] fields;
+    private Class<?>[] boxedTypes;
+
+    BeanResultSetRowMapper(Class<T> clazz) {
+        this.clazz = clazz;
+        try {
+            this.constructor = clazz.getDeclaredConstructor();
+            this.constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("实体类缺少无参构造方法: " + clazz.getName(), e);
+        }
+    }
+
+    @Override
+    public T mapRow(ResultSet resultSet, int rowNum) throws SQLException {
+        if (columns == null) {
+            resolveColumns(resultSet.getMetaData());
+        }
+
+        T entity;
+        try {
+            entity = constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("创建实体失败: " + clazz.getName(), e);
+        }
+
+        for (int i = 0; i < columns.length; i++) {
+            Object value = resultSet.getObject(columns[i]);
+            Field field = fields[i];
+            if (value != null && !boxedTypes[i].isInstance(value)) {
+                value = ConverterRegistry.convert(value, field.getType(), field.getAnnotation(Excel.class));
+            }
+            if (value == null && field.getType().isPrimitive()) {
+                continue;
+            }
+            try {
+                field.set(entity, value);
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                throw new IllegalStateException("字段赋值失败: " + field.getName() + ", 值: " + value, e);
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * 按列标签匹配 {@code @Excel} 字段（包括父类字段）
+     */
+    private void resolveColumns(ResultSetMetaData metaData) throws SQLException {
+        Map<String, Integer> labels = new HashMap<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            labels.putIfAbsent(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), i);
+        }
+
+        List<Integer> columnList = new ArrayList<>();
+        List<Field> fieldList = new ArrayList<>();
+        for (Class<?> type = clazz; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!field.isAnnotationPresent(Excel.class)) {
+                    continue;
+                }
+                String name = field.getName().toLowerCase(Locale.ROOT);
+                Integer column = labels.get(name);
+                if (column == null) {
+                    column = labels.get(StringUtils.toUnderScoreCase(field.getName()).toLowerCase(Locale.ROOT));
+                }
+                if (column != null) {
+                    field.setAccessible(true);
+                    columnList.add(column);
+                    fieldList.add(field);
+                }
+            }
+        }
+
+        this.columns = columnList.stream().mapToInt(Integer::intValue).toArray();
+        this.fields = fieldList.toArray(new Field[0]);
+        this.boxedTypes = new Class<?>[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            boxedTypes[i] = MethodType.methodType(fields[i].getType()).wrap().returnType();
+        }
+    }
+}
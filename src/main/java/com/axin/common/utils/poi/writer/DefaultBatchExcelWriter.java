@@ -1,11 +1,8 @@
 package com.axin.common.utils.poi.writer;
 
-import com.axin.common.core.lang.UUID;
-import com.axin.common.exception.CustomException;
 import com.axin.common.utils.poi.handler.CellValueHandler;
 import com.axin.common.utils.poi.style.ExcelStyleBuilder;
 import com.axin.framework.aspectj.lang.annotation.Excel;
-import com.axin.framework.config.CommonConfig;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddressList;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
@@ -13,8 +10,6 @@ import org.apache.poi.xssf.usermodel.XSSFDataValidation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.Field;
@@ -28,35 +23,40 @@ import java.util.stream.Collectors;
  * @version 1.0
  * @date 2025/12/24
  */
-public class DefaultBatchExcelWriter<T> implements BatchExcelWriter<T> {
+public class DefaultBatchExcelWriter<T> extends AbstractBatchExcelWriter<T> {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultBatchExcelWriter.class);
-    private static final int SHEET_SIZE = 65536;
 
-    private final Class<T> clazz;
-    private final String sheetName;
     private final CellValueHandler cellValueHandler;
     private final Workbook workbook;
     private final ExcelStyleBuilder styleBuilder;
     private final List<FieldInfo> fieldInfos;
     private final short maxRowHeight;
 
+    /**
+     * 各列列宽，所有Sheet共用
+     */
+    private final int[] columnWidths;
+
+    /**
+     * 数据验证模板（约束与区域），第一个Sheet写表头时创建，后续Sheet直接复用
+     */
+    private List<ValidationTemplate> validationTemplates;
+
     private Sheet currentSheet;
     private int currentSheetIndex = 0;
     private int currentRowNum = 0;
-    private int totalRowsWritten = 0;
     private boolean headerWritten = false;
-    private boolean closed = false;
 
     public DefaultBatchExcelWriter(Class<T> clazz, String sheetName) {
-        this.clazz = clazz;
-        this.sheetName = sheetName;
+        super(clazz, sheetName);
         this.cellValueHandler = new CellValueHandler();
         this.workbook = new SXSSFWorkbook(500);
         this.styleBuilder = new ExcelStyleBuilder(workbook);
         this.fieldInfos = extractFieldInfos();
         this.maxRowHeight = calculateMaxRowHeight();
-        
+        this.columnWidths = calculateColumnWidths();
+
         // 创建第一个Sheet
         createNewSheet();
     }
@@ -71,9 +71,10 @@ public class DefaultBatchExcelWriter<T> implements BatchExcelWriter<T> {
             return;
         }
 
+        long start = System.nanoTime();
         for (T entity : batch) {
             // 检查是否需要创建新的Sheet
-            if (currentRowNum >= SHEET_SIZE) {
+            if (currentRowNum >= rowsPerSheet) {
                 currentSheetIndex++;
                 createNewSheet();
             }
@@ -89,47 +90,13 @@ public class DefaultBatchExcelWriter<T> implements BatchExcelWriter<T> {
             currentRowNum++;
             totalRowsWritten++;
         }
-    }
-
-    @Override
-    public String finish() throws Exception {
-        if (closed) {
-            throw new IllegalStateException("Writer已关闭");
-        }
 
-        String filename = generateFilename(sheetName);
-        String filePath = getAbsoluteFilePath(filename);
-
-        try (FileOutputStream out = new FileOutputStream(filePath)) {
-            workbook.write(out);
-            return filename;
-        } catch (Exception e) {
-            log.error("保存Excel文件失败", e);
-            throw new CustomException("保存Excel文件失败");
-        } finally {
-            close();
-        }
+        recordBatch(batch.size(), System.nanoTime() - start);
     }
 
     @Override
-    public void finish(OutputStream outputStream) throws Exception {
-        if (closed) {
-            throw new IllegalStateException("Writer已关闭");
-        }
-
-        try {
-            workbook.write(outputStream);
-        } catch (Exception e) {
-            log.error("输出Excel失败", e);
-            throw new CustomException("输出Excel失败");
-        } finally {
-            close();
-        }
-    }
-
-    @Override
-    public int getWrittenRows() {
-        return totalRowsWritten;
+    protected void writeWorkbook(OutputStream outputStream) throws IOException {
+        workbook.write(outputStream);
     }
 
     @Override
@@ -166,14 +133,14 @@ public class DefaultBatchExcelWriter<T> implements BatchExcelWriter<T> {
             cell.setCellStyle(styleBuilder.getHeaderStyle());
 
             // 设置列宽
-            setColumnWidth(currentSheet, column, fieldInfo.excel);
-
-            // 设置数据验证
-            setDataValidation(currentSheet, column, fieldInfo.excel);
+            currentSheet.setColumnWidth(column, columnWidths[column]);
 
             column++;
         }
 
+        // 设置数据验证
+        addDataValidations(currentSheet);
+
         currentRowNum++;
     }
 
@@ -214,59 +181,47 @@ public class DefaultBatchExcelWriter<T> implements BatchExcelWriter<T> {
     }
 
     /**
-     * 设置列宽
+     * 按模板为Sheet添加数据验证（提示信息、下拉框），覆盖表头以下所有数据行
      */
-    private void setColumnWidth(Sheet sheet, int column, Excel attr) {
-        if (attr.name().contains("注：")) {
-            sheet.setColumnWidth(column, 6000);
-        } else {
-            sheet.setColumnWidth(column, (int) ((attr.width() + 0.72) * 256));
-        }
-    }
-
-    /**
-     * 设置数据验证
-     */
-    private void setDataValidation(Sheet sheet, int column, Excel attr) {
-        if (attr.prompt() != null && !attr.prompt().isEmpty()) {
-            setPrompt(sheet, "", attr.prompt(), 1, SHEET_SIZE - 1, column, column);
+    private void addDataValidations(Sheet sheet) {
+        DataValidationHelper helper = sheet.getDataValidationHelper();
+        if (validationTemplates == null) {
+            validationTemplates = createValidationTemplates(helper);
         }
 
-        if (attr.combo().length > 0) {
-            setComboBox(sheet, attr.combo(), 1, SHEET_SIZE - 1, column, column);
+        for (ValidationTemplate template : validationTemplates) {
+            DataValidation validation = helper.createValidation(template.constraint, template.regions);
+            if (template.prompt != null) {
+                validation.createPromptBox("", template.prompt);
+                validation.setShowPromptBox(true);
+            } else if (validation instanceof XSSFDataValidation) {
+                validation.setSuppressDropDownArrow(true);
+                validation.setShowErrorBox(true);
+            } else {
+                validation.setSuppressDropDownArrow(false);
+            }
+            sheet.addValidationData(validation);
         }
     }
 
     /**
-     * 设置提示信息
-     */
-    private void setPrompt(Sheet sheet, String title, String content, int firstRow, int endRow, int firstCol, int endCol) {
-        DataValidationHelper helper = sheet.getDataValidationHelper();
-        DataValidationConstraint constraint = helper.createCustomConstraint("DD1");
-        CellRangeAddressList regions = new CellRangeAddressList(firstRow, endRow, firstCol, endCol);
-        DataValidation validation = helper.createValidation(constraint, regions);
-        validation.createPromptBox(title, content);
-        validation.setShowPromptBox(true);
-        sheet.addValidationData(validation);
-    }
-
-    /**
-     * 设置下拉框
+     * 创建数据验证模板（每个Sheet的行数在写入数据后不再变化，区域可以共用）
      */
-    private void setComboBox(Sheet sheet, String[] options, int firstRow, int endRow, int firstCol, int endCol) {
-        DataValidationHelper helper = sheet.getDataValidationHelper();
-        DataValidationConstraint constraint = helper.createExplicitListConstraint(options);
-        CellRangeAddressList regions = new CellRangeAddressList(firstRow, endRow, firstCol, endCol);
-        DataValidation validation = helper.createValidation(constraint, regions);
-
-        if (validation instanceof XSSFDataValidation) {
-            validation.setSuppressDropDownArrow(true);
-            validation.setShowErrorBox(true);
-        } else {
-            validation.setSuppressDropDownArrow(false);
+    private List<ValidationTemplate> createValidationTemplates(DataValidationHelper helper) {
+        List<ValidationTemplate> templates = new ArrayList<>();
+        int column = 0;
+        for (FieldInfo fieldInfo : fieldInfos) {
+            Excel attr = fieldInfo.excel;
+            CellRangeAddressList regions = new CellRangeAddressList(1, rowsPerSheet - 1, column, column);
+            if (attr.prompt() != null && !attr.prompt().isEmpty()) {
+                templates.add(new ValidationTemplate(helper.createCustomConstraint("DD1"), regions, attr.prompt()));
+            }
+            if (attr.combo().length > 0) {
+                templates.add(new ValidationTemplate(helper.createExplicitListConstraint(attr.combo()), regions, null));
+            }
+            column++;
         }
-
-        sheet.addValidationData(validation);
+        return templates;
     }
 
     /**
@@ -341,24 +296,34 @@ public class DefaultBatchExcelWriter<T> implements BatchExcelWriter<T> {
     }
 
     /**
-     * 生成文件名
+     * 计算各列列宽
      */
-    private String generateFilename(String sheetName) {
-        return UUID.randomUUID().toString() + "_" + sheetName + ".xlsx";
+    private int[] calculateColumnWidths() {
+        int[] widths = new int[fieldInfos.size()];
+        for (int i = 0; i < widths.length; i++) {
+            Excel attr = fieldInfos.get(i).excel;
+            widths[i] = attr.name().contains("注：") ? 6000 : (int) ((attr.width() + 0.72) * 256);
+        }
+        return widths;
     }
 
     /**
-     * 获取绝对文件路径
+     * 数据验证模板
      */
-    private String getAbsoluteFilePath(String filename) {
-        String downloadPath = CommonConfig.getDownloadPath() + filename;
-        File file = new File(downloadPath);
-
-        if (!file.getParentFile().exists()) {
-            file.getParentFile().mkdirs();
+    private static class ValidationTemplate {
+        final DataValidationConstraint constraint;
+        final CellRangeAddressList regions;
+
+        /**
+         * 提示信息，为null时表示下拉框
+         */
+        final String prompt;
+
+        ValidationTemplate(DataValidationConstraint constraint, CellRangeAddressList regions, String prompt) {
+            this.constraint = constraint;
+            this.regions = regions;
+            this.prompt = prompt;
         }
-
-        return downloadPath;
     }
 
     /**
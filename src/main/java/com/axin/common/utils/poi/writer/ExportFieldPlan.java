@@ -0,0 +1,153 @@
+package com.axin.common.utils.poi.writer;
+
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import org.apache.poi.ss.util.CellReference;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 导出列计划
+ * <p>
+ * 按实体类一次性解析导出列：注解、字段getter的 {@link MethodHandle}、列字母与样式序号，
+ * 字段范围与排序规则与 {@link DefaultBatchExcelWriter} 一致（父类字段 + 本类字段，按 sort 排序）。
+ * 供直接生成OOXML的写入器使用，渲染时不再读取注解或查找字段。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+final class ExportFieldPlan<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Column[] columns;
+    private final double rowHeight;
+
+    ExportFieldPlan(Class<T> clazz) {
+        List<Field> allFields = new ArrayList<>();
+        if (clazz.getSuperclass() != null) {
+            allFields.addAll(Arrays.asList(clazz.getSuperclass().getDeclaredFields()));
+        }
+        allFields.addAll(Arrays.asList(clazz.getDeclaredFields()));
+
+        List<Field> excelFields = new ArrayList<>();
+        for (Field field : allFields) {
+            if (field.isAnnotationPresent(Excel.class)) {
+                excelFields.add(field);
+            }
+        }
+        excelFields.sort(Comparator.comparingInt(field -> field.getAnnotation(Excel.class).sort()));
+
+        this.columns = new Column[excelFields.size()];
+        double maxHeight = 0;
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new Column(excelFields.get(i), i);
+            maxHeight = Math.max(maxHeight, columns[i].attr.height());
+        }
+        // 与 DefaultBatchExcelWriter 一致：行高按 short(磅 * 20) 截断
+        this.rowHeight = ((short) (maxHeight * 20)) / 20.0;
+    }
+
+    Column[] getColumns() {
+        return columns;
+    }
+
+    /**
+     * 数据行行高（磅）
+     */
+    double getRowHeight() {
+        return rowHeight;
+    }
+
+    /**
+     * 导出列
+     */
+    static final class Column {
+
+        final Excel attr;
+        final int index;
+
+        /**
+         * 列字母（如 "AB"）
+         */
+        final String ref;
+
+        /**
+         * 单元格样式序号（见 {@link OoxmlPackage#STYLES}）
+         */
+        final int style;
+
+        /**
+         * 列宽（字符数）
+         */
+        final double width;
+
+        /**
+         * 以下为渲染时频繁读取的注解属性（注解代理的方法调用开销较大）
+         */
+        final boolean export;
+        final Excel.ColumnType cellType;
+        final String suffix;
+
+        /**
+         * 没有读取转换表达式与字典类型，String/数值无需经过 {@code formatCellValue} 即可直接输出
+         */
+        final boolean plain;
+
+        private final MethodHandle getter;
+        private final String[] targetAttrs;
+
+        Column(Field field, int index) {
+            this.attr = field.getAnnotation(Excel.class);
+            this.index = index;
+            this.ref = CellReference.convertNumToColString(index);
+            this.style = OoxmlPackage.dataStyle(attr.align().value());
+            this.width = attr.name().contains("注：") ? 6000 / 256.0 : attr.width() + 0.72;
+            this.export = attr.isExport();
+            this.cellType = attr.cellType();
+            this.suffix = attr.suffix();
+            this.plain = attr.readConverterExp().isEmpty() && attr.dictType().isEmpty();
+            this.targetAttrs = attr.targetAttr() == null || attr.targetAttr().isEmpty()
+                ? new String[0] : attr.targetAttr().split("\\.");
+            try {
+                field.setAccessible(true);
+                this.getter = LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("field: " + field, e);
+            }
+        }
+
+        /**
+         * 读取字段值（targetAttr 按运行时类型逐级读取，中间值为null时返回null）
+         */
+        Object getValue(Object entity) throws Exception {
+            Object value;
+            try {
+                value = getter.invokeExact(entity);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+
+            for (String name : targetAttrs) {
+                if (value == null) {
+                    break;
+                }
+                Field targetField = value.getClass().getDeclaredField(name);
+                targetField.setAccessible(true);
+                value = targetField.get(value);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.axin.common.utils.poi.writer;
+
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 直接生成OOXML的分批Excel写入器
+ * <p>
+ * 不经过 POI usermodel：数据行由 {@link OoxmlSheetRenderer} 按预先解析的 {@link ExportFieldPlan}
+ * 直接渲染为Sheet XML，写入 {@link ZipOutputStream} 的当前Sheet条目，没有 Row/Cell/样式对象，也没有SXSSF的临时XML文件。
+ * 分Sheet规则（见 {@link #setRowsPerSheet}）、列顺序、单元格格式与 {@link DefaultBatchExcelWriter} 一致，IMAGE 列输出为空单元格。
+ * <p>
+ * 两种输出方式：
+ * <ul>
+ *     <li>{@link #OoxmlBatchExcelWriter(Class, String)}：xlsx包写入临时文件，finish 时拷贝到目标（不重新压缩）</li>
+ *     <li>{@link #OoxmlBatchExcelWriter(Class, String, OutputStream)}：边写边输出到指定输出流，
+ *     只能通过 {@link #finish(OutputStream)} 以同一输出流结束</li>
+ * </ul>
+ * Sheet XML默认以最快级别压缩，见 {@link #setCompressionLevel}。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class OoxmlBatchExcelWriter<T> extends AbstractBatchExcelWriter<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(OoxmlBatchExcelWriter.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportFieldPlan<T> plan;
+    private final OutputStream target;
+    private final List<String> sheetNames = new ArrayList<>();
+
+    /**
+     * 创建第一个Sheet时生成（此后每个Sheet的行数不再变化），分Sheet时复用列宽、表头与数据验证
+     */
+    private OoxmlSheetRenderer<T> renderer;
+    private int compressionLevel = Deflater.BEST_SPEED;
+    private File tempFile;
+    private ZipOutputStream zip;
+    private Writer sheetWriter;
+    private int currentRowNum = 0;
+
+    /**
+     * xlsx包先写入临时文件
+     *
+     * @param clazz     实体类
+     * @param sheetName Sheet名称
+     */
+    public OoxmlBatchExcelWriter(Class<T> clazz, String sheetName) {
+        this(clazz, sheetName, null);
+    }
+
+    /**
+     * xlsx包直接写入输出流（输出流由调用方关闭）
+     *
+     * @param clazz        实体类
+     * @param sheetName    Sheet名称
+     * @param outputStream 输出流，为null时写入临时文件
+     */
+    public OoxmlBatchExcelWriter(Class<T> clazz, String sheetName, OutputStream outputStream) {
+        super(clazz, sheetName);
+        this.plan = new ExportFieldPlan<>(clazz);
+        this.target = outputStream;
+    }
+
+    /**
+     * 设置压缩级别（需在写入第一行之前设置）
+     * <p>
+     * 默认 {@link Deflater#BEST_SPEED}：压缩占写入耗时的大部分，最快级别的耗时约为默认级别的三分之一，文件约大20%。
+     * 需要更小的文件时可设置为 {@link Deflater#DEFAULT_COMPRESSION}。
+     *
+     * @param compressionLevel 压缩级别，-1（默认级别）或0~9
+     */
+    public void setCompressionLevel(int compressionLevel) {
+        if (compressionLevel < Deflater.DEFAULT_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("压缩级别必须在-1到9之间");
+        }
+        if (zip != null) {
+            throw new IllegalStateException("已开始写入，不能再修改压缩级别");
+        }
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public void writeBatch(List<T> batch) throws Exception {
+        if (closed) {
+            throw new IllegalStateException("Writer已关闭，无法继续写入");
+        }
+
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        for (T entity : batch) {
+            // 检查是否需要创建新的Sheet
+            if (sheetWriter == null || currentRowNum >= rowsPerSheet) {
+                createNewSheet();
+            }
+
+            // 数据行号从2开始（1-based，第1行为表头）
+            renderer.writeRow(sheetWriter, currentRowNum + 1, entity);
+            currentRowNum++;
+        }
+
+        totalRowsWritten += batch.size();
+        recordBatch(batch.size(), System.nanoTime() - start);
+        log.debug("已写入 {} 行数据，总计 {} 行，Sheet数量 {}", batch.size(), totalRowsWritten, sheetNames.size());
+    }
+
+    @Override
+    public String finish() throws Exception {
+        checkTempFileMode();
+        return super.finish();
+    }
+
+    @Override
+    public void finish(OutputStream outputStream) throws Exception {
+        if (target != null && outputStream != target) {
+            throw new IllegalArgumentException("数据已写入构造时指定的输出流，finish 只能使用同一输出流");
+        }
+        super.finish(outputStream);
+    }
+
+    @Override
+    public void finish(HttpServletResponse response, String fileName) throws Exception {
+        checkTempFileMode();
+        super.finish(response, fileName);
+    }
+
+    /**
+     * 结束当前Sheet并写出包的其余部件；直接输出模式下数据已在目标输出流中，不再写入参数中的输出流
+     */
+    @Override
+    protected void writeWorkbook(OutputStream outputStream) throws Exception {
+        if (sheetWriter == null) {
+            createNewSheet();
+        }
+        closeCurrentSheet();
+
+        putEntry(OoxmlPackage.CONTENT_TYPES, OoxmlPackage.contentTypes(sheetNames.size()));
+        putEntry(OoxmlPackage.ROOT_RELS, OoxmlPackage.rootRels());
+        putEntry(OoxmlPackage.WORKBOOK, OoxmlPackage.workbook(sheetNames));
+        putEntry(OoxmlPackage.WORKBOOK_RELS, OoxmlPackage.workbookRels(sheetNames.size()));
+        putEntry(OoxmlPackage.STYLES, OoxmlPackage.styles());
+
+        if (target != null) {
+            zip.finish();
+            zip.flush();
+            return;
+        }
+
+        zip.close();
+        Files.copy(tempFile.toPath(), outputStream);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            try {
+                if (zip != null) {
+                    zip.close();
+                }
+            } finally {
+                if (tempFile != null && tempFile.exists() && !tempFile.delete()) {
+                    log.warn("删除临时文件失败: {}", tempFile.getAbsolutePath());
+                }
+            }
+        }
+    }
+
+    /**
+     * 结束上一个Sheet，开始新的Sheet条目并写出表头
+     */
+    private void createNewSheet() throws IOException {
+        if (zip == null) {
+            openZip();
+            renderer = new OoxmlSheetRenderer<>(new OoxmlSheetLayout<>(plan, rowsPerSheet));
+        } else {
+            closeCurrentSheet();
+        }
+
+        int index = sheetNames.size();
+        sheetNames.add(index == 0 ? sheetName : sheetName + index);
+        zip.putNextEntry(new ZipEntry(OoxmlPackage.sheetPart(index + 1)));
+        sheetWriter = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), BUFFER_SIZE);
+        renderer.startSheet(sheetWriter);
+        currentRowNum = 1;
+    }
+
+    /**
+     * 写出Sheet结尾并结束zip条目（不关闭 sheetWriter，关闭会连带关闭zip）
+     */
+    private void closeCurrentSheet() throws IOException {
+        renderer.endSheet(sheetWriter);
+        sheetWriter.flush();
+        zip.closeEntry();
+    }
+
+    private void openZip() throws IOException {
+        OutputStream out;
+        if (target != null) {
+            out = new CloseShieldOutputStream(target);
+        } else {
+            tempFile = File.createTempFile("excel-export-", ".xlsx");
+            out = new FileOutputStream(tempFile);
+        }
+        zip = new ZipOutputStream(new BufferedOutputStream(out, BUFFER_SIZE), StandardCharsets.UTF_8);
+        zip.setLevel(compressionLevel);
+    }
+
+    private void putEntry(String name, byte[] content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content);
+        zip.closeEntry();
+    }
+
+    private void checkTempFileMode() {
+        if (target != null) {
+            throw new IllegalStateException("数据已写入构造时指定的输出流，请使用 finish(OutputStream)");
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.axin.common.utils.poi.writer;
+
+import org.apache.poi.ss.util.WorkbookUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 直接生成的xlsx包部件
+ * <p>
+ * 包含 [Content_Types].xml、包关系、workbook.xml 与 styles.xml。样式表固定，
+ * 与 {@link com.axin.common.utils.poi.style.ExcelStyleBuilder} 的表头/数据样式外观一致，单元格按序号引用：
+ * <ul>
+ *     <li>0：默认</li>
+ *     <li>1：表头（Arial 10 加粗白字、50%灰底、细边框、居中）</li>
+ *     <li>2~5：数据（Arial 10、细边框，依次为默认/左对齐/居中/右对齐）</li>
+ * </ul>
+ * 字符串一律使用内联字符串，不需要共享字符串表。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+final class OoxmlPackage {
+
+    static final String CONTENT_TYPES = "[Content_Types].xml";
+    static final String ROOT_RELS = "_rels/.rels";
+    static final String WORKBOOK = "xl/workbook.xml";
+    static final String WORKBOOK_RELS = "xl/_rels/workbook.xml.rels";
+    static final String STYLES = "xl/styles.xml";
+
+    static final int STYLE_HEADER = 1;
+    static final int STYLE_DATA = 2;
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String MAIN_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String REL_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String PACKAGE_REL_NS = "http://schemas.openxmlformats.org/package/2006/relationships";
+
+    private static final String STYLES_XML = XML_DECLARATION
+        + "<styleSheet xmlns=\"" + MAIN_NS + "\">"
+        + "<fonts count=\"3\">"
+        + "<font><sz val=\"11\"/><name val=\"Calibri\"/><family val=\"2\"/></font>"
+        + "<font><b/><sz val=\"10\"/><color indexed=\"9\"/><name val=\"Arial\"/><family val=\"2\"/></font>"
+        + "<font><sz val=\"10\"/><name val=\"Arial\"/><family val=\"2\"/></font>"
+        + "</fonts>"
+        + "<fills count=\"3\">"
+        + "<fill><patternFill patternType=\"none\"/></fill>"
+        + "<fill><patternFill patternType=\"gray125\"/></fill>"
+        + "<fill><patternFill patternType=\"solid\"><fgColor indexed=\"23\"/><bgColor indexed=\"64\"/></patternFill></fill>"
+        + "</fills>"
+        + "<borders count=\"2\">"
+        + "<border><left/><right/><top/><bottom/><diagonal/></border>"
+        + "<border><left style=\"thin\"><color indexed=\"23\"/></left><right style=\"thin\"><color indexed=\"23\"/></right>"
+        + "<top style=\"thin\"><color indexed=\"23\"/></top><bottom style=\"thin\"><color indexed=\"23\"/></bottom>"
+        + "<diagonal/></border>"
+        + "</borders>"
+        + "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>"
+        + "<cellXfs count=\"6\">"
+        + "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>"
+        + cellXf(1, 2, "center")
+        + cellXf(2, 0, "center")
+        + cellXf(2, 0, "left")
+        + cellXf(2, 0, "center")
+        + cellXf(2, 0, "right")
+        + "</cellXfs>"
+        + "<cellStyles count=\"1\"><cellStyle name=\"Normal\" xfId=\"0\" builtinId=\"0\"/></cellStyles>"
+        + "</styleSheet>";
+
+    private OoxmlPackage() {
+    }
+
+    /**
+     * 按 {@code @Excel.align} 取数据样式序号
+     */
+    static int dataStyle(int align) {
+        return align >= 1 && align <= 3 ? STYLE_DATA + align : STYLE_DATA;
+    }
+
+    static byte[] contentTypes(int sheetCount) {
+        StringBuilder xml = new StringBuilder(512 + sheetCount * 160);
+        xml.append(XML_DECLARATION)
+            .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+            .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+            .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+            .append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"")
+            .append("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>")
+            .append("<Override PartName=\"/xl/styles.xml\" ContentType=\"")
+            .append("application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+        for (int i = 1; i <= sheetCount; i++) {
+            xml.append("<Override PartName=\"/").append(sheetPart(i)).append("\" ContentType=\"")
+                .append("application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+        }
+        xml.append("</Types>");
+        return bytes(xml);
+    }
+
+    static byte[] rootRels() {
+        return bytes(new StringBuilder(XML_DECLARATION)
+            .append("<Relationships xmlns=\"").append(PACKAGE_REL_NS).append("\">")
+            .append("<Relationship Id=\"rId1\" Type=\"").append(REL_NS).append("/officeDocument\" Target=\"xl/workbook.xml\"/>")
+            .append("</Relationships>"));
+    }
+
+    /**
+     * workbook.xml（Sheet名称按Excel规则校验）
+     */
+    static byte[] workbook(List<String> sheetNames) {
+        StringBuilder xml = new StringBuilder(256 + sheetNames.size() * 80);
+        xml.append(XML_DECLARATION)
+            .append("<workbook xmlns=\"").append(MAIN_NS).append("\" xmlns:r=\"").append(REL_NS).append("\">")
+            .append("<sheets>");
+        for (int i = 0; i < sheetNames.size(); i++) {
+            String name = sheetNames.get(i);
+            WorkbookUtil.validateSheetName(name);
+            xml.append("<sheet name=\"");
+            OoxmlSheetRenderer.escape(name, xml);
+            xml.append("\" sheetId=\"").append(i + 1).append("\" r:id=\"rId").append(i + 1).append("\"/>");
+        }
+        xml.append("</sheets></workbook>");
+        return bytes(xml);
+    }
+
+    static byte[] workbookRels(int sheetCount) {
+        StringBuilder xml = new StringBuilder(256 + sheetCount * 160);
+        xml.append(XML_DECLARATION).append("<Relationships xmlns=\"").append(PACKAGE_REL_NS).append("\">");
+        for (int i = 1; i <= sheetCount; i++) {
+            xml.append("<Relationship Id=\"rId").append(i).append("\" Type=\"").append(REL_NS)
+                .append("/worksheet\" Target=\"worksheets/sheet").append(i).append(".xml\"/>");
+        }
+        xml.append("<Relationship Id=\"rId").append(sheetCount + 1).append("\" Type=\"").append(REL_NS)
+            .append("/styles\" Target=\"styles.xml\"/>");
+        xml.append("</Relationships>");
+        return bytes(xml);
+    }
+
+    static byte[] styles() {
+        return STYLES_XML.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 第n个Sheet（从1开始）的部件名
+     */
+    static String sheetPart(int n) {
+        return "xl/worksheets/sheet" + n + ".xml";
+    }
+
+    private static String cellXf(int fontId, int fillId, String horizontal) {
+        return "<xf numFmtId=\"0\" fontId=\"" + fontId + "\" fillId=\"" + fillId + "\" borderId=\"1\" xfId=\"0\""
+            + " applyFont=\"1\"" + (fillId > 0 ? " applyFill=\"1\"" : "") + " applyBorder=\"1\" applyAlignment=\"1\">"
+            + "<alignment horizontal=\"" + horizontal + "\" vertical=\"center\"/></xf>";
+    }
+
+    private static byte[] bytes(StringBuilder xml) {
+        return xml.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,129 @@
+package com.axin.common.utils.poi.writer;
+
+import com.axin.framework.aspectj.lang.annotation.Excel;
+
+/**
+ * Sheet XML的固定部分
+ * <p>
+ * 列宽、表头行与数据验证在每个Sheet中都相同，按导出列计划和每个Sheet的行数生成一次，
+ * 分Sheet时直接复用，不再逐列重新计算。不可变，可被多个渲染线程共用。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+final class OoxmlSheetLayout<T> {
+
+    private final ExportFieldPlan<T> plan;
+    private final String head;
+    private final String tail;
+
+    /**
+     * @param plan         导出列计划
+     * @param rowsPerSheet 每个Sheet的最大行数（含表头），数据验证覆盖第2行到该行
+     */
+    OoxmlSheetLayout(ExportFieldPlan<T> plan, int rowsPerSheet) {
+        this.plan = plan;
+        this.head = buildHead(plan);
+        this.tail = buildTail(plan, rowsPerSheet);
+    }
+
+    ExportFieldPlan<T> getPlan() {
+        return plan;
+    }
+
+    /**
+     * XML声明、列宽、sheetData 开始标签与表头行（第1行）
+     */
+    String getHead() {
+        return head;
+    }
+
+    /**
+     * sheetData 结束标签、数据验证（提示信息、下拉框）与 worksheet 结束标签
+     */
+    String getTail() {
+        return tail;
+    }
+
+    private static String buildHead(ExportFieldPlan<?> plan) {
+        StringBuilder xml = new StringBuilder(1024);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+            .append("<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"")
+            .append(" xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">");
+
+        ExportFieldPlan.Column[] columns = plan.getColumns();
+        if (columns.length > 0) {
+            xml.append("<cols>");
+            for (ExportFieldPlan.Column column : columns) {
+                xml.append("<col min=\"").append(column.index + 1).append("\" max=\"").append(column.index + 1)
+                    .append("\" width=\"").append(column.width).append("\" customWidth=\"1\"/>");
+            }
+            xml.append("</cols>");
+        }
+
+        xml.append("<sheetData><row r=\"1\">");
+        for (ExportFieldPlan.Column column : columns) {
+            OoxmlSheetRenderer.appendInlineString(xml, column.ref, 1, OoxmlPackage.STYLE_HEADER,
+                column.attr.name(), "");
+        }
+        xml.append("</row>");
+        return xml.toString();
+    }
+
+    private static String buildTail(ExportFieldPlan<?> plan, int lastRow) {
+        StringBuilder xml = new StringBuilder(256);
+        xml.append("</sheetData>");
+
+        int count = 0;
+        for (ExportFieldPlan.Column column : plan.getColumns()) {
+            count += (isNotEmpty(column.attr.prompt()) ? 1 : 0) + (column.attr.combo().length > 0 ? 1 : 0);
+        }
+        if (count > 0 && lastRow >= 2) {
+            xml.append("<dataValidations count=\"").append(count).append("\">");
+            for (ExportFieldPlan.Column column : plan.getColumns()) {
+                Excel attr = column.attr;
+                if (isNotEmpty(attr.prompt())) {
+                    xml.append("<dataValidation type=\"custom\" allowBlank=\"1\" showInputMessage=\"1\" promptTitle=\"\" prompt=\"");
+                    OoxmlSheetRenderer.escape(attr.prompt(), xml);
+                    xml.append('"');
+                    appendSqref(xml, column.ref, lastRow);
+                    xml.append("<formula1>DD1</formula1></dataValidation>");
+                }
+                if (attr.combo().length > 0) {
+                    xml.append("<dataValidation type=\"list\" allowBlank=\"1\" showErrorMessage=\"1\"");
+                    appendSqref(xml, column.ref, lastRow);
+                    xml.append("<formula1>");
+                    OoxmlSheetRenderer.escape(listFormula(attr.combo()), xml);
+                    xml.append("</formula1></dataValidation>");
+                }
+            }
+            xml.append("</dataValidations>");
+        }
+
+        xml.append("</worksheet>");
+        return xml.toString();
+    }
+
+    private static void appendSqref(StringBuilder xml, String ref, int lastRow) {
+        xml.append(" sqref=\"").append(ref).append(2).append(':').append(ref).append(lastRow).append("\">");
+    }
+
+    /**
+     * 下拉框公式："选项1,选项2"（选项中的双引号转义为两个双引号）
+     */
+    private static String listFormula(String[] options) {
+        StringBuilder formula = new StringBuilder("\"");
+        for (int i = 0; i < options.length; i++) {
+            if (i > 0) {
+                formula.append(',');
+            }
+            formula.append(options[i].replace("\"", "\"\""));
+        }
+        return formula.append('"').toString();
+    }
+
+    private static boolean isNotEmpty(String value) {
+        return value != null && !value.isEmpty();
+    }
+}
@@ -0,0 +1,265 @@
+package com.axin.common.utils.poi.writer;
+
+import com.axin.common.core.text.Convert;
+import com.axin.common.utils.poi.handler.CellValueHandler;
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 直接生成Sheet XML的渲染器
+ * <p>
+ * 不创建 Row/Cell 对象：按 {@link ExportFieldPlan} 逐列取值，按与 {@link DefaultBatchExcelWriter} 相同的规则
+ * 格式化（{@link CellValueHandler#formatCellValue}、suffix、NUMERIC 列写数值），
+ * 字符串写为内联字符串，样式直接引用 {@link OoxmlPackage} 中的固定样式序号。
+ * 没有转换表达式/字典的 String 与整数、Double 值直接写入行缓冲区，不生成中间字符串；
+ * 每行先拼接到复用的缓冲区再一次写出。IMAGE 列只写出空单元格。
+ * <p>
+ * 非线程安全，每个Sheet（渲染线程）使用独立实例。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+final class OoxmlSheetRenderer<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(OoxmlSheetRenderer.class);
+
+    /**
+     * 可以精确输出为整数的数值上限
+     */
+    private static final double EXACT_LONG_LIMIT = 1e15;
+
+    private final OoxmlSheetLayout<T> layout;
+    private final ExportFieldPlan<T> plan;
+    private final CellValueHandler cellValueHandler = new CellValueHandler();
+    private final StringBuilder buffer = new StringBuilder(1024);
+    private char[] chars = new char[1024];
+
+    OoxmlSheetRenderer(OoxmlSheetLayout<T> layout) {
+        this.layout = layout;
+        this.plan = layout.getPlan();
+    }
+
+    /**
+     * 写出Sheet开头：列宽、sheetData 开始标签与表头行（第1行）
+     */
+    void startSheet(Writer out) throws IOException {
+        out.write(layout.getHead());
+    }
+
+    /**
+     * 写出一个数据行
+     *
+     * @param rowNum 行号（从1开始，表头为第1行）
+     * @param entity 实体
+     */
+    void writeRow(Writer out, int rowNum, T entity) throws IOException {
+        StringBuilder xml = buffer;
+        xml.setLength(0);
+        xml.append("<row r=\"").append(rowNum).append('"');
+        if (plan.getRowHeight() > 0) {
+            xml.append(" ht=\"").append(plan.getRowHeight()).append("\" customHeight=\"1\"");
+        }
+        xml.append('>');
+
+        for (ExportFieldPlan.Column column : plan.getColumns()) {
+            if (column.export) {
+                appendCell(xml, column, rowNum, entity);
+            }
+        }
+
+        xml.append("</row>");
+        flush(out);
+    }
+
+    /**
+     * 写出Sheet结尾：sheetData 结束标签与数据验证
+     */
+    void endSheet(Writer out) throws IOException {
+        out.write(layout.getTail());
+    }
+
+    private void appendCell(StringBuilder xml, ExportFieldPlan.Column column, int rowNum, T entity) {
+        int start = xml.length();
+        try {
+            Object value = column.getValue(entity);
+            if (value == null) {
+                appendEmptyCell(xml, column.ref, rowNum, column.style);
+                return;
+            }
+            if (column.plain && appendPlainCell(xml, column, rowNum, value)) {
+                return;
+            }
+
+            String formattedValue = cellValueHandler.formatCellValue(value, column.attr);
+            Object cellValue = formattedValue.isEmpty() ? value : formattedValue;
+            if (column.cellType == Excel.ColumnType.STRING) {
+                appendInlineString(xml, column.ref, rowNum, column.style, cellValue.toString(), column.suffix);
+            } else if (column.cellType == Excel.ColumnType.NUMERIC) {
+                appendNumericCell(xml, column, rowNum, cellValue);
+            } else {
+                appendEmptyCell(xml, column.ref, rowNum, column.style);
+            }
+        } catch (Exception e) {
+            log.error("设置单元格值失败", e);
+            xml.setLength(start);
+            appendEmptyCell(xml, column.ref, rowNum, column.style);
+        }
+    }
+
+    /**
+     * 常见类型直接输出，结果与经过 formatCellValue 的通用规则一致
+     *
+     * @return 是否已输出
+     */
+    private static boolean appendPlainCell(StringBuilder xml, ExportFieldPlan.Column column, int rowNum,
+                                           Object value) {
+        if (column.cellType == Excel.ColumnType.STRING) {
+            if (value instanceof String) {
+                appendInlineString(xml, column.ref, rowNum, column.style, (String) value, column.suffix);
+                return true;
+            }
+            return false;
+        }
+        if (column.cellType != Excel.ColumnType.NUMERIC) {
+            return false;
+        }
+
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            appendNumber(xml, column, rowNum, ((Number) value).intValue());
+        } else if (value instanceof Long) {
+            // 通用规则按整数解析字符串，超出int范围时为空单元格
+            long longValue = (Long) value;
+            if (longValue == (int) longValue) {
+                appendNumber(xml, column, rowNum, longValue);
+            } else {
+                appendEmptyCell(xml, column.ref, rowNum, column.style);
+            }
+        } else if (value instanceof Double) {
+            // NaN、Infinity 的字符串形式不含小数点且无法解析为整数，通用规则下为空单元格
+            double doubleValue = (Double) value;
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                appendEmptyCell(xml, column.ref, rowNum, column.style);
+            } else {
+                appendNumber(xml, column, rowNum, doubleValue);
+            }
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 数值单元格：包含小数点时按小数，否则按整数（与 CellValueHandler.setCellValue 一致），无法转换时写空单元格
+     */
+    private static void appendNumericCell(StringBuilder xml, ExportFieldPlan.Column column, int rowNum,
+                                          Object cellValue) {
+        String strValue = Convert.toStr(cellValue);
+        Number number = strValue != null && strValue.contains(".")
+            ? Convert.toDouble(cellValue) : Convert.toInt(cellValue);
+        if (number == null) {
+            appendEmptyCell(xml, column.ref, rowNum, column.style);
+            return;
+        }
+
+        appendNumber(xml, column, rowNum, number.doubleValue());
+    }
+
+    private static void appendNumber(StringBuilder xml, ExportFieldPlan.Column column, int rowNum, long value) {
+        appendCellStart(xml, column.ref, rowNum, column.style);
+        xml.append("><v>").append(value).append("</v></c>");
+    }
+
+    private static void appendNumber(StringBuilder xml, ExportFieldPlan.Column column, int rowNum, double value) {
+        if (value % 1 == 0 && Math.abs(value) < EXACT_LONG_LIMIT) {
+            appendNumber(xml, column, rowNum, (long) value);
+            return;
+        }
+        appendCellStart(xml, column.ref, rowNum, column.style);
+        xml.append("><v>").append(value).append("</v></c>");
+    }
+
+    /**
+     * 内联字符串单元格，文本与后缀分别转义写入，不拼接中间字符串
+     */
+    static void appendInlineString(StringBuilder xml, String ref, int rowNum, int style,
+                                   String text, String suffix) {
+        appendCellStart(xml, ref, rowNum, style);
+        xml.append(" t=\"inlineStr\"><is><t");
+        if (needsPreserve(text, suffix)) {
+            xml.append(" xml:space=\"preserve\"");
+        }
+        xml.append('>');
+        escape(text, xml);
+        escape(suffix, xml);
+        xml.append("</t></is></c>");
+    }
+
+    /**
+     * 首尾为空白字符时需要 xml:space="preserve"，否则Excel会去掉首尾空白
+     */
+    private static boolean needsPreserve(String text, String suffix) {
+        String first = text.isEmpty() ? suffix : text;
+        String last = suffix.isEmpty() ? text : suffix;
+        return !first.isEmpty() && (Character.isWhitespace(first.charAt(0))
+            || Character.isWhitespace(last.charAt(last.length() - 1)));
+    }
+
+    private static void appendEmptyCell(StringBuilder xml, String ref, int rowNum, int style) {
+        appendCellStart(xml, ref, rowNum, style);
+        xml.append("/>");
+    }
+
+    private static void appendCellStart(StringBuilder xml, String ref, int rowNum, int style) {
+        xml.append("<c r=\"").append(ref).append(rowNum).append("\" s=\"").append(style).append('"');
+    }
+
+    /**
+     * XML转义，去除XML 1.0不允许的控制字符
+     */
+    static void escape(String text, StringBuilder xml) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&':
+                    xml.append("&amp;");
+                    break;
+                case '<':
+                    xml.append("&lt;");
+                    break;
+                case '>':
+                    xml.append("&gt;");
+                    break;
+                case '"':
+                    xml.append("&quot;");
+                    break;
+                case '\t':
+                case '\n':
+                case '\r':
+                    xml.append(c);
+                    break;
+                default:
+                    if (c >= 0x20 && c != 0xFFFE && c != 0xFFFF) {
+                        xml.append(c);
+                    }
+                    break;
+            }
+        }
+    }
+
+    /**
+     * 把行缓冲区写出到输出（复用字符数组，避免每行生成字符串）
+     */
+    private void flush(Writer out) throws IOException {
+        int length = buffer.length();
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+        buffer.getChars(0, length, chars, 0);
+        out.write(chars, 0, length);
+    }
+}
@@ -0,0 +1,362 @@
+package com.axin.common.utils.poi.writer;
+
+import com.axin.common.utils.poi.metrics.ExcelStage;
+import com.google.common.io.CountingOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+
+/**
+ * 多Sheet并行渲染的分批Excel写入器
+ * <p>
+ * 分Sheet规则（见 {@link #setRowsPerSheet}）、列顺序、单元格格式与 {@link DefaultBatchExcelWriter} 一致，但每个Sheet的XML由线程池独立渲染：
+ * <ul>
+ *     <li>每个Sheet的XML直接压缩（raw deflate）到独立的临时文件，同时计算CRC与大小</li>
+ *     <li>同一Sheet的数据块按提交顺序串行渲染，不同Sheet之间并行</li>
+ *     <li>finish 时按Sheet顺序把压缩数据原样拷入xlsx包，不再重新压缩</li>
+ * </ul>
+ * 所有Sheet共用固定的样式表（见 {@link OoxmlPackage}），字符串写为内联字符串，
+ * 因此不需要合并共享字符串表，输出内容与渲染线程的调度顺序无关。
+ * <p>
+ * 在途的数据块数量有上限，渲染跟不上时 {@link #writeBatch} 会阻塞。渲染失败会在下一次写入或 finish 时抛出。
+ * IMAGE 列输出为空单元格。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class ParallelSheetExcelWriter<T> extends AbstractBatchExcelWriter<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelSheetExcelWriter.class);
+
+    /**
+     * 每个渲染线程允许排队的数据块数量
+     */
+    private static final int PENDING_CHUNKS_PER_THREAD = 4;
+
+    private final ExportFieldPlan<T> plan;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final Semaphore pendingChunks;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final List<SheetPart> sheets = new ArrayList<>();
+
+    /**
+     * 所有Sheet共用的固定部分，创建第一个Sheet时生成（此后每个Sheet的行数不再变化）
+     */
+    private OoxmlSheetLayout<T> layout;
+    private SheetPart currentSheet;
+    private int currentRowNum = 0;
+
+    /**
+     * 使用按CPU核数创建的线程池，关闭Writer时一并关闭
+     *
+     * @param clazz     实体类
+     * @param sheetName Sheet名称
+     */
+    public ParallelSheetExcelWriter(Class<T> clazz, String sheetName) {
+        this(clazz, sheetName, Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()), true);
+    }
+
+    /**
+     * @param clazz     实体类
+     * @param sheetName Sheet名称
+     * @param executor  渲染线程池（由调用方关闭）
+     */
+    public ParallelSheetExcelWriter(Class<T> clazz, String sheetName, ExecutorService executor) {
+        this(clazz, sheetName, executor, false);
+    }
+
+    private ParallelSheetExcelWriter(Class<T> clazz, String sheetName, ExecutorService executor,
+                                     boolean ownsExecutor) {
+        super(clazz, sheetName);
+        if (executor == null) {
+            throw new IllegalArgumentException("渲染线程池不能为空");
+        }
+        this.plan = new ExportFieldPlan<>(clazz);
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.pendingChunks = new Semaphore(Runtime.getRuntime().availableProcessors() * PENDING_CHUNKS_PER_THREAD);
+    }
+
+    @Override
+    public void writeBatch(List<T> batch) throws Exception {
+        if (closed) {
+            throw new IllegalStateException("Writer已关闭，无法继续写入");
+        }
+        rethrowFailure();
+
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        int offset = 0;
+        while (offset < batch.size()) {
+            // 检查是否需要创建新的Sheet
+            if (currentSheet == null || currentRowNum >= rowsPerSheet) {
+                createNewSheet();
+            }
+
+            int count = Math.min(batch.size() - offset, rowsPerSheet - currentRowNum);
+            // 第一行为表头，数据行号从2开始（1-based）
+            submitChunk(currentSheet, new ArrayList<>(batch.subList(offset, offset + count)), currentRowNum + 1);
+            currentRowNum += count;
+            offset += count;
+        }
+
+        totalRowsWritten += batch.size();
+        recordBatch(batch.size(), System.nanoTime() - start, 0);
+        log.debug("已提交 {} 行数据，总计 {} 行，Sheet数量 {}", batch.size(), totalRowsWritten, sheets.size());
+    }
+
+    @Override
+    protected void writeWorkbook(OutputStream outputStream) throws Exception {
+        if (sheets.isEmpty()) {
+            createNewSheet();
+        }
+
+        // 收尾并等待所有Sheet渲染完成
+        for (SheetPart sheet : sheets) {
+            sheet.submit(sheet::finish);
+        }
+        awaitSheets();
+        rethrowFailure();
+
+        List<String> sheetNames = new ArrayList<>(sheets.size());
+        for (SheetPart sheet : sheets) {
+            sheetNames.add(sheet.name);
+        }
+
+        try (ZipArchiveOutputStream zip = new ZipArchiveOutputStream(new CloseShieldOutputStream(outputStream))) {
+            putEntry(zip, OoxmlPackage.CONTENT_TYPES, OoxmlPackage.contentTypes(sheets.size()));
+            putEntry(zip, OoxmlPackage.ROOT_RELS, OoxmlPackage.rootRels());
+            putEntry(zip, OoxmlPackage.WORKBOOK, OoxmlPackage.workbook(sheetNames));
+            putEntry(zip, OoxmlPackage.WORKBOOK_RELS, OoxmlPackage.workbookRels(sheets.size()));
+            putEntry(zip, OoxmlPackage.STYLES, OoxmlPackage.styles());
+
+            for (int i = 0; i < sheets.size(); i++) {
+                SheetPart sheet = sheets.get(i);
+                ZipArchiveEntry entry = new ZipArchiveEntry(OoxmlPackage.sheetPart(i + 1));
+                entry.setMethod(ZipEntry.DEFLATED);
+                entry.setCrc(sheet.crc.getValue());
+                entry.setSize(sheet.rawBytes.getCount());
+                entry.setCompressedSize(sheet.compressedBytes.getCount());
+                try (InputStream in = new BufferedInputStream(new FileInputStream(sheet.file))) {
+                    zip.addRawArchiveEntry(entry, in);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            awaitSheets();
+            for (SheetPart sheet : sheets) {
+                sheet.discard();
+            }
+            if (ownsExecutor) {
+                executor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * 创建新的Sheet，表头作为该Sheet的第一个渲染任务
+     */
+    private void createNewSheet() throws Exception {
+        if (layout == null) {
+            layout = new OoxmlSheetLayout<>(plan, rowsPerSheet);
+        }
+
+        int index = sheets.size();
+        String name = index == 0 ? sheetName : sheetName + index;
+        SheetPart sheet = new SheetPart(name);
+        sheets.add(sheet);
+        currentSheet = sheet;
+        currentRowNum = 1;
+
+        sheet.submit(() -> sheet.renderer.startSheet(sheet.writer));
+    }
+
+    /**
+     * 提交数据块，在途数据块达到上限时阻塞
+     */
+    private void submitChunk(SheetPart sheet, List<T> rows, int firstRowNum) throws Exception {
+        pendingChunks.acquire();
+        boolean submitted = false;
+        try {
+            sheet.submit(() -> {
+                long start = System.nanoTime();
+                int rowNum = firstRowNum;
+                for (T entity : rows) {
+                    sheet.renderer.writeRow(sheet.writer, rowNum++, entity);
+                }
+                recordStage(ExcelStage.RENDER, System.nanoTime() - start);
+            }).whenComplete((result, error) -> pendingChunks.release());
+            submitted = true;
+        } finally {
+            if (!submitted) {
+                pendingChunks.release();
+            }
+        }
+    }
+
+    /**
+     * 等待所有已提交的渲染任务结束（不论成功与否）
+     */
+    private void awaitSheets() {
+        for (SheetPart sheet : sheets) {
+            try {
+                sheet.tail.join();
+            } catch (CompletionException e) {
+                // 失败已记录在 failure 中
+            }
+        }
+    }
+
+    private void rethrowFailure() throws Exception {
+        Throwable error = failure.get();
+        if (error == null) {
+            return;
+        }
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof UncheckedIOException) {
+            throw ((UncheckedIOException) error).getCause();
+        }
+        if (error instanceof Exception) {
+            throw (Exception) error;
+        }
+        throw (Error) error;
+    }
+
+    private static void putEntry(ZipArchiveOutputStream zip, String name, byte[] content) throws IOException {
+        zip.putArchiveEntry(new ZipArchiveEntry(name));
+        zip.write(content);
+        zip.closeArchiveEntry();
+    }
+
+    /**
+     * 渲染任务
+     */
+    @FunctionalInterface
+    private interface RenderTask {
+        void run() throws IOException;
+    }
+
+    /**
+     * 单个Sheet的渲染状态：渲染器、压缩输出链与串行任务链
+     */
+    private final class SheetPart {
+
+        private final String name;
+        private final File file;
+        private final OoxmlSheetRenderer<T> renderer = new OoxmlSheetRenderer<>(layout);
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private final CRC32 crc = new CRC32();
+        private final CountingOutputStream compressedBytes;
+        private final CountingOutputStream rawBytes;
+        private final Writer writer;
+
+        /**
+         * 该Sheet最后一个渲染任务，新任务接在其后保证同一Sheet内串行
+         */
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+        private boolean finished = false;
+
+        SheetPart(String name) throws IOException {
+            this.name = name;
+            this.file = File.createTempFile("excel-export-sheet-", ".xml.deflate");
+            try {
+                this.compressedBytes = new CountingOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(file), 64 * 1024));
+                this.rawBytes = new CountingOutputStream(new CheckedOutputStream(
+                    new DeflaterOutputStream(compressedBytes, deflater, 64 * 1024), crc));
+                this.writer = new BufferedWriter(new OutputStreamWriter(rawBytes, StandardCharsets.UTF_8), 64 * 1024);
+            } catch (IOException | RuntimeException e) {
+                deflater.end();
+                deleteTempFile(file);
+                throw e;
+            }
+        }
+
+        CompletableFuture<Void> submit(RenderTask task) {
+            tail = tail.thenRunAsync(() -> {
+                try {
+                    task.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, executor);
+            tail.whenComplete((result, error) -> {
+                if (error != null && failure.compareAndSet(null, error)) {
+                    log.error("Sheet[{}]渲染失败", name, error);
+                }
+            });
+            return tail;
+        }
+
+        /**
+         * 写出Sheet结尾并关闭压缩流（在渲染线程中执行）
+         */
+        void finish() throws IOException {
+            renderer.endSheet(writer);
+            writer.close();
+            finished = true;
+        }
+
+        /**
+         * 释放压缩资源并删除临时文件
+         */
+        void discard() {
+            if (!finished) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    log.warn("关闭Sheet[{}]临时文件失败", name, e);
+                }
+            }
+            deflater.end();
+            deleteTempFile(file);
+        }
+    }
+
+    private static void deleteTempFile(File file) {
+        if (file.exists() && !file.delete()) {
+            log.warn("删除临时文件失败: {}", file.getAbsolutePath());
+        }
+    }
+}
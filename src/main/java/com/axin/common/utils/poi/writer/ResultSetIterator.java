@@ -0,0 +1,60 @@
+package com.axin.common.utils.poi.writer;
+
+import com.axin.common.exception.CustomException;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 逐行读取查询结果的迭代器
+ * <p>
+ * 只向前移动游标，每次只映射当前行；配合只进结果集与合适的 fetchSize
+ * （如 MySQL 的 {@code Integer.MIN_VALUE} 流式读取、Oracle 的 {@code setFetchSize(1000)}）时，
+ * 内存占用与结果集大小无关。结果集由调用方关闭。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class ResultSetIterator<T> implements Iterator<T> {
+
+    private final ResultSet resultSet;
+    private final ResultSetRowMapper<T> rowMapper;
+    private int rowNum;
+    private Boolean hasNext;
+
+    public ResultSetIterator(ResultSet resultSet, ResultSetRowMapper<T> rowMapper) {
+        if (resultSet == null || rowMapper == null) {
+            throw new IllegalArgumentException("查询结果与行映射不能为空");
+        }
+        this.resultSet = resultSet;
+        this.rowMapper = rowMapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (hasNext == null) {
+            try {
+                hasNext = resultSet.next();
+            } catch (SQLException e) {
+                throw new CustomException("读取查询结果失败", e);
+            }
+        }
+        return hasNext;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        hasNext = null;
+        try {
+            return rowMapper.mapRow(resultSet, rowNum++);
+        } catch (SQLException e) {
+            throw new CustomException("读取查询结果失败", e);
+        }
+    }
+}
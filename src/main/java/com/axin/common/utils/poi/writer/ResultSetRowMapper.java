@@ -0,0 +1,36 @@
+package com.axin.common.utils.poi.writer;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 查询结果行映射
+ * <p>
+ * 每次调用时 ResultSet 已定位到当前行，实现只读取当前行，不应移动游标
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+@FunctionalInterface
+public interface ResultSetRowMapper<T> {
+
+    /**
+     * 映射当前行
+     *
+     * @param resultSet 查询结果
+     * @param rowNum    行号（从0开始）
+     * @return 实体
+     */
+    T mapRow(ResultSet resultSet, int rowNum) throws SQLException;
+
+    /**
+     * 按字段映射：列标签与字段名或其下划线形式（如 userName / user_name）相同时映射，忽略大小写，
+     * 类型不一致时按 {@link com.axin.common.utils.poi.handler.ConverterRegistry} 转换
+     *
+     * @param clazz 实体类（需要有无参构造方法）
+     */
+    static <T> ResultSetRowMapper<T> forClass(Class<T> clazz) {
+        return new BeanResultSetRowMapper<>(clazz);
+    }
+}
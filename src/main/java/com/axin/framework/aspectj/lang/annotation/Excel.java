@@ -54,6 +54,11 @@ public @interface Excel {
 
     Type type() default Excel.Type.ALL;
 
+    /**
+     * 导入时的字段值转换器，默认按字段类型从 {@code ConverterRegistry} 中查找
+     */
+    Class<? extends ExcelConverter<?>> converter() default ExcelConverter.None.class;
+
     public static enum Align {
         AUTO(0),
         LEFT(1),
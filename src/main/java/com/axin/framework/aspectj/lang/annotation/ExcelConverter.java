@@ -0,0 +1,41 @@
+package com.axin.framework.aspectj.lang.annotation;
+
+/**
+ * 导入字段值转换器
+ * <p>
+ * 将单元格值转换为字段值。单元格值的类型取决于单元格：文本为String，日期格式的数值为Date，
+ * 整数为不带小数点的字符串，小数为BigDecimal，布尔为Boolean；CSV导入时全部为String。
+ * <p>
+ * 按目标类型注册到 {@code ConverterRegistry}，或通过 {@code @Excel(converter = Xxx.class)} 为单个字段指定
+ * （需要有无参构造方法）。实现必须线程安全，同一实例会被所有导入共用。
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+@FunctionalInterface
+public interface ExcelConverter<T> {
+
+    /**
+     * 转换单元格值
+     *
+     * @param cellValue 单元格值，不为null
+     * @param attr      字段注解
+     * @return 字段值，无法转换时返回null
+     */
+    T convert(Object cellValue, Excel attr);
+
+    /**
+     * {@link Excel#converter()} 的默认值，表示未指定转换器
+     */
+    final class None implements ExcelConverter<Object> {
+
+        private None() {
+        }
+
+        @Override
+        public Object convert(Object cellValue, Excel attr) {
+            return cellValue;
+        }
+    }
+}
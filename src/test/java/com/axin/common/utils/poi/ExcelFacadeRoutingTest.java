@@ -0,0 +1,81 @@
+package com.axin.common.utils.poi;
+
+import com.axin.common.utils.poi.reader.CsvBatchExcelReader;
+import com.axin.common.utils.poi.reader.XlsxSaxBatchExcelReader;
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import lombok.Data;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 导入读取器选择测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class ExcelFacadeRoutingTest {
+
+    @Test
+    public void unknownContentIsRejectedWithoutNameOrContentType() {
+        assertThrows(IllegalArgumentException.class, () -> ExcelFacade.createBatchReader(FileMagic.UNKNOWN, Object.class));
+        assertThrows(IllegalArgumentException.class,
+            () -> ExcelFacade.createBatchReader(FileMagic.UNKNOWN, "data.bin", "application/octet-stream", Object.class));
+        assertThrows(IllegalArgumentException.class, () -> ExcelFacade.importExcelBatch(
+            new ByteArrayInputStream("a,b\n1,2\n".getBytes(StandardCharsets.UTF_8)), Object.class, 10,
+            (batch, batchNum, totalRead) -> true));
+    }
+
+    @Test
+    public void textIsRoutedByExtensionOrContentType() {
+        assertInstanceOf(CsvBatchExcelReader.class,
+            ExcelFacade.createBatchReader(FileMagic.UNKNOWN, "data.CSV", null, Object.class));
+        assertInstanceOf(CsvBatchExcelReader.class,
+            ExcelFacade.createBatchReader(FileMagic.UNKNOWN, "data.txt", null, Object.class));
+        assertInstanceOf(CsvBatchExcelReader.class,
+            ExcelFacade.createBatchReader(FileMagic.UNKNOWN, null, "text/csv; charset=UTF-8", Object.class));
+        // 文件头可识别时不看扩展名
+        assertInstanceOf(XlsxSaxBatchExcelReader.class,
+            ExcelFacade.createBatchReader(FileMagic.OOXML, "data.csv", "text/csv", Object.class));
+    }
+
+    @Test
+    public void csvFileIsImportedByExtension(@TempDir File dir) throws Exception {
+        File file = new File(dir, "data.csv");
+        Files.write(file.toPath(), "编码,名称\n1,a\n2,b\n".getBytes(StandardCharsets.UTF_8));
+
+        AtomicInteger rows = new AtomicInteger();
+        int total = ExcelFacade.importExcelBatch(file, Item.class, 10, (batch, batchNum, totalRead) -> {
+            rows.addAndGet(batch.size());
+            return true;
+        });
+        assertEquals(2, total);
+        assertEquals(2, rows.get());
+
+        File binary = new File(dir, "data.bin");
+        Files.write(binary.toPath(), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IllegalArgumentException.class, () -> ExcelFacade.importExcelBatch(binary, Object.class, 10,
+            (batch, batchNum, totalRead) -> true));
+    }
+
+    @Data
+    public static class Item {
+
+        @Excel(name = "编码")
+        private Integer code;
+
+        @Excel(name = "名称")
+        private String name;
+    }
+}
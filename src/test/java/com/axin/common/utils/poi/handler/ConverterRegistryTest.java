@@ -0,0 +1,108 @@
+package com.axin.common.utils.poi.handler;
+
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import com.axin.framework.aspectj.lang.annotation.ExcelConverter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 字段值转换测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class ConverterRegistryTest {
+
+    @Test
+    public void integersConvertNumbersAndTextTheSameWay() throws Exception {
+        Excel attr = attr("plain");
+        assertEquals(-5, ConverterRegistry.convert("-5", int.class, attr));
+        assertEquals(3, ConverterRegistry.convert("3.0", Integer.class, attr));
+        assertEquals(42, ConverterRegistry.convert(" 42 ", int.class, attr));
+        assertEquals(-42, ConverterRegistry.convert(new BigDecimal("-42"), int.class, attr));
+        assertEquals(Long.MAX_VALUE, ConverterRegistry.convert("9223372036854775807", long.class, attr));
+        assertEquals((short) -32768, ConverterRegistry.convert(-32768.0, short.class, attr));
+        assertEquals(BigInteger.TEN, ConverterRegistry.convert("1E1", BigInteger.class, attr));
+
+        assertNull(ConverterRegistry.convert("3.7", int.class, attr));
+        assertNull(ConverterRegistry.convert(new BigDecimal("3.7"), int.class, attr));
+        assertNull(ConverterRegistry.convert("2147483648", int.class, attr));
+        assertNull(ConverterRegistry.convert(128, byte.class, attr));
+        assertNull(ConverterRegistry.convert("abc", Integer.class, attr));
+        assertNull(ConverterRegistry.convert("", int.class, attr));
+        assertNull(ConverterRegistry.convert(new Date(), int.class, attr));
+        assertNull(ConverterRegistry.convert(Double.NaN, long.class, attr));
+    }
+
+    @Test
+    public void decimalsKeepDecimalRepresentation() throws Exception {
+        Excel attr = attr("plain");
+        assertEquals(new BigDecimal("0.1"), ConverterRegistry.convert(0.1, BigDecimal.class, attr));
+        assertEquals(new BigDecimal("-12.50"), ConverterRegistry.convert(" -12.50 ", BigDecimal.class, attr));
+        assertEquals(-3.5, ConverterRegistry.convert("-3.5", double.class, attr));
+        assertEquals(7.0, ConverterRegistry.convert(7L, Double.class, attr));
+    }
+
+    @Test
+    public void dateSerialTextMatchesNumericCell() throws Exception {
+        Excel attr = attr("plain");
+        assertEquals(ConverterRegistry.convert(45291.0, LocalDateTime.class, attr),
+            ConverterRegistry.convert("45291", LocalDateTime.class, attr));
+        assertEquals(LocalDate.of(2023, 12, 31), ConverterRegistry.convert("45291", LocalDate.class, attr));
+        assertEquals(ConverterRegistry.convert(45291.5, Date.class, attr),
+            ConverterRegistry.convert("45291.5", Date.class, attr));
+        assertEquals(LocalDate.of(2024, 1, 1), ConverterRegistry.convert("20240101", LocalDate.class, attr));
+        assertEquals(LocalDate.of(2024, 2, 29), ConverterRegistry.convert("2024-02-29", LocalDate.class, attr));
+        assertNull(ConverterRegistry.convert("不是日期", LocalDate.class, attr));
+    }
+
+    @Test
+    public void dateFormatIsTriedBeforeSerial() throws Exception {
+        Excel attr = attr("formatted");
+        assertEquals(LocalDate.of(2024, 3, 1), ConverterRegistry.convert("01/03/2024", LocalDate.class, attr));
+        assertEquals(LocalDate.of(2023, 12, 31), ConverterRegistry.convert("45291", LocalDate.class, attr));
+        assertNull(ConverterRegistry.convert("2024-03-01", LocalDate.class, attr));
+    }
+
+    @Test
+    public void annotatedConverterTakesPrecedence() throws Exception {
+        Excel attr = attr("custom");
+        assertTrue(ConverterRegistry.hasCustomConverter(attr));
+        assertEquals("X-1", ConverterRegistry.convert("1", String.class, attr));
+        assertTrue(!ConverterRegistry.hasCustomConverter(attr("plain")));
+    }
+
+    private static Excel attr(String field) throws NoSuchFieldException {
+        return Sample.class.getDeclaredField(field).getAnnotation(Excel.class);
+    }
+
+    public static class Sample {
+
+        @Excel(name = "普通")
+        private String plain;
+
+        @Excel(name = "格式", dateFormat = "dd/MM/yyyy")
+        private LocalDate formatted;
+
+        @Excel(name = "自定义", converter = PrefixConverter.class)
+        private String custom;
+    }
+
+    public static class PrefixConverter implements ExcelConverter<String> {
+
+        @Override
+        public String convert(Object cellValue, Excel attr) {
+            return "X-" + cellValue;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.axin.common.utils.poi.helper;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 合并单元格索引测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class MergedRegionIndexTest {
+
+    @Test
+    public void findsRegionCoveringCell() {
+        CellRangeAddress title = CellRangeAddress.valueOf("A1:C1");
+        CellRangeAddress remark = CellRangeAddress.valueOf("D1:D2");
+        CellRangeAddress code = CellRangeAddress.valueOf("A2:A3");
+        MergedRegionIndex index = new MergedRegionIndex(Arrays.asList(remark, code, title), 0, 1);
+
+        assertEquals(title, index.find(0, 0));
+        assertEquals(title, index.find(0, 2));
+        assertEquals(remark, index.find(0, 3));
+        assertEquals(remark, index.find(1, 3));
+        assertEquals(code, index.find(1, 0));
+        assertNull(index.find(1, 1));
+        assertNull(index.find(0, 4));
+        assertFalse(index.isMerged(1, 2));
+        assertTrue(index.isMerged(0, 1));
+
+        // 超出索引行范围
+        assertNull(index.find(2, 0));
+        assertNull(index.find(-1, 0));
+    }
+
+    @Test
+    public void emptyRangeFindsNothing() {
+        MergedRegionIndex index = new MergedRegionIndex(
+            Collections.singletonList(CellRangeAddress.valueOf("A1:B2")), 3, 2);
+
+        assertNull(index.find(0, 0));
+        assertNull(index.find(3, 0));
+    }
+
+    @Test
+    public void buildsFromSheet() throws Exception {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet();
+            sheet.addMergedRegion(CellRangeAddress.valueOf("B1:D1"));
+            sheet.addMergedRegion(CellRangeAddress.valueOf("A5:A9"));
+
+            MergedRegionIndex index = MergedRegionIndex.of(sheet, 0, 1);
+            assertEquals(CellRangeAddress.valueOf("B1:D1"), index.find(0, 2));
+            assertNull(index.find(0, 0));
+            assertNull(index.find(4, 0));
+        }
+    }
+
+    @Test
+    public void matchesLinearScan() {
+        Random random = new Random(20251224);
+        int rows = 6;
+        int columns = 200;
+        List<CellRangeAddress> regions = new ArrayList<>();
+        boolean[][] occupied = new boolean[rows + 4][columns + 4];
+
+        // 随机生成互不重叠的合并区域（部分区域延伸到索引行范围之外）
+        for (int attempt = 0; attempt < 2000; attempt++) {
+            int firstRow = random.nextInt(rows + 2);
+            int firstColumn = random.nextInt(columns);
+            int lastRow = firstRow + random.nextInt(3);
+            int lastColumn = firstColumn + random.nextInt(4);
+            if (firstRow == lastRow && firstColumn == lastColumn) {
+                continue;
+            }
+            if (isFree(occupied, firstRow, lastRow, firstColumn, lastColumn)) {
+                for (int r = firstRow; r <= lastRow; r++) {
+                    for (int c = firstColumn; c <= lastColumn; c++) {
+                        occupied[r][c] = true;
+                    }
+                }
+                regions.add(new CellRangeAddress(firstRow, lastRow, firstColumn, lastColumn));
+            }
+        }
+
+        MergedRegionIndex index = new MergedRegionIndex(regions, 1, rows);
+        for (int row = 0; row <= rows + 1; row++) {
+            for (int column = 0; column < columns + 4; column++) {
+                CellRangeAddress expected = row >= 1 && row <= rows ? scan(regions, row, column) : null;
+                assertEquals(expected, index.find(row, column), "(" + row + ", " + column + ")");
+            }
+        }
+    }
+
+    private static boolean isFree(boolean[][] occupied, int firstRow, int lastRow, int firstColumn, int lastColumn) {
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                if (occupied[r][c]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static CellRangeAddress scan(List<CellRangeAddress> regions, int row, int column) {
+        for (CellRangeAddress region : regions) {
+            if (region.isInRange(row, column)) {
+                return region;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,127 @@
+package com.axin.common.utils.poi.reader;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 批次流水线测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class BatchPipelineTest {
+
+    @Test
+    public void orderedPipelineCallsBackInBatchOrderOnDaemonThread() throws Exception {
+        List<Integer> batchNums = new ArrayList<>();
+        List<String> threads = new ArrayList<>();
+
+        try (BatchPipeline<Integer> pipeline = new BatchPipeline<>(PipelineOptions.ordered(),
+            (batch, batchNum, totalRead) -> {
+                Thread thread = Thread.currentThread();
+                threads.add(thread.isDaemon() + ":" + thread.getName());
+                batchNums.add(batchNum);
+                assertEquals(batchNum * 2, totalRead);
+                return true;
+            })) {
+            for (int i = 1; i <= 20; i++) {
+                assertTrue(pipeline.process(Collections.singletonList(i), i, i * 2));
+            }
+            pipeline.finish();
+            assertFalse(pipeline.isStopped());
+        }
+
+        assertEquals(20, batchNums.size());
+        for (int i = 0; i < batchNums.size(); i++) {
+            assertEquals(i + 1, batchNums.get(i).intValue());
+        }
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("true:excel-import-")), threads.toString());
+    }
+
+    @Test
+    public void unorderedPipelineDeliversEveryBatch() throws Exception {
+        Set<Integer> batchNums = Collections.synchronizedSet(new TreeSet<>());
+
+        try (BatchPipeline<Integer> pipeline = new BatchPipeline<>(PipelineOptions.unordered(4),
+            (batch, batchNum, totalRead) -> batchNums.add(batchNum))) {
+            for (int i = 1; i <= 100; i++) {
+                pipeline.process(Collections.singletonList(i), i, i);
+            }
+            pipeline.finish();
+        }
+
+        assertEquals(100, batchNums.size());
+    }
+
+    @Test
+    public void callbackReturningFalseStopsPipeline() throws Exception {
+        List<Integer> batchNums = Collections.synchronizedList(new ArrayList<>());
+
+        try (BatchPipeline<Integer> pipeline = new BatchPipeline<>(PipelineOptions.ordered(),
+            (batch, batchNum, totalRead) -> {
+                batchNums.add(batchNum);
+                return batchNum < 3;
+            })) {
+            // 回调返回false后 process 最终返回false，解析线程据此停止
+            int batchNum = 1;
+            while (pipeline.process(Collections.singletonList(batchNum), batchNum, batchNum)) {
+                assertTrue(++batchNum < 1000);
+            }
+            pipeline.finish();
+            assertTrue(pipeline.isStopped());
+        }
+
+        assertEquals(3, batchNums.size());
+    }
+
+    @Test
+    public void callbackFailureIsRethrownToParser() throws Exception {
+        IllegalStateException failure = new IllegalStateException("入库失败");
+
+        try (BatchPipeline<Integer> pipeline = new BatchPipeline<>(PipelineOptions.ordered(),
+            (batch, batchNum, totalRead) -> {
+                if (batchNum == 2) {
+                    throw failure;
+                }
+                return true;
+            })) {
+            pipeline.process(Collections.singletonList(1), 1, 1);
+            pipeline.process(Collections.singletonList(2), 2, 2);
+            IllegalStateException e = assertThrows(IllegalStateException.class, pipeline::finish);
+            assertSame(failure, e);
+            assertTrue(pipeline.isStopped());
+        }
+    }
+
+    @Test
+    public void closeWithoutFinishKeepsCallerExecutor() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            BatchPipeline<Integer> pipeline = new BatchPipeline<>(
+                PipelineOptions.unordered(2).setExecutor(executor), (batch, batchNum, totalRead) -> true);
+            pipeline.process(Collections.singletonList(1), 1, 1);
+            // 解析异常时不调用 finish，直接关闭
+            pipeline.close();
+
+            assertTrue(pipeline.isStopped());
+            assertFalse(executor.isShutdown());
+            assertEquals(Integer.valueOf(1), executor.submit(() -> 1).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
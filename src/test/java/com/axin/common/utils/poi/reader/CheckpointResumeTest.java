@@ -0,0 +1,121 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 导入断点续传测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class CheckpointResumeTest {
+
+    private static final byte[] CSV = "编码\n1\n2\n3\n4\n5\n".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void failedImportResumesAfterLastCompletedBatch() throws Exception {
+        RecordingStore store = new RecordingStore();
+        List<Integer> codes = new ArrayList<>();
+
+        assertThrows(IllegalStateException.class, () -> read(store, null, (batch, batchNum, totalRead) -> {
+            if (batchNum == 2) {
+                throw new IllegalStateException("入库失败");
+            }
+            batch.forEach(item -> codes.add(item.getCode()));
+            return true;
+        }));
+        ImportCheckpoint checkpoint = store.single();
+        assertEquals(1, checkpoint.getBatchNum());
+        assertEquals(2, checkpoint.getLastRowIndex());
+
+        int total = read(store, null, (batch, batchNum, totalRead) -> {
+            batch.forEach(item -> codes.add(item.getCode()));
+            return true;
+        });
+        assertEquals(5, total);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), codes);
+        assertTrue(store.checkpoints.isEmpty(), "导入完整结束后应删除断点");
+    }
+
+    @Test
+    public void stopOnFinalBatchKeepsCheckpoint() throws Exception {
+        for (PipelineOptions options : new PipelineOptions[]{null, PipelineOptions.ordered(), PipelineOptions.unordered(2)}) {
+            RecordingStore store = new RecordingStore();
+            // 5行、每批2行：第3批（最后一批，不足批次大小）返回false
+            read(store, options, (batch, batchNum, totalRead) -> batchNum < 3);
+
+            assertEquals(1, store.checkpoints.size(), "最后一批停止时不应删除断点: " + options);
+        }
+    }
+
+    @Test
+    public void trackerWithoutResumeDoesNotSave() throws Exception {
+        RecordingStore store = new RecordingStore();
+        CheckpointTracker tracker = new CheckpointTracker(store, new ByteArrayInputStream(CSV), "");
+        BatchExcelReader.BatchCallback<Object> callback = tracker.wrap((batch, batchNum, totalRead) -> true);
+
+        tracker.register(1, 1, 1);
+        assertTrue(callback.process(Collections.emptyList(), 1, 1));
+        tracker.clear();
+        assertTrue(store.checkpoints.isEmpty());
+        assertNull(tracker.resume());
+    }
+
+    private static int read(CheckpointStore store, PipelineOptions options,
+                            BatchExcelReader.BatchCallback<Item> callback) throws Exception {
+        try (CsvBatchExcelReader<Item> reader = new CsvBatchExcelReader<>(Item.class)) {
+            reader.setCheckpointStore(store);
+            reader.setPipelineOptions(options);
+            return reader.readBatch(new ByteArrayInputStream(CSV), 2, callback);
+        }
+    }
+
+    private static final class RecordingStore implements CheckpointStore {
+
+        private final Map<String, ImportCheckpoint> checkpoints = new ConcurrentHashMap<>();
+
+        @Override
+        public ImportCheckpoint load(String key) {
+            return checkpoints.get(key);
+        }
+
+        @Override
+        public void save(String key, ImportCheckpoint checkpoint) {
+            checkpoints.put(key, checkpoint);
+        }
+
+        @Override
+        public void remove(String key) {
+            checkpoints.remove(key);
+        }
+
+        ImportCheckpoint single() {
+            assertEquals(1, checkpoints.size());
+            return checkpoints.values().iterator().next();
+        }
+    }
+
+    @Data
+    public static class Item {
+
+        @Excel(name = "编码")
+        private Integer code;
+    }
+}
@@ -0,0 +1,123 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * CSV解析器与CSV读取器测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class CsvParserTest {
+
+    @Test
+    public void quotedFieldsKeepDelimitersNewlinesAndEscapedQuotes() throws IOException {
+        List<String[]> records = parse("a,\"b,1\",\"多\n行\"\r\n\"说\"\"明\"\"\",,\"\"\n", ',');
+
+        assertEquals(2, records.size());
+        assertArrayEquals(new String[]{"a", "b,1", "多\n行"}, records.get(0));
+        assertArrayEquals(new String[]{"说\"明\"", "", ""}, records.get(1));
+    }
+
+    @Test
+    public void lineEndingsAndTrailingRecord() throws IOException {
+        List<String[]> records = parse("1\r2\r\n3\n4", '\t');
+
+        assertEquals(4, records.size());
+        assertEquals("4", records.get(3)[0]);
+    }
+
+    @Test
+    public void leadingBomIsSkipped() throws IOException {
+        List<String[]> records = parse("\uFEFF姓名,年龄\n张三,18\n", ',');
+
+        assertArrayEquals(new String[]{"姓名", "年龄"}, records.get(0));
+        assertArrayEquals(new String[]{"张三", "18"}, records.get(1));
+    }
+
+    @Test
+    public void missingFieldsReadAsEmpty() throws IOException {
+        CsvParser parser = new CsvParser(new StringReader("x\n"), ',');
+
+        assertTrue(parser.next());
+        assertEquals(1, parser.getFieldCount());
+        assertEquals("", parser.getField(3));
+        assertFalse(parser.next());
+    }
+
+    @Test
+    public void readerBindsUtf8BomFileAndDetectsDelimiter() throws Exception {
+        byte[] content = ("\uFEFF姓名;年龄\n\"张\"\"三\";18\n李四;20\n").getBytes(StandardCharsets.UTF_8);
+        List<Person> people = new ArrayList<>();
+        try (CsvBatchExcelReader<Person> reader = new CsvBatchExcelReader<>(Person.class)) {
+            int total = reader.readBatch(new ByteArrayInputStream(content), 10, (batch, batchNum, totalRead) -> {
+                people.addAll(batch);
+                return true;
+            });
+            assertEquals(2, total);
+        }
+
+        assertEquals("张\"三", people.get(0).getName());
+        assertEquals(Integer.valueOf(20), people.get(1).getAge());
+    }
+
+    @Test
+    public void detectedCharsetMismatchAfterSampleFails() {
+        // 前8KB为ASCII，推断为UTF-8；之后的GBK字节在严格解码时报错，而不是静默替换为乱码
+        StringBuilder text = new StringBuilder("name,age\n");
+        while (text.length() < 10 * 1024) {
+            text.append("abc,1\n");
+        }
+        text.append("张三,2\n");
+        byte[] content = text.toString().getBytes(Charset.forName("GBK"));
+
+        CsvBatchExcelReader<Person> reader = new CsvBatchExcelReader<>(Person.class);
+        Exception e = assertThrows(Exception.class, () -> reader.readBatch(new ByteArrayInputStream(content), 100,
+            (batch, batchNum, totalRead) -> true));
+        assertTrue(messages(e).contains("setCharset"), messages(e));
+    }
+
+    private static List<String[]> parse(String text, char delimiter) throws IOException {
+        CsvParser parser = new CsvParser(new StringReader(text), delimiter);
+        List<String[]> records = new ArrayList<>();
+        while (parser.next()) {
+            records.add(parser.getFields());
+        }
+        return records;
+    }
+
+    private static String messages(Throwable e) {
+        StringBuilder messages = new StringBuilder();
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            messages.append(cause.getMessage()).append(" | ");
+        }
+        return messages.toString();
+    }
+
+    @Data
+    public static class Person {
+
+        @Excel(name = "姓名")
+        private String name;
+
+        @Excel(name = "年龄")
+        private Integer age;
+    }
+}
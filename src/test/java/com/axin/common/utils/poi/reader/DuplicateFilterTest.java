@@ -0,0 +1,97 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 导入去重过滤器测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class DuplicateFilterTest {
+
+    @Test
+    public void bloomFalsePositivesAreConfirmedExactly() throws Exception {
+        // 预计键数量远小于实际键数量，布隆过滤器几乎总是判断"可能存在"
+        DedupeOptions options = DedupeOptions.of("name", "code").setExpectedKeys(1).setFpp(0.5);
+        try (DuplicateFilter<Item> filter = new DuplicateFilter<>(Item.class, options)) {
+            for (int i = 0; i < 5000; i++) {
+                assertFalse(filter.isDuplicate(new Item("n" + i, i)), "不同键被判为重复: " + i);
+            }
+            assertTrue(filter.isDuplicate(new Item("n42", 42)));
+            assertFalse(filter.isDuplicate(new Item("n42", 43)));
+            assertEquals(1, filter.getDuplicateCount());
+        }
+    }
+
+    @Test
+    public void keysSurviveIndexGrowthAndBufferFlush() throws Exception {
+        // 超过索引初始容量与写缓冲大小，旧键需要从重建后的索引与数据文件中确认
+        int count = 200_000;
+        try (DuplicateFilter<Item> filter = new DuplicateFilter<>(Item.class, DedupeOptions.of("name", "code"))) {
+            for (int i = 0; i < count; i++) {
+                assertFalse(filter.isDuplicate(new Item("key-" + i, i)));
+            }
+            for (int i = 0; i < count; i += 997) {
+                assertTrue(filter.isDuplicate(new Item("key-" + i, i)), "已出现的键未识别: " + i);
+            }
+            assertFalse(filter.isDuplicate(new Item("key-" + count, count)));
+        }
+    }
+
+    @Test
+    public void longKeysAreCompared() throws Exception {
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < 70_000; i++) {
+            prefix.append('x');
+        }
+        try (DuplicateFilter<Item> filter = new DuplicateFilter<>(Item.class, DedupeOptions.of("name"))) {
+            assertFalse(filter.isDuplicate(new Item(prefix + "a", 1)));
+            assertFalse(filter.isDuplicate(new Item(prefix + "b", 1)));
+            assertTrue(filter.isDuplicate(new Item(prefix + "a", 2)));
+        }
+    }
+
+    @Test
+    public void nullKeysAreNotDeduplicated() throws Exception {
+        try (DuplicateFilter<Item> filter = new DuplicateFilter<>(Item.class, DedupeOptions.of("name", "code"))) {
+            assertFalse(filter.isDuplicate(new Item(null, 1)));
+            assertFalse(filter.isDuplicate(new Item(null, 1)));
+            assertFalse(filter.isDuplicate(new Item("", null)));
+            assertFalse(filter.isDuplicate(new Item("", null)));
+            // 空字符串不是null，参与去重
+            assertFalse(filter.isDuplicate(new Item("", 1)));
+            assertTrue(filter.isDuplicate(new Item("", 1)));
+            assertEquals(4, filter.getNullKeyCount());
+            assertEquals(1, filter.getDuplicateCount());
+            assertEquals(",1", filter.describeKey(new Item(null, 1)));
+        }
+    }
+
+    @Test
+    public void rejectsUnknownKeyField() {
+        assertThrows(IllegalArgumentException.class,
+            () -> DuplicateFilter.validate(Item.class, DedupeOptions.of("missing")));
+    }
+
+    public static class Item {
+
+        @Excel(name = "名称")
+        private String name;
+
+        @Excel(name = "编码")
+        private Integer code;
+
+        public Item(String name, Integer code) {
+            this.name = name;
+            this.code = code;
+        }
+    }
+}
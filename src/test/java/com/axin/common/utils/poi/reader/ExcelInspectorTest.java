@@ -0,0 +1,86 @@
+package com.axin.common.utils.poi.reader;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 工作簿预扫描测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class ExcelInspectorTest {
+
+    @TempDir
+    File dir;
+
+    @Test
+    public void inspectsXlsSheetsInBoundSheetOrder() throws IOException {
+        WorkbookInfo info = ExcelInspector.inspect(write(new HSSFWorkbook(), "book.xls"));
+
+        assertEquals("xls", info.getFormat());
+        assertEquals(3, info.getSharedStringCount());
+        assertSheets(info);
+    }
+
+    @Test
+    public void inspectsXlsxSheets() throws IOException {
+        WorkbookInfo info = ExcelInspector.inspect(write(new XSSFWorkbook(), "book.xlsx"));
+
+        assertEquals("xlsx", info.getFormat());
+        assertSheets(info);
+    }
+
+    private static void assertSheets(WorkbookInfo info) {
+        assertEquals(3, info.getSheets().size());
+
+        WorkbookInfo.SheetInfo data = info.getSheets().get(0);
+        assertEquals("数据", data.getName());
+        assertEquals(100, data.getRowCount());
+        assertEquals(3, data.getColumnCount());
+
+        WorkbookInfo.SheetInfo empty = info.getSheets().get(1);
+        assertEquals("空白", empty.getName());
+        assertEquals(0, empty.getRowCount());
+        assertNull(empty.getDimension());
+
+        WorkbookInfo.SheetInfo summary = info.getSheets().get(2);
+        assertEquals("汇总", summary.getName());
+        assertEquals("A1:D5", summary.getDimension());
+        assertEquals(5, summary.getRowCount());
+        assertEquals(4, summary.getColumnCount());
+    }
+
+    private File write(Workbook workbook, String name) throws IOException {
+        try (Workbook wb = workbook) {
+            Sheet data = wb.createSheet("数据");
+            for (int r = 0; r < 100; r++) {
+                data.createRow(r).createCell(0).setCellValue(r);
+                data.getRow(r).createCell(2).setCellValue(r % 3 == 0 ? "甲" : r % 3 == 1 ? "乙" : "丙");
+            }
+            wb.createSheet("空白");
+            Sheet summary = wb.createSheet("汇总");
+            summary.createRow(0).createCell(0).setCellValue(1);
+            summary.createRow(4).createCell(3).setCellValue(2);
+
+            File file = new File(dir, name);
+            try (OutputStream out = new FileOutputStream(file)) {
+                wb.write(out);
+            }
+            return file;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import com.google.common.hash.HashCode;
+import com.google.common.io.ByteStreams;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * 表头绑定缓存测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class HeaderBindingCacheTest {
+
+    private static final HashCode SIGNATURE = HashCode.fromLong(42L);
+
+    @Test
+    public void cachesPlanPerClassAndSignature() {
+        long hits = HeaderBindingCache.stats().hitCount();
+        RowBindingPlan<Entity> first = HeaderBindingCache.get(Entity.class, SIGNATURE, HeaderBindingCacheTest::headers);
+        RowBindingPlan<Entity> second = HeaderBindingCache.get(Entity.class, SIGNATURE, () -> {
+            throw new AssertionError("命中缓存时不应解析表头");
+        });
+
+        assertSame(first, second);
+        assertEquals(hits + 1, HeaderBindingCache.stats().hitCount());
+        assertNotSame(first, HeaderBindingCache.get(Entity.class, HashCode.fromLong(43L), HeaderBindingCacheTest::headers));
+    }
+
+    @Test
+    public void cachedPlansDoNotPinClassLoader() throws Exception {
+        WeakReference<ClassLoader> loader = cacheIsolatedClass();
+
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(loader.get(), "缓存不应阻止实体类的类加载器被回收");
+    }
+
+    /**
+     * 在独立的类加载器中加载实体类并写入缓存，返回类加载器的弱引用
+     */
+    private static WeakReference<ClassLoader> cacheIsolatedClass() throws Exception {
+        ClassLoader loader = new IsolatingClassLoader(Entity.class);
+        Class<?> entityClass = loader.loadClass(Entity.class.getName());
+        assertNotSame(Entity.class, entityClass);
+
+        HeaderBindingCache.get(entityClass, SIGNATURE, HeaderBindingCacheTest::headers);
+        HeaderBindingCache.get(entityClass, SIGNATURE, HeaderBindingCacheTest::headers);
+        return new WeakReference<>(loader);
+    }
+
+    private static Map<String, Integer> headers() {
+        return Collections.singletonMap("名称", 0);
+    }
+
+    /**
+     * 自行定义指定类，其余类交给父加载器
+     */
+    private static final class IsolatingClassLoader extends ClassLoader {
+
+        private final String isolatedName;
+
+        IsolatingClassLoader(Class<?> isolated) {
+            super(isolated.getClassLoader());
+            this.isolatedName = isolated.getName();
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!isolatedName.equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    byte[] bytes = ByteStreams.toByteArray(in);
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+
+    public static class Entity {
+
+        @Excel(name = "名称")
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
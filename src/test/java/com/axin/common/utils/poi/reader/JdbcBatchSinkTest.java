@@ -0,0 +1,96 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JDBC批量写入回调测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class JdbcBatchSinkTest {
+
+    @Test
+    public void writesImportedFieldsAndReadsThroughTargetAttr() throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Connection connection = mock(Connection.class);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+        JdbcBatchSink<User> sink = new JdbcBatchSink<>(dataSource, User.class, "sys_user").setMultiRowInsert(false);
+        User withDept = new User();
+        withDept.setUserName("张三");
+        withDept.setDept(new Dept());
+        withDept.getDept().setDeptName("研发部");
+        User withoutDept = new User();
+        withoutDept.setUserName("李四");
+
+        sink.process(Arrays.asList(withDept, withoutDept), 1, 2);
+
+        // 父类字段、仅导出字段与找不到getter的 targetAttr 字段不写入，与导入绑定的字段一致
+        verify(connection).prepareStatement("INSERT INTO sys_user (user_name, dept_name) VALUES (?, ?)");
+        verify(statement).setObject(1, "张三");
+        verify(statement).setObject(2, "研发部");
+        verify(statement).setObject(1, "李四");
+        verify(statement).setNull(2, Types.VARCHAR);
+        verify(statement, times(2)).addBatch();
+        verify(statement).executeBatch();
+        verify(connection).commit();
+        assertEquals(2, sink.getInsertedRows());
+    }
+
+    @Test
+    public void inheritedFieldCannotBeMapped() {
+        JdbcBatchSink<User> sink = new JdbcBatchSink<>(mock(DataSource.class), User.class, "sys_user");
+        assertThrows(IllegalArgumentException.class, () -> sink.mapColumn("createBy", "create_by"));
+    }
+
+    @Data
+    public static class BaseEntity {
+
+        @Excel(name = "创建者")
+        private String createBy;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    public static class User extends BaseEntity {
+
+        @Excel(name = "用户名")
+        private String userName;
+
+        @Excel(name = "部门", targetAttr = "deptName")
+        private Dept dept;
+
+        @Excel(name = "负责人", targetAttr = "missing")
+        private Dept leaderDept;
+
+        @Excel(name = "备注", type = Excel.Type.EXPORT)
+        private String remark;
+    }
+
+    @Data
+    public static class Dept {
+
+        private String deptName;
+    }
+}
@@ -0,0 +1,90 @@
+package com.axin.common.utils.poi.reader;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 磁盘映射共享字符串表测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class MappedSharedStringStoreTest {
+
+    private static final int COUNT = 5000;
+
+    @Test
+    public void decodesPlainAndRichTextStrings() throws Exception {
+        try (MappedSharedStringStore store = new MappedSharedStringStore(sharedStrings(COUNT), 16)) {
+            assertEquals(COUNT + 1, store.getCount());
+            assertEquals("值-0", store.getString(0));
+            assertEquals("值-4999", store.getString(COUNT - 1));
+            assertEquals("富文本", store.getString(COUNT));
+            assertThrows(IndexOutOfBoundsException.class, () -> store.getString(COUNT + 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> store.getString(-1));
+        }
+    }
+
+    @Test
+    public void concurrentReadsReturnConsistentValues() throws Exception {
+        // 缓存远小于字符串数量，线程之间不断覆盖同一槽位
+        try (MappedSharedStringStore store = new MappedSharedStringStore(sharedStrings(COUNT), 8)) {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 8; t++) {
+                    int seed = t;
+                    futures.add(executor.submit(() -> {
+                        for (int n = 0; n < 20_000; n++) {
+                            int index = (n * 31 + seed * 7) % COUNT;
+                            assertEquals("值-" + index, store.getString(index));
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    public void readsWithoutCache() throws Exception {
+        try (MappedSharedStringStore store = new MappedSharedStringStore(sharedStrings(10), 0)) {
+            assertEquals("值-3", store.getString(3));
+            assertEquals("值-3", store.getString(3));
+        }
+    }
+
+    @Test
+    public void readAfterCloseFails() throws Exception {
+        MappedSharedStringStore store = new MappedSharedStringStore(sharedStrings(10), 16);
+        assertEquals("值-1", store.getString(1));
+        store.close();
+        store.close();
+        assertThrows(IllegalStateException.class, () -> store.getString(1));
+    }
+
+    private static ByteArrayInputStream sharedStrings(int count) {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+            .append("<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">");
+        for (int i = 0; i < count; i++) {
+            xml.append("<si><t>值-").append(i).append("</t></si>");
+        }
+        xml.append("<si><r><rPr><b/></rPr><t>富</t></r><r><t>文本</t></r></si></sst>");
+        return new ByteArrayInputStream(xml.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
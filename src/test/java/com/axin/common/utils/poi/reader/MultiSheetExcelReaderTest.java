@@ -0,0 +1,140 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import com.google.common.util.concurrent.Uninterruptibles;
+import lombok.Data;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 多Sheet并行导入测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class MultiSheetExcelReaderTest {
+
+    private static byte[] workbook;
+
+    @BeforeAll
+    public static void createWorkbook() throws Exception {
+        try (XSSFWorkbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            fill(wb.createSheet("甲"), 100);
+            fill(wb.createSheet("乙"), 10);
+            fill(wb.createSheet("丙"), 10);
+            wb.write(out);
+            workbook = out.toByteArray();
+        }
+    }
+
+    @Test
+    public void readsAllSheetsOnNamedDaemonThreads() throws Exception {
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        Map<String, SheetImport<?>> sheets = new LinkedHashMap<>();
+        for (String name : Arrays.asList("甲", "乙", "丙")) {
+            sheets.put(name, new SheetImport<>(Item.class, (batch, batchNum, totalRead) -> {
+                Thread thread = Thread.currentThread();
+                threads.add(thread.isDaemon() + ":" + thread.getName());
+                return true;
+            }));
+        }
+
+        Map<String, Integer> counts = new MultiSheetExcelReader(20, null).read(new ByteArrayInputStream(workbook), sheets);
+
+        assertEquals(Arrays.asList("甲", "乙", "丙"), new ArrayList<>(counts.keySet()));
+        assertEquals(Arrays.asList(100, 10, 10), new ArrayList<>(counts.values()));
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("true:excel-sheet-")), threads.toString());
+    }
+
+    @Test
+    public void failureSkipsSheetsNotYetStarted() throws Exception {
+        AtomicInteger otherBatches = new AtomicInteger();
+        Map<String, SheetImport<?>> sheets = new LinkedHashMap<>();
+        sheets.put("乙", new SheetImport<>(Item.class, (batch, batchNum, totalRead) -> {
+            throw new IllegalStateException("入库失败");
+        }));
+        sheets.put("丙", new SheetImport<>(Item.class, (batch, batchNum, totalRead) -> otherBatches.incrementAndGet() > 0));
+        sheets.put("甲", new SheetImport<>(Item.class, (batch, batchNum, totalRead) -> otherBatches.incrementAndGet() > 0));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            MultiSheetExcelReader reader = new MultiSheetExcelReader(5, executor);
+            IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> reader.read(new ByteArrayInputStream(workbook), sheets));
+            assertEquals("入库失败", e.getMessage());
+            assertEquals(0, otherBatches.get());
+
+            // 调用方的线程池不受影响
+            assertEquals(Integer.valueOf(1), executor.submit(() -> 1).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void failureStopsRunningSheetsBeforeReturning() throws Exception {
+        CountDownLatch firstBatchRead = new CountDownLatch(1);
+        AtomicInteger batches = new AtomicInteger();
+        Map<String, SheetImport<?>> sheets = new LinkedHashMap<>();
+        sheets.put("甲", new SheetImport<>(Item.class, (batch, batchNum, totalRead) -> {
+            firstBatchRead.countDown();
+            batches.incrementAndGet();
+            Uninterruptibles.sleepUninterruptibly(5, TimeUnit.MILLISECONDS);
+            return true;
+        }));
+        sheets.put("乙", new SheetImport<>(Item.class, (batch, batchNum, totalRead) -> {
+            Uninterruptibles.awaitUninterruptibly(firstBatchRead);
+            throw new IllegalStateException("入库失败");
+        }));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MultiSheetExcelReader reader = new MultiSheetExcelReader(1, executor);
+            assertThrows(IllegalStateException.class, () -> reader.read(new ByteArrayInputStream(workbook), sheets));
+
+            int processed = batches.get();
+            assertTrue(processed < 100, "失败后正在读取的Sheet应停止: " + processed);
+            TimeUnit.MILLISECONDS.sleep(50);
+            assertEquals(processed, batches.get(), "read 返回时不应仍有Sheet在读取");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void fill(Sheet sheet, int rows) {
+        sheet.createRow(0).createCell(0).setCellValue("编码");
+        for (int i = 1; i <= rows; i++) {
+            Row row = sheet.createRow(i);
+            row.createCell(0).setCellValue(i);
+        }
+    }
+
+    @Data
+    public static class Item {
+
+        @Excel(name = "编码")
+        private Integer code;
+    }
+}
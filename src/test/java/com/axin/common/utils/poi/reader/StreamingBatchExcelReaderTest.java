@@ -0,0 +1,238 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import lombok.Data;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 流式读取器（xlsx SAX、xls 事件模型）测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class StreamingBatchExcelReaderTest {
+
+    @TempDir
+    File tempDir;
+
+    @BeforeEach
+    public void clearCache() {
+        HeaderBindingCache.invalidateAll();
+    }
+
+    @Test
+    public void xlsxSingleRowHeader() throws Exception {
+        assertSingleRowHeader(new XSSFWorkbook(), "single.xlsx", XlsxSaxBatchExcelReader::new);
+    }
+
+    @Test
+    public void xlsSingleRowHeader() throws Exception {
+        assertSingleRowHeader(new HSSFWorkbook(), "single.xls", XlsEventBatchExcelReader::new);
+    }
+
+    @Test
+    public void xlsxMergedMultiRowHeader() throws Exception {
+        assertMergedHeader(new XSSFWorkbook(), "merged.xlsx", XlsxSaxBatchExcelReader::new);
+    }
+
+    @Test
+    public void xlsMergedMultiRowHeader() throws Exception {
+        assertMergedHeader(new HSSFWorkbook(), "merged.xls", XlsEventBatchExcelReader::new);
+    }
+
+    @Test
+    public void xlsxMergedSingleRowHeader() throws Exception {
+        assertMergedSingleRowHeader(new XSSFWorkbook(), "merged-single.xlsx", XlsxSaxBatchExcelReader::new);
+    }
+
+    @Test
+    public void xlsMergedSingleRowHeader() throws Exception {
+        assertMergedSingleRowHeader(new HSSFWorkbook(), "merged-single.xls", XlsEventBatchExcelReader::new);
+    }
+
+    @Test
+    public void paddedHeaderNamesBindInEveryReader() throws Exception {
+        File xlsx = write(new XSSFWorkbook(), "padded.xlsx", this::fillPadded);
+        File xls = write(new HSSFWorkbook(), "padded.xls", this::fillPadded);
+
+        // 表头去除换行符和首尾空白后绑定，与CSV读取器一致
+        assertPadded(new DefaultBatchExcelReader<>(Person.class), xlsx);
+        assertPadded(new XlsxSaxBatchExcelReader<>(Person.class), xlsx);
+        assertPadded(new XlsEventBatchExcelReader<>(Person.class), xls);
+    }
+
+    @Test
+    public void xlsxMissingSheetIsRejected() throws Exception {
+        File file = write(new XSSFWorkbook(), "missing.xlsx", this::fillSingle);
+        assertThrows(IOException.class, () -> new XlsxSaxBatchExcelReader<>(Person.class)
+            .readBatch(file, "不存在", 0, 0, 1, 10, (batch, batchNum, totalRead) -> true));
+    }
+
+    @Test
+    public void xlsMissingSheetIsRejected() throws Exception {
+        File file = write(new HSSFWorkbook(), "missing.xls", this::fillSingle);
+        assertThrows(IOException.class, () -> new XlsEventBatchExcelReader<>(Person.class)
+            .readBatch(file, "不存在", 0, 0, 1, 10, (batch, batchNum, totalRead) -> true));
+    }
+
+    private void assertSingleRowHeader(Workbook workbook, String name,
+                                       Function<Class<Person>, AbstractBatchExcelReader<Person>> factory)
+        throws Exception {
+        File file = write(workbook, name, this::fillSingle);
+        List<Person> rows = new ArrayList<>();
+        int count = factory.apply(Person.class).readBatch(file, "数据", 0, 0, 1, 2,
+            (batch, batchNum, totalRead) -> rows.addAll(batch));
+
+        assertEquals(3, count);
+        assertEquals("张三", rows.get(0).getName());
+        assertEquals(30, rows.get(0).getAge());
+        assertEquals("李四", rows.get(1).getName());
+        assertEquals(-1, rows.get(1).getAge());
+        assertEquals("王五", rows.get(2).getName());
+    }
+
+    private void assertMergedHeader(Workbook workbook, String name,
+                                    Function<Class<Member>, AbstractBatchExcelReader<Member>> factory)
+        throws Exception {
+        File file = write(workbook, name, this::fillMerged);
+        long hits = HeaderBindingCache.stats().hitCount();
+
+        for (int round = 0; round < 2; round++) {
+            List<Member> rows = new ArrayList<>();
+            int count = factory.apply(Member.class).readBatch(file, "数据", 0, 1, 2, 10,
+                (batch, batchNum, totalRead) -> rows.addAll(batch));
+
+            assertEquals(2, count);
+            assertEquals("张三", rows.get(0).getName());
+            assertEquals(30, rows.get(0).getAge());
+            assertEquals("备注一", rows.get(0).getRemark());
+            assertEquals("李四", rows.get(1).getName());
+        }
+        // 第二次读取命中表头绑定缓存
+        assertEquals(hits + 1, HeaderBindingCache.stats().hitCount());
+    }
+
+    private void assertMergedSingleRowHeader(Workbook workbook, String name,
+                                             Function<Class<Person>, AbstractBatchExcelReader<Person>> factory)
+        throws Exception {
+        File file = write(workbook, name, this::fillMergedSingle);
+        List<Person> expected = new ArrayList<>();
+        new DefaultBatchExcelReader<>(Person.class).readBatch(file, "数据", 0, 0, 1, 10,
+            (batch, batchNum, totalRead) -> expected.addAll(batch));
+        List<Person> rows = new ArrayList<>();
+        factory.apply(Person.class).readBatch(file, "数据", 0, 0, 1, 10,
+            (batch, batchNum, totalRead) -> rows.addAll(batch));
+
+        // 与 usermodel 读取器绑定同一列（合并区域的最后一列）
+        assertEquals("张三", expected.get(0).getName());
+        assertEquals(expected, rows);
+    }
+
+    private void assertPadded(AbstractBatchExcelReader<Person> reader, File file) throws Exception {
+        List<Person> rows = new ArrayList<>();
+        reader.readBatch(file, "数据", 0, 0, 1, 10, (batch, batchNum, totalRead) -> rows.addAll(batch));
+
+        assertEquals(1, rows.size());
+        assertEquals("张三", rows.get(0).getName());
+        assertEquals(30, rows.get(0).getAge());
+    }
+
+    private void fillPadded(Sheet sheet) {
+        row(sheet, 0, " 姓名 ", "年\n龄\t");
+        row(sheet, 1, "张三", 30);
+    }
+
+    private void fillSingle(Sheet sheet) {
+        row(sheet, 0, "姓名", "年龄");
+        row(sheet, 1, "张三", 30);
+        row(sheet, 2, "李四", -1);
+        row(sheet, 3, "王五", 18);
+    }
+
+    /**
+     * 第0行"基本信息"横向合并两列，"备注"纵向合并两行
+     */
+    private void fillMerged(Sheet sheet) {
+        row(sheet, 0, "基本信息", "", "备注");
+        row(sheet, 1, "姓名", "年龄", "");
+        row(sheet, 2, "张三", 30, "备注一");
+        row(sheet, 3, "李四", 25, "备注二");
+        sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 1));
+        sheet.addMergedRegion(new CellRangeAddress(0, 1, 2, 2));
+    }
+
+    /**
+     * 单行表头，"姓名"横向合并两列
+     */
+    private void fillMergedSingle(Sheet sheet) {
+        row(sheet, 0, "姓名", "", "年龄");
+        row(sheet, 1, "", "张三", 30);
+        row(sheet, 2, "", "李四", 25);
+        sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 1));
+    }
+
+    private static void row(Sheet sheet, int rowIndex, Object... values) {
+        Row row = sheet.createRow(rowIndex);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] instanceof Number) {
+                row.createCell(i).setCellValue(((Number) values[i]).doubleValue());
+            } else {
+                row.createCell(i).setCellValue((String) values[i]);
+            }
+        }
+    }
+
+    private File write(Workbook workbook, String name, Consumer<Sheet> filler) throws IOException {
+        File file = new File(tempDir, name);
+        try (Workbook wb = workbook; OutputStream out = new FileOutputStream(file)) {
+            wb.createSheet("说明");
+            filler.accept(wb.createSheet("数据"));
+            wb.write(out);
+        }
+        return file;
+    }
+
+    @Data
+    public static class Person {
+
+        @Excel(name = "姓名")
+        private String name;
+
+        @Excel(name = "年龄")
+        private int age;
+    }
+
+    @Data
+    public static class Member {
+
+        @Excel(name = "基本信息-姓名")
+        private String name;
+
+        @Excel(name = "基本信息-年龄")
+        private Integer age;
+
+        @Excel(name = "备注")
+        private String remark;
+    }
+}
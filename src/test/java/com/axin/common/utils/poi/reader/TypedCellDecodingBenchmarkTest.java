@@ -0,0 +1,149 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.common.utils.poi.handler.CellValueHandler;
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 数值单元格按字段类型解码的分配测试
+ * <p>
+ * 同一行缓冲区分别走通用路径（单元格值 -> 字符串/BigDecimal -> 字段类型）与按字段类型解码的路径，
+ * 比较每行分配的字节数。结果一致性见 {@link TypedCellDecodingTest}。
+ * <p>
+ * 默认构建不执行，使用 {@code mvn test -Pbenchmark} 运行
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+@Tag("benchmark")
+public class TypedCellDecodingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TypedCellDecodingBenchmarkTest.class);
+
+    private static final int WARMUP_ROWS = 200_000;
+    private static final int MEASURE_ROWS = 1_000_000;
+
+    private final CellValueHandler cellValueHandler = new CellValueHandler();
+
+    @Test
+    public void typedDecodingAllocatesLessPerRow() throws Exception {
+        com.sun.management.ThreadMXBean threadBean = threadBean();
+        Assumptions.assumeTrue(threadBean != null && threadBean.isThreadAllocatedMemoryEnabled());
+
+        RowBindingPlan<Order> plan = RowBindingPlan.compile(Order.class, headers());
+        SheetRowBuffer row = sampleRow();
+
+        runGeneric(plan, row, WARMUP_ROWS);
+        runTyped(plan, row, WARMUP_ROWS);
+
+        long threadId = Thread.currentThread().getId();
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        runGeneric(plan, row, MEASURE_ROWS);
+        long genericBytes = threadBean.getThreadAllocatedBytes(threadId) - start;
+
+        start = threadBean.getThreadAllocatedBytes(threadId);
+        runTyped(plan, row, MEASURE_ROWS);
+        long typedBytes = threadBean.getThreadAllocatedBytes(threadId) - start;
+
+        log.info("通用路径: {} 字节/行, 按类型解码: {} 字节/行",
+            genericBytes / MEASURE_ROWS, typedBytes / MEASURE_ROWS);
+        assertTrue(typedBytes < genericBytes, "按类型解码的分配应少于通用路径");
+    }
+
+    private long runGeneric(RowBindingPlan<Order> plan, SheetRowBuffer row, int rows) throws Exception {
+        long checksum = 0;
+        for (int i = 0; i < rows; i++) {
+            checksum += plan.bind(row::getOrEmpty, cellValueHandler).getQuantity();
+        }
+        return checksum;
+    }
+
+    private long runTyped(RowBindingPlan<Order> plan, SheetRowBuffer row, int rows) throws Exception {
+        long checksum = 0;
+        for (int i = 0; i < rows; i++) {
+            checksum += plan.bind(row, cellValueHandler).getQuantity();
+        }
+        return checksum;
+    }
+
+    private static Map<String, Integer> headers() {
+        Map<String, Integer> cellMap = new HashMap<>();
+        cellMap.put("编号", 0);
+        cellMap.put("数量", 1);
+        cellMap.put("金额", 2);
+        cellMap.put("件数", 3);
+        return cellMap;
+    }
+
+    private SheetRowBuffer sampleRow() {
+        SheetRowBuffer row = new SheetRowBuffer(cellValueHandler);
+        row.setNumber(0, 202512240001L, false);
+        row.setNumber(1, 1500, false);
+        row.setNumber(2, 3999.5, false);
+        row.setNumber(3, 2048, false);
+        return row;
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        return bean instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) bean : null;
+    }
+
+    public static class Order {
+
+        @Excel(name = "编号")
+        private Long id;
+
+        @Excel(name = "数量")
+        private int quantity;
+
+        @Excel(name = "金额")
+        private double amount;
+
+        @Excel(name = "件数")
+        private Integer count;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(double amount) {
+            this.amount = amount;
+        }
+
+        public Integer getCount() {
+            return count;
+        }
+
+        public void setCount(Integer count) {
+            this.count = count;
+        }
+    }
+}
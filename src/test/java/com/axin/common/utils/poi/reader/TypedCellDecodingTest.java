@@ -0,0 +1,174 @@
+package com.axin.common.utils.poi.reader;
+
+import com.axin.common.utils.poi.handler.CellValueHandler;
+import com.axin.common.utils.poi.validator.ImportError;
+import com.axin.common.utils.poi.validator.ImportErrorCollector;
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 数值单元格按字段类型解码测试
+ * <p>
+ * 同一组数值分别以数值单元格（按字段类型解码）与已转换的单元格值（通用转换）绑定，
+ * 字段值与错误记录必须一致
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class TypedCellDecodingTest {
+
+    private static final String[] HEADERS = {"编号", "数量", "件数", "短整数", "字节", "金额", "比例", "小数",
+        "日期", "文本", "状态"};
+
+    private static final double[] VALUES = {0, -0.0, 1, -1, 3.7, -3.7, 0.5, 127, 128, -129, 32767, 32768,
+        Integer.MAX_VALUE, Integer.MAX_VALUE + 1.0, Integer.MIN_VALUE, Integer.MIN_VALUE - 1.0,
+        202512240001L, 1e15, 1e15 + 1, 9.2233720368547758E18, -9.2233720368547758E18, 1e20, 16777217,
+        Double.MAX_VALUE, Double.MIN_VALUE, 45291, 45291.75};
+
+    private final CellValueHandler cellValueHandler = new CellValueHandler();
+
+    @Test
+    public void typedAndGenericBindingAgree() throws Exception {
+        RowBindingPlan<Sample> plan = RowBindingPlan.compile(Sample.class, headers());
+        for (double value : VALUES) {
+            for (boolean dateFormatted : new boolean[]{false, true}) {
+                SheetRowBuffer typedRow = new SheetRowBuffer(cellValueHandler);
+                SheetRowBuffer genericRow = new SheetRowBuffer(cellValueHandler);
+                for (int column = 0; column < HEADERS.length; column++) {
+                    typedRow.setNumber(column, value, dateFormatted);
+                    genericRow.set(column, cellValueHandler.getNumericValue(value, dateFormatted));
+                }
+                String message = "值: " + value + ", 日期格式: " + dateFormatted;
+
+                assertSameOutcome(() -> plan.bind(genericRow, cellValueHandler),
+                    () -> plan.bind(typedRow, cellValueHandler), message);
+                assertSameOutcome(() -> plan.bind(typedRow::getOrEmpty, cellValueHandler),
+                    () -> plan.bind(typedRow, cellValueHandler), message);
+
+                try (ImportErrorCollector genericErrors = new ImportErrorCollector();
+                     ImportErrorCollector typedErrors = new ImportErrorCollector()) {
+                    assertSameOutcome(() -> plan.bind(genericRow, cellValueHandler, 1, genericErrors),
+                        () -> plan.bind(typedRow, cellValueHandler, 1, typedErrors), message);
+                    assertEquals(describe(genericErrors), describe(typedErrors), message);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void comboIsValidatedForNumericCells() throws Exception {
+        Map<String, Integer> cellMap = new HashMap<>();
+        cellMap.put("状态", 0);
+        RowBindingPlan<Sample> plan = RowBindingPlan.compile(Sample.class, cellMap);
+        SheetRowBuffer row = new SheetRowBuffer(cellValueHandler);
+        row.setNumber(0, 3, false);
+
+        try (ImportErrorCollector errors = new ImportErrorCollector()) {
+            plan.bind(row, cellValueHandler, 1, errors);
+            assertEquals(1, errors.getErrorCount());
+            assertEquals("不在下拉选项中", errors.getErrors().get(0).getReason());
+        }
+
+        row.setNumber(0, 2, false);
+        try (ImportErrorCollector errors = new ImportErrorCollector()) {
+            Sample sample = plan.bind(row, cellValueHandler, 1, errors);
+            assertTrue(!errors.hasErrors());
+            assertEquals(2, sample.getStatus());
+        }
+    }
+
+    /**
+     * 两条路径的结果一致：同为null、字段值相同，或抛出相同类型的异常
+     */
+    private static void assertSameOutcome(Callable<Sample> genericPath, Callable<Sample> typedPath,
+                                          String message) throws Exception {
+        Sample expected;
+        try {
+            expected = genericPath.call();
+        } catch (RuntimeException e) {
+            RuntimeException actual = assertThrows(RuntimeException.class, typedPath::call, message);
+            assertEquals(e.getClass(), actual.getClass(), message);
+            return;
+        }
+        Sample actual = typedPath.call();
+        if (expected == null || actual == null) {
+            assertEquals(expected, actual, message);
+            return;
+        }
+        for (Field field : Sample.class.getDeclaredFields()) {
+            field.setAccessible(true);
+            assertTrue(Objects.deepEquals(field.get(expected), field.get(actual)),
+                message + ", 字段: " + field.getName() + ", 通用: " + field.get(expected)
+                    + ", 按类型: " + field.get(actual));
+        }
+    }
+
+    private static List<String> describe(ImportErrorCollector errors) throws Exception {
+        List<String> result = new ArrayList<>();
+        for (ImportError error : errors.getErrors()) {
+            result.add(error.getColumn() + ":" + error.getReason());
+        }
+        return result;
+    }
+
+    private static Map<String, Integer> headers() {
+        Map<String, Integer> cellMap = new HashMap<>();
+        for (int i = 0; i < HEADERS.length; i++) {
+            cellMap.put(HEADERS[i], i);
+        }
+        return cellMap;
+    }
+
+    @Data
+    public static class Sample {
+
+        @Excel(name = "编号")
+        private Long id;
+
+        @Excel(name = "数量")
+        private int quantity;
+
+        @Excel(name = "件数")
+        private Integer count;
+
+        @Excel(name = "短整数")
+        private short small;
+
+        @Excel(name = "字节")
+        private byte tiny;
+
+        @Excel(name = "金额")
+        private double amount;
+
+        @Excel(name = "比例")
+        private Float ratio;
+
+        @Excel(name = "小数")
+        private BigDecimal decimal;
+
+        @Excel(name = "日期")
+        private Date date;
+
+        @Excel(name = "文本")
+        private String text;
+
+        @Excel(name = "状态", combo = {"1", "2"})
+        private int status;
+    }
+}
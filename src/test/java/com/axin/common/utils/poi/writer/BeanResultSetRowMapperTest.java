@@ -0,0 +1,98 @@
+package com.axin.common.utils.poi.writer;
+
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 查询结果行映射测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class BeanResultSetRowMapperTest {
+
+    @Test
+    public void convertsJdbcTypesToFieldTypes() throws Exception {
+        ResultSet resultSet = resultSet(
+            new String[]{"QUANTITY", "total_amount", "ratio", "big_count", "birthday", "created_at", "start_time", "remark"},
+            new Object[]{new BigDecimal("-42"), new BigDecimal("12345678901"), new BigDecimal("0.1"), 7L,
+                java.sql.Date.valueOf("2024-02-29"), Timestamp.valueOf("2024-03-01 08:30:15"),
+                Time.valueOf("23:59:58"), "备注"});
+
+        Row row = new BeanResultSetRowMapper<>(Row.class).mapRow(resultSet, 1);
+
+        assertEquals(-42, row.quantity);
+        assertEquals(12345678901L, row.totalAmount);
+        assertEquals(0.1, row.ratio, 0);
+        assertEquals(BigInteger.valueOf(7), row.bigCount);
+        assertEquals(LocalDate.of(2024, 2, 29), row.birthday);
+        assertEquals(LocalDateTime.of(2024, 3, 1, 8, 30, 15), row.createdAt);
+        assertEquals(LocalTime.of(23, 59, 58), row.startTime);
+        assertEquals("备注", row.remark);
+    }
+
+    @Test
+    public void nullValuesKeepPrimitiveDefaults() throws Exception {
+        ResultSet resultSet = resultSet(new String[]{"quantity", "birthday"}, new Object[]{null, null});
+
+        Row row = new BeanResultSetRowMapper<>(Row.class).mapRow(resultSet, 1);
+
+        assertEquals(0, row.quantity);
+        assertNull(row.birthday);
+    }
+
+    private static ResultSet resultSet(String[] labels, Object[] values) throws Exception {
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(labels.length);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        for (int i = 0; i < labels.length; i++) {
+            when(metaData.getColumnLabel(i + 1)).thenReturn(labels[i]);
+            when(resultSet.getObject(i + 1)).thenReturn(values[i]);
+        }
+        return resultSet;
+    }
+
+    public static class Row {
+
+        @Excel(name = "数量")
+        private int quantity;
+
+        @Excel(name = "金额")
+        private long totalAmount;
+
+        @Excel(name = "比例")
+        private double ratio;
+
+        @Excel(name = "计数")
+        private BigInteger bigCount;
+
+        @Excel(name = "生日")
+        private LocalDate birthday;
+
+        @Excel(name = "创建时间")
+        private LocalDateTime createdAt;
+
+        @Excel(name = "开始时间")
+        private LocalTime startTime;
+
+        @Excel(name = "备注")
+        private String remark;
+    }
+}
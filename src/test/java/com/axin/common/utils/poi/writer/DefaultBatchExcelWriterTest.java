@@ -0,0 +1,102 @@
+package com.axin.common.utils.poi.writer;
+
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * SXSSF分批写入器测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class DefaultBatchExcelWriterTest {
+
+    @Test
+    public void splitsRowsAcrossSheetsWithHeaderAndValidations() throws Exception {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 1; i <= 7; i++) {
+            orders.add(new Order("单号" + i, i * 10, i % 2 == 0 ? "已付款" : "待付款"));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DefaultBatchExcelWriter<Order> writer = new DefaultBatchExcelWriter<>(Order.class, "订单")) {
+            writer.setRowsPerSheet(4);
+            writer.writeBatch(orders.subList(0, 2));
+            writer.writeBatch(orders.subList(2, 7));
+            assertEquals(7, writer.getWrittenRows());
+            writer.finish(out);
+        }
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            // 每个Sheet 4行（含表头）：7条数据分到3个Sheet
+            assertEquals(3, workbook.getNumberOfSheets());
+            int code = 1;
+            for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
+                XSSFSheet sheet = workbook.getSheetAt(i);
+                assertEquals(i == 0 ? "订单" : "订单" + i, sheet.getSheetName());
+                assertEquals("单号", sheet.getRow(0).getCell(0).getStringCellValue());
+                assertEquals("金额", sheet.getRow(0).getCell(1).getStringCellValue());
+                assertEquals(1, sheet.getDataValidations().size());
+
+                for (int r = 1; r <= sheet.getLastRowNum(); r++, code++) {
+                    assertEquals("单号" + code, sheet.getRow(r).getCell(0).getStringCellValue());
+                    assertEquals(CellType.NUMERIC, sheet.getRow(r).getCell(1).getCellType());
+                    assertEquals(code * 10, sheet.getRow(r).getCell(1).getNumericCellValue(), 0);
+                }
+            }
+            assertEquals(8, code);
+            assertEquals(1, workbook.getSheetAt(2).getLastRowNum());
+        }
+    }
+
+    @Test
+    public void rejectsInvalidRowsPerSheet() throws Exception {
+        try (DefaultBatchExcelWriter<Order> writer = new DefaultBatchExcelWriter<>(Order.class, "订单")) {
+            assertThrows(IllegalArgumentException.class, () -> writer.setRowsPerSheet(1));
+            assertThrows(IllegalArgumentException.class,
+                () -> writer.setRowsPerSheet(AbstractBatchExcelWriter.XLSX_MAX_ROWS + 1));
+
+            writer.writeBatch(Collections.singletonList(new Order("单号1", 1, null)));
+            assertThrows(IllegalStateException.class, () -> writer.setRowsPerSheet(10));
+        }
+    }
+
+    @Test
+    public void rejectsWritesAfterFinish() throws Exception {
+        DefaultBatchExcelWriter<Order> writer = new DefaultBatchExcelWriter<>(Order.class, "订单");
+        writer.finish(new ByteArrayOutputStream());
+
+        assertThrows(IllegalStateException.class,
+            () -> writer.writeBatch(Collections.singletonList(new Order("单号1", 1, null))));
+        assertThrows(IllegalStateException.class, () -> writer.finish(new ByteArrayOutputStream()));
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Order {
+
+        @Excel(name = "单号")
+        private String code;
+
+        @Excel(name = "金额", cellType = Excel.ColumnType.NUMERIC)
+        private Integer amount;
+
+        @Excel(name = "状态", combo = {"待付款", "已付款"})
+        private String status;
+    }
+}
@@ -0,0 +1,116 @@
+package com.axin.common.utils.poi.writer;
+
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import com.google.common.io.ByteStreams;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 直接生成OOXML与SXSSF分批写入的耗时对比
+ * <p>
+ * 两个写入器写出相同的数据（结果一致性见 {@link OoxmlBatchExcelWriterTest}），输出丢弃，只比较写入与打包的耗时。
+ * 直接生成OOXML另以默认压缩级别（与SXSSF相同）测一次，区分压缩级别带来的差异。
+ * <p>
+ * 默认构建不执行，使用 {@code mvn test -Pbenchmark} 运行
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+@Tag("benchmark")
+public class OoxmlBatchExcelWriterBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OoxmlBatchExcelWriterBenchmarkTest.class);
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int WARMUP_ROWS = 100_000;
+    private static final int MEASURE_ROWS = 500_000;
+    private static final int ROUNDS = 3;
+
+    @Test
+    public void ooxmlWriterIsFasterThanSxssf() throws Exception {
+        List<Order> batch = sampleBatch();
+
+        run(() -> new DefaultBatchExcelWriter<>(Order.class, "订单"), batch, WARMUP_ROWS);
+        run(() -> ooxml(Deflater.BEST_SPEED), batch, WARMUP_ROWS);
+        run(() -> ooxml(Deflater.DEFAULT_COMPRESSION), batch, WARMUP_ROWS);
+
+        long sxssfNanos = Long.MAX_VALUE;
+        long ooxmlNanos = Long.MAX_VALUE;
+        long ooxmlDefaultLevelNanos = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            sxssfNanos = Math.min(sxssfNanos, run(() -> new DefaultBatchExcelWriter<>(Order.class, "订单"), batch,
+                MEASURE_ROWS));
+            ooxmlNanos = Math.min(ooxmlNanos, run(() -> ooxml(Deflater.BEST_SPEED), batch, MEASURE_ROWS));
+            ooxmlDefaultLevelNanos = Math.min(ooxmlDefaultLevelNanos,
+                run(() -> ooxml(Deflater.DEFAULT_COMPRESSION), batch, MEASURE_ROWS));
+        }
+
+        log.info("{}行 SXSSF: {}ms, 直接生成OOXML: {}ms（默认压缩级别: {}ms）", MEASURE_ROWS, sxssfNanos / 1_000_000,
+            ooxmlNanos / 1_000_000, ooxmlDefaultLevelNanos / 1_000_000);
+        assertTrue(ooxmlNanos < sxssfNanos, "直接生成OOXML应快于SXSSF");
+    }
+
+    private static OoxmlBatchExcelWriter<Order> ooxml(int compressionLevel) {
+        OoxmlBatchExcelWriter<Order> writer = new OoxmlBatchExcelWriter<>(Order.class, "订单");
+        writer.setCompressionLevel(compressionLevel);
+        return writer;
+    }
+
+    /**
+     * @return 写入并打包的耗时（纳秒）
+     */
+    private static long run(Supplier<AbstractBatchExcelWriter<Order>> factory, List<Order> batch, int rows)
+        throws Exception {
+        long start = System.nanoTime();
+        try (AbstractBatchExcelWriter<Order> writer = factory.get()) {
+            for (int written = 0; written < rows; written += batch.size()) {
+                writer.writeBatch(batch);
+            }
+            writer.finish(ByteStreams.nullOutputStream());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static List<Order> sampleBatch() {
+        List<Order> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Order order = new Order();
+            order.orderNo = "SO2025" + (100000 + i);
+            order.customer = "客户" + (i % 500);
+            order.quantity = i % 100;
+            order.amount = new BigDecimal(i).movePointLeft(2);
+            order.status = i % 3 == 0 ? "已完成" : "处理中";
+            batch.add(order);
+        }
+        return batch;
+    }
+
+    public static class Order {
+
+        @Excel(name = "订单号")
+        private String orderNo;
+
+        @Excel(name = "客户")
+        private String customer;
+
+        @Excel(name = "数量", cellType = Excel.ColumnType.NUMERIC)
+        private Integer quantity;
+
+        @Excel(name = "金额")
+        private BigDecimal amount;
+
+        @Excel(name = "状态", combo = {"处理中", "已完成"})
+        private String status;
+    }
+}
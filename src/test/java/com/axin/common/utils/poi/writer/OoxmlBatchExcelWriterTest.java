@@ -0,0 +1,184 @@
+package com.axin.common.utils.poi.writer;
+
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataValidation;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 直接生成OOXML的分批写入器测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class OoxmlBatchExcelWriterTest {
+
+    private static final List<Product> PRODUCTS = Arrays.asList(
+        new Product("苹果", 3, 2.5, "启用"),
+        new Product("<梨&\"桃\">", 12, 0.1, "停用"),
+        new Product(" 前后空格 ", -7, 1e20, null),
+        new Product(null, null, null, "启用"),
+        new Product("香蕉", 0, -0.25, "停用"));
+
+    @Test
+    public void roundTripsThroughPoi() throws Exception {
+        byte[] bytes = write(new OoxmlBatchExcelWriter<>(Product.class, "商品"));
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(bytes))) {
+            // 每个Sheet 3行（含表头）：5条数据分到3个Sheet
+            assertEquals(3, workbook.getNumberOfSheets());
+            assertEquals("商品", workbook.getSheetName(0));
+            assertEquals("商品1", workbook.getSheetName(1));
+            assertEquals("商品2", workbook.getSheetName(2));
+
+            XSSFSheet first = workbook.getSheetAt(0);
+            assertArrayEquals(new String[]{"名称", "数量", "单价", "状态"}, texts(first.getRow(0)));
+            assertEquals(2, first.getLastRowNum());
+
+            Row apple = first.getRow(1);
+            assertEquals("苹果件", apple.getCell(0).getStringCellValue());
+            assertEquals(CellType.NUMERIC, apple.getCell(1).getCellType());
+            assertEquals(3, apple.getCell(1).getNumericCellValue(), 0);
+            assertEquals(2.5, apple.getCell(2).getNumericCellValue(), 0);
+            assertEquals("启用", apple.getCell(3).getStringCellValue());
+            assertEquals("<梨&\"桃\">件", first.getRow(2).getCell(0).getStringCellValue());
+
+            Row spaces = workbook.getSheetAt(1).getRow(1);
+            assertEquals(" 前后空格 件", spaces.getCell(0).getStringCellValue());
+            assertEquals(1e20, spaces.getCell(2).getNumericCellValue(), 0);
+            Row empty = workbook.getSheetAt(1).getRow(2);
+            assertEquals(CellType.BLANK, empty.getCell(0).getCellType());
+            assertEquals(CellType.BLANK, empty.getCell(1).getCellType());
+
+            for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
+                assertValidations(workbook.getSheetAt(i));
+            }
+        }
+    }
+
+    @Test
+    public void matchesDefaultWriterCellByCell() throws Exception {
+        byte[] ooxml = write(new OoxmlBatchExcelWriter<>(Product.class, "商品"));
+        byte[] sxssf = write(new DefaultBatchExcelWriter<>(Product.class, "商品"));
+
+        assertEquals(dump(sxssf), dump(ooxml));
+    }
+
+    @Test
+    public void streamsToOutputStream() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OoxmlBatchExcelWriter<Product> writer = new OoxmlBatchExcelWriter<>(Product.class, "商品", out)) {
+            writer.writeBatch(PRODUCTS);
+            writer.finish(out);
+        }
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(1, workbook.getNumberOfSheets());
+            assertEquals(PRODUCTS.size(), workbook.getSheetAt(0).getLastRowNum());
+        }
+    }
+
+    @Test
+    public void compressionLevelIsFixedOnceWritingStarts() throws Exception {
+        try (OoxmlBatchExcelWriter<Product> writer = new OoxmlBatchExcelWriter<>(Product.class, "商品")) {
+            assertThrows(IllegalArgumentException.class, () -> writer.setCompressionLevel(10));
+            writer.setCompressionLevel(Deflater.DEFAULT_COMPRESSION);
+            writer.writeBatch(PRODUCTS);
+            assertThrows(IllegalStateException.class, () -> writer.setCompressionLevel(Deflater.BEST_SPEED));
+        }
+    }
+
+    private static void assertValidations(XSSFSheet sheet) {
+        List<? extends DataValidation> validations = sheet.getDataValidations();
+        assertEquals(2, validations.size());
+        for (DataValidation validation : validations) {
+            CellRangeAddress region = validation.getRegions().getCellRangeAddress(0);
+            assertEquals(1, region.getFirstRow());
+            assertEquals(2, region.getLastRow());
+            assertEquals(3, region.getFirstColumn());
+            if (validation.getValidationConstraint().getExplicitListValues() != null) {
+                assertArrayEquals(new String[]{"启用", "停用"},
+                    validation.getValidationConstraint().getExplicitListValues());
+            } else {
+                assertEquals("请选择状态", validation.getPromptBoxText());
+            }
+        }
+    }
+
+    private static byte[] write(AbstractBatchExcelWriter<Product> writer) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (AbstractBatchExcelWriter<Product> w = writer) {
+            w.setRowsPerSheet(3);
+            w.writeBatch(PRODUCTS.subList(0, 2));
+            w.writeBatch(PRODUCTS.subList(2, PRODUCTS.size()));
+            w.finish(out);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 所有Sheet的名称与单元格（类型:值）
+     */
+    private static List<String> dump(byte[] bytes) throws IOException {
+        List<String> cells = new ArrayList<>();
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(bytes))) {
+            for (Sheet sheet : workbook) {
+                cells.add("sheet:" + sheet.getSheetName());
+                for (Row row : sheet) {
+                    for (Cell cell : row) {
+                        String value = cell.getCellType() == CellType.NUMERIC
+                            ? String.valueOf(cell.getNumericCellValue()) : cell.getStringCellValue();
+                        cells.add(cell.getAddress() + "=" + cell.getCellType() + ":" + value);
+                    }
+                }
+            }
+        }
+        return cells;
+    }
+
+    private static String[] texts(Row row) {
+        String[] texts = new String[row.getLastCellNum()];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = row.getCell(i).getStringCellValue();
+        }
+        return texts;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Product {
+
+        @Excel(name = "名称", suffix = "件")
+        private String name;
+
+        @Excel(name = "数量", cellType = Excel.ColumnType.NUMERIC)
+        private Integer quantity;
+
+        @Excel(name = "单价", cellType = Excel.ColumnType.NUMERIC)
+        private Double price;
+
+        @Excel(name = "状态", prompt = "请选择状态", combo = {"启用", "停用"})
+        private String status;
+    }
+}
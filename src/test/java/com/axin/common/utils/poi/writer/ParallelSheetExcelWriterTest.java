@@ -0,0 +1,145 @@
+package com.axin.common.utils.poi.writer;
+
+import com.axin.framework.aspectj.lang.annotation.Excel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 多Sheet并行渲染写入器测试
+ *
+ * @author fuchuanxin
+ * @version 1.0
+ * @date 2025/12/24
+ */
+public class ParallelSheetExcelWriterTest {
+
+    @Test
+    public void matchesDefaultWriterCellByCell() throws Exception {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 1; i <= 95; i++) {
+            orders.add(new Order(i % 10 == 0 ? null : "单号<" + i + ">", i % 7 == 0 ? null : i * 1.5,
+                i % 2 == 0 ? "已付款" : "待付款"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            byte[] parallel = write(new ParallelSheetExcelWriter<>(Order.class, "订单", executor), orders);
+            byte[] sxssf = write(new DefaultBatchExcelWriter<>(Order.class, "订单"), orders);
+
+            List<String> cells = dump(parallel);
+            assertEquals(dump(sxssf), cells);
+            // 每个Sheet 10行（含表头）：95条数据分到11个Sheet
+            assertEquals(11, cells.stream().filter(cell -> cell.startsWith("sheet:")).count());
+
+            // 调用方的线程池不随Writer关闭
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void emptyExportHasHeaderOnly() throws Exception {
+        byte[] bytes = write(new ParallelSheetExcelWriter<>(Order.class, "订单"), Collections.emptyList());
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(bytes))) {
+            assertEquals(1, workbook.getNumberOfSheets());
+            assertEquals(0, workbook.getSheetAt(0).getLastRowNum());
+            assertEquals("单号", workbook.getSheetAt(0).getRow(0).getCell(0).getStringCellValue());
+        }
+    }
+
+    @Test
+    public void renderFailureSurfacesOnFinish() throws Exception {
+        try (ParallelSheetExcelWriter<Broken> writer = new ParallelSheetExcelWriter<>(Broken.class, "异常")) {
+            writer.writeBatch(Collections.singletonList(new Broken(new Unprintable())));
+            AssertionError e = assertThrows(AssertionError.class, () -> writer.finish(new ByteArrayOutputStream()));
+            assertEquals("渲染失败", e.getMessage());
+        }
+    }
+
+    private static <T> byte[] write(AbstractBatchExcelWriter<T> writer, List<T> rows) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (AbstractBatchExcelWriter<T> w = writer) {
+            w.setRowsPerSheet(10);
+            // 批次大小与每个Sheet的行数不对齐，批次会跨Sheet拆分
+            for (int i = 0; i < rows.size(); i += 13) {
+                w.writeBatch(rows.subList(i, Math.min(rows.size(), i + 13)));
+            }
+            w.finish(out);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 所有Sheet的名称与单元格（类型:值）
+     */
+    private static List<String> dump(byte[] bytes) throws IOException {
+        List<String> cells = new ArrayList<>();
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(bytes))) {
+            for (Sheet sheet : workbook) {
+                cells.add("sheet:" + sheet.getSheetName());
+                for (Row row : sheet) {
+                    for (Cell cell : row) {
+                        String value = cell.getCellType() == CellType.NUMERIC
+                            ? String.valueOf(cell.getNumericCellValue()) : cell.getStringCellValue();
+                        cells.add(cell.getAddress() + "=" + cell.getCellType() + ":" + value);
+                    }
+                }
+            }
+        }
+        return cells;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Order {
+
+        @Excel(name = "单号")
+        private String code;
+
+        @Excel(name = "金额", cellType = Excel.ColumnType.NUMERIC)
+        private Double amount;
+
+        @Excel(name = "状态", combo = {"待付款", "已付款"})
+        private String status;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Broken {
+
+        @Excel(name = "值")
+        private Unprintable value;
+    }
+
+    /**
+     * 格式化时抛出Error，模拟渲染线程中无法恢复的失败
+     */
+    public static class Unprintable {
+
+        @Override
+        public String toString() {
+            throw new AssertionError("渲染失败");
+        }
+    }
+}